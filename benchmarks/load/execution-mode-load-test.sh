@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+# Compares the execution modes of ms-transaction under the same closed-loop load: throughput,
+# p50/p99 latency and requests per second per core of CPU used by the service. The modes are
+# blocking (platform worker threads), reactive and virtual-threads; set MODES to run a subset.
+#
+#   docker compose up -d redis postgres zookeeper kafka schema-registry
+#   (cd ms-transaction && mvn package -DskipTests)
+#   (cd benchmarks && mvn package)
+#   benchmarks/load/execution-mode-load-test.sh [concurrency] [seconds]
+#
+# Each mode and operation starts a fresh service with -Dapplication.execution.mode. Set CPUS
+# (e.g. CPUS=0-3) to pin the service with taskset, so the CPU budget is the same in both modes
+# and the load generator does not compete with it. Results are printed as CSV.
+
+set -euo pipefail
+
+CONCURRENCY="${1:-64}"
+SECONDS_PER_RUN="${2:-30}"
+WARMUP_SECONDS="${WARMUP_SECONDS:-10}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-60}"
+CPUS="${CPUS:-}"
+MODES="${MODES:-blocking reactive virtual-threads}"
+ROOT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")/../.." && pwd)"
+SERVICE_JAR="${ROOT_DIR}/ms-transaction/target/quarkus-app/quarkus-run.jar"
+BENCHMARKS_JAR="${ROOT_DIR}/benchmarks/target/benchmarks.jar"
+BASE_URL="http://localhost:18080/ms-transaction"
+LOG_FILE="$(mktemp)"
+OUTPUT_FILE="$(mktemp)"
+trap 'rm -f "${LOG_FILE}" "${OUTPUT_FILE}"' EXIT
+
+for jar in "${SERVICE_JAR}" "${BENCHMARKS_JAR}"; do
+  if [[ ! -f "${jar}" ]]; then
+    echo "${jar} not built" >&2
+    exit 1
+  fi
+done
+
+# Prints the user + system CPU time of a process in clock ticks (fields 14 and 15 of stat).
+cpu_ticks() {
+  awk '{ print $14 + $15 }' "/proc/$1/stat"
+}
+
+start_service() {
+  local mode="$1" start
+  local command=(java "-Dapplication.execution.mode=${mode}" -jar "${SERVICE_JAR}")
+  if [[ -n "${CPUS}" ]]; then
+    command=(taskset -c "${CPUS}" "${command[@]}")
+  fi
+
+  start="$(date +%s)"
+  "${command[@]}" > "${LOG_FILE}" 2>&1 &
+  SERVICE_PID=$!
+  until curl -fs -o /dev/null "${BASE_URL}/health/ready"; do
+    if ! kill -0 "${SERVICE_PID}" 2>/dev/null || (( $(date +%s) - start > TIMEOUT_SECONDS )); then
+      echo "ms-transaction (${mode}) did not become ready, log:" >&2
+      cat "${LOG_FILE}" >&2
+      kill "${SERVICE_PID}" 2>/dev/null || true
+      exit 1
+    fi
+    sleep 0.1
+  done
+}
+
+stop_service() {
+  kill "${SERVICE_PID}"
+  wait "${SERVICE_PID}" 2>/dev/null || true
+}
+
+run_once() {
+  local mode="$1" operation="$2" ticks_before ticks_after cores result
+  start_service "${mode}"
+
+  # The CPU time is sampled around the whole run, warm-up included, and then scaled down to the
+  # measured window, as the service cannot tell warm-up requests from measured ones.
+  ticks_before="$(cpu_ticks "${SERVICE_PID}")"
+  java -cp "${BENCHMARKS_JAR}" com.yape.services.expose.graphql.GraphqlLoadTest \
+    "${BASE_URL}/graphql" "${operation}" "${CONCURRENCY}" "${SECONDS_PER_RUN}" \
+    "${WARMUP_SECONDS}" > "${OUTPUT_FILE}"
+  ticks_after="$(cpu_ticks "${SERVICE_PID}")"
+  stop_service
+
+  # operation,concurrency,requests,errors,rps,p50_ms,p99_ms,max_ms
+  result="$(tail -1 "${OUTPUT_FILE}")"
+  cores="$(awk -v ticks="$(( ticks_after - ticks_before ))" -v hz="$(getconf CLK_TCK)" \
+    -v seconds="$(( SECONDS_PER_RUN + WARMUP_SECONDS ))" \
+    'BEGIN { printf "%.2f", ticks / hz / seconds }')"
+  echo "${mode},${result},${cores},$(echo "${result}" | awk -F, -v cores="${cores}" \
+    '{ printf "%.1f", cores > 0 ? $5 / cores : 0 }')"
+}
+
+echo "mode,operation,concurrency,requests,errors,rps,p50_ms,p99_ms,max_ms,cpu_cores,rps_per_core"
+for operation in create read; do
+  for mode in ${MODES}; do
+    run_once "${mode}" "${operation}"
+  done
+done
@@ -0,0 +1,46 @@
+-- Compares random (v4) and time-ordered (v7) UUID keys on PostgreSQL: insert time, WAL written
+-- and size of the unique index, for the same number of rows.
+--
+--   docker exec -i yape-postgres psql -U postgres -d yape_transactions \
+--     -v rows=1000000 < benchmarks/sql/uuid-index-benchmark.sql
+--
+-- The v7 keys advance by one millisecond every 100 rows, with random bits after the timestamp,
+-- which matches the layout of UuidV7TransactionIdGenerator under load.
+
+\if :{?rows}
+\else
+  \set rows 1000000
+\endif
+\timing on
+
+DROP TABLE IF EXISTS uuid_bench_v4, uuid_bench_v7;
+CREATE TABLE uuid_bench_v4 (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL DEFAULT now());
+CREATE TABLE uuid_bench_v7 (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL DEFAULT now());
+
+CREATE FUNCTION pg_temp.uuid_v7(unix_ms BIGINT) RETURNS UUID AS $$
+  SELECT encode(set_bit(set_bit(
+           overlay(uuid_send(gen_random_uuid())
+                   PLACING substring(int8send(unix_ms) FROM 3) FROM 1 FOR 6),
+         52, 1), 53, 1), 'hex')::UUID
+$$ LANGUAGE sql VOLATILE;
+
+CHECKPOINT;
+SELECT pg_current_wal_lsn() AS wal_start \gset
+INSERT INTO uuid_bench_v4 (id) SELECT gen_random_uuid() FROM generate_series(1, :rows);
+SELECT pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), :'wal_start')) AS v4_wal;
+
+CHECKPOINT;
+SELECT pg_current_wal_lsn() AS wal_start \gset
+SELECT (extract(EPOCH FROM clock_timestamp()) * 1000)::BIGINT AS start_ms \gset
+INSERT INTO uuid_bench_v7 (id)
+SELECT pg_temp.uuid_v7(:start_ms + i / 100) FROM generate_series(1, :rows) AS i;
+SELECT pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), :'wal_start')) AS v7_wal;
+
+\timing off
+SELECT relname AS index_name,
+       pg_size_pretty(pg_relation_size(oid)) AS index_size
+  FROM pg_class
+ WHERE relname IN ('uuid_bench_v4_pkey', 'uuid_bench_v7_pkey')
+ ORDER BY relname;
+
+DROP TABLE uuid_bench_v4, uuid_bench_v7;
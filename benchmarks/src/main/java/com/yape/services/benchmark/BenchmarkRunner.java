@@ -0,0 +1,48 @@
+package com.yape.services.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar.
+ * Accepts the standard JMH command line and, unless -rf/-rff are given, writes the results as
+ * JSON to {@value #DEFAULT_RESULT_FILE} so runs of different releases can be compared.
+ */
+public final class BenchmarkRunner {
+
+  static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  private BenchmarkRunner() {
+    // Utility class, prevent instantiation
+  }
+
+  /**
+   * Runs the benchmarks matching the command line.
+   *
+   * @param args the JMH command line arguments
+   * @throws Exception if the command line is invalid or a benchmark fails
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    if (commandLine.shouldHelp() || commandLine.shouldList()
+        || commandLine.shouldListWithParams() || commandLine.shouldListProfilers()
+        || commandLine.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+    if (!commandLine.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLine.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+    }
+    new Runner(options.build()).run();
+  }
+
+}
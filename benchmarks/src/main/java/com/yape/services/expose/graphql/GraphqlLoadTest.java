@@ -0,0 +1,192 @@
+package com.yape.services.expose.graphql;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load test of the createTransaction and transaction operations of a running
+ * ms-transaction. A fixed number of clients send one request after the other for the given
+ * duration after a warm-up, and the throughput and latency percentiles are printed as CSV.
+ * The read test first creates {@value #READ_SEED_SIZE} transactions and reads them at random.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.yape.services.expose.graphql.GraphqlLoadTest \
+ *     http://localhost:18080/ms-transaction/graphql create 64 30 10
+ * </pre>
+ */
+public final class GraphqlLoadTest {
+
+  private static final int READ_SEED_SIZE = 1_000;
+  private static final int TRANSFER_TYPE_ID = 1;
+  private static final long NANOS_PER_MICRO = 1_000L;
+  private static final Pattern EXTERNAL_ID =
+      Pattern.compile("\"transactionExternalId\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+
+  private static final String CREATE_QUERY = "mutation { createTransaction(input: {"
+      + " accountExternalIdDebit: \\\"%s\\\", accountExternalIdCredit: \\\"%s\\\","
+      + " transferTypeId: " + TRANSFER_TYPE_ID + ", value: %d })"
+      + " { transactionExternalId } }";
+  private static final String READ_QUERY = "query { transaction(transactionExternalId:"
+      + " \\\"%s\\\") { transactionExternalId value } }";
+
+  private final HttpClient httpClient;
+  private final URI endpoint;
+  private final String operation;
+  private List<String> seedIds = List.of();
+
+  private GraphqlLoadTest(URI endpoint, String operation, int concurrency) {
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newFixedThreadPool(concurrency))
+        .build();
+    this.endpoint = endpoint;
+    this.operation = operation;
+  }
+
+  /**
+   * Runs the load test.
+   *
+   * @param args the GraphQL endpoint, create or read, the number of clients (default 64), the
+   *             measured seconds (default 30) and the warm-up seconds (default 10)
+   * @throws Exception if the seed transactions cannot be created or a client fails
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length < 2 || !List.of("create", "read").contains(args[1])) {
+      System.err.println("usage: GraphqlLoadTest <endpoint> create|read"
+          + " [concurrency] [seconds] [warmup seconds]");
+      System.exit(2);
+    }
+    int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+    int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+    int warmupSeconds = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+
+    GraphqlLoadTest loadTest = new GraphqlLoadTest(URI.create(args[0]), args[1], concurrency);
+    if ("read".equals(args[1])) {
+      loadTest.seed();
+    }
+    loadTest.run(concurrency, Duration.ofSeconds(warmupSeconds));
+    Result result = loadTest.run(concurrency, Duration.ofSeconds(seconds));
+
+    System.out.println("operation,concurrency,requests,errors,rps,p50_ms,p99_ms,max_ms");
+    System.out.printf("%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f%n", args[1], concurrency,
+        result.latenciesMicros().length, result.errors(),
+        result.latenciesMicros().length / (double) seconds,
+        result.percentileMillis(0.50), result.percentileMillis(0.99),
+        result.percentileMillis(1.0));
+    System.exit(0);
+  }
+
+  private void seed() throws IOException, InterruptedException {
+    List<String> ids = new ArrayList<>(READ_SEED_SIZE);
+    for (int i = 0; i < READ_SEED_SIZE; i++) {
+      HttpResponse<String> response = send(createBody());
+      Matcher matcher = EXTERNAL_ID.matcher(response.body());
+      if (response.statusCode() != 200 || !matcher.find()) {
+        throw new IllegalStateException("Seed transaction not created: " + response.body());
+      }
+      ids.add(matcher.group(1));
+    }
+    seedIds = List.copyOf(ids);
+  }
+
+  private Result run(int concurrency, Duration duration) throws Exception {
+    long deadline = System.nanoTime() + duration.toNanos();
+    ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+    try {
+      List<Future<Result>> futures = new ArrayList<>(concurrency);
+      for (int i = 0; i < concurrency; i++) {
+        futures.add(clients.submit(() -> runClient(deadline)));
+      }
+      List<Result> results = new ArrayList<>(concurrency);
+      for (Future<Result> future : futures) {
+        results.add(future.get());
+      }
+      return Result.merge(results);
+    } finally {
+      clients.shutdownNow();
+    }
+  }
+
+  private Result runClient(long deadline) throws InterruptedException {
+    long[] latencies = new long[1_024];
+    int count = 0;
+    long errors = 0;
+    while (System.nanoTime() < deadline) {
+      String body = "create".equals(operation) ? createBody() : readBody();
+      long start = System.nanoTime();
+      try {
+        HttpResponse<String> response = send(body);
+        if (response.statusCode() != 200 || response.body().contains("\"errors\"")) {
+          errors++;
+          continue;
+        }
+      } catch (IOException e) {
+        errors++;
+        continue;
+      }
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = (System.nanoTime() - start) / NANOS_PER_MICRO;
+    }
+    return new Result(Arrays.copyOf(latencies, count), errors);
+  }
+
+  private HttpResponse<String> send(String body) throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(endpoint)
+        .header("Content-Type", "application/json")
+        .header("Request-ID", UUID.randomUUID().toString())
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+    return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  private static String createBody() {
+    int value = ThreadLocalRandom.current().nextInt(1, 1_000);
+    return graphqlBody(String.format(CREATE_QUERY, UUID.randomUUID(), UUID.randomUUID(), value));
+  }
+
+  private String readBody() {
+    String id = seedIds.get(ThreadLocalRandom.current().nextInt(seedIds.size()));
+    return graphqlBody(String.format(READ_QUERY, id));
+  }
+
+  private static String graphqlBody(String query) {
+    return "{\"query\": \"" + query + "\"}";
+  }
+
+  private record Result(long[] latenciesMicros, long errors) {
+
+    static Result merge(List<Result> results) {
+      long[] merged = results.stream()
+          .flatMapToLong(result -> Arrays.stream(result.latenciesMicros()))
+          .sorted()
+          .toArray();
+      return new Result(merged, results.stream().mapToLong(Result::errors).sum());
+    }
+
+    double percentileMillis(double percentile) {
+      if (latenciesMicros.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile * latenciesMicros.length) - 1;
+      return latenciesMicros[Math.max(index, 0)] / 1_000.0;
+    }
+
+  }
+
+}
@@ -0,0 +1,85 @@
+package com.yape.services.transaction.application.mapper;
+
+import com.yape.services.transaction.application.dto.RequestMetaData;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransferType;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.infrastructure.id.UuidV7TransactionIdGenerator;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the mappers on the createTransaction path: domain transaction to
+ * TransactionCreatedEvent (Avro) and to the GraphQL response model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionMapperBenchmark {
+
+  private TransactionMapper transactionMapper;
+  private GraphqlTransactionMapper graphqlTransactionMapper;
+  private Transaction transaction;
+  private TransactionStatus status;
+  private TransferType transferType;
+  private RequestMetaData metaData;
+
+  /**
+   * Creates the mappers and a pending transaction.
+   */
+  @Setup
+  public void setUp() {
+    transactionMapper = new TransactionMapper(new UuidV7TransactionIdGenerator());
+    graphqlTransactionMapper = Mappers.getMapper(GraphqlTransactionMapper.class);
+    transaction = Transaction.builder()
+        .transactionId(1L)
+        .transactionExternalId(UUID.randomUUID())
+        .accountExternalIdDebit(UUID.randomUUID())
+        .accountExternalIdCredit(UUID.randomUUID())
+        .transferTypeId(1)
+        .transactionStatusId(1)
+        .value(new BigDecimal("1234.56"))
+        .createdAt(LocalDateTime.now())
+        .build();
+    status = TransactionStatus.builder()
+        .transactionStatusId(1)
+        .code("PENDING")
+        .name("Pendiente")
+        .build();
+    transferType = TransferType.builder()
+        .transferTypeId(1)
+        .code("TRANSFER")
+        .name("Transferencia")
+        .build();
+    metaData = new RequestMetaData("Bearer token", UUID.randomUUID().toString(),
+        "2024-01-01T00:00:00.000Z");
+  }
+
+  @Benchmark
+  public TransactionCreatedEvent toTransactionCreatedEvent() {
+    return transactionMapper.toTransactionCreatedEvent(transaction, status, metaData);
+  }
+
+  @Benchmark
+  public com.yape.services.transaction.graphql.model.Transaction toGraphqlModel() {
+    return graphqlTransactionMapper.toGraphqlModel(transaction, transferType, status);
+  }
+
+}
@@ -0,0 +1,53 @@
+package com.yape.services.transaction.application.usecase;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the input parsing of {@link CreateTransactionUseCase}: amount validation and
+ * account UUID parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateTransactionUseCaseBenchmark {
+
+  private CreateTransactionUseCase useCase;
+  private String value;
+  private String accountExternalId;
+
+  /**
+   * Creates the use case; the parsing methods use none of its collaborators.
+   */
+  @Setup
+  public void setUp() {
+    useCase = new CreateTransactionUseCase(null, null, null, null, null, null);
+    value = "1234.56";
+    accountExternalId = UUID.randomUUID().toString();
+  }
+
+  @Benchmark
+  public BigDecimal parseAndValidateAmount() {
+    return useCase.parseAndValidateAmount(value);
+  }
+
+  @Benchmark
+  public UUID parseUuid() {
+    return useCase.parseUuid(accountExternalId, "accountExternalIdDebit");
+  }
+
+}
@@ -0,0 +1,75 @@
+package com.yape.services.transaction.application.usecase;
+
+import com.yape.services.common.events.EventMetadata;
+import com.yape.services.transaction.domain.model.ValidationResult;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import com.yape.services.transaction.infrastructure.id.UuidV7EventIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the construction of the status updated event published by the anti-fraud service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidateTransactionUseCaseBenchmark {
+
+  private ValidateTransactionUseCase useCase;
+  private TransactionCreatedEvent event;
+  private ValidationResult result;
+
+  /**
+   * Builds the use case and a created event with its rejected validation result.
+   */
+  @Setup
+  public void setUp() {
+    useCase = new ValidateTransactionUseCase(null, null, new SimpleMeterRegistry(),
+        new UuidV7EventIdGenerator());
+    event = TransactionCreatedEvent.newBuilder()
+        .setMetadata(EventMetadata.newBuilder()
+            .setEventId(UUID.randomUUID().toString())
+            .setEventType("TRANSACTION_CREATED")
+            .setEventTimestamp("2024-01-01T00:00:00.000Z")
+            .setSource("ms-transaction")
+            .setVersion("1.0.0")
+            .setRequestId(UUID.randomUUID().toString())
+            .build())
+        .setPayload(TransactionCreatedPayload.newBuilder()
+            .setTransactionExternalId(UUID.randomUUID().toString())
+            .setAccountExternalIdDebit(UUID.randomUUID().toString())
+            .setAccountExternalIdCredit(UUID.randomUUID().toString())
+            .setTransferTypeId(1)
+            .setValue("1234.56")
+            .setStatus(TransactionStatus.PENDING)
+            .setCreatedAt("2024-01-01T00:00:00.000Z")
+            .build())
+        .build();
+    result = ValidationResult.rejected(List.of("MAX_AMOUNT_EXCEEDED"));
+  }
+
+  @Benchmark
+  public TransactionStatusUpdatedEvent buildStatusUpdatedEvent() {
+    return useCase.buildStatusUpdatedEvent(event, event.getPayload(), result,
+        TransactionStatus.REJECTED);
+  }
+
+}
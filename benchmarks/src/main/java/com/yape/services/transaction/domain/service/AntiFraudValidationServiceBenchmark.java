@@ -0,0 +1,103 @@
+package com.yape.services.transaction.domain.service;
+
+import com.yape.services.transaction.domain.model.ValidationResult;
+import com.yape.services.transaction.domain.service.rule.MaxAmountRuleFactory;
+import com.yape.services.transaction.domain.service.rule.RuleAction;
+import com.yape.services.transaction.domain.service.rule.RuleDefinition;
+import com.yape.services.transaction.domain.service.rule.RuleFactory;
+import com.yape.services.transaction.domain.service.rule.RulePlan;
+import com.yape.services.transaction.domain.service.rule.SameAccountRuleFactory;
+import com.yape.services.transaction.domain.service.rule.TimeOfDayRuleFactory;
+import com.yape.services.transaction.domain.service.rule.TransferTypeLimitRuleFactory;
+import com.yape.services.transaction.domain.service.rule.VelocityRuleFactory;
+import com.yape.services.transaction.domain.service.velocity.VelocityStore;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the anti-fraud validation of a created transaction against the rule set of the
+ * local profile, velocity recording included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AntiFraudValidationServiceBenchmark {
+
+  private static final int PAYLOADS = 1024;
+  private static final int ACCOUNTS = 10_000;
+
+  private AntiFraudValidationService service;
+  private TransactionCreatedPayload[] payloads;
+  private int next;
+
+  /**
+   * Compiles the rule plan and builds payloads spread over a fixed set of debit accounts.
+   */
+  @Setup
+  public void setUp() {
+    VelocityStore velocityStore = new VelocityStore(60, 12, 1_000_000, 300);
+    List<RuleFactory> factories = List.of(
+        new MaxAmountRuleFactory(),
+        new SameAccountRuleFactory(),
+        new TransferTypeLimitRuleFactory(),
+        new TimeOfDayRuleFactory(),
+        new VelocityRuleFactory(velocityStore));
+    List<RuleDefinition> definitions = List.of(
+        new RuleDefinition("SAME_ACCOUNT", "same-account", RuleAction.FLAG, Map.of()),
+        new RuleDefinition("MAX_AMOUNT_EXCEEDED", "max-amount", RuleAction.REJECT,
+            Map.of("max", "1000")),
+        new RuleDefinition("VELOCITY_LIMIT_EXCEEDED", "velocity", RuleAction.REJECT,
+            Map.of("max-count", "100", "max-amount", "10000")),
+        new RuleDefinition("NIGHT_TIME_HIGH_AMOUNT", "time-of-day", RuleAction.FLAG,
+            Map.of("from", "00:00", "to", "05:00", "zone", "America/Lima",
+                "min-amount", "500")));
+    service = new AntiFraudValidationService(
+        RulePlan.compile(definitions, factories, new SimpleMeterRegistry()), velocityStore);
+
+    UUID[] accounts = new UUID[ACCOUNTS];
+    for (int i = 0; i < ACCOUNTS; i++) {
+      accounts[i] = UUID.randomUUID();
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    payloads = new TransactionCreatedPayload[PAYLOADS];
+    for (int i = 0; i < PAYLOADS; i++) {
+      payloads[i] = TransactionCreatedPayload.newBuilder()
+          .setTransactionExternalId(UUID.randomUUID().toString())
+          .setAccountExternalIdDebit(accounts[random.nextInt(ACCOUNTS)].toString())
+          .setAccountExternalIdCredit(accounts[random.nextInt(ACCOUNTS)].toString())
+          .setTransferTypeId(1 + random.nextInt(3))
+          .setValue(random.nextInt(1, 2000) + ".50")
+          .setStatus(TransactionStatus.PENDING)
+          .setCreatedAt(Instant.now().toString())
+          .build();
+    }
+  }
+
+  @Benchmark
+  public ValidationResult validate() {
+    TransactionCreatedPayload payload = payloads[next];
+    next = (next + 1) & (PAYLOADS - 1);
+    return service.validate(payload);
+  }
+
+}
@@ -0,0 +1,77 @@
+package com.yape.services.transaction.domain.service.velocity;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the velocity store: recording a transaction and reading the window totals of a
+ * debit account, with the store pre-filled with the given number of active accounts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class VelocityStoreBenchmark {
+
+  private static final BigDecimal AMOUNT = new BigDecimal("25.50");
+
+  @Param({"10000", "1000000"})
+  private int accounts;
+
+  private VelocityStore velocityStore;
+  private String[] accountIds;
+  private long now;
+
+  /**
+   * Pre-fills the store with one transaction per account.
+   */
+  @Setup
+  public void setUp() {
+    velocityStore = new VelocityStore(60, 12, accounts, 300);
+    accountIds = new String[accounts];
+    now = System.currentTimeMillis();
+    for (int i = 0; i < accounts; i++) {
+      accountIds[i] = UUID.randomUUID().toString();
+      velocityStore.record(accountIds[i], nextTransactionId(), now, AMOUNT);
+    }
+  }
+
+  @Benchmark
+  public VelocityStore.Totals recordAndRead() {
+    String account = accountIds[ThreadLocalRandom.current().nextInt(accounts)];
+    velocityStore.record(account, nextTransactionId(), System.currentTimeMillis(), AMOUNT);
+    return velocityStore.totals(account);
+  }
+
+  @Benchmark
+  public VelocityStore.Totals read() {
+    return velocityStore.totals(accountIds[ThreadLocalRandom.current().nextInt(accounts)]);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public VelocityStore.Totals recordAndReadContended() {
+    return recordAndRead();
+  }
+
+  private static String nextTransactionId() {
+    return Long.toString(ThreadLocalRandom.current().nextLong());
+  }
+
+}
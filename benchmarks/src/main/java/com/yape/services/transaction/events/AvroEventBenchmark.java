@@ -0,0 +1,115 @@
+package com.yape.services.transaction.events;
+
+import com.yape.services.common.events.EventMetadata;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Avro binary serialization and deserialization of both event schemas.
+ * Uses Avro single-object encoding; the Schema Registry wire format adds a fixed 5-byte header
+ * and a cached schema lookup on top of the same binary encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvroEventBenchmark {
+
+  private TransactionCreatedEvent createdEvent;
+  private TransactionStatusUpdatedEvent statusUpdatedEvent;
+  private byte[] createdEventBytes;
+  private byte[] statusUpdatedEventBytes;
+
+  /**
+   * Builds one event of each schema and their encoded form.
+   *
+   * @throws IOException if an event cannot be encoded
+   */
+  @Setup
+  public void setUp() throws IOException {
+    String transactionExternalId = UUID.randomUUID().toString();
+    createdEvent = TransactionCreatedEvent.newBuilder()
+        .setMetadata(metadata("TRANSACTION_CREATED", "ms-transaction"))
+        .setPayload(TransactionCreatedPayload.newBuilder()
+            .setTransactionExternalId(transactionExternalId)
+            .setAccountExternalIdDebit(UUID.randomUUID().toString())
+            .setAccountExternalIdCredit(UUID.randomUUID().toString())
+            .setTransferTypeId(1)
+            .setValue("1234.56")
+            .setStatus(TransactionStatus.PENDING)
+            .setCreatedAt("2024-01-01T00:00:00.000Z")
+            .build())
+        .build();
+    statusUpdatedEvent = TransactionStatusUpdatedEvent.newBuilder()
+        .setMetadata(metadata("TRANSACTION_STATUS_UPDATED", "ms-anti-fraud"))
+        .setPayload(TransactionStatusUpdatedPayload.newBuilder()
+            .setTransactionExternalId(transactionExternalId)
+            .setPreviousStatus(TransactionStatus.PENDING)
+            .setNewStatus(TransactionStatus.REJECTED)
+            .setValue("1234.56")
+            .setValidationResult(ValidationResult.newBuilder()
+                .setIsValid(false)
+                .setRuleCode("MAX_AMOUNT_EXCEEDED")
+                .setRuleCodes(List.of("MAX_AMOUNT_EXCEEDED"))
+                .build())
+            .setProcessedAt("2024-01-01T00:00:00.050+0000")
+            .build())
+        .build();
+    createdEventBytes = toBytes(createdEvent.toByteBuffer());
+    statusUpdatedEventBytes = toBytes(statusUpdatedEvent.toByteBuffer());
+  }
+
+  @Benchmark
+  public ByteBuffer serializeTransactionCreated() throws IOException {
+    return createdEvent.toByteBuffer();
+  }
+
+  @Benchmark
+  public TransactionCreatedEvent deserializeTransactionCreated() throws IOException {
+    return TransactionCreatedEvent.fromByteBuffer(ByteBuffer.wrap(createdEventBytes));
+  }
+
+  @Benchmark
+  public ByteBuffer serializeTransactionStatusUpdated() throws IOException {
+    return statusUpdatedEvent.toByteBuffer();
+  }
+
+  @Benchmark
+  public TransactionStatusUpdatedEvent deserializeTransactionStatusUpdated() throws IOException {
+    return TransactionStatusUpdatedEvent.fromByteBuffer(ByteBuffer.wrap(statusUpdatedEventBytes));
+  }
+
+  private static EventMetadata metadata(String eventType, String source) {
+    return EventMetadata.newBuilder()
+        .setEventId(UUID.randomUUID().toString())
+        .setEventType(eventType)
+        .setEventTimestamp("2024-01-01T00:00:00.000Z")
+        .setSource(source)
+        .setVersion("1.0.0")
+        .setRequestId(UUID.randomUUID().toString())
+        .build();
+  }
+
+  private static byte[] toBytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+}
@@ -0,0 +1,95 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import com.yape.services.transaction.domain.model.Transaction;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.TypedJsonJacksonCodec;
+
+/**
+ * Benchmarks the Redis value codecs of the transaction cache: encoding and decoding of a
+ * {@link Transaction} with the binary codec TransactionCacheServiceImpl uses and with the JSON
+ * codec it replaced. {@link TransactionCodecFootprint} reports the bytes per entry of both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionCodecBenchmark {
+
+  @Param({"json", "binary"})
+  private String format;
+
+  private Codec codec;
+  private Transaction transaction;
+  private byte[] encoded;
+
+  /**
+   * Creates the codec under test and a transaction with its encoded form.
+   *
+   * @throws IOException if the transaction cannot be encoded
+   */
+  @Setup
+  public void setUp() throws IOException {
+    codec = createCodec(format);
+    transaction = createTransaction();
+    ByteBuf buffer = codec.getValueEncoder().encode(transaction);
+    encoded = new byte[buffer.readableBytes()];
+    buffer.readBytes(encoded);
+    buffer.release();
+  }
+
+  @Benchmark
+  public int encode() throws IOException {
+    ByteBuf buffer = codec.getValueEncoder().encode(transaction);
+    int size = buffer.readableBytes();
+    buffer.release();
+    return size;
+  }
+
+  @Benchmark
+  public Object decode() throws IOException {
+    return codec.getValueDecoder().decode(Unpooled.wrappedBuffer(encoded), null);
+  }
+
+  static Codec createCodec(String format) {
+    return switch (format) {
+      case "json" -> new TypedJsonJacksonCodec(String.class, Transaction.class,
+          TransactionCacheServiceImpl.createObjectMapper());
+      case "binary" -> new TransactionBinaryCodec(TransactionCacheServiceImpl.createObjectMapper());
+      default -> throw new IllegalArgumentException("Unknown codec: " + format);
+    };
+  }
+
+  static Transaction createTransaction() {
+    return Transaction.builder()
+        .transactionId(1L)
+        .transactionExternalId(UUID.randomUUID())
+        .accountExternalIdDebit(UUID.randomUUID())
+        .accountExternalIdCredit(UUID.randomUUID())
+        .transferTypeId(1)
+        .transactionStatusId(1)
+        .value(new BigDecimal("1234.56"))
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+}
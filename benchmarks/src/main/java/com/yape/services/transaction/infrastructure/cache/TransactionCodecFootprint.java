@@ -0,0 +1,105 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import com.yape.services.transaction.domain.model.Transaction;
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.redisson.Redisson;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapCacheAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+
+/**
+ * Reports the memory per cached transaction of the JSON and binary codecs.
+ * Always prints the encoded value size; given a Redis address it also fills one RMapCache per
+ * codec and prints the {@code MEMORY USAGE} of the hash divided by the number of entries.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar \
+ *     com.yape.services.transaction.infrastructure.cache.TransactionCodecFootprint \
+ *     redis://localhost:6379 100000
+ * </pre>
+ */
+public final class TransactionCodecFootprint {
+
+  private static final String[] FORMATS = {"json", "binary"};
+  private static final int SAMPLES = 1_000;
+  private static final int BATCH_SIZE = 1_000;
+  private static final String MEMORY_USAGE_SCRIPT =
+      "return redis.call('MEMORY', 'USAGE', KEYS[1], 'SAMPLES', '0')";
+
+  private TransactionCodecFootprint() {
+    // Utility class, prevent instantiation
+  }
+
+  /**
+   * Prints the footprint of both codecs.
+   *
+   * @param args optional Redis address and number of entries (default 100000)
+   * @throws IOException if a transaction cannot be encoded
+   */
+  public static void main(String[] args) throws IOException {
+    System.out.println("codec,value_bytes");
+    for (String format : FORMATS) {
+      System.out.printf("%s,%.1f%n", format, averageValueBytes(format));
+    }
+    if (args.length == 0) {
+      return;
+    }
+
+    int entries = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+    Config config = new Config();
+    config.useSingleServer().setAddress(args[0]);
+    RedissonClient redissonClient = Redisson.create(config);
+    try {
+      System.out.println();
+      System.out.println("codec,entries,redis_bytes_per_entry");
+      for (String format : FORMATS) {
+        System.out.printf("%s,%d,%.1f%n", format, entries,
+            redisBytesPerEntry(redissonClient, format, entries));
+      }
+    } finally {
+      redissonClient.shutdown();
+    }
+  }
+
+  private static double averageValueBytes(String format) throws IOException {
+    Codec codec = TransactionCodecBenchmark.createCodec(format);
+    long total = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      ByteBuf buffer = codec.getValueEncoder()
+          .encode(TransactionCodecBenchmark.createTransaction());
+      total += buffer.readableBytes();
+      buffer.release();
+    }
+    return (double) total / SAMPLES;
+  }
+
+  private static double redisBytesPerEntry(RedissonClient redissonClient, String format,
+                                           int entries) {
+    String name = "codec-footprint:" + format;
+    Codec codec = TransactionCodecBenchmark.createCodec(format);
+    redissonClient.getKeys().delete(name);
+    for (int from = 0; from < entries; from += BATCH_SIZE) {
+      RBatch batch = redissonClient.createBatch();
+      RMapCacheAsync<String, Transaction> cache = batch.getMapCache(name, codec);
+      for (int i = from; i < Math.min(from + BATCH_SIZE, entries); i++) {
+        cache.fastPutAsync("transaction:" + UUID.randomUUID(),
+            TransactionCodecBenchmark.createTransaction(), 1, TimeUnit.HOURS);
+      }
+      batch.execute();
+    }
+
+    Long bytes = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_ONLY,
+        MEMORY_USAGE_SCRIPT, RScript.ReturnType.INTEGER, List.of(name));
+    redissonClient.getKeys().delete(name);
+    return (double) bytes / entries;
+  }
+
+}
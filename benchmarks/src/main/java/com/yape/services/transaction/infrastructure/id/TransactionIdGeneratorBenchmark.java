@@ -0,0 +1,62 @@
+package com.yape.services.transaction.infrastructure.id;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the generation of transaction IDs: random v4 UUIDs against the time-ordered
+ * UUIDv7 generator, on one thread and on eight threads sharing the generator. The effect of
+ * both schemes on the database indexes is measured by {@code sql/uuid-index-benchmark.sql}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionIdGeneratorBenchmark {
+
+  private UuidV7TransactionIdGenerator generator;
+
+  /**
+   * Creates the UUIDv7 generator.
+   */
+  @Setup
+  public void setUp() {
+    generator = new UuidV7TransactionIdGenerator();
+  }
+
+  @Benchmark
+  public UUID randomV4() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  public UUID timeOrderedV7() {
+    return generator.nextId();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public UUID randomV4Contended() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public UUID timeOrderedV7Contended() {
+    return generator.nextId();
+  }
+
+}
@@ -0,0 +1,113 @@
+#!/usr/bin/env bash
+# Compares JVM and native startup of ms-transaction and ms-anti-fraud: time until the readiness
+# probe answers UP, the startup time Quarkus logs, and the resident set size (RSS) at that point.
+#
+#   docker compose up -d redis postgres zookeeper kafka schema-registry
+#   (cd ms-transaction && mvn package -DskipTests && mvn package -Dnative -DskipTests)
+#   (cd ms-anti-fraud && mvn package -DskipTests && mvn package -Dnative -DskipTests)
+#   benchmarks/startup/startup-benchmark.sh [runs]
+#
+# A mode is skipped when its artifact has not been built. Each run starts a fresh process and
+# stops it once ready, so the numbers are cold starts as seen by a pod scaled up from zero.
+# Results are printed as CSV, one line per run, followed by the median of every column.
+
+set -euo pipefail
+
+RUNS="${1:-10}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-60}"
+ROOT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")/../.." && pwd)"
+LOG_FILE="$(mktemp)"
+RESULTS_FILE="$(mktemp)"
+trap 'rm -f "${LOG_FILE}" "${RESULTS_FILE}"' EXIT
+
+# service:port:readiness path
+SERVICES=(
+  "ms-transaction:18080:/ms-transaction/health/ready"
+  "ms-anti-fraud:18081:/ms-anti-fraud/health/ready"
+)
+
+now_ms() {
+  date +%s%3N
+}
+
+# Prints the command line that starts the service in the given mode, or nothing if not built.
+launch_command() {
+  local service="$1" mode="$2" target="${ROOT_DIR}/${1}/target"
+  if [[ "${mode}" == "jvm" && -f "${target}/quarkus-app/quarkus-run.jar" ]]; then
+    echo "java -jar ${target}/quarkus-app/quarkus-run.jar"
+  elif [[ "${mode}" == "native" ]]; then
+    local runner
+    runner="$(find "${target}" -maxdepth 1 -name "${service}-*-runner" -type f 2>/dev/null | head -1)"
+    [[ -n "${runner}" ]] && echo "${runner}"
+  fi
+  return 0
+}
+
+# Reads a field of /proc/<pid>/status in kB (VmRSS: current, VmHWM: peak).
+proc_kb() {
+  awk -v field="$2:" '$1 == field { print $2 }' "/proc/$1/status"
+}
+
+run_once() {
+  local service="$1" port="$2" path="$3" mode="$4" command="$5"
+  local start ready_ms pid rss_kb hwm_kb started_in
+
+  start="$(now_ms)"
+  ${command} > "${LOG_FILE}" 2>&1 &
+  pid=$!
+
+  until curl -fs -o /dev/null "http://localhost:${port}${path}"; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "${service} (${mode}) exited before becoming ready, log:" >&2
+      cat "${LOG_FILE}" >&2
+      exit 1
+    fi
+    if (( $(now_ms) - start > TIMEOUT_SECONDS * 1000 )); then
+      echo "${service} (${mode}) not ready after ${TIMEOUT_SECONDS}s" >&2
+      kill "${pid}"
+      exit 1
+    fi
+    sleep 0.005
+  done
+  ready_ms=$(( $(now_ms) - start ))
+  rss_kb="$(proc_kb "${pid}" VmRSS)"
+  hwm_kb="$(proc_kb "${pid}" VmHWM)"
+  started_in="$(grep -o 'started in [0-9.]*s' "${LOG_FILE}" | grep -o '[0-9.]*' | head -1)"
+
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+
+  echo "${service},${mode},${ready_ms},${started_in:-},$(( rss_kb / 1024 )),$(( hwm_kb / 1024 ))"
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END {
+    if (NR == 0) { print ""; exit }
+    print (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2
+  }'
+}
+
+echo "service,mode,ready_ms,quarkus_started_s,rss_mb,peak_rss_mb"
+for entry in "${SERVICES[@]}"; do
+  IFS=: read -r service port path <<< "${entry}"
+  for mode in jvm native; do
+    command="$(launch_command "${service}" "${mode}")"
+    if [[ -z "${command}" ]]; then
+      echo "# ${service} (${mode}) not built, skipped" >&2
+      continue
+    fi
+    for _ in $(seq "${RUNS}"); do
+      run_once "${service}" "${port}" "${path}" "${mode}" "${command}" | tee -a "${RESULTS_FILE}"
+    done
+  done
+done
+
+echo
+echo "service,mode,median_ready_ms,median_quarkus_started_s,median_rss_mb,median_peak_rss_mb"
+cut -d, -f1,2 "${RESULTS_FILE}" | sort -u | while IFS=, read -r service mode; do
+  line="${service},${mode}"
+  for column in 3 4 5 6; do
+    line+=",$(grep "^${service},${mode}," "${RESULTS_FILE}" | cut -d, -f"${column}" | median)"
+  done
+  echo "${line}"
+done
@@ -2,7 +2,9 @@ package com.yape.services.transaction.application.usecase;
 
 import com.yape.services.common.events.EventMetadata;
 import com.yape.services.common.util.Constants;
+import com.yape.services.common.util.EventTimestamps;
 import com.yape.services.transaction.domain.service.AntiFraudValidationService;
+import com.yape.services.transaction.domain.service.EventIdGenerator;
 import com.yape.services.transaction.domain.service.TransactionStatusEventPublisher;
 import com.yape.services.transaction.events.TransactionCreatedEvent;
 import com.yape.services.transaction.events.TransactionCreatedPayload;
@@ -10,40 +12,54 @@ import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
 import com.yape.services.transaction.events.TransactionStatusUpdatedPayload;
 import com.yape.services.transaction.events.ValidationResult;
 import com.yape.services.transaction.events.enums.TransactionStatus;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.enterprise.context.ApplicationScoped;
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.time.format.DateTimeParseException;
 import org.jboss.logging.Logger;
 
 /**
  * Use case for validating a transaction against anti-fraud rules.
  * Receives a TransactionCreatedEvent, validates it, and publishes
- * a TransactionStatusUpdatedEvent with the result.
+ * a TransactionStatusUpdatedEvent with the result. The time a transaction stays PENDING, from
+ * the created event timestamp until the decision ({@code processedAt}), is exported as
+ * {@code transaction.pending.lag}, tagged by the final status.
  */
 @ApplicationScoped
 public class ValidateTransactionUseCase {
 
   private static final Logger LOGGER = Logger.getLogger(ValidateTransactionUseCase.class);
+  private static final String PENDING_LAG_METRIC = "transaction.pending.lag";
   private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter
       .ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ")
       .withZone(ZoneOffset.UTC);
 
   private final AntiFraudValidationService antiFraudValidationService;
   private final TransactionStatusEventPublisher eventPublisher;
+  private final MeterRegistry meterRegistry;
+  private final EventIdGenerator eventIdGenerator;
 
   /**
    * Constructor for ValidateTransactionUseCase.
    *
    * @param antiFraudValidationService the service for validating transactions
    * @param eventPublisher             the publisher for transaction status events
+   * @param meterRegistry              the registry the pending lag is exported to
+   * @param eventIdGenerator           the generator for event IDs
    */
   public ValidateTransactionUseCase(AntiFraudValidationService antiFraudValidationService,
-                                    TransactionStatusEventPublisher eventPublisher) {
+                                    TransactionStatusEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry,
+                                    EventIdGenerator eventIdGenerator) {
     this.antiFraudValidationService = antiFraudValidationService;
     this.eventPublisher = eventPublisher;
+    this.meterRegistry = meterRegistry;
+    this.eventIdGenerator = eventIdGenerator;
   }
 
   /**
@@ -51,15 +67,15 @@ public class ValidateTransactionUseCase {
    *
    * @param event the transaction created event to validate
    */
+  @Timed(value = "antifraud.usecase", extraTags = {"usecase", "validate"}, histogram = true)
   public void execute(TransactionCreatedEvent event) {
     TransactionCreatedPayload payload = event.getPayload();
     String transactionExternalId = payload.getTransactionExternalId();
 
     LOGGER.infof("Processing transaction for anti-fraud validation: %s", transactionExternalId);
 
-    BigDecimal transactionValue = new BigDecimal(payload.getValue());
     com.yape.services.transaction.domain.model.ValidationResult result =
-        antiFraudValidationService.validate(transactionValue);
+        antiFraudValidationService.validate(payload);
 
     TransactionStatus newStatus = result.isValid()
         ? TransactionStatus.APPROVED
@@ -73,12 +89,31 @@ public class ValidateTransactionUseCase {
     );
 
     eventPublisher.publishStatusUpdated(statusUpdatedEvent);
+    recordPendingLag(event, statusUpdatedEvent);
 
     LOGGER.infof("Transaction %s validation completed with status: %s",
         transactionExternalId, newStatus);
   }
 
-  private TransactionStatusUpdatedEvent buildStatusUpdatedEvent(
+  private void recordPendingLag(TransactionCreatedEvent createdEvent,
+                                TransactionStatusUpdatedEvent statusUpdatedEvent) {
+    TransactionStatusUpdatedPayload payload = statusUpdatedEvent.getPayload();
+    Duration lag;
+    try {
+      lag = Duration.between(EventTimestamps.parse(createdEvent.getMetadata().getEventTimestamp()),
+          EventTimestamps.parse(payload.getProcessedAt()));
+    } catch (DateTimeParseException e) {
+      LOGGER.debugf("Skipping pending lag, unparseable timestamp: %s", e.getParsedString());
+      return;
+    }
+    Timer.builder(PENDING_LAG_METRIC)
+        .tag("status", payload.getNewStatus().name())
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(lag);
+  }
+
+  TransactionStatusUpdatedEvent buildStatusUpdatedEvent(
       TransactionCreatedEvent originalEvent,
       TransactionCreatedPayload payload,
       com.yape.services.transaction.domain.model.ValidationResult result,
@@ -87,7 +122,7 @@ public class ValidateTransactionUseCase {
     String requestId = originalEvent.getMetadata().getRequestId();
 
     EventMetadata metadata = EventMetadata.newBuilder()
-        .setEventId(UUID.randomUUID().toString())
+        .setEventId(eventIdGenerator.nextId().toString())
         .setEventType(Constants.EVENT_TYPE_TRANSACTION_STATUS_UPDATED)
         .setEventTimestamp(ISO_FORMATTER.format(Instant.now()))
         .setSource(Constants.EVENT_SOURCE)
@@ -98,6 +133,7 @@ public class ValidateTransactionUseCase {
     ValidationResult validationResult = ValidationResult.newBuilder()
         .setIsValid(result.isValid())
         .setRuleCode(result.getRuleCode())
+        .setRuleCodes(result.getRuleCodes())
         .build();
 
     TransactionStatusUpdatedPayload statusPayload = TransactionStatusUpdatedPayload.newBuilder()
@@ -1,16 +1,22 @@
 package com.yape.services.transaction.domain.model;
 
+import java.util.List;
+
 /**
  * Result of the anti-fraud validation process.
  */
 public class ValidationResult {
 
+  private static final ValidationResult APPROVED = new ValidationResult(true, null, List.of());
+
   private final boolean valid;
   private final String ruleCode;
+  private final List<String> ruleCodes;
 
-  private ValidationResult(boolean valid, String ruleCode) {
+  private ValidationResult(boolean valid, String ruleCode, List<String> ruleCodes) {
     this.valid = valid;
     this.ruleCode = ruleCode;
+    this.ruleCodes = ruleCodes;
   }
 
   /**
@@ -19,7 +25,20 @@ public class ValidationResult {
    * @return ValidationResult indicating the transaction is approved
    */
   public static ValidationResult approved() {
-    return new ValidationResult(true, null);
+    return APPROVED;
+  }
+
+  /**
+   * Creates a validation result indicating approval, with the codes of the flagging rules
+   * that matched.
+   *
+   * @param ruleCodes the codes of the matched rules
+   * @return ValidationResult indicating the transaction is approved
+   */
+  public static ValidationResult approved(List<String> ruleCodes) {
+    return ruleCodes.isEmpty()
+        ? APPROVED
+        : new ValidationResult(true, null, List.copyOf(ruleCodes));
   }
 
   /**
@@ -29,7 +48,18 @@ public class ValidationResult {
    * @return ValidationResult indicating the transaction is rejected
    */
   public static ValidationResult rejected(String ruleCode) {
-    return new ValidationResult(false, ruleCode);
+    return new ValidationResult(false, ruleCode, ruleCode != null ? List.of(ruleCode) : List.of());
+  }
+
+  /**
+   * Creates a validation result indicating rejection.
+   * The last matched rule is the one that caused rejection.
+   *
+   * @param ruleCodes the codes of the matched rules, in evaluation order
+   * @return ValidationResult indicating the transaction is rejected
+   */
+  public static ValidationResult rejected(List<String> ruleCodes) {
+    return new ValidationResult(false, ruleCodes.getLast(), List.copyOf(ruleCodes));
   }
 
   public boolean isValid() {
@@ -40,4 +70,8 @@ public class ValidationResult {
     return ruleCode;
   }
 
+  public List<String> getRuleCodes() {
+    return ruleCodes;
+  }
+
 }
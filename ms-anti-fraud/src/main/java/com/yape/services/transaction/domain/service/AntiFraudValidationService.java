@@ -1,44 +1,63 @@
 package com.yape.services.transaction.domain.service;
 
-import com.yape.services.common.util.Constants;
 import com.yape.services.transaction.domain.model.ValidationResult;
+import com.yape.services.transaction.domain.service.rule.RulePlan;
+import com.yape.services.transaction.domain.service.velocity.VelocityStore;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import java.math.BigDecimal;
 import org.jboss.logging.Logger;
 
 /**
  * Domain service responsible for anti-fraud transaction validation.
- * Implements business rules to determine if a transaction should be approved or rejected.
+ * Evaluates the compiled rule plan to determine if a transaction should be approved or rejected.
  */
 @ApplicationScoped
 public class AntiFraudValidationService {
 
   private static final Logger LOGGER = Logger.getLogger(AntiFraudValidationService.class);
 
+  private final RulePlan rulePlan;
+  private final VelocityStore velocityStore;
+
   /**
-   * Maximum allowed transaction amount.
-   * Transactions exceeding this value will be rejected.
+   * Constructor for AntiFraudValidationService.
+   *
+   * @param rulePlan      the compiled anti-fraud rules
+   * @param velocityStore the sliding-window store of debit account activity
    */
-  private static final BigDecimal MAX_TRANSACTION_AMOUNT = new BigDecimal("1000");
+  @Inject
+  public AntiFraudValidationService(RulePlan rulePlan, VelocityStore velocityStore) {
+    this.rulePlan = rulePlan;
+    this.velocityStore = velocityStore;
+  }
 
   /**
    * Validates a transaction based on anti-fraud rules.
+   * The transaction is recorded in the velocity window of its debit account first, so velocity
+   * rules count it whatever the outcome.
    *
-   * @param transactionValue the monetary value of the transaction
+   * @param payload the created transaction
    * @return ValidationResult indicating whether the transaction is approved or rejected
+   * @throws NumberFormatException if the transaction value is not a valid number
    */
-  public ValidationResult validate(BigDecimal transactionValue) {
-    LOGGER.debugf("Validating transaction with value: %s", transactionValue);
-
-    // Rule: Reject transactions with value greater than 1000
-    if (transactionValue.compareTo(MAX_TRANSACTION_AMOUNT) > 0) {
-      LOGGER.infof("Transaction rejected: value %s exceeds maximum allowed %s",
-          transactionValue, MAX_TRANSACTION_AMOUNT);
-      return ValidationResult.rejected(Constants.RULE_MAX_AMOUNT_EXCEEDED);
+  public ValidationResult validate(TransactionCreatedPayload payload) {
+    LOGGER.debugf("Validating transaction %s with value: %s",
+        payload.getTransactionExternalId(), payload.getValue());
+
+    BigDecimal amount = new BigDecimal(payload.getValue());
+    velocityStore.record(payload, amount);
+    ValidationResult result = rulePlan.evaluate(payload, amount);
+
+    if (result.isValid()) {
+      LOGGER.debugf("Transaction %s approved, matched rules: %s",
+          payload.getTransactionExternalId(), result.getRuleCodes());
+    } else {
+      LOGGER.infof("Transaction %s rejected by rule %s, matched rules: %s",
+          payload.getTransactionExternalId(), result.getRuleCode(), result.getRuleCodes());
     }
-
-    LOGGER.debugf("Transaction approved with value: %s", transactionValue);
-    return ValidationResult.approved();
+    return result;
   }
 
 }
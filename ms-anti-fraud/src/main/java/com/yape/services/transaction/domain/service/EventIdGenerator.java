@@ -0,0 +1,17 @@
+package com.yape.services.transaction.domain.service;
+
+import java.util.UUID;
+
+/**
+ * Service interface for generating the IDs of published events.
+ */
+public interface EventIdGenerator {
+
+  /**
+   * Generates a new unique event ID.
+   *
+   * @return the generated ID
+   */
+  UUID nextId();
+
+}
@@ -0,0 +1,42 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Creates rules matching transactions whose value exceeds a maximum amount.
+ * Parameters: {@code max}.
+ */
+@ApplicationScoped
+public class MaxAmountRuleFactory implements RuleFactory {
+
+  static final String TYPE = "max-amount";
+
+  @Override
+  public String type() {
+    return TYPE;
+  }
+
+  @Override
+  public Rule create(String code, Map<String, String> params) {
+    return new MaxAmountRule(code,
+        new BigDecimal(RuleFactory.requireParam(code, params, "max")));
+  }
+
+  private record MaxAmountRule(String code, BigDecimal max) implements Rule {
+
+    @Override
+    public int cost() {
+      return 1;
+    }
+
+    @Override
+    public boolean matches(TransactionCreatedPayload payload, BigDecimal amount) {
+      return amount.compareTo(max) > 0;
+    }
+
+  }
+
+}
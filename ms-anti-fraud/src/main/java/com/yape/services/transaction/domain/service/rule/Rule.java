@@ -0,0 +1,36 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import java.math.BigDecimal;
+
+/**
+ * Anti-fraud rule evaluated against each created transaction.
+ * Implementations are created by a {@link RuleFactory} from configuration and must be
+ * thread-safe, since one instance is shared by all validations.
+ */
+public interface Rule {
+
+  /**
+   * Code reported in the validation result when the rule matches.
+   *
+   * @return the rule code
+   */
+  String code();
+
+  /**
+   * Relative evaluation cost. Cheaper rules are evaluated first.
+   *
+   * @return the evaluation cost
+   */
+  int cost();
+
+  /**
+   * Evaluates the rule.
+   *
+   * @param payload the created transaction
+   * @param amount  the transaction value, parsed once per validation
+   * @return true if the transaction matches the rule
+   */
+  boolean matches(TransactionCreatedPayload payload, BigDecimal amount);
+
+}
@@ -0,0 +1,18 @@
+package com.yape.services.transaction.domain.service.rule;
+
+/**
+ * Outcome of a matched anti-fraud rule.
+ */
+public enum RuleAction {
+
+  /**
+   * Rejects the transaction and stops the evaluation.
+   */
+  REJECT,
+
+  /**
+   * Reports the rule code without rejecting the transaction.
+   */
+  FLAG
+
+}
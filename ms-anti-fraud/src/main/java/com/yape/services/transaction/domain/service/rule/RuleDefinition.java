@@ -0,0 +1,15 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import java.util.Map;
+
+/**
+ * Configured instance of an anti-fraud rule.
+ *
+ * @param code   the code reported when the rule matches
+ * @param type   the rule type, resolved to a {@link RuleFactory}
+ * @param action the action taken when the rule matches
+ * @param params the rule parameters
+ */
+public record RuleDefinition(String code, String type, RuleAction action,
+                             Map<String, String> params) {
+}
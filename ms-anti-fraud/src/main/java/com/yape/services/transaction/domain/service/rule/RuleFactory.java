@@ -0,0 +1,46 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import java.util.Map;
+
+/**
+ * Creates rules of one type from their configured parameters.
+ * Factories are CDI beans; a new rule type only needs a new factory bean.
+ */
+public interface RuleFactory {
+
+  /**
+   * Rule type handled by this factory, as referenced in configuration.
+   *
+   * @return the rule type
+   */
+  String type();
+
+  /**
+   * Creates a rule.
+   *
+   * @param code   the code reported when the rule matches
+   * @param params the rule parameters
+   * @return the rule
+   * @throws IllegalArgumentException if a parameter is missing or invalid
+   */
+  Rule create(String code, Map<String, String> params);
+
+  /**
+   * Returns a required parameter.
+   *
+   * @param code   the rule code, for the error message
+   * @param params the rule parameters
+   * @param name   the parameter name
+   * @return the parameter value
+   * @throws IllegalArgumentException if the parameter is missing
+   */
+  static String requireParam(String code, Map<String, String> params, String name) {
+    String value = params.get(name);
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException(
+          String.format("Rule %s requires parameter '%s'", code, name));
+    }
+    return value;
+  }
+
+}
@@ -0,0 +1,119 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import com.yape.services.transaction.domain.model.ValidationResult;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiled evaluation plan for the anti-fraud rules.
+ * Rules are resolved and ordered once, cheapest first, into plain arrays; evaluation walks the
+ * arrays and stops at the first rejecting rule. Each rule records its evaluation time in the
+ * {@value #EVALUATION_TIMER} timer, tagged with the rule code.
+ */
+public final class RulePlan {
+
+  static final String EVALUATION_TIMER = "antifraud.rule.evaluation";
+
+  private final Rule[] rules;
+  private final boolean[] rejects;
+  private final Timer[] timers;
+
+  private RulePlan(List<Rule> rules, List<RuleAction> actions, MeterRegistry meterRegistry) {
+    int size = rules.size();
+    this.rules = rules.toArray(Rule[]::new);
+    this.rejects = new boolean[size];
+    this.timers = new Timer[size];
+    for (int i = 0; i < size; i++) {
+      rejects[i] = actions.get(i) == RuleAction.REJECT;
+      timers[i] = Timer.builder(EVALUATION_TIMER)
+          .tag("rule", this.rules[i].code())
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * Compiles rule definitions into an evaluation plan.
+   *
+   * @param definitions   the configured rules
+   * @param factories     the rule factories
+   * @param meterRegistry the registry for the per-rule timers
+   * @return the evaluation plan
+   * @throws IllegalArgumentException if a rule type is unknown or a rule is misconfigured
+   */
+  public static RulePlan compile(List<RuleDefinition> definitions,
+                                 Iterable<RuleFactory> factories,
+                                 MeterRegistry meterRegistry) {
+    Map<String, RuleFactory> factoriesByType = new HashMap<>();
+    for (RuleFactory factory : factories) {
+      factoriesByType.put(factory.type(), factory);
+    }
+
+    record Compiled(Rule rule, RuleAction action) {
+    }
+
+    List<Compiled> compiled = new ArrayList<>(definitions.size());
+    for (RuleDefinition definition : definitions) {
+      RuleFactory factory = factoriesByType.get(definition.type());
+      if (factory == null) {
+        throw new IllegalArgumentException(String.format("Unknown type '%s' for rule %s",
+            definition.type(), definition.code()));
+      }
+      compiled.add(new Compiled(factory.create(definition.code(), definition.params()),
+          definition.action()));
+    }
+    compiled.sort(Comparator.comparingInt(entry -> entry.rule().cost()));
+
+    return new RulePlan(compiled.stream().map(Compiled::rule).toList(),
+        compiled.stream().map(Compiled::action).toList(), meterRegistry);
+  }
+
+  /**
+   * Evaluates the plan against a created transaction.
+   *
+   * @param payload the created transaction
+   * @param amount  the transaction value
+   * @return the validation result with the codes of every matched rule
+   */
+  public ValidationResult evaluate(TransactionCreatedPayload payload, BigDecimal amount) {
+    List<String> matched = null;
+
+    for (int i = 0; i < rules.length; i++) {
+      long start = System.nanoTime();
+      boolean match = rules[i].matches(payload, amount);
+      timers[i].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+      if (match) {
+        if (matched == null) {
+          matched = new ArrayList<>(2);
+        }
+        matched.add(rules[i].code());
+        if (rejects[i]) {
+          return ValidationResult.rejected(matched);
+        }
+      }
+    }
+    return matched == null ? ValidationResult.approved() : ValidationResult.approved(matched);
+  }
+
+  /**
+   * Returns the rule codes in evaluation order.
+   *
+   * @return the rule codes
+   */
+  public List<String> ruleCodes() {
+    List<String> codes = new ArrayList<>(rules.length);
+    for (Rule rule : rules) {
+      codes.add(rule.code());
+    }
+    return codes;
+  }
+
+}
@@ -0,0 +1,41 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Creates rules matching transactions whose debit and credit accounts are the same.
+ * No parameters.
+ */
+@ApplicationScoped
+public class SameAccountRuleFactory implements RuleFactory {
+
+  static final String TYPE = "same-account";
+
+  @Override
+  public String type() {
+    return TYPE;
+  }
+
+  @Override
+  public Rule create(String code, Map<String, String> params) {
+    return new SameAccountRule(code);
+  }
+
+  private record SameAccountRule(String code) implements Rule {
+
+    @Override
+    public int cost() {
+      return 2;
+    }
+
+    @Override
+    public boolean matches(TransactionCreatedPayload payload, BigDecimal amount) {
+      return payload.getAccountExternalIdDebit().equals(payload.getAccountExternalIdCredit());
+    }
+
+  }
+
+}
@@ -0,0 +1,59 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import com.yape.services.common.util.EventTimestamps;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+/**
+ * Creates rules matching transactions created inside a time-of-day window whose value exceeds
+ * a minimum amount. The window may wrap around midnight.
+ * Parameters: {@code from}, {@code to}, {@code zone} (default UTC), {@code min-amount}
+ * (default 0).
+ */
+@ApplicationScoped
+public class TimeOfDayRuleFactory implements RuleFactory {
+
+  static final String TYPE = "time-of-day";
+
+  @Override
+  public String type() {
+    return TYPE;
+  }
+
+  @Override
+  public Rule create(String code, Map<String, String> params) {
+    return new TimeOfDayRule(code,
+        LocalTime.parse(RuleFactory.requireParam(code, params, "from")),
+        LocalTime.parse(RuleFactory.requireParam(code, params, "to")),
+        ZoneId.of(params.getOrDefault("zone", "UTC")),
+        new BigDecimal(params.getOrDefault("min-amount", "0")));
+  }
+
+  private record TimeOfDayRule(String code, LocalTime from, LocalTime to, ZoneId zone,
+                               BigDecimal minAmount) implements Rule {
+
+    @Override
+    public int cost() {
+      return 5;
+    }
+
+    @Override
+    public boolean matches(TransactionCreatedPayload payload, BigDecimal amount) {
+      if (amount.compareTo(minAmount) <= 0) {
+        return false;
+      }
+      LocalTime time = EventTimestamps.parse(payload.getCreatedAt())
+          .atZone(zone)
+          .toLocalTime();
+      return from.isBefore(to)
+          ? !time.isBefore(from) && time.isBefore(to)
+          : !time.isBefore(from) || time.isBefore(to);
+    }
+
+  }
+
+}
@@ -0,0 +1,44 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Creates rules matching transactions of one transfer type whose value exceeds a maximum amount.
+ * Parameters: {@code transfer-type-id}, {@code max}.
+ */
+@ApplicationScoped
+public class TransferTypeLimitRuleFactory implements RuleFactory {
+
+  static final String TYPE = "transfer-type-limit";
+
+  @Override
+  public String type() {
+    return TYPE;
+  }
+
+  @Override
+  public Rule create(String code, Map<String, String> params) {
+    return new TransferTypeLimitRule(code,
+        Integer.parseInt(RuleFactory.requireParam(code, params, "transfer-type-id")),
+        new BigDecimal(RuleFactory.requireParam(code, params, "max")));
+  }
+
+  private record TransferTypeLimitRule(String code, int transferTypeId, BigDecimal max)
+      implements Rule {
+
+    @Override
+    public int cost() {
+      return 1;
+    }
+
+    @Override
+    public boolean matches(TransactionCreatedPayload payload, BigDecimal amount) {
+      return payload.getTransferTypeId() == transferTypeId && amount.compareTo(max) > 0;
+    }
+
+  }
+
+}
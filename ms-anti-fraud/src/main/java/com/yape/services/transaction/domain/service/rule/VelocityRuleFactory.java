@@ -0,0 +1,67 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import com.yape.services.transaction.domain.service.velocity.VelocityStore;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Creates rules matching debit accounts whose transaction count or amount over the sliding
+ * window exceeds a limit. The window includes the transaction being validated.
+ * Parameters: {@code max-count}, {@code max-amount}; at least one is required.
+ */
+@ApplicationScoped
+public class VelocityRuleFactory implements RuleFactory {
+
+  static final String TYPE = "velocity";
+
+  private final VelocityStore velocityStore;
+
+  /**
+   * Constructor for VelocityRuleFactory.
+   *
+   * @param velocityStore the sliding-window store of debit account activity
+   */
+  @Inject
+  public VelocityRuleFactory(VelocityStore velocityStore) {
+    this.velocityStore = velocityStore;
+  }
+
+  @Override
+  public String type() {
+    return TYPE;
+  }
+
+  @Override
+  public Rule create(String code, Map<String, String> params) {
+    String maxCount = params.get("max-count");
+    String maxAmount = params.get("max-amount");
+    if (maxCount == null && maxAmount == null) {
+      throw new IllegalArgumentException(
+          String.format("Rule %s requires parameter 'max-count' or 'max-amount'", code));
+    }
+    return new VelocityRule(code, velocityStore,
+        maxCount != null ? Integer.parseInt(maxCount) : Integer.MAX_VALUE,
+        maxAmount != null ? new BigDecimal(maxAmount).movePointRight(2).longValue()
+            : Long.MAX_VALUE);
+  }
+
+  private record VelocityRule(String code, VelocityStore velocityStore, int maxCount,
+                              long maxAmountCents) implements Rule {
+
+    @Override
+    public int cost() {
+      return 3;
+    }
+
+    @Override
+    public boolean matches(TransactionCreatedPayload payload, BigDecimal amount) {
+      VelocityStore.Totals totals = velocityStore.totals(payload.getAccountExternalIdDebit());
+      return totals.count() > maxCount || totals.amountCents() > maxAmountCents;
+    }
+
+  }
+
+}
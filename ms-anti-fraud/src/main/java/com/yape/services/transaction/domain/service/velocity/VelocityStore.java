@@ -0,0 +1,182 @@
+package com.yape.services.transaction.domain.service.velocity;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.yape.services.common.util.EventTimestamps;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory sliding-window counters and sums of transactions per debit account.
+ * Each account owns a ring buffer of time buckets covering the window, plus running totals,
+ * so reading the window is O(1). Buckets are keyed by the transaction creation time, which
+ * makes the store rebuildable by replaying past events. The transaction IDs inside the window are
+ * remembered, so a redelivered or replayed transaction is counted once. Accounts are held in a
+ * bounded map that evicts accounts idle for longer than the idle timeout, and the least recently
+ * used accounts beyond the maximum size. Updates lock a single account only.
+ */
+public final class VelocityStore {
+
+  private final Cache<String, AccountWindow> accounts;
+  private final long bucketMillis;
+  private final int buckets;
+
+  /**
+   * Constructor for VelocityStore.
+   *
+   * @param windowSeconds      the length of the sliding window
+   * @param buckets            the number of buckets the window is split into
+   * @param maxAccounts        the maximum number of accounts kept in memory
+   * @param idleTimeoutSeconds the time after which an account without transactions is evicted
+   */
+  public VelocityStore(long windowSeconds, int buckets, long maxAccounts,
+                       long idleTimeoutSeconds) {
+    this(windowSeconds, buckets, maxAccounts, idleTimeoutSeconds, Ticker.systemTicker());
+  }
+
+  VelocityStore(long windowSeconds, int buckets, long maxAccounts, long idleTimeoutSeconds,
+                Ticker ticker) {
+    this.buckets = Math.max(1, buckets);
+    this.bucketMillis = Math.max(1, TimeUnit.SECONDS.toMillis(windowSeconds) / this.buckets);
+    this.accounts = Caffeine.newBuilder()
+        .maximumSize(maxAccounts)
+        .expireAfterAccess(idleTimeoutSeconds, TimeUnit.SECONDS)
+        .ticker(ticker)
+        .executor(Runnable::run)
+        .build();
+  }
+
+  /**
+   * Records a created transaction in the window of its debit account.
+   *
+   * @param payload the created transaction
+   * @param amount  the transaction value
+   * @return true if the transaction was counted, false if it was already in the window or older
+   */
+  public boolean record(TransactionCreatedPayload payload, BigDecimal amount) {
+    long createdAt = EventTimestamps.parse(payload.getCreatedAt()).toEpochMilli();
+    return record(payload.getAccountExternalIdDebit(), payload.getTransactionExternalId(),
+        createdAt, amount);
+  }
+
+  /**
+   * Records a transaction in the window of an account.
+   * Transactions older than the window of the account, and transactions already recorded in it,
+   * are ignored.
+   *
+   * @param account       the debit account external ID
+   * @param transactionId the transaction external ID
+   * @param epochMillis   the transaction creation time
+   * @param amount        the transaction value
+   * @return true if the transaction was counted, false if it was already in the window or older
+   */
+  public boolean record(String account, String transactionId, long epochMillis,
+                        BigDecimal amount) {
+    long cents = amount.movePointRight(2).longValue();
+    return accounts.get(account, key -> new AccountWindow(buckets))
+        .add(Math.floorDiv(epochMillis, bucketMillis), transactionId, cents);
+  }
+
+  /**
+   * Returns the totals of an account over the window ending at its latest transaction.
+   *
+   * @param account the debit account external ID
+   * @return the window totals, zero for unknown accounts
+   */
+  public Totals totals(String account) {
+    AccountWindow window = accounts.getIfPresent(account);
+    return window != null ? window.totals() : Totals.EMPTY;
+  }
+
+  /**
+   * Returns the approximate number of accounts held in memory.
+   *
+   * @return the number of accounts
+   */
+  public long size() {
+    return accounts.estimatedSize();
+  }
+
+  void cleanUp() {
+    accounts.cleanUp();
+  }
+
+  /**
+   * Transaction count and amount of an account over the window.
+   *
+   * @param count       the number of transactions
+   * @param amountCents the sum of the transaction values, in cents
+   */
+  public record Totals(int count, long amountCents) {
+
+    static final Totals EMPTY = new Totals(0, 0);
+
+  }
+
+  private static final class AccountWindow {
+
+    private final int[] counts;
+    private final long[] sums;
+    private final Map<String, Long> transactionBuckets = new HashMap<>();
+    private long headBucket = Long.MIN_VALUE;
+    private int totalCount;
+    private long totalSum;
+
+    AccountWindow(int buckets) {
+      this.counts = new int[buckets];
+      this.sums = new long[buckets];
+    }
+
+    synchronized boolean add(long bucket, String transactionId, long cents) {
+      if (headBucket == Long.MIN_VALUE) {
+        headBucket = bucket;
+      } else if (bucket > headBucket) {
+        advance(bucket);
+      } else if (bucket <= headBucket - counts.length) {
+        return false;
+      }
+      if (transactionBuckets.putIfAbsent(transactionId, bucket) != null) {
+        return false;
+      }
+      int slot = Math.floorMod(bucket, counts.length);
+      counts[slot]++;
+      sums[slot] += cents;
+      totalCount++;
+      totalSum += cents;
+      return true;
+    }
+
+    synchronized Totals totals() {
+      return new Totals(totalCount, totalSum);
+    }
+
+    private void advance(long bucket) {
+      long distance = bucket - headBucket;
+      if (distance >= counts.length) {
+        Arrays.fill(counts, 0);
+        Arrays.fill(sums, 0);
+        totalCount = 0;
+        totalSum = 0;
+        transactionBuckets.clear();
+      } else {
+        for (long expired = headBucket + 1; expired <= bucket; expired++) {
+          int slot = Math.floorMod(expired, counts.length);
+          totalCount -= counts[slot];
+          totalSum -= sums[slot];
+          counts[slot] = 0;
+          sums[slot] = 0;
+        }
+        long oldest = bucket - counts.length;
+        transactionBuckets.values().removeIf(recorded -> recorded <= oldest);
+      }
+      headBucket = bucket;
+    }
+
+  }
+
+}
@@ -0,0 +1,30 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import com.yape.services.common.events.EventMetadata;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
+import com.yape.services.transaction.events.TransactionStatusUpdatedPayload;
+import com.yape.services.transaction.events.ValidationResult;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Registers for reflection the classes a native image cannot discover by static analysis.
+ * The Avro-generated events are instantiated by the Confluent deserializer by schema name.
+ */
+@RegisterForReflection(targets = {
+    TransactionCreatedEvent.class,
+    TransactionCreatedPayload.class,
+    TransactionStatusUpdatedEvent.class,
+    TransactionStatusUpdatedPayload.class,
+    EventMetadata.class,
+    ValidationResult.class,
+    TransactionStatus.class
+})
+public final class AntiFraudNativeReflectionConfig {
+
+  private AntiFraudNativeReflectionConfig() {
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import com.yape.services.transaction.domain.service.rule.RuleAction;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Configuration for the anti-fraud rules.
+ */
+@ConfigMapping(prefix = "application.anti-fraud")
+public interface AntiFraudRulesConfig {
+
+  /**
+   * Configured rules. When absent, the default maximum amount rule applies.
+   *
+   * @return the rules
+   */
+  @WithName("rules")
+  Optional<List<RuleConfig>> rules();
+
+  /**
+   * Configuration of a single rule.
+   */
+  interface RuleConfig {
+
+    /**
+     * Code reported when the rule matches.
+     *
+     * @return the rule code
+     */
+    @WithName("code")
+    String code();
+
+    /**
+     * Rule type, resolved to a rule factory.
+     *
+     * @return the rule type
+     */
+    @WithName("type")
+    String type();
+
+    /**
+     * Action taken when the rule matches.
+     *
+     * @return the rule action
+     */
+    @WithName("action")
+    @WithDefault("REJECT")
+    RuleAction action();
+
+    /**
+     * Whether the rule is evaluated.
+     *
+     * @return true if the rule is enabled
+     */
+    @WithName("enabled")
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * Rule parameters, specific to the rule type.
+     *
+     * @return the rule parameters
+     */
+    @WithName("params")
+    Map<String, String> params();
+
+  }
+
+}
@@ -0,0 +1,31 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for the detection of virtual threads pinned to their carrier thread.
+ */
+@ConfigMapping(prefix = "application.virtual-threads.pinning")
+public interface AntiFraudVirtualThreadPinningConfig {
+
+  /**
+   * Whether pinned virtual threads are recorded with JFR and reported.
+   *
+   * @return true if pinning detection is enabled
+   */
+  @WithName("enabled")
+  @WithDefault("true")
+  boolean enabled();
+
+  /**
+   * Minimum time a virtual thread must stay pinned to be reported, in milliseconds.
+   *
+   * @return the threshold in milliseconds
+   */
+  @WithName("threshold-ms")
+  @WithDefault("20")
+  long thresholdMs();
+
+}
@@ -0,0 +1,48 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import com.yape.services.common.util.Constants;
+import com.yape.services.transaction.domain.service.rule.RuleAction;
+import com.yape.services.transaction.domain.service.rule.RuleDefinition;
+import com.yape.services.transaction.domain.service.rule.RuleFactory;
+import com.yape.services.transaction.domain.service.rule.RulePlan;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import java.util.List;
+import java.util.Map;
+import org.jboss.logging.Logger;
+
+/**
+ * Compiles the configured anti-fraud rules into the {@link RulePlan} used for validation.
+ * A misconfigured rule fails the application at startup.
+ */
+@ApplicationScoped
+public class RulePlanProducer {
+
+  private static final Logger LOGGER = Logger.getLogger(RulePlanProducer.class);
+
+  private static final RuleDefinition DEFAULT_RULE = new RuleDefinition(
+      Constants.RULE_MAX_AMOUNT_EXCEEDED, "max-amount", RuleAction.REJECT,
+      Map.of("max", "1000"));
+
+  @Produces
+  @Singleton
+  RulePlan rulePlan(AntiFraudRulesConfig rulesConfig,
+                    Instance<RuleFactory> ruleFactories,
+                    MeterRegistry meterRegistry) {
+    List<RuleDefinition> definitions = rulesConfig.rules()
+        .map(rules -> rules.stream()
+            .filter(AntiFraudRulesConfig.RuleConfig::enabled)
+            .map(rule -> new RuleDefinition(rule.code(), rule.type(), rule.action(),
+                rule.params()))
+            .toList())
+        .orElse(List.of(DEFAULT_RULE));
+
+    RulePlan rulePlan = RulePlan.compile(definitions, ruleFactories, meterRegistry);
+    LOGGER.infof("Anti-fraud rule plan compiled: %s", rulePlan.ruleCodes());
+    return rulePlan;
+  }
+
+}
@@ -0,0 +1,71 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for the transaction created consumer.
+ */
+@ConfigMapping(prefix = "application.messaging.transaction-created")
+public interface TransactionCreatedConsumerConfig {
+
+  /**
+   * Whether records with different keys are validated concurrently.
+   * When disabled, records are validated one by one on the polling thread.
+   *
+   * @return true if parallel processing is enabled
+   */
+  @WithName("parallel")
+  @WithDefault("true")
+  boolean parallel();
+
+  /**
+   * Number of worker threads validating records.
+   * Ignored when virtual threads are enabled.
+   *
+   * @return the concurrency level
+   */
+  @WithName("concurrency")
+  @WithDefault("8")
+  int concurrency();
+
+  /**
+   * Maximum number of records received but not yet validated.
+   * The consumer stops taking records from the poll loop when this limit is reached.
+   *
+   * @return the maximum number of in-flight records
+   */
+  @WithName("max-in-flight")
+  @WithDefault("256")
+  int maxInFlight();
+
+  /**
+   * Whether records are validated on virtual threads instead of a fixed pool.
+   * The number of records validated at once is then bounded by max-in-flight only.
+   *
+   * @return true if virtual threads are used
+   */
+  @WithName("virtual-threads")
+  @WithDefault("true")
+  boolean virtualThreads();
+
+  /**
+   * Number of times a record is validated before it is nacked and sent to the dead letter topic.
+   *
+   * @return the maximum number of attempts
+   */
+  @WithName("max-attempts")
+  @WithDefault("3")
+  int maxAttempts();
+
+  /**
+   * Delay before the second attempt, in milliseconds; each further attempt waits one more delay.
+   *
+   * @return the retry backoff in milliseconds
+   */
+  @WithName("retry-backoff-ms")
+  @WithDefault("200")
+  long retryBackoffMs();
+
+}
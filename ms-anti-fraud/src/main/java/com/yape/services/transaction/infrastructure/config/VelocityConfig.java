@@ -0,0 +1,69 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for the sliding-window velocity store.
+ */
+@ConfigMapping(prefix = "application.velocity")
+public interface VelocityConfig {
+
+  /**
+   * Length in seconds of the sliding window.
+   *
+   * @return the window length in seconds
+   */
+  @WithName("window")
+  @WithDefault("60")
+  long window();
+
+  /**
+   * Number of time buckets the window is split into.
+   * More buckets make the window slide more smoothly at the cost of memory per account.
+   *
+   * @return the number of buckets
+   */
+  @WithName("buckets")
+  @WithDefault("12")
+  int buckets();
+
+  /**
+   * Maximum number of debit accounts held in memory.
+   *
+   * @return the maximum number of accounts
+   */
+  @WithName("max-accounts")
+  @WithDefault("1000000")
+  long maxAccounts();
+
+  /**
+   * Time in seconds after which an account without transactions is evicted.
+   *
+   * @return the idle timeout in seconds
+   */
+  @WithName("idle-timeout")
+  @WithDefault("300")
+  long idleTimeout();
+
+  /**
+   * How far back in seconds 'transaction.created' is replayed at startup to rebuild the store.
+   * Zero disables the replay.
+   *
+   * @return the replay window in seconds
+   */
+  @WithName("replay-window")
+  @WithDefault("60")
+  long replayWindow();
+
+  /**
+   * Maximum time in seconds spent replaying at startup.
+   *
+   * @return the replay timeout in seconds
+   */
+  @WithName("replay-timeout")
+  @WithDefault("60")
+  long replayTimeout();
+
+}
@@ -0,0 +1,27 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import com.yape.services.transaction.domain.service.velocity.VelocityStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+/**
+ * Creates the {@link VelocityStore} from configuration.
+ * The number of accounts held is exported as the {@code antifraud.velocity.accounts} gauge.
+ */
+@ApplicationScoped
+public class VelocityStoreProducer {
+
+  @Produces
+  @Singleton
+  VelocityStore velocityStore(VelocityConfig velocityConfig, MeterRegistry meterRegistry) {
+    VelocityStore velocityStore = new VelocityStore(velocityConfig.window(),
+        velocityConfig.buckets(), velocityConfig.maxAccounts(), velocityConfig.idleTimeout());
+    Gauge.builder("antifraud.velocity.accounts", velocityStore, VelocityStore::size)
+        .register(meterRegistry);
+    return velocityStore;
+  }
+
+}
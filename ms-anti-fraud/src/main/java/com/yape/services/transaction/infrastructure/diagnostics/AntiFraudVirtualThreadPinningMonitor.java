@@ -0,0 +1,122 @@
+package com.yape.services.transaction.infrastructure.diagnostics;
+
+import com.yape.services.transaction.infrastructure.config.AntiFraudVirtualThreadPinningConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.jboss.logging.Logger;
+
+/**
+ * Reports virtual threads pinned to their carrier thread, typically by blocking inside a
+ * synchronized block of the Kafka producer used by the validation workers. A pinned virtual
+ * thread holds its carrier, so enough of them stall every other virtual thread.
+ * Pinning is recorded in-process with a JFR stream of jdk.VirtualThreadPinned events: every
+ * event feeds the pinned time metric, and the stack of each new pinning site is logged once as
+ * a warning, later occurrences only at debug level.
+ */
+@ApplicationScoped
+public class AntiFraudVirtualThreadPinningMonitor {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(AntiFraudVirtualThreadPinningMonitor.class);
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String PINNED_METRIC = "jvm.threads.virtual.pinned";
+  private static final int REPORTED_FRAMES = 12;
+  private static final int MAX_REPORTED_SITES = 1_000;
+
+  private final AntiFraudVirtualThreadPinningConfig pinningConfig;
+  private final Timer pinnedTimer;
+  private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+  private RecordingStream recording;
+
+  /**
+   * Constructor for AntiFraudVirtualThreadPinningMonitor.
+   *
+   * @param pinningConfig the pinning detection configuration
+   * @param meterRegistry the meter registry for the pinned time metric
+   */
+  @Inject
+  public AntiFraudVirtualThreadPinningMonitor(
+      AntiFraudVirtualThreadPinningConfig pinningConfig, MeterRegistry meterRegistry) {
+    this.pinningConfig = pinningConfig;
+    this.pinnedTimer = Timer.builder(PINNED_METRIC)
+        .description("Time virtual threads spent pinned to their carrier thread")
+        .register(meterRegistry);
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    if (!pinningConfig.enabled()) {
+      return;
+    }
+    if (!FlightRecorder.isAvailable()) {
+      // A native image built without JFR support cannot record events
+      LOGGER.warn("Virtual thread pinning detection unavailable without JFR");
+      return;
+    }
+    recording = new RecordingStream();
+    recording.enable(PINNED_EVENT)
+        .withThreshold(Duration.ofMillis(pinningConfig.thresholdMs()))
+        .withStackTrace();
+    recording.onEvent(PINNED_EVENT, pinned -> report(pinned.getDuration(), stackOf(pinned)));
+    recording.startAsync();
+    LOGGER.infof("Reporting virtual threads pinned for more than %d ms",
+        pinningConfig.thresholdMs());
+  }
+
+  void onStop(@Observes ShutdownEvent event) {
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  /**
+   * Records one pinning of a virtual thread.
+   *
+   * @param duration how long the virtual thread stayed pinned
+   * @param frames   the stack of the pinned thread, innermost frame first
+   */
+  void report(Duration duration, List<String> frames) {
+    pinnedTimer.record(duration);
+    String site = String.join("\n  at ", frames);
+    if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+      LOGGER.warnf("Virtual thread pinned for %d ms, new pinning site:%n  at %s",
+          duration.toMillis(), site);
+    } else {
+      LOGGER.debugf("Virtual thread pinned for %d ms at %s", duration.toMillis(),
+          frames.isEmpty() ? "unknown" : frames.getFirst());
+    }
+  }
+
+  private static List<String> stackOf(RecordedEvent event) {
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    if (stackTrace == null) {
+      return List.of();
+    }
+    return stackTrace.getFrames().stream()
+        .dropWhile(AntiFraudVirtualThreadPinningMonitor::isJdkFrame)
+        .limit(REPORTED_FRAMES)
+        .map(frame -> frame.getMethod().getType().getName() + "."
+            + frame.getMethod().getName() + ":" + frame.getLineNumber())
+        .toList();
+  }
+
+  // The innermost frames are the parking machinery of the JDK, not the code that pinned
+  private static boolean isJdkFrame(RecordedFrame frame) {
+    String type = frame.getMethod().getType().getName();
+    return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+  }
+
+}
@@ -0,0 +1,70 @@
+package com.yape.services.transaction.infrastructure.id;
+
+import com.yape.services.transaction.domain.service.EventIdGenerator;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered UUIDv7 event IDs (RFC 9562), the scheme ms-transaction uses for its IDs.
+ * The 48 most significant bits hold the Unix time in milliseconds, followed by a 12-bit counter,
+ * so event IDs sort by creation time and stay compact in any index they are stored in. The
+ * timestamp and counter are advanced together with a single CAS, so the IDs of one instance are
+ * strictly increasing, even when several are generated in the same millisecond or the clock
+ * steps back. The remaining 62 bits are random.
+ */
+@ApplicationScoped
+public class UuidV7EventIdGenerator implements EventIdGenerator {
+
+  private static final int COUNTER_BITS = 12;
+  private static final long COUNTER_SEED_MASK = (1L << (COUNTER_BITS - 1)) - 1;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+  private final Clock clock;
+  private final AtomicLong lastTimeAndCounter = new AtomicLong();
+
+  /**
+   * Constructor for UuidV7EventIdGenerator.
+   */
+  @Inject
+  public UuidV7EventIdGenerator() {
+    this(Clock.systemUTC());
+  }
+
+  UuidV7EventIdGenerator(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public UUID nextId() {
+    long timeAndCounter = nextTimeAndCounter();
+    long counter = timeAndCounter & ((1L << COUNTER_BITS) - 1);
+    long millis = timeAndCounter >>> COUNTER_BITS;
+    long msb = (millis << 16) | VERSION | counter;
+    long lsb = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+    return new UUID(msb, lsb);
+  }
+
+  /**
+   * Returns the next timestamp and counter, packed as {@code millis << 12 | counter}.
+   * A new millisecond starts the counter at a random value in its lower half, which leaves at
+   * least 2048 IDs before the counter overflows into the next millisecond.
+   */
+  private long nextTimeAndCounter() {
+    while (true) {
+      long last = lastTimeAndCounter.get();
+      long seeded = (clock.millis() << COUNTER_BITS)
+          | (ThreadLocalRandom.current().nextLong() & COUNTER_SEED_MASK);
+      long next = seeded > last ? seeded : last + 1;
+      if (lastTimeAndCounter.compareAndSet(last, next)) {
+        return next;
+      }
+    }
+  }
+
+}
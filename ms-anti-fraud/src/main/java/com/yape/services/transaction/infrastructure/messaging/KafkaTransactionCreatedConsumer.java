@@ -2,15 +2,29 @@ package com.yape.services.transaction.infrastructure.messaging;
 
 import com.yape.services.transaction.application.usecase.ValidateTransactionUseCase;
 import com.yape.services.transaction.events.TransactionCreatedEvent;
-import io.smallrye.reactive.messaging.kafka.Record;
+import com.yape.services.transaction.infrastructure.config.TransactionCreatedConsumerConfig;
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
 import org.jboss.logging.Logger;
 
 /**
  * Kafka consumer for transaction created events.
  * Listens to the 'transaction.created' topic and delegates to the validation use case.
+ * In parallel mode, records with different keys are validated concurrently while records with
+ * the same key are validated in offset order. Each record is acknowledged only once validated,
+ * and the throttled commit strategy commits an offset only when every record before it has been
+ * acknowledged, so records still in flight are redelivered after a crash.
+ * A record whose validation keeps failing after max-attempts is nacked, which sends it to the
+ * dead letter topic; the disabled-by-default replay channel validates dead-lettered records
+ * again once the cause is fixed.
+ * Records without a payload, such as tombstones, are acknowledged and skipped.
  */
 @ApplicationScoped
 public class KafkaTransactionCreatedConsumer {
@@ -18,35 +32,117 @@ public class KafkaTransactionCreatedConsumer {
   private static final Logger LOGGER = Logger.getLogger(KafkaTransactionCreatedConsumer.class);
 
   private final ValidateTransactionUseCase validateTransactionUseCase;
+  private final TransactionCreatedConsumerConfig consumerConfig;
+  private final ExecutorService workers;
+  private final KeyOrderedExecutor keyOrderedExecutor;
 
   /**
    * Constructor for KafkaTransactionCreatedConsumer.
    *
    * @param validateTransactionUseCase the use case for validating transactions
+   * @param consumerConfig             the consumer configuration
    */
   @Inject
-  public KafkaTransactionCreatedConsumer(ValidateTransactionUseCase validateTransactionUseCase) {
+  public KafkaTransactionCreatedConsumer(ValidateTransactionUseCase validateTransactionUseCase,
+                                         TransactionCreatedConsumerConfig consumerConfig) {
+    this(validateTransactionUseCase, consumerConfig, createWorkers(consumerConfig));
+  }
+
+  KafkaTransactionCreatedConsumer(ValidateTransactionUseCase validateTransactionUseCase,
+                                  TransactionCreatedConsumerConfig consumerConfig,
+                                  ExecutorService workers) {
     this.validateTransactionUseCase = validateTransactionUseCase;
+    this.consumerConfig = consumerConfig;
+    this.workers = workers;
+    this.keyOrderedExecutor = new KeyOrderedExecutor(workers, consumerConfig.maxInFlight());
   }
 
   /**
    * Consumes transaction created events from Kafka.
+   * In parallel mode, the returned stage completes once the record has been handed to a
+   * worker, which lets the poll loop move on; it is delayed while max-in-flight is reached.
    *
    * @param kafkaRecord the Kafka record containing the transaction created event
+   * @return a stage completing when the next record can be delivered
    */
   @Incoming("transaction-created-consumer")
-  public void consume(Record<String, TransactionCreatedEvent> kafkaRecord) {
-    String key = kafkaRecord.key();
-    TransactionCreatedEvent event = kafkaRecord.value();
-
+  @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+  public CompletionStage<Void> consume(KafkaRecord<String, TransactionCreatedEvent> kafkaRecord) {
+    String key = kafkaRecord.getKey();
     LOGGER.infof("Received TransactionCreatedEvent with key: %s", key);
 
+    if (kafkaRecord.getPayload() == null) {
+      LOGGER.warnf("Skipping TransactionCreatedEvent without payload with key: %s", key);
+      return kafkaRecord.ack();
+    }
+
+    if (!consumerConfig.parallel()) {
+      return process(kafkaRecord);
+    }
+
+    return keyOrderedExecutor.whenAvailable()
+        .thenAccept(ignored -> keyOrderedExecutor.submit(key, () -> process(kafkaRecord)));
+  }
+
+  /**
+   * Validates again the records of the dead letter topic, one by one.
+   * The channel is disabled unless a replay is wanted; a record that fails again stops the
+   * channel without committing its offset, so no record is lost.
+   *
+   * @param kafkaRecord the dead-lettered Kafka record
+   * @return a stage completing once the record has been validated
+   */
+  @Incoming("transaction-created-dlq-replay")
+  @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+  public CompletionStage<Void> replay(KafkaRecord<String, TransactionCreatedEvent> kafkaRecord) {
+    LOGGER.infof("Replaying dead-lettered TransactionCreatedEvent with key: %s",
+        kafkaRecord.getKey());
+    if (kafkaRecord.getPayload() == null) {
+      return kafkaRecord.ack();
+    }
+    return process(kafkaRecord);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    workers.shutdown();
+  }
+
+  private CompletionStage<Void> process(KafkaRecord<String, TransactionCreatedEvent> kafkaRecord) {
+    int maxAttempts = Math.max(1, consumerConfig.maxAttempts());
+    for (int attempt = 1; ; attempt++) {
+      try {
+        validateTransactionUseCase.execute(kafkaRecord.getPayload());
+        return kafkaRecord.ack();
+      } catch (Exception e) {
+        if (attempt >= maxAttempts || !backOff(attempt)) {
+          LOGGER.errorf(e, "Error processing TransactionCreatedEvent with key: %s after %d"
+              + " attempts, dead-lettering", kafkaRecord.getKey(), attempt);
+          return kafkaRecord.nack(e);
+        }
+        LOGGER.warnf("Attempt %d of %d failed for TransactionCreatedEvent with key %s: %s",
+            attempt, maxAttempts, kafkaRecord.getKey(), e.getMessage());
+      }
+    }
+  }
+
+  private boolean backOff(int attempt) {
     try {
-      validateTransactionUseCase.execute(event);
-    } catch (Exception e) {
-      LOGGER.errorf(e, "Error processing TransactionCreatedEvent with key: %s", key);
-      throw e;
+      Thread.sleep(consumerConfig.retryBackoffMs() * attempt);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static ExecutorService createWorkers(TransactionCreatedConsumerConfig consumerConfig) {
+    if (consumerConfig.virtualThreads()) {
+      return Executors.newThreadPerTaskExecutor(
+          Thread.ofVirtual().name("anti-fraud-worker-", 0).factory());
     }
+    return Executors.newFixedThreadPool(Math.max(1, consumerConfig.concurrency()),
+        Thread.ofPlatform().name("anti-fraud-worker-", 0).daemon().factory());
   }
 
 }
@@ -2,6 +2,8 @@ package com.yape.services.transaction.infrastructure.messaging;
 
 import com.yape.services.transaction.domain.service.TransactionStatusEventPublisher;
 import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.smallrye.reactive.messaging.kafka.Record;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -11,26 +13,32 @@ import org.jboss.logging.Logger;
 
 /**
  * Kafka implementation of TransactionStatusEventPublisher.
- * Publishes transaction status update events to Kafka topics.
+ * Publishes transaction status update events to Kafka topics. The time until the broker
+ * acknowledges a send is exported as {@code antifraud.kafka.send}.
  */
 @ApplicationScoped
 public class KafkaTransactionStatusPublisher implements TransactionStatusEventPublisher {
 
   private static final Logger LOGGER = Logger.getLogger(KafkaTransactionStatusPublisher.class);
+  private static final String SEND_METRIC = "antifraud.kafka.send";
 
   private final Emitter<Record<String, TransactionStatusUpdatedEvent>> statusUpdatedEmitter;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Constructor for KafkaTransactionStatusPublisher.
    *
    * @param statusUpdatedEmitter the emitter for transaction status updated events
+   * @param meterRegistry        the registry the send latency is exported to
    */
   @Inject
   public KafkaTransactionStatusPublisher(
       @Channel("transaction-status-producer")
-      Emitter<Record<String, TransactionStatusUpdatedEvent>> statusUpdatedEmitter
+      Emitter<Record<String, TransactionStatusUpdatedEvent>> statusUpdatedEmitter,
+      MeterRegistry meterRegistry
   ) {
     this.statusUpdatedEmitter = statusUpdatedEmitter;
+    this.meterRegistry = meterRegistry;
   }
 
   @Override
@@ -40,8 +48,11 @@ public class KafkaTransactionStatusPublisher implements TransactionStatusEventPu
     LOGGER.infof("Publishing TransactionStatusUpdatedEvent with key: %s, status: %s",
         key, event.getPayload().getNewStatus());
 
+    Timer.Sample sample = Timer.start(meterRegistry);
     statusUpdatedEmitter.send(Record.of(key, event))
         .whenComplete((result, error) -> {
+          sample.stop(meterRegistry.timer(SEND_METRIC, "event", "transaction-status-updated",
+              "result", error == null ? "success" : "failure"));
           if (error != null) {
             LOGGER.errorf(error,
                 "Failed to publish TransactionStatusUpdatedEvent with key: %s", key);
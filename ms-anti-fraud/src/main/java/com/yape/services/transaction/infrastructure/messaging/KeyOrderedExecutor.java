@@ -0,0 +1,94 @@
+package com.yape.services.transaction.infrastructure.messaging;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks concurrently across keys and sequentially within a key.
+ * A task starts only after the previous task for the same key has completed, whether it
+ * succeeded or failed. The number of submitted but unfinished tasks is bounded by
+ * {@code maxInFlight}; callers wait on {@link #whenAvailable()} before submitting.
+ */
+final class KeyOrderedExecutor {
+
+  private final Executor executor;
+  private final int maxInFlight;
+
+  private final Map<String, CompletableFuture<Void>> tails = new HashMap<>();
+  private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+  private int inFlight;
+
+  /**
+   * Constructor for KeyOrderedExecutor.
+   *
+   * @param executor    the executor running the tasks
+   * @param maxInFlight the maximum number of unfinished tasks
+   */
+  KeyOrderedExecutor(Executor executor, int maxInFlight) {
+    this.executor = executor;
+    this.maxInFlight = Math.max(1, maxInFlight);
+  }
+
+  /**
+   * Returns a stage that completes once a new task can be submitted without exceeding the
+   * in-flight limit.
+   *
+   * @return a stage completing when capacity is available
+   */
+  synchronized CompletionStage<Void> whenAvailable() {
+    if (inFlight < maxInFlight) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Void> waiter = new CompletableFuture<>();
+    waiters.add(waiter);
+    return waiter;
+  }
+
+  /**
+   * Submits a task, ordered after the previous task for the same key.
+   * Tasks with a null key are not ordered against any other task.
+   *
+   * @param key  the ordering key
+   * @param task the task to run
+   * @return a stage completing with the outcome of the task
+   */
+  CompletableFuture<Void> submit(String key, Runnable task) {
+    CompletableFuture<Void> completion;
+    synchronized (this) {
+      inFlight++;
+      CompletableFuture<Void> previous = key != null ? tails.get(key) : null;
+      completion = previous == null
+          ? CompletableFuture.runAsync(task, executor)
+          : previous.handle((result, error) -> null).thenRunAsync(task, executor);
+      if (key != null) {
+        tails.put(key, completion);
+      }
+    }
+    completion.whenComplete((result, error) -> release(key, completion));
+    return completion;
+  }
+
+  synchronized int inFlight() {
+    return inFlight;
+  }
+
+  private void release(String key, CompletableFuture<Void> completion) {
+    CompletableFuture<Void> waiter;
+    synchronized (this) {
+      if (key != null) {
+        tails.remove(key, completion);
+      }
+      inFlight--;
+      waiter = inFlight < maxInFlight ? waiters.poll() : null;
+    }
+    if (waiter != null) {
+      waiter.complete(null);
+    }
+  }
+
+}
@@ -0,0 +1,178 @@
+package com.yape.services.transaction.infrastructure.messaging;
+
+import com.yape.services.transaction.domain.service.velocity.VelocityStore;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.infrastructure.config.VelocityConfig;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.common.annotation.Identifier;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Rebuilds the velocity store at startup by replaying recent 'transaction.created' records.
+ * Each partition is replayed from the first record inside the replay window up to the offset
+ * committed by the consumer group, so records the live consumer has not processed yet are not
+ * counted twice.
+ */
+@ApplicationScoped
+public class VelocityStoreRebuilder {
+
+  private static final Logger LOGGER = Logger.getLogger(VelocityStoreRebuilder.class);
+  private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+  private final VelocityStore velocityStore;
+  private final VelocityConfig velocityConfig;
+  private final Map<String, Object> kafkaConfig;
+  private final String topic;
+  private final String groupId;
+
+  /**
+   * Constructor for VelocityStoreRebuilder.
+   *
+   * @param velocityStore  the store to rebuild
+   * @param velocityConfig the velocity configuration
+   * @param kafkaConfig    the default Kafka client configuration
+   * @param topic          the transaction created topic
+   * @param groupId        the consumer group of the transaction created consumer
+   */
+  @Inject
+  public VelocityStoreRebuilder(
+      VelocityStore velocityStore,
+      VelocityConfig velocityConfig,
+      @Identifier("default-kafka-broker") Map<String, Object> kafkaConfig,
+      @ConfigProperty(name = "mp.messaging.incoming.transaction-created-consumer.topic")
+      String topic,
+      @ConfigProperty(name = "mp.messaging.incoming.transaction-created-consumer.group.id")
+      String groupId) {
+    this.velocityStore = velocityStore;
+    this.velocityConfig = velocityConfig;
+    this.kafkaConfig = kafkaConfig;
+    this.topic = topic;
+    this.groupId = groupId;
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    if (velocityConfig.replayWindow() <= 0) {
+      return;
+    }
+    try (Consumer<String, TransactionCreatedEvent> consumer = createConsumer()) {
+      rebuild(consumer, System.currentTimeMillis());
+    } catch (KafkaException e) {
+      LOGGER.warnf(e, "Velocity store rebuild failed, starting with an empty store");
+    }
+  }
+
+  /**
+   * Replays the records of the replay window into the velocity store.
+   *
+   * @param consumer the consumer used for the replay
+   * @param now      the current time in epoch milliseconds
+   * @return the number of replayed records
+   */
+  int rebuild(Consumer<String, TransactionCreatedEvent> consumer, long now) {
+    Map<TopicPartition, Long> endOffsets = seekToReplayWindow(consumer,
+        now - TimeUnit.SECONDS.toMillis(velocityConfig.replayWindow()));
+
+    long deadline = System.nanoTime()
+        + TimeUnit.SECONDS.toNanos(velocityConfig.replayTimeout());
+    int replayed = 0;
+    while (!endOffsets.isEmpty() && System.nanoTime() < deadline) {
+      for (ConsumerRecord<String, TransactionCreatedEvent> consumerRecord
+          : consumer.poll(POLL_TIMEOUT)) {
+        Long endOffset = endOffsets.get(
+            new TopicPartition(consumerRecord.topic(), consumerRecord.partition()));
+        if (endOffset != null && consumerRecord.offset() < endOffset
+            && replay(consumerRecord.value())) {
+          replayed++;
+        }
+      }
+      endOffsets.entrySet().removeIf(entry -> {
+        boolean done = consumer.position(entry.getKey()) >= entry.getValue();
+        if (done) {
+          consumer.pause(List.of(entry.getKey()));
+        }
+        return done;
+      });
+    }
+
+    if (!endOffsets.isEmpty()) {
+      LOGGER.warnf("Velocity store rebuild timed out, partitions not fully replayed: %s",
+          endOffsets.keySet());
+    }
+    LOGGER.infof("Velocity store rebuilt from %d records, %d accounts",
+        replayed, velocityStore.size());
+    return replayed;
+  }
+
+  private Map<TopicPartition, Long> seekToReplayWindow(
+      Consumer<String, TransactionCreatedEvent> consumer, long from) {
+    Map<TopicPartition, Long> timestamps = new HashMap<>();
+    consumer.partitionsFor(topic).forEach(partition ->
+        timestamps.put(new TopicPartition(topic, partition.partition()), from));
+
+    Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(timestamps.keySet());
+    Map<TopicPartition, OffsetAndTimestamp> startOffsets = consumer.offsetsForTimes(timestamps);
+
+    Map<TopicPartition, Long> endOffsets = new HashMap<>();
+    Map<TopicPartition, Long> seekOffsets = new HashMap<>();
+    for (TopicPartition partition : timestamps.keySet()) {
+      OffsetAndMetadata end = committed.get(partition);
+      OffsetAndTimestamp start = startOffsets.get(partition);
+      if (end != null && start != null && start.offset() < end.offset()) {
+        seekOffsets.put(partition, start.offset());
+        endOffsets.put(partition, end.offset());
+      }
+    }
+
+    consumer.assign(Set.copyOf(seekOffsets.keySet()));
+    seekOffsets.forEach(consumer::seek);
+    return endOffsets;
+  }
+
+  private boolean replay(TransactionCreatedEvent event) {
+    if (event == null) {
+      return false;
+    }
+    TransactionCreatedPayload payload = event.getPayload();
+    try {
+      velocityStore.record(payload, new BigDecimal(payload.getValue()));
+      return true;
+    } catch (RuntimeException e) {
+      LOGGER.warnf(e, "Skipping unreadable transaction %s during velocity store rebuild",
+          payload.getTransactionExternalId());
+      return false;
+    }
+  }
+
+  private Consumer<String, TransactionCreatedEvent> createConsumer() {
+    Map<String, Object> config = new HashMap<>(kafkaConfig);
+    config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+    config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG,
+        "io.confluent.kafka.serializers.KafkaAvroDeserializer");
+    config.put("specific.avro.reader", true);
+    return new KafkaConsumer<>(config);
+  }
+
+}
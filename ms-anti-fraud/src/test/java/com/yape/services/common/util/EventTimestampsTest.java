@@ -0,0 +1,39 @@
+package com.yape.services.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link EventTimestamps}.
+ */
+class EventTimestampsTest {
+
+  private static final Instant EXPECTED = Instant.parse("2024-01-01T06:30:00.123Z");
+
+  @Test
+  @DisplayName("should parse the schema format with a numeric offset")
+  void shouldParseSchemaFormat() {
+    assertEquals(EXPECTED, EventTimestamps.parse("2024-01-01T06:30:00.123+0000"));
+    assertEquals(EXPECTED, EventTimestamps.parse("2024-01-01T01:30:00.123-0500"));
+  }
+
+  @Test
+  @DisplayName("should parse ISO instants with any fraction of second")
+  void shouldParseIsoInstants() {
+    assertEquals(EXPECTED, EventTimestamps.parse("2024-01-01T06:30:00.123Z"));
+    assertEquals(EXPECTED, EventTimestamps.parse("2024-01-01T06:30:00.123000Z"));
+    assertEquals(EXPECTED, EventTimestamps.parse("2024-01-01T06:30:00.123+00:00"));
+  }
+
+  @Test
+  @DisplayName("should reject timestamps without offset")
+  void shouldRejectTimestampsWithoutOffset() {
+    assertThrows(DateTimeParseException.class,
+        () -> EventTimestamps.parse("2024-01-01T06:30:00.123"));
+  }
+}
@@ -3,10 +3,9 @@ package com.yape.services.transaction.application.usecase;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.yape.services.common.events.EventMetadata;
@@ -17,14 +16,21 @@ import com.yape.services.transaction.events.TransactionCreatedEvent;
 import com.yape.services.transaction.events.TransactionCreatedPayload;
 import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
 import com.yape.services.transaction.events.enums.TransactionStatus;
-import java.math.BigDecimal;
+import com.yape.services.transaction.infrastructure.id.UuidV7EventIdGenerator;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
@@ -37,6 +43,10 @@ class ValidateTransactionUseCaseTest {
   AntiFraudValidationService antiFraudValidationService;
   @Mock
   TransactionStatusEventPublisher eventPublisher;
+  @Spy
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Spy
+  UuidV7EventIdGenerator eventIdGenerator = new UuidV7EventIdGenerator();
 
   @InjectMocks
   ValidateTransactionUseCase useCase;
@@ -54,7 +64,7 @@ class ValidateTransactionUseCaseTest {
         .setPayload(payload)
         .setMetadata(metadata)
         .build();
-    when(antiFraudValidationService.validate(new BigDecimal(value)))
+    when(antiFraudValidationService.validate(payload))
         .thenReturn(ValidationResult.approved());
 
     // Act
@@ -85,7 +95,7 @@ class ValidateTransactionUseCaseTest {
         .setPayload(payload)
         .setMetadata(metadata)
         .build();
-    when(antiFraudValidationService.validate(new BigDecimal(value)))
+    when(antiFraudValidationService.validate(payload))
         .thenReturn(ValidationResult.rejected(ruleCode));
 
     // Act
@@ -99,9 +109,37 @@ class ValidateTransactionUseCaseTest {
     assertEquals(TransactionStatus.REJECTED, publishedEvent.getPayload().getNewStatus());
     assertFalse(publishedEvent.getPayload().getValidationResult().getIsValid());
     assertEquals(ruleCode, publishedEvent.getPayload().getValidationResult().getRuleCode());
+    assertEquals(List.of(ruleCode),
+        publishedEvent.getPayload().getValidationResult().getRuleCodes());
     assertEquals(transactionExternalId, publishedEvent.getPayload().getTransactionExternalId());
   }
 
+  @Test
+  @DisplayName("should publish flagged rule codes when transaction is approved")
+  void shouldPublishFlaggedRuleCodesWhenApproved() {
+    // Arrange
+    TransactionCreatedPayload payload = buildTransactionCreatedPayload("tx-flag", "700.00");
+    TransactionCreatedEvent event = TransactionCreatedEvent.newBuilder()
+        .setPayload(payload)
+        .setMetadata(buildMetadata("req-flag"))
+        .build();
+    when(antiFraudValidationService.validate(payload))
+        .thenReturn(ValidationResult.approved(List.of("NIGHT_TIME_HIGH_AMOUNT")));
+
+    // Act
+    useCase.execute(event);
+
+    // Assert
+    ArgumentCaptor<TransactionStatusUpdatedEvent> captor =
+        ArgumentCaptor.forClass(TransactionStatusUpdatedEvent.class);
+    verify(eventPublisher).publishStatusUpdated(captor.capture());
+    TransactionStatusUpdatedEvent publishedEvent = captor.getValue();
+    assertEquals(TransactionStatus.APPROVED, publishedEvent.getPayload().getNewStatus());
+    assertNull(publishedEvent.getPayload().getValidationResult().getRuleCode());
+    assertEquals(List.of("NIGHT_TIME_HIGH_AMOUNT"),
+        publishedEvent.getPayload().getValidationResult().getRuleCodes());
+  }
+
   @Test
   @DisplayName("should handle null ruleCode in rejected validation result")
   void shouldHandleNullRuleCodeInRejectedValidationResult() {
@@ -115,7 +153,7 @@ class ValidateTransactionUseCaseTest {
         .setPayload(payload)
         .setMetadata(metadata)
         .build();
-    when(antiFraudValidationService.validate(new BigDecimal(value)))
+    when(antiFraudValidationService.validate(payload))
         .thenReturn(ValidationResult.rejected(null));
 
     // Act
@@ -145,7 +183,7 @@ class ValidateTransactionUseCaseTest {
         .setPayload(payload)
         .setMetadata(metadata)
         .build();
-    when(antiFraudValidationService.validate(new BigDecimal(value)))
+    when(antiFraudValidationService.validate(payload))
         .thenReturn(ValidationResult.approved());
 
     // Act
@@ -157,25 +195,50 @@ class ValidateTransactionUseCaseTest {
     verify(eventPublisher).publishStatusUpdated(captor.capture());
     TransactionStatusUpdatedEvent publishedEvent = captor.getValue();
     assertEquals(requestId, publishedEvent.getMetadata().getRequestId());
+    assertEquals(7, UUID.fromString(publishedEvent.getMetadata().getEventId()).version());
   }
 
   @Test
-  @DisplayName("should throw NumberFormatException if payload value is not a valid number")
-  void shouldThrowNumberFormatExceptionIfPayloadValueIsNotValidNumber() {
+  @DisplayName("should record the pending lag from the created event to the decision")
+  void shouldRecordPendingLag() {
     // Arrange
-    String transactionExternalId = "tx-invalid";
-    String value = "not-a-number";
-    TransactionCreatedPayload payload =
-        buildTransactionCreatedPayload(transactionExternalId, value);
-    EventMetadata metadata = buildMetadata("req-invalid");
+    TransactionCreatedPayload payload = buildTransactionCreatedPayload("tx-lag", "10.00");
+    EventMetadata metadata = buildMetadata("req-lag");
+    metadata.setEventTimestamp(Instant.now().minusSeconds(2).toString());
     TransactionCreatedEvent event = TransactionCreatedEvent.newBuilder()
         .setPayload(payload)
         .setMetadata(metadata)
         .build();
+    when(antiFraudValidationService.validate(payload))
+        .thenReturn(ValidationResult.approved());
+
+    // Act
+    useCase.execute(event);
 
-    // Act & Assert
-    assertThrows(NumberFormatException.class, () -> useCase.execute(event));
-    verifyNoInteractions(eventPublisher);
+    // Assert
+    Timer lag = meterRegistry.get("transaction.pending.lag").tag("status", "APPROVED").timer();
+    assertEquals(1L, lag.count());
+    assertTrue(lag.totalTime(TimeUnit.MILLISECONDS) >= 1_000);
+  }
+
+  @Test
+  @DisplayName("should skip the pending lag when the event timestamp cannot be parsed")
+  void shouldSkipPendingLagForUnparseableTimestamp() {
+    // Arrange
+    TransactionCreatedPayload payload = buildTransactionCreatedPayload("tx-nolag", "10.00");
+    TransactionCreatedEvent event = TransactionCreatedEvent.newBuilder()
+        .setPayload(payload)
+        .setMetadata(buildMetadata("req-nolag"))
+        .build();
+    when(antiFraudValidationService.validate(payload))
+        .thenReturn(ValidationResult.approved());
+
+    // Act
+    useCase.execute(event);
+
+    // Assert
+    verify(eventPublisher).publishStatusUpdated(any());
+    assertNull(meterRegistry.find("transaction.pending.lag").timer());
   }
 
   EventMetadata buildMetadata(String requestId) {
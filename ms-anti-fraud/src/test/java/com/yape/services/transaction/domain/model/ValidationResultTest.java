@@ -1,5 +1,6 @@
 package com.yape.services.transaction.domain.model;
 
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -32,4 +33,32 @@ class ValidationResultTest {
     Assertions.assertFalse(result.isValid());
     Assertions.assertEquals(ruleCode, result.getRuleCode());
   }
+
+  @Test
+  void approvedWithRuleCodes_shouldReturnValidTrueAndMatchedCodes() {
+    // Arrange
+    List<String> ruleCodes = List.of("SAME_ACCOUNT");
+
+    // Act
+    ValidationResult result = ValidationResult.approved(ruleCodes);
+
+    // Assert
+    Assertions.assertTrue(result.isValid());
+    Assertions.assertNull(result.getRuleCode());
+    Assertions.assertEquals(ruleCodes, result.getRuleCodes());
+  }
+
+  @Test
+  void rejectedWithRuleCodes_shouldUseLastCodeAsRejectingRule() {
+    // Arrange
+    List<String> ruleCodes = List.of("SAME_ACCOUNT", "MAX_AMOUNT_EXCEEDED");
+
+    // Act
+    ValidationResult result = ValidationResult.rejected(ruleCodes);
+
+    // Assert
+    Assertions.assertFalse(result.isValid());
+    Assertions.assertEquals("MAX_AMOUNT_EXCEEDED", result.getRuleCode());
+    Assertions.assertEquals(ruleCodes, result.getRuleCodes());
+  }
 }
@@ -2,7 +2,16 @@ package com.yape.services.transaction.domain.service;
 
 import com.yape.services.common.util.Constants;
 import com.yape.services.transaction.domain.model.ValidationResult;
-import java.math.BigDecimal;
+import com.yape.services.transaction.domain.service.rule.MaxAmountRuleFactory;
+import com.yape.services.transaction.domain.service.rule.RuleAction;
+import com.yape.services.transaction.domain.service.rule.RuleDefinition;
+import com.yape.services.transaction.domain.service.rule.RulePlan;
+import com.yape.services.transaction.domain.service.velocity.VelocityStore;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,33 +21,79 @@ import org.junit.jupiter.api.Test;
  */
 class AntiFraudValidationServiceTest {
 
-  private final AntiFraudValidationService service = new AntiFraudValidationService();
+  private final AntiFraudValidationService service = new AntiFraudValidationService(
+      RulePlan.compile(
+          List.of(new RuleDefinition(Constants.RULE_MAX_AMOUNT_EXCEEDED, "max-amount",
+              RuleAction.REJECT, Map.of("max", "1000"))),
+          List.of(new MaxAmountRuleFactory()),
+          new SimpleMeterRegistry()),
+      new VelocityStore(60, 12, 1000, 300));
 
   @Test
   @DisplayName("Should approve transaction when amount is below or equal to max limit")
   void shouldApproveTransactionWhenAmountIsBelowOrEqualToMax() {
     // Arrange
-    BigDecimal amount = new BigDecimal("500");
+    TransactionCreatedPayload payload = buildPayload("500");
 
     // Act
-    ValidationResult result = service.validate(amount);
+    ValidationResult result = service.validate(payload);
 
     // Assert
     Assertions.assertTrue(result.isValid());
     Assertions.assertNull(result.getRuleCode());
+    Assertions.assertTrue(result.getRuleCodes().isEmpty());
   }
 
   @Test
   @DisplayName("Should reject transaction when amount exceeds max limit")
   void shouldRejectTransactionWhenAmountExceedsMax() {
     // Arrange
-    BigDecimal amount = new BigDecimal("1000.01");
+    TransactionCreatedPayload payload = buildPayload("1000.01");
 
     // Act
-    ValidationResult result = service.validate(amount);
+    ValidationResult result = service.validate(payload);
 
     // Assert
     Assertions.assertFalse(result.isValid());
     Assertions.assertEquals(Constants.RULE_MAX_AMOUNT_EXCEEDED, result.getRuleCode());
   }
+
+  @Test
+  @DisplayName("Should throw NumberFormatException if payload value is not a valid number")
+  void shouldThrowNumberFormatExceptionIfPayloadValueIsNotValidNumber() {
+    // Arrange
+    TransactionCreatedPayload payload = buildPayload("not-a-number");
+
+    // Act & Assert
+    Assertions.assertThrows(NumberFormatException.class, () -> service.validate(payload));
+  }
+
+  @Test
+  @DisplayName("Should record the transaction in the velocity window of its debit account")
+  void shouldRecordTransactionInVelocityWindow() {
+    // Arrange
+    VelocityStore velocityStore = new VelocityStore(60, 12, 1000, 300);
+    AntiFraudValidationService velocityService = new AntiFraudValidationService(
+        RulePlan.compile(List.of(), List.of(), new SimpleMeterRegistry()), velocityStore);
+
+    // Act
+    velocityService.validate(buildPayload("10.50"));
+    velocityService.validate(buildPayload("20"));
+
+    // Assert
+    Assertions.assertEquals(new VelocityStore.Totals(2, 3050),
+        velocityStore.totals("debit-acc-1"));
+  }
+
+  private TransactionCreatedPayload buildPayload(String value) {
+    return TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId("tx-1")
+        .setAccountExternalIdDebit("debit-acc-1")
+        .setAccountExternalIdCredit("credit-acc-1")
+        .setTransferTypeId(1)
+        .setValue(value)
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt("2024-01-01T12:00:00.000+0000")
+        .build();
+  }
 }
@@ -0,0 +1,55 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MaxAmountRuleFactory}.
+ */
+class MaxAmountRuleFactoryTest {
+
+  private final MaxAmountRuleFactory factory = new MaxAmountRuleFactory();
+
+  @Test
+  @DisplayName("should match only amounts above the maximum")
+  void shouldMatchAmountsAboveMax() {
+    // Arrange
+    Rule rule = factory.create("MAX_AMOUNT_EXCEEDED", Map.of("max", "1000"));
+    TransactionCreatedPayload payload = buildPayload("a", "b", 1, "2024-01-01T12:00:00.000+0000");
+
+    // Act / Assert
+    assertEquals("MAX_AMOUNT_EXCEEDED", rule.code());
+    assertFalse(rule.matches(payload, new BigDecimal("1000")));
+    assertTrue(rule.matches(payload, new BigDecimal("1000.01")));
+  }
+
+  @Test
+  @DisplayName("should reject a configuration without max")
+  void shouldRequireMax() {
+    // Act / Assert
+    assertThrows(IllegalArgumentException.class,
+        () -> factory.create("MAX_AMOUNT_EXCEEDED", Map.of()));
+  }
+
+  private static TransactionCreatedPayload buildPayload(String debit, String credit,
+                                                        int transferTypeId, String createdAt) {
+    return TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId("tx-1")
+        .setAccountExternalIdDebit(debit)
+        .setAccountExternalIdCredit(credit)
+        .setTransferTypeId(transferTypeId)
+        .setValue("100")
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt(createdAt)
+        .build();
+  }
+}
@@ -0,0 +1,171 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yape.services.transaction.domain.model.ValidationResult;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RulePlan}.
+ */
+class RulePlanTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private List<String> evaluated;
+  private RuleFactory stubFactory;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    evaluated = new ArrayList<>();
+    stubFactory = new RuleFactory() {
+      @Override
+      public String type() {
+        return "stub";
+      }
+
+      @Override
+      public Rule create(String code, Map<String, String> params) {
+        int cost = Integer.parseInt(params.get("cost"));
+        boolean result = Boolean.parseBoolean(params.get("matches"));
+        return new Rule() {
+          @Override
+          public String code() {
+            return code;
+          }
+
+          @Override
+          public int cost() {
+            return cost;
+          }
+
+          @Override
+          public boolean matches(TransactionCreatedPayload payload, BigDecimal amount) {
+            evaluated.add(code);
+            return result;
+          }
+        };
+      }
+    };
+  }
+
+  @Test
+  @DisplayName("should evaluate rules cheapest first, keeping configuration order on ties")
+  void shouldEvaluateCheapestFirst() {
+    // Arrange
+    RulePlan plan = compile(
+        stub("EXPENSIVE", 5, false, RuleAction.REJECT),
+        stub("CHEAP", 1, false, RuleAction.REJECT),
+        stub("MEDIUM_A", 2, false, RuleAction.FLAG),
+        stub("MEDIUM_B", 2, false, RuleAction.REJECT));
+
+    // Act
+    ValidationResult result = plan.evaluate(buildPayload("100"), BigDecimal.valueOf(100));
+
+    // Assert
+    assertTrue(result.isValid());
+    assertEquals(List.of("CHEAP", "MEDIUM_A", "MEDIUM_B", "EXPENSIVE"), evaluated);
+    assertEquals(evaluated, plan.ruleCodes());
+  }
+
+  @Test
+  @DisplayName("should stop at the first rejecting rule and report every matched rule")
+  void shouldShortCircuitOnReject() {
+    // Arrange
+    RulePlan plan = compile(
+        stub("FLAGGED", 1, true, RuleAction.FLAG),
+        stub("REJECTING", 2, true, RuleAction.REJECT),
+        stub("SKIPPED", 3, true, RuleAction.REJECT));
+
+    // Act
+    ValidationResult result = plan.evaluate(buildPayload("100"), BigDecimal.valueOf(100));
+
+    // Assert
+    assertFalse(result.isValid());
+    assertEquals("REJECTING", result.getRuleCode());
+    assertEquals(List.of("FLAGGED", "REJECTING"), result.getRuleCodes());
+    assertEquals(List.of("FLAGGED", "REJECTING"), evaluated);
+  }
+
+  @Test
+  @DisplayName("should approve with the codes of matched flagging rules")
+  void shouldApproveWithFlags() {
+    // Arrange
+    RulePlan plan = compile(
+        stub("FLAGGED", 1, true, RuleAction.FLAG),
+        stub("NOT_MATCHED", 1, false, RuleAction.REJECT));
+
+    // Act
+    ValidationResult result = plan.evaluate(buildPayload("100"), BigDecimal.valueOf(100));
+
+    // Assert
+    assertTrue(result.isValid());
+    assertEquals(List.of("FLAGGED"), result.getRuleCodes());
+  }
+
+  @Test
+  @DisplayName("should record the evaluation time of each rule")
+  void shouldRecordEvaluationTimePerRule() {
+    // Arrange
+    RulePlan plan = compile(
+        stub("FIRST", 1, false, RuleAction.REJECT),
+        stub("SECOND", 2, true, RuleAction.REJECT));
+
+    // Act
+    plan.evaluate(buildPayload("100"), BigDecimal.valueOf(100));
+    plan.evaluate(buildPayload("100"), BigDecimal.valueOf(100));
+
+    // Assert
+    assertEquals(2, meterRegistry.get(RulePlan.EVALUATION_TIMER)
+        .tag("rule", "FIRST").timer().count());
+    assertEquals(2, meterRegistry.get(RulePlan.EVALUATION_TIMER)
+        .tag("rule", "SECOND").timer().count());
+  }
+
+  @Test
+  @DisplayName("should fail to compile a rule of unknown type")
+  void shouldFailOnUnknownRuleType() {
+    // Arrange
+    List<RuleDefinition> definitions = List.of(
+        new RuleDefinition("UNKNOWN", "does-not-exist", RuleAction.REJECT, Map.of()));
+    List<RuleFactory> factories = List.of(stubFactory);
+
+    // Act & Assert
+    IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+        () -> RulePlan.compile(definitions, factories, meterRegistry));
+    assertTrue(ex.getMessage().contains("does-not-exist"));
+  }
+
+  private RulePlan compile(RuleDefinition... definitions) {
+    return RulePlan.compile(List.of(definitions), List.of(stubFactory), meterRegistry);
+  }
+
+  private static RuleDefinition stub(String code, int cost, boolean matches, RuleAction action) {
+    return new RuleDefinition(code, "stub", action,
+        Map.of("cost", String.valueOf(cost), "matches", String.valueOf(matches)));
+  }
+
+  private static TransactionCreatedPayload buildPayload(String value) {
+    return TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId("tx-1")
+        .setAccountExternalIdDebit("debit-acc-1")
+        .setAccountExternalIdCredit("credit-acc-1")
+        .setTransferTypeId(1)
+        .setValue(value)
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt("2024-01-01T12:00:00.000+0000")
+        .build();
+  }
+}
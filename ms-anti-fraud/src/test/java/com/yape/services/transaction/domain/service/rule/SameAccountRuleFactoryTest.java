@@ -0,0 +1,45 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SameAccountRuleFactory}.
+ */
+class SameAccountRuleFactoryTest {
+
+  private static final String CREATED_AT = "2024-01-01T12:00:00.000+0000";
+
+  private final SameAccountRuleFactory factory = new SameAccountRuleFactory();
+
+  @Test
+  @DisplayName("should match when debit and credit accounts are the same")
+  void shouldMatchSameAccounts() {
+    // Arrange
+    Rule rule = factory.create("SAME_ACCOUNT", Map.of());
+
+    // Act / Assert
+    assertTrue(rule.matches(buildPayload("acc-1", "acc-1", 1, CREATED_AT), BigDecimal.TEN));
+    assertFalse(rule.matches(buildPayload("acc-1", "acc-2", 1, CREATED_AT), BigDecimal.TEN));
+  }
+
+  private static TransactionCreatedPayload buildPayload(String debit, String credit,
+                                                        int transferTypeId, String createdAt) {
+    return TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId("tx-1")
+        .setAccountExternalIdDebit(debit)
+        .setAccountExternalIdCredit(credit)
+        .setTransferTypeId(transferTypeId)
+        .setValue("100")
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt(createdAt)
+        .build();
+  }
+}
@@ -0,0 +1,65 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimeOfDayRuleFactory}.
+ */
+class TimeOfDayRuleFactoryTest {
+
+  private final TimeOfDayRuleFactory factory = new TimeOfDayRuleFactory();
+
+  @Test
+  @DisplayName("should match inside the window in the configured zone")
+  void shouldMatchInsideWindowInZone() {
+    // Arrange
+    Rule rule = factory.create("NIGHT", Map.of("from", "00:00", "to", "05:00",
+        "zone", "America/Lima", "min-amount", "500"));
+    BigDecimal amount = new BigDecimal("600");
+
+    // Act / Assert
+    // 06:30 UTC is 01:30 in Lima
+    assertTrue(rule.matches(at("2024-01-01T06:30:00.000+0000"), amount));
+    // 12:00 UTC is 07:00 in Lima
+    assertFalse(rule.matches(at("2024-01-01T12:00:00.000+0000"), amount));
+    assertFalse(rule.matches(at("2024-01-01T06:30:00.000+0000"), new BigDecimal("500")));
+  }
+
+  @Test
+  @DisplayName("should support windows wrapping around midnight")
+  void shouldSupportWindowWrappingMidnight() {
+    // Arrange
+    Rule rule = factory.create("NIGHT", Map.of("from", "22:00", "to", "02:00"));
+
+    // Act / Assert
+    assertTrue(rule.matches(at("2024-01-01T23:15:00.000+0000"), BigDecimal.ONE));
+    assertTrue(rule.matches(at("2024-01-01T01:59:00.000+0000"), BigDecimal.ONE));
+    assertFalse(rule.matches(at("2024-01-01T02:00:00.000+0000"), BigDecimal.ONE));
+    assertFalse(rule.matches(at("2024-01-01T21:59:00.000+0000"), BigDecimal.ONE));
+  }
+
+  private static TransactionCreatedPayload at(String createdAt) {
+    return buildPayload("a", "b", 1, createdAt);
+  }
+
+  private static TransactionCreatedPayload buildPayload(String debit, String credit,
+                                                        int transferTypeId, String createdAt) {
+    return TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId("tx-1")
+        .setAccountExternalIdDebit(debit)
+        .setAccountExternalIdCredit(credit)
+        .setTransferTypeId(transferTypeId)
+        .setValue("100")
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt(createdAt)
+        .build();
+  }
+}
@@ -0,0 +1,56 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TransferTypeLimitRuleFactory}.
+ */
+class TransferTypeLimitRuleFactoryTest {
+
+  private static final String CREATED_AT = "2024-01-01T12:00:00.000+0000";
+
+  private final TransferTypeLimitRuleFactory factory = new TransferTypeLimitRuleFactory();
+
+  @Test
+  @DisplayName("should match amounts above the limit for the configured transfer type only")
+  void shouldMatchConfiguredTransferTypeAboveLimit() {
+    // Arrange
+    Rule rule = factory.create("DEPOSIT_LIMIT", Map.of("transfer-type-id", "3", "max", "500"));
+    BigDecimal amount = new BigDecimal("600");
+
+    // Act / Assert
+    assertTrue(rule.matches(buildPayload("a", "b", 3, CREATED_AT), amount));
+    assertFalse(rule.matches(buildPayload("a", "b", 1, CREATED_AT), amount));
+    assertFalse(rule.matches(buildPayload("a", "b", 3, CREATED_AT), new BigDecimal("500")));
+  }
+
+  @Test
+  @DisplayName("should reject a configuration without transfer type")
+  void shouldRequireTransferType() {
+    // Act / Assert
+    assertThrows(IllegalArgumentException.class,
+        () -> factory.create("DEPOSIT_LIMIT", Map.of("max", "500")));
+  }
+
+  private static TransactionCreatedPayload buildPayload(String debit, String credit,
+                                                        int transferTypeId, String createdAt) {
+    return TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId("tx-1")
+        .setAccountExternalIdDebit(debit)
+        .setAccountExternalIdCredit(credit)
+        .setTransferTypeId(transferTypeId)
+        .setValue("100")
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt(createdAt)
+        .build();
+  }
+}
@@ -0,0 +1,83 @@
+package com.yape.services.transaction.domain.service.rule;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yape.services.transaction.domain.service.velocity.VelocityStore;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link VelocityRuleFactory}.
+ */
+class VelocityRuleFactoryTest {
+
+  private static final long T0 = 1_704_067_200_000L;
+
+  private VelocityStore velocityStore;
+  private VelocityRuleFactory factory;
+
+  @BeforeEach
+  void setUp() {
+    velocityStore = new VelocityStore(60, 12, 1000, 300);
+    factory = new VelocityRuleFactory(velocityStore);
+  }
+
+  @Test
+  @DisplayName("should match when the window count exceeds max-count")
+  void shouldMatchWhenCountExceeded() {
+    // Arrange
+    Rule rule = factory.create("VELOCITY", Map.of("max-count", "2"));
+    velocityStore.record("acc-1", nextId(), T0, BigDecimal.ONE);
+    velocityStore.record("acc-1", nextId(), T0 + 1000, BigDecimal.ONE);
+
+    // Act / Assert
+    assertFalse(rule.matches(buildPayload("acc-1"), BigDecimal.ONE));
+    velocityStore.record("acc-1", nextId(), T0 + 2000, BigDecimal.ONE);
+    assertTrue(rule.matches(buildPayload("acc-1"), BigDecimal.ONE));
+    assertFalse(rule.matches(buildPayload("acc-2"), BigDecimal.ONE));
+  }
+
+  @Test
+  @DisplayName("should match when the window amount exceeds max-amount")
+  void shouldMatchWhenAmountExceeded() {
+    // Arrange
+    Rule rule = factory.create("VELOCITY", Map.of("max-amount", "100.50"));
+    velocityStore.record("acc-1", nextId(), T0, new BigDecimal("100.50"));
+
+    // Act / Assert
+    assertFalse(rule.matches(buildPayload("acc-1"), BigDecimal.ONE));
+    velocityStore.record("acc-1", nextId(), T0, new BigDecimal("0.01"));
+    assertTrue(rule.matches(buildPayload("acc-1"), BigDecimal.ONE));
+  }
+
+  @Test
+  @DisplayName("should require max-count or max-amount")
+  void shouldRequireALimit() {
+    // Act / Assert
+    assertThrows(IllegalArgumentException.class, () -> factory.create("VELOCITY", Map.of()));
+  }
+
+  private static TransactionCreatedPayload buildPayload(String debit) {
+    return TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId("tx-1")
+        .setAccountExternalIdDebit(debit)
+        .setAccountExternalIdCredit("credit-acc-1")
+        .setTransferTypeId(1)
+        .setValue("1")
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt("2024-01-01T00:00:00.000+0000")
+        .build();
+  }
+
+  private static String nextId() {
+    return UUID.randomUUID().toString();
+  }
+}
@@ -0,0 +1,188 @@
+package com.yape.services.transaction.domain.service.velocity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link VelocityStore}.
+ */
+class VelocityStoreTest {
+
+  private static final String ACCOUNT = "debit-acc-1";
+  private static final long T0 = 1_704_067_200_000L;
+
+  private AtomicLong nanos;
+  private VelocityStore store;
+
+  @BeforeEach
+  void setUp() {
+    nanos = new AtomicLong();
+    store = new VelocityStore(60, 12, 100, 300, nanos::get);
+  }
+
+  @Test
+  @DisplayName("should count and sum the transactions of an account within the window")
+  void shouldCountAndSumWithinWindow() {
+    // Act
+    store.record(ACCOUNT, nextId(), T0, new BigDecimal("10.25"));
+    store.record(ACCOUNT, nextId(), T0 + 20_000, new BigDecimal("5"));
+    store.record("other-account", nextId(), T0 + 20_000, new BigDecimal("99"));
+
+    // Assert
+    assertEquals(new VelocityStore.Totals(2, 1525), store.totals(ACCOUNT));
+    assertEquals(new VelocityStore.Totals(1, 9900), store.totals("other-account"));
+    assertEquals(new VelocityStore.Totals(0, 0), store.totals("unknown"));
+  }
+
+  @Test
+  @DisplayName("should drop buckets that slide out of the window")
+  void shouldSlideWindow() {
+    // Arrange
+    store.record(ACCOUNT, nextId(), T0, BigDecimal.ONE);
+    store.record(ACCOUNT, nextId(), T0 + 30_000, BigDecimal.TEN);
+
+    // Act
+    store.record(ACCOUNT, nextId(), T0 + 65_000, BigDecimal.ONE);
+
+    // Assert
+    assertEquals(new VelocityStore.Totals(2, 1100), store.totals(ACCOUNT));
+  }
+
+  @Test
+  @DisplayName("should reset the window after a gap longer than the window")
+  void shouldResetAfterLongGap() {
+    // Arrange
+    store.record(ACCOUNT, nextId(), T0, BigDecimal.ONE);
+    store.record(ACCOUNT, nextId(), T0 + 10_000, BigDecimal.ONE);
+
+    // Act
+    store.record(ACCOUNT, nextId(), T0 + 600_000, BigDecimal.TEN);
+
+    // Assert
+    assertEquals(new VelocityStore.Totals(1, 1000), store.totals(ACCOUNT));
+  }
+
+  @Test
+  @DisplayName("should count late transactions inside the window and ignore older ones")
+  void shouldHandleLateTransactions() {
+    // Arrange
+    store.record(ACCOUNT, nextId(), T0 + 120_000, BigDecimal.ONE);
+
+    // Act
+    store.record(ACCOUNT, nextId(), T0 + 90_000, BigDecimal.ONE);
+    store.record(ACCOUNT, nextId(), T0, BigDecimal.ONE);
+
+    // Assert
+    assertEquals(new VelocityStore.Totals(2, 200), store.totals(ACCOUNT));
+  }
+
+  @Test
+  @DisplayName("should count a redelivered transaction once")
+  void shouldCountRedeliveredTransactionOnce() {
+    // Arrange
+    assertTrue(store.record(ACCOUNT, "tx-1", T0, BigDecimal.TEN));
+
+    // Act
+    boolean counted = store.record(ACCOUNT, "tx-1", T0, BigDecimal.TEN);
+
+    // Assert
+    assertFalse(counted);
+    assertEquals(new VelocityStore.Totals(1, 1000), store.totals(ACCOUNT));
+  }
+
+  @Test
+  @DisplayName("should forget transaction IDs that slid out of the window")
+  void shouldForgetTransactionIdsOutOfWindow() {
+    // Arrange
+    store.record(ACCOUNT, "tx-1", T0, BigDecimal.ONE);
+    store.record(ACCOUNT, nextId(), T0 + 65_000, BigDecimal.ONE);
+
+    // Act
+    boolean counted = store.record(ACCOUNT, "tx-1", T0 + 70_000, BigDecimal.ONE);
+
+    // Assert
+    assertTrue(counted);
+    assertEquals(new VelocityStore.Totals(2, 200), store.totals(ACCOUNT));
+  }
+
+  @Test
+  @DisplayName("should parse the debit account and creation time from the payload")
+  void shouldRecordPayload() {
+    // Arrange
+    TransactionCreatedPayload payload = TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId("tx-1")
+        .setAccountExternalIdDebit(ACCOUNT)
+        .setAccountExternalIdCredit("credit-acc-1")
+        .setTransferTypeId(1)
+        .setValue("42.00")
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt("2024-01-01T00:00:00.000+0000")
+        .build();
+    store.record(ACCOUNT, nextId(), T0 - 55_000, BigDecimal.ONE);
+
+    // Act
+    store.record(payload, new BigDecimal(payload.getValue()));
+
+    // Assert
+    assertEquals(new VelocityStore.Totals(2, 4300), store.totals(ACCOUNT));
+  }
+
+  @Test
+  @DisplayName("should evict idle accounts and bound the number of accounts")
+  void shouldEvictIdleAccountsAndBoundSize() {
+    // Arrange
+    store.record(ACCOUNT, nextId(), T0, BigDecimal.ONE);
+
+    // Act
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(301));
+    for (int i = 0; i < 500; i++) {
+      store.record("account-" + i, nextId(), T0, BigDecimal.ONE);
+    }
+    store.cleanUp();
+
+    // Assert
+    assertEquals(new VelocityStore.Totals(0, 0), store.totals(ACCOUNT));
+    assertEquals(100, store.size());
+  }
+
+  @Test
+  @DisplayName("should not lose updates under concurrent recording")
+  void shouldNotLoseConcurrentUpdates() throws Exception {
+    // Arrange
+    ExecutorService workers = Executors.newFixedThreadPool(8);
+    CountDownLatch done = new CountDownLatch(8);
+
+    // Act
+    for (int t = 0; t < 8; t++) {
+      workers.execute(() -> {
+        for (int i = 0; i < 1000; i++) {
+          store.record(ACCOUNT, nextId(), T0, BigDecimal.ONE);
+        }
+        done.countDown();
+      });
+    }
+    done.await(5, TimeUnit.SECONDS);
+    workers.shutdown();
+
+    // Assert
+    assertEquals(new VelocityStore.Totals(8000, 800_000), store.totals(ACCOUNT));
+  }
+
+  private static String nextId() {
+    return UUID.randomUUID().toString();
+  }
+}
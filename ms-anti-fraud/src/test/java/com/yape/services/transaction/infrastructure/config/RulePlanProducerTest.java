@@ -0,0 +1,90 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.common.util.Constants;
+import com.yape.services.transaction.domain.service.rule.MaxAmountRuleFactory;
+import com.yape.services.transaction.domain.service.rule.RuleAction;
+import com.yape.services.transaction.domain.service.rule.RuleFactory;
+import com.yape.services.transaction.domain.service.rule.RulePlan;
+import com.yape.services.transaction.domain.service.rule.SameAccountRuleFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.enterprise.inject.Instance;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link RulePlanProducer}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RulePlanProducerTest {
+
+  @Mock
+  AntiFraudRulesConfig rulesConfig;
+
+  @Mock
+  Instance<RuleFactory> ruleFactories;
+
+  private final RulePlanProducer producer = new RulePlanProducer();
+
+  @BeforeEach
+  void setUp() {
+    when(ruleFactories.iterator()).thenReturn(
+        List.<RuleFactory>of(new MaxAmountRuleFactory(), new SameAccountRuleFactory())
+            .iterator());
+  }
+
+  @Test
+  @DisplayName("should compile the enabled configured rules")
+  void shouldCompileEnabledRules() {
+    // Arrange
+    AntiFraudRulesConfig.RuleConfig maxAmount =
+        ruleConfig("MAX_AMOUNT_EXCEEDED", "max-amount", true, Map.of("max", "1000"));
+    AntiFraudRulesConfig.RuleConfig sameAccount =
+        ruleConfig("SAME_ACCOUNT", "same-account", true, Map.of());
+    AntiFraudRulesConfig.RuleConfig disabled =
+        mock(AntiFraudRulesConfig.RuleConfig.class);
+    when(disabled.enabled()).thenReturn(false);
+    when(rulesConfig.rules()).thenReturn(Optional.of(List.of(sameAccount, disabled, maxAmount)));
+
+    // Act
+    RulePlan rulePlan = producer.rulePlan(rulesConfig, ruleFactories, new SimpleMeterRegistry());
+
+    // Assert
+    assertEquals(List.of("MAX_AMOUNT_EXCEEDED", "SAME_ACCOUNT"), rulePlan.ruleCodes());
+  }
+
+  @Test
+  @DisplayName("should fall back to the default maximum amount rule when no rules are configured")
+  void shouldFallBackToDefaultRule() {
+    // Arrange
+    when(rulesConfig.rules()).thenReturn(Optional.empty());
+
+    // Act
+    RulePlan rulePlan = producer.rulePlan(rulesConfig, ruleFactories, new SimpleMeterRegistry());
+
+    // Assert
+    assertEquals(List.of(Constants.RULE_MAX_AMOUNT_EXCEEDED), rulePlan.ruleCodes());
+  }
+
+  private static AntiFraudRulesConfig.RuleConfig ruleConfig(String code, String type,
+                                                           boolean enabled,
+                                                           Map<String, String> params) {
+    AntiFraudRulesConfig.RuleConfig ruleConfig = mock(AntiFraudRulesConfig.RuleConfig.class);
+    when(ruleConfig.enabled()).thenReturn(enabled);
+    when(ruleConfig.code()).thenReturn(code);
+    when(ruleConfig.type()).thenReturn(type);
+    when(ruleConfig.action()).thenReturn(RuleAction.REJECT);
+    when(ruleConfig.params()).thenReturn(params);
+    return ruleConfig;
+  }
+}
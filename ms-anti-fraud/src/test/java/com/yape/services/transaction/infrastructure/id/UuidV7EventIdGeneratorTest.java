@@ -0,0 +1,56 @@
+package com.yape.services.transaction.infrastructure.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidV7EventIdGenerator")
+class UuidV7EventIdGeneratorTest {
+
+  private static final Instant NOW = Instant.parse("2024-06-15T10:00:00.123Z");
+
+  @Test
+  @DisplayName("should generate RFC 9562 version 7 IDs carrying the current time")
+  void shouldGenerateVersion7Ids() {
+    // Arrange
+    UuidV7EventIdGenerator generator =
+        new UuidV7EventIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    // Act
+    UUID id = generator.nextId();
+
+    // Assert
+    assertEquals(7, id.version());
+    assertEquals(2, id.variant());
+    assertEquals(NOW.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  @DisplayName("should generate increasing IDs within the same millisecond")
+  void shouldGenerateIncreasingIdsWithinSameMillisecond() {
+    // Arrange
+    UuidV7EventIdGenerator generator =
+        new UuidV7EventIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    // Act
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      ids.add(generator.nextId());
+    }
+
+    // Assert
+    for (int i = 1; i < ids.size(); i++) {
+      assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0);
+      assertEquals(7, ids.get(i).version());
+    }
+  }
+
+}
@@ -1,16 +1,36 @@
 package com.yape.services.transaction.infrastructure.messaging;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yape.services.transaction.application.usecase.ValidateTransactionUseCase;
 import com.yape.services.transaction.events.TransactionCreatedEvent;
-import io.smallrye.reactive.messaging.kafka.Record;
+import com.yape.services.transaction.infrastructure.config.TransactionCreatedConsumerConfig;
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -20,61 +40,238 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class KafkaTransactionCreatedConsumerTest {
 
+  private static final long TIMEOUT_MS = 5000;
+  private static final int MAX_ATTEMPTS = 3;
+
   @Mock
   ValidateTransactionUseCase validateTransactionUseCase;
 
-  @InjectMocks
-  KafkaTransactionCreatedConsumer consumer;
-
   @Mock
-  Record<String, TransactionCreatedEvent> kafkaRecord;
+  TransactionCreatedConsumerConfig consumerConfig;
 
-  @Mock
-  TransactionCreatedEvent event;
+  private ExecutorService workers;
+
+  @BeforeEach
+  void setUp() {
+    workers = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    workers.shutdownNow();
+  }
 
   @Test
-  @DisplayName("should delegate event to ValidateTransactionUseCase when event is received")
-  void shouldDelegateEventToValidateTransactionUseCaseWhenEventIsReceived() {
+  @DisplayName("should validate and ack on the polling thread when parallel mode is disabled")
+  void shouldValidateAndAckInlineWhenParallelDisabled() {
     // Arrange
-    when(kafkaRecord.key()).thenReturn("key-1");
-    when(kafkaRecord.value()).thenReturn(event);
+    KafkaTransactionCreatedConsumer consumer = createConsumer(false, 10);
+    KafkaRecord<String, TransactionCreatedEvent> kafkaRecord = mockRecord("key-1");
 
     // Act
     consumer.consume(kafkaRecord);
 
     // Assert
-    org.mockito.Mockito.verify(validateTransactionUseCase, org.mockito.Mockito.times(1))
-        .execute(event);
+    verify(validateTransactionUseCase).execute(kafkaRecord.getPayload());
+    verify(kafkaRecord).ack();
+    verify(kafkaRecord, never()).nack(any());
   }
 
   @Test
-  @DisplayName("should log and rethrow exception if ValidateTransactionUseCase throws")
-  void shouldLogAndRethrowExceptionIfValidateTransactionUseCaseThrows() {
+  @DisplayName("should nack instead of ack when every validation attempt fails")
+  void shouldNackWhenValidationFails() {
     // Arrange
-    when(kafkaRecord.key()).thenReturn("key-2");
-    when(kafkaRecord.value()).thenReturn(event);
+    KafkaTransactionCreatedConsumer consumer = createConsumer(false, 10);
+    KafkaRecord<String, TransactionCreatedEvent> kafkaRecord = mockRecord("key-2");
     RuntimeException ex = new RuntimeException("validation failed");
-    org.mockito.Mockito.doThrow(ex).when(validateTransactionUseCase).execute(event);
+    doThrow(ex).when(validateTransactionUseCase).execute(kafkaRecord.getPayload());
+
+    // Act
+    consumer.consume(kafkaRecord);
 
-    // Act & Assert
-    assertEquals(
-        ex,
-        assertThrows(RuntimeException.class, () -> consumer.consume(kafkaRecord))
-    );
+    // Assert
+    verify(validateTransactionUseCase, times(MAX_ATTEMPTS)).execute(kafkaRecord.getPayload());
+    verify(kafkaRecord).nack(ex);
+    verify(kafkaRecord, never()).ack();
   }
 
   @Test
-  @DisplayName("should handle null event value gracefully")
-  void shouldHandleNullEventValueGracefully() {
+  @DisplayName("should ack a record whose validation succeeds on a retry")
+  void shouldAckWhenRetrySucceeds() {
     // Arrange
-    when(kafkaRecord.key()).thenReturn("key-3");
-    when(kafkaRecord.value()).thenReturn(null);
+    KafkaTransactionCreatedConsumer consumer = createConsumer(false, 10);
+    KafkaRecord<String, TransactionCreatedEvent> kafkaRecord = mockRecord("key-2");
+    doThrow(new RuntimeException("velocity store busy")).doNothing()
+        .when(validateTransactionUseCase).execute(kafkaRecord.getPayload());
 
     // Act
     consumer.consume(kafkaRecord);
 
     // Assert
-    org.mockito.Mockito.verify(validateTransactionUseCase, org.mockito.Mockito.times(1))
-        .execute(null);
+    verify(validateTransactionUseCase, times(2)).execute(kafkaRecord.getPayload());
+    verify(kafkaRecord).ack();
+    verify(kafkaRecord, never()).nack(any());
+  }
+
+  @Test
+  @DisplayName("should validate a dead-lettered record again on replay")
+  void shouldValidateDeadLetteredRecordOnReplay() {
+    // Arrange
+    KafkaTransactionCreatedConsumer consumer = createConsumer(true, 10);
+    KafkaRecord<String, TransactionCreatedEvent> kafkaRecord = mockRecord("key-2");
+
+    // Act
+    consumer.replay(kafkaRecord);
+
+    // Assert
+    verify(validateTransactionUseCase).execute(kafkaRecord.getPayload());
+    verify(kafkaRecord).ack();
+  }
+
+  @Test
+  @DisplayName("should ack and skip a record without payload")
+  void shouldAckAndSkipRecordWithoutPayload() {
+    // Arrange
+    KafkaTransactionCreatedConsumer consumer = createConsumer(true, 10);
+    KafkaRecord<String, TransactionCreatedEvent> kafkaRecord = mockRecord("key-3");
+    when(kafkaRecord.getPayload()).thenReturn(null);
+
+    // Act
+    consumer.consume(kafkaRecord);
+
+    // Assert
+    verify(kafkaRecord).ack();
+    verify(validateTransactionUseCase, never()).execute(any());
+  }
+
+  @Test
+  @DisplayName("should validate records with the same key in offset order")
+  void shouldValidateSameKeyRecordsInOrder() {
+    // Arrange
+    KafkaTransactionCreatedConsumer consumer = createConsumer(true, 100);
+    List<TransactionCreatedEvent> processed = new CopyOnWriteArrayList<>();
+    doAnswer(invocation -> {
+      Thread.sleep(1);
+      processed.add(invocation.getArgument(0));
+      return null;
+    }).when(validateTransactionUseCase).execute(any());
+    List<KafkaRecord<String, TransactionCreatedEvent>> records = List.of(
+        mockRecord("key-a"), mockRecord("key-b"), mockRecord("key-a"),
+        mockRecord("key-b"), mockRecord("key-a"), mockRecord("key-b"));
+
+    // Act
+    records.forEach(consumer::consume);
+
+    // Assert
+    records.forEach(kafkaRecord -> verify(kafkaRecord, timeout(TIMEOUT_MS)).ack());
+    assertEquals(List.of(records.get(0).getPayload(), records.get(2).getPayload(),
+        records.get(4).getPayload()), filter(processed, records, "key-a"));
+    assertEquals(List.of(records.get(1).getPayload(), records.get(3).getPayload(),
+        records.get(5).getPayload()), filter(processed, records, "key-b"));
+  }
+
+  @Test
+  @DisplayName("should validate other keys while a key is blocked, and ack only completed records")
+  void shouldProcessOtherKeysWhileKeyIsBlocked() throws Exception {
+    // Arrange
+    KafkaTransactionCreatedConsumer consumer = createConsumer(true, 100);
+    KafkaRecord<String, TransactionCreatedEvent> slow = mockRecord("key-a");
+    KafkaRecord<String, TransactionCreatedEvent> sameKey = mockRecord("key-a");
+    KafkaRecord<String, TransactionCreatedEvent> otherKey = mockRecord("key-b");
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS))
+        .when(validateTransactionUseCase).execute(slow.getPayload());
+
+    // Act
+    consumer.consume(slow);
+    consumer.consume(sameKey);
+    consumer.consume(otherKey);
+
+    // Assert
+    verify(otherKey, timeout(TIMEOUT_MS)).ack();
+    verify(slow, never()).ack();
+    verify(sameKey, never()).ack();
+    verify(validateTransactionUseCase, never()).execute(sameKey.getPayload());
+
+    release.countDown();
+    verify(slow, timeout(TIMEOUT_MS)).ack();
+    verify(sameKey, timeout(TIMEOUT_MS)).ack();
+  }
+
+  @Test
+  @DisplayName("should nack a failed record and keep validating the same key")
+  void shouldNackFailedRecordAndContinueWithKey() {
+    // Arrange
+    KafkaTransactionCreatedConsumer consumer = createConsumer(true, 100);
+    KafkaRecord<String, TransactionCreatedEvent> failing = mockRecord("key-a");
+    KafkaRecord<String, TransactionCreatedEvent> next = mockRecord("key-a");
+    RuntimeException ex = new RuntimeException("validation failed");
+    doThrow(ex).when(validateTransactionUseCase).execute(failing.getPayload());
+
+    // Act
+    consumer.consume(failing);
+    consumer.consume(next);
+
+    // Assert
+    verify(failing, timeout(TIMEOUT_MS)).nack(ex);
+    verify(next, timeout(TIMEOUT_MS)).ack();
+    verify(failing, never()).ack();
+  }
+
+  @Test
+  @DisplayName("should hold the poll loop while max in-flight records are being validated")
+  void shouldApplyBackpressureAtMaxInFlight() throws Exception {
+    // Arrange
+    KafkaTransactionCreatedConsumer consumer = createConsumer(true, 1);
+    KafkaRecord<String, TransactionCreatedEvent> first = mockRecord("key-a");
+    KafkaRecord<String, TransactionCreatedEvent> second = mockRecord("key-b");
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS))
+        .when(validateTransactionUseCase).execute(first.getPayload());
+
+    // Act
+    CompletionStage<Void> firstAdmitted = consumer.consume(first);
+    CompletionStage<Void> secondAdmitted = consumer.consume(second);
+
+    // Assert
+    assertTrue(firstAdmitted.toCompletableFuture().isDone());
+    assertFalse(secondAdmitted.toCompletableFuture().isDone());
+
+    release.countDown();
+    secondAdmitted.toCompletableFuture().get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    verify(second, timeout(TIMEOUT_MS)).ack();
+    verify(validateTransactionUseCase, times(1)).execute(second.getPayload());
+  }
+
+  private KafkaTransactionCreatedConsumer createConsumer(boolean parallel, int maxInFlight) {
+    when(consumerConfig.maxInFlight()).thenReturn(maxInFlight);
+    lenient().when(consumerConfig.parallel()).thenReturn(parallel);
+    lenient().when(consumerConfig.maxAttempts()).thenReturn(MAX_ATTEMPTS);
+    lenient().when(consumerConfig.retryBackoffMs()).thenReturn(0L);
+    return new KafkaTransactionCreatedConsumer(validateTransactionUseCase, consumerConfig,
+        workers);
+  }
+
+  @SuppressWarnings("unchecked")
+  private KafkaRecord<String, TransactionCreatedEvent> mockRecord(String key) {
+    KafkaRecord<String, TransactionCreatedEvent> kafkaRecord = mock(KafkaRecord.class);
+    TransactionCreatedEvent event = mock(TransactionCreatedEvent.class);
+    lenient().when(kafkaRecord.getKey()).thenReturn(key);
+    lenient().when(kafkaRecord.getPayload()).thenReturn(event);
+    lenient().when(kafkaRecord.ack()).thenReturn(CompletableFuture.completedFuture(null));
+    lenient().when(kafkaRecord.nack(any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    return kafkaRecord;
+  }
+
+  private static List<TransactionCreatedEvent> filter(
+      List<TransactionCreatedEvent> processed,
+      List<KafkaRecord<String, TransactionCreatedEvent>> records,
+      String key) {
+    List<TransactionCreatedEvent> keyEvents = records.stream()
+        .filter(kafkaRecord -> key.equals(kafkaRecord.getKey()))
+        .map(KafkaRecord::getPayload)
+        .toList();
+    return processed.stream().filter(keyEvents::contains).toList();
   }
 }
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
 import com.yape.services.transaction.events.TransactionStatusUpdatedPayload;
 import com.yape.services.transaction.events.enums.TransactionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.smallrye.reactive.messaging.kafka.Record;
 import java.util.concurrent.CompletableFuture;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
@@ -29,6 +31,8 @@ class KafkaTransactionStatusPublisherTest {
 
   @Mock
   Emitter<Record<String, TransactionStatusUpdatedEvent>> statusUpdatedEmitter;
+  @Spy
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   @InjectMocks
   KafkaTransactionStatusPublisher publisher;
@@ -62,6 +66,8 @@ class KafkaTransactionStatusPublisherTest {
     Record<String, TransactionStatusUpdatedEvent> captorValue = captor.getValue();
     assertEquals(transactionId, captorValue.key());
     assertSame(event, captorValue.value());
+    assertEquals(1L, meterRegistry.get("antifraud.kafka.send")
+        .tag("result", "success").timer().count());
   }
 
   @Test
@@ -0,0 +1,135 @@
+package com.yape.services.transaction.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link KeyOrderedExecutor}.
+ */
+class KeyOrderedExecutorTest {
+
+  private static final long TIMEOUT_MS = 5000;
+
+  private ExecutorService workers;
+
+  @BeforeEach
+  void setUp() {
+    workers = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    workers.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("should run tasks of the same key in submission order")
+  void shouldRunSameKeyTasksInOrder() throws Exception {
+    // Arrange
+    KeyOrderedExecutor executor = new KeyOrderedExecutor(workers, 1000);
+    Map<String, List<Integer>> executed = new ConcurrentHashMap<>();
+    List<CompletableFuture<Void>> completions = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < 400; i++) {
+      String key = "key-" + (i % 4);
+      int sequence = i;
+      completions.add(executor.submit(key, () ->
+          executed.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(sequence)));
+    }
+    CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new))
+        .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+    // Assert
+    for (int k = 0; k < 4; k++) {
+      List<Integer> sequences = executed.get("key-" + k);
+      assertEquals(100, sequences.size());
+      for (int i = 1; i < sequences.size(); i++) {
+        assertTrue(sequences.get(i - 1) < sequences.get(i));
+      }
+    }
+    assertEquals(0, executor.inFlight());
+  }
+
+  @Test
+  @DisplayName("should run tasks of different keys concurrently")
+  void shouldRunDifferentKeysConcurrently() throws Exception {
+    // Arrange
+    KeyOrderedExecutor executor = new KeyOrderedExecutor(workers, 10);
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    Runnable task = () -> {
+      bothStarted.countDown();
+      await(bothStarted);
+    };
+
+    // Act
+    CompletableFuture<Void> first = executor.submit("key-a", task);
+    CompletableFuture<Void> second = executor.submit("key-b", task);
+
+    // Assert
+    CompletableFuture.allOf(first, second).get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    assertEquals(0, bothStarted.getCount());
+  }
+
+  @Test
+  @DisplayName("should run the next task of a key after the previous one failed")
+  void shouldContinueKeyAfterFailure() throws Exception {
+    // Arrange
+    KeyOrderedExecutor executor = new KeyOrderedExecutor(workers, 10);
+    List<String> executed = new CopyOnWriteArrayList<>();
+
+    // Act
+    CompletableFuture<Void> failed = executor.submit("key-a", () -> {
+      throw new IllegalStateException("boom");
+    });
+    CompletableFuture<Void> next = executor.submit("key-a", () -> executed.add("next"));
+
+    // Assert
+    next.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    assertTrue(failed.isCompletedExceptionally());
+    assertEquals(List.of("next"), executed);
+  }
+
+  @Test
+  @DisplayName("should delay admission until an in-flight task completes")
+  void shouldDelayAdmissionAtMaxInFlight() throws Exception {
+    // Arrange
+    KeyOrderedExecutor executor = new KeyOrderedExecutor(workers, 2);
+    CountDownLatch release = new CountDownLatch(1);
+    executor.submit("key-a", () -> await(release));
+    executor.submit("key-b", () -> await(release));
+
+    // Act
+    CompletionStage<Void> admission = executor.whenAvailable();
+
+    // Assert
+    assertFalse(admission.toCompletableFuture().isDone());
+    release.countDown();
+    admission.toCompletableFuture().get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.yape.services.transaction.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.common.events.EventMetadata;
+import com.yape.services.transaction.domain.service.velocity.VelocityStore;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import com.yape.services.transaction.infrastructure.config.VelocityConfig;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link VelocityStoreRebuilder}.
+ */
+@ExtendWith(MockitoExtension.class)
+class VelocityStoreRebuilderTest {
+
+  private static final String TOPIC = "transaction.created";
+  private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+  private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+  private static final long NOW = 1_704_067_260_000L;
+
+  @Mock
+  VelocityConfig velocityConfig;
+
+  @Mock
+  Consumer<String, TransactionCreatedEvent> consumer;
+
+  private VelocityStore velocityStore;
+  private VelocityStoreRebuilder rebuilder;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(velocityConfig.replayWindow()).thenReturn(60L);
+    lenient().when(velocityConfig.replayTimeout()).thenReturn(5L);
+    velocityStore = new VelocityStore(60, 12, 1000, 300);
+    rebuilder = new VelocityStoreRebuilder(velocityStore, velocityConfig, Map.of(), TOPIC,
+        "ms-anti-fraud-group");
+    when(consumer.partitionsFor(TOPIC)).thenReturn(List.of(
+        new PartitionInfo(TOPIC, 0, null, null, null),
+        new PartitionInfo(TOPIC, 1, null, null, null)));
+  }
+
+  @Test
+  @DisplayName("should replay records from the replay window up to the committed offsets")
+  void shouldReplayUpToCommittedOffsets() {
+    // Arrange
+    when(consumer.committed(anySet())).thenReturn(Map.of(
+        PARTITION_0, new OffsetAndMetadata(12),
+        PARTITION_1, new OffsetAndMetadata(5)));
+    when(consumer.offsetsForTimes(anyMap())).thenReturn(Map.of(
+        PARTITION_0, new OffsetAndTimestamp(10, NOW - 50_000),
+        PARTITION_1, new OffsetAndTimestamp(5, NOW - 50_000)));
+    when(consumer.poll(any())).thenReturn(new ConsumerRecords<>(Map.of(PARTITION_0, List.of(
+        createRecord(10, "acc-1", "2024-01-01T00:00:10.000+0000"),
+        createRecord(11, "acc-1", "2024-01-01T00:00:20.000+0000"),
+        createRecord(12, "acc-1", "2024-01-01T00:00:30.000+0000")))));
+    when(consumer.position(PARTITION_0)).thenReturn(13L);
+
+    // Act
+    int replayed = rebuilder.rebuild(consumer, NOW);
+
+    // Assert
+    assertEquals(2, replayed);
+    assertEquals(new VelocityStore.Totals(2, 20_000), velocityStore.totals("acc-1"));
+    verify(consumer).assign(Set.of(PARTITION_0));
+    verify(consumer).seek(PARTITION_0, 10L);
+    verify(consumer, never()).seek(PARTITION_1, 5L);
+  }
+
+  @Test
+  @DisplayName("should not poll when the consumer group has no committed offsets")
+  void shouldSkipWhenNothingCommitted() {
+    // Arrange
+    when(consumer.committed(anySet())).thenReturn(Map.of());
+    when(consumer.offsetsForTimes(anyMap())).thenReturn(Map.of(
+        PARTITION_0, new OffsetAndTimestamp(0, NOW - 50_000)));
+
+    // Act
+    int replayed = rebuilder.rebuild(consumer, NOW);
+
+    // Assert
+    assertEquals(0, replayed);
+    verify(consumer, never()).poll(any());
+  }
+
+  private static ConsumerRecord<String, TransactionCreatedEvent> createRecord(
+      long offset, String debitAccount, String createdAt) {
+    TransactionCreatedPayload payload = TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId("tx-" + offset)
+        .setAccountExternalIdDebit(debitAccount)
+        .setAccountExternalIdCredit("credit-acc-1")
+        .setTransferTypeId(1)
+        .setValue("100.00")
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt(createdAt)
+        .build();
+    EventMetadata metadata = EventMetadata.newBuilder()
+        .setEventId("event-" + offset)
+        .setEventType("TRANSACTION_CREATED")
+        .setEventTimestamp(createdAt)
+        .setSource("ms-transaction")
+        .setVersion("1.0.0")
+        .setRequestId(null)
+        .build();
+    TransactionCreatedEvent event = TransactionCreatedEvent.newBuilder()
+        .setMetadata(metadata)
+        .setPayload(payload)
+        .build();
+    return new ConsumerRecord<>(TOPIC, 0, offset, payload.getTransactionExternalId(), event);
+  }
+}
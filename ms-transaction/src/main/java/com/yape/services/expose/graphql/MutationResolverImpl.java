@@ -1,37 +1,53 @@
 package com.yape.services.expose.graphql;
 
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.shared.exception.ValidationException;
 import com.yape.services.shared.util.Constants;
 import com.yape.services.transaction.application.dto.RequestMetaData;
 import com.yape.services.transaction.application.usecase.CreateTransactionUseCase;
 import com.yape.services.transaction.graphql.api.MutationResolver;
 import com.yape.services.transaction.graphql.model.CreateTransaction;
+import com.yape.services.transaction.graphql.model.CreateTransactionResult;
 import com.yape.services.transaction.graphql.model.Transaction;
+import com.yape.services.transaction.infrastructure.config.TransactionBulkConfig;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.validation.constraints.NotNull;
+import java.util.List;
 import org.eclipse.microprofile.graphql.GraphQLApi;
 import org.eclipse.microprofile.graphql.Mutation;
 
 /**
  * GraphQL resolver for transaction-related operations.
+ * createTransaction runs on the event loop in the reactive execution mode; everything else runs
+ * on a virtual thread or a worker thread, as the execution mode selects.
  */
 @GraphQLApi
 public class MutationResolverImpl implements MutationResolver {
 
   private final CreateTransactionUseCase createTransactionUseCase;
   private final CurrentVertxRequest currentVertxRequest;
+  private final TransactionBulkConfig bulkConfig;
+  private final ResolverExecutor executor;
 
   /**
    * Constructor for TransactionResolver.
    *
    * @param createTransactionUseCase the service handling transaction logic
    * @param currentVertxRequest      the current Vert.x request context
+   * @param bulkConfig               the bulk creation configuration
+   * @param executor                 the executor running the blocking work of the mutations
    */
   @Inject
   public MutationResolverImpl(CreateTransactionUseCase createTransactionUseCase,
-                              CurrentVertxRequest currentVertxRequest) {
+                              CurrentVertxRequest currentVertxRequest,
+                              TransactionBulkConfig bulkConfig,
+                              ResolverExecutor executor) {
     this.createTransactionUseCase = createTransactionUseCase;
     this.currentVertxRequest = currentVertxRequest;
+    this.bulkConfig = bulkConfig;
+    this.executor = executor;
   }
 
   /**
@@ -42,15 +58,40 @@ public class MutationResolverImpl implements MutationResolver {
    */
   @Mutation("createTransaction")
   @Override
-  public Transaction createTransaction(@NotNull CreateTransaction input) {
+  public Uni<Transaction> createTransaction(@NotNull CreateTransaction input) {
+    RequestMetaData metaData = requestMetaData();
+    if (executor.reactive()) {
+      return createTransactionUseCase.executeAsync(input, metaData);
+    }
+    return executor.offload(() -> createTransactionUseCase.execute(input, metaData));
+  }
+
+  /**
+   * Creates several transactions, reporting the outcome of each one.
+   *
+   * @param inputs the input data for each transaction
+   * @return one result per input, in input order
+   */
+  @Mutation("createTransactions")
+  @Override
+  public Uni<List<CreateTransactionResult>> createTransactions(
+      @NotNull List<CreateTransaction> inputs) {
+    if (inputs.size() > bulkConfig.maxSize()) {
+      throw new ValidationException(ErrorCode.VALIDATION_ERROR, "inputs",
+          "At most " + bulkConfig.maxSize() + " transactions can be created per request");
+    }
+    RequestMetaData metaData = requestMetaData();
+    return executor.offload(() -> createTransactionUseCase.executeBatch(inputs, metaData));
+  }
+
+  private RequestMetaData requestMetaData() {
     var req = currentVertxRequest.getCurrent().request();
 
     String authHeader = req.getHeader("Authorization");
     String requestId  = req.getHeader(Constants.REQUEST_ID);
     String requestDate = req.getHeader(Constants.REQUEST_DATE);
 
-    RequestMetaData metadata = new RequestMetaData(authHeader, requestId, requestDate);
-    return createTransactionUseCase.execute(input, metadata);
+    return new RequestMetaData(authHeader, requestId, requestDate);
   }
 
 }
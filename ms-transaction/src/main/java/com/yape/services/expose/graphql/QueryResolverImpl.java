@@ -1,11 +1,20 @@
 package com.yape.services.expose.graphql;
 
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.shared.exception.ValidationException;
+import com.yape.services.transaction.application.usecase.GetAccountTransactionsUseCase;
 import com.yape.services.transaction.application.usecase.GetTransactionUseCase;
+import com.yape.services.transaction.application.usecase.GetTransactionsUseCase;
 import com.yape.services.transaction.application.usecase.GetTransferTypesUseCase;
 import com.yape.services.transaction.graphql.api.QueryResolver;
 import com.yape.services.transaction.graphql.model.Transaction;
+import com.yape.services.transaction.graphql.model.TransactionBatch;
+import com.yape.services.transaction.graphql.model.TransactionConnection;
 import com.yape.services.transaction.graphql.model.TransferType;
+import com.yape.services.transaction.infrastructure.config.TransactionBulkConfig;
+import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
+import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import org.eclipse.microprofile.graphql.GraphQLApi;
 import org.eclipse.microprofile.graphql.Name;
@@ -13,36 +22,85 @@ import org.eclipse.microprofile.graphql.Query;
 
 /**
  * GraphQL resolver for transaction-related queries.
+ * The transaction query runs on the event loop in the reactive execution mode; everything else
+ * runs on a virtual thread or a worker thread, as the execution mode selects. In the other
+ * modes the transaction fields of a request, aliases included, are looked up together by the
+ * {@link TransactionBatchLoader}.
  */
 @GraphQLApi
 public class QueryResolverImpl implements QueryResolver {
 
   private final GetTransferTypesUseCase getTransferTypesUseCase;
   private final GetTransactionUseCase getTransactionUseCase;
+  private final GetAccountTransactionsUseCase getAccountTransactionsUseCase;
+  private final GetTransactionsUseCase getTransactionsUseCase;
+  private final TransactionBatchLoader batchLoader;
+  private final TransactionBulkConfig bulkConfig;
+  private final ResolverExecutor executor;
 
   /**
    * Constructor for TransactionQueryResolver.
    *
    * @param getTransferTypesUseCase the service handling transfer type logic
    * @param getTransactionUseCase the service handling transaction retrieval logic
+   * @param getAccountTransactionsUseCase the service handling account history retrieval logic
+   * @param getTransactionsUseCase the service handling the retrieval of several transactions
+   * @param batchLoader the loader batching the transaction fields of a request
+   * @param bulkConfig the bulk operations configuration
+   * @param executor the executor running the blocking work of the queries
    */
   @Inject
   public QueryResolverImpl(GetTransferTypesUseCase getTransferTypesUseCase,
-                           GetTransactionUseCase getTransactionUseCase) {
+                           GetTransactionUseCase getTransactionUseCase,
+                           GetAccountTransactionsUseCase getAccountTransactionsUseCase,
+                           GetTransactionsUseCase getTransactionsUseCase,
+                           TransactionBatchLoader batchLoader,
+                           TransactionBulkConfig bulkConfig,
+                           ResolverExecutor executor) {
     this.getTransferTypesUseCase = getTransferTypesUseCase;
     this.getTransactionUseCase = getTransactionUseCase;
+    this.getAccountTransactionsUseCase = getAccountTransactionsUseCase;
+    this.getTransactionsUseCase = getTransactionsUseCase;
+    this.batchLoader = batchLoader;
+    this.bulkConfig = bulkConfig;
+    this.executor = executor;
   }
 
   @Query("transaction")
   @Override
-  public Transaction transaction(@Name("transactionExternalId") String transactionExternalId) {
-    return getTransactionUseCase.execute(transactionExternalId);
+  public Uni<Transaction> transaction(
+      @Name("transactionExternalId") String transactionExternalId) {
+    if (executor.reactive()) {
+      return getTransactionUseCase.executeAsync(transactionExternalId);
+    }
+    return batchLoader.load(transactionExternalId);
+  }
+
+  @Query("transactions")
+  @Override
+  public Uni<TransactionBatch> transactions(
+      @NotNull @Name("transactionExternalIds") List<String> transactionExternalIds) {
+    if (transactionExternalIds.size() > bulkConfig.maxLookupSize()) {
+      throw new ValidationException(ErrorCode.VALIDATION_ERROR, "transactionExternalIds",
+          "At most " + bulkConfig.maxLookupSize() + " transactions can be read per request");
+    }
+    return executor.offload(() -> getTransactionsUseCase.execute(transactionExternalIds));
+  }
+
+  @Query("transactionsByAccount")
+  @Override
+  public Uni<TransactionConnection> transactionsByAccount(
+      @Name("accountExternalId") String accountExternalId,
+      @Name("first") Integer first,
+      @Name("after") String after) {
+    return executor.offload(
+        () -> getAccountTransactionsUseCase.execute(accountExternalId, first, after));
   }
 
   @Query("transferTypes")
   @Override
-  public List<TransferType> transferTypes() {
-    return getTransferTypesUseCase.execute();
+  public Uni<List<TransferType>> transferTypes() {
+    return executor.offload(getTransferTypesUseCase::execute);
   }
 
 }
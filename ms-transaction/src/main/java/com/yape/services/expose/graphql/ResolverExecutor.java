@@ -0,0 +1,61 @@
+package com.yape.services.expose.graphql;
+
+import com.yape.services.transaction.infrastructure.config.TransactionExecutionConfig;
+import io.quarkus.virtual.threads.VirtualThreads;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Runs the blocking work of the resolvers off the event loop, as the execution mode selects.
+ * Resolvers return a Uni and are invoked on the event loop, which must never wait on JDBC, JTA
+ * or the blocking Redisson API: the work runs on a new virtual thread in the virtual-threads
+ * mode and on the worker pool otherwise.
+ */
+@ApplicationScoped
+class ResolverExecutor {
+
+  private final TransactionExecutionConfig executionConfig;
+  private final Executor virtualThreads;
+
+  /**
+   * Constructor for ResolverExecutor.
+   *
+   * @param executionConfig the execution mode configuration
+   * @param virtualThreads  the Quarkus managed virtual thread executor
+   */
+  @Inject
+  ResolverExecutor(TransactionExecutionConfig executionConfig,
+                   @VirtualThreads ExecutorService virtualThreads) {
+    this.executionConfig = executionConfig;
+    this.virtualThreads = virtualThreads;
+  }
+
+  /**
+   * Whether the non-blocking paths run on the event loop.
+   *
+   * @return true in the reactive execution mode
+   */
+  boolean reactive() {
+    return executionConfig.mode() == TransactionExecutionConfig.Mode.REACTIVE;
+  }
+
+  /**
+   * Returns a Uni that runs the work off the event loop when subscribed.
+   *
+   * @param work the blocking work
+   * @param <T>  the type of the result
+   * @return a Uni with the result of the work
+   */
+  <T> Uni<T> offload(Supplier<T> work) {
+    Executor executor = executionConfig.mode() == TransactionExecutionConfig.Mode.VIRTUAL_THREADS
+        ? virtualThreads
+        : Infrastructure.getDefaultWorkerPool();
+    return Uni.createFrom().item(work).runSubscriptionOn(executor);
+  }
+
+}
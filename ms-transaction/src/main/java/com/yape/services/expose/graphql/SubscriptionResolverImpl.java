@@ -0,0 +1,38 @@
+package com.yape.services.expose.graphql;
+
+import com.yape.services.transaction.application.usecase.SubscribeTransactionStatusUseCase;
+import com.yape.services.transaction.graphql.api.SubscriptionResolver;
+import com.yape.services.transaction.graphql.model.TransactionStatusChangedEvent;
+import io.smallrye.graphql.api.Subscription;
+import io.smallrye.mutiny.Multi;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Name;
+
+/**
+ * GraphQL resolver for transaction-related subscriptions.
+ */
+@GraphQLApi
+public class SubscriptionResolverImpl implements SubscriptionResolver {
+
+  private final SubscribeTransactionStatusUseCase subscribeTransactionStatusUseCase;
+
+  /**
+   * Constructor for SubscriptionResolverImpl.
+   *
+   * @param subscribeTransactionStatusUseCase the use case for watching status changes
+   */
+  @Inject
+  public SubscriptionResolverImpl(
+      SubscribeTransactionStatusUseCase subscribeTransactionStatusUseCase) {
+    this.subscribeTransactionStatusUseCase = subscribeTransactionStatusUseCase;
+  }
+
+  @Subscription("transactionStatusChanged")
+  @Override
+  public Multi<TransactionStatusChangedEvent> transactionStatusChanged(
+      @Name("transactionExternalId") String transactionExternalId) {
+    return subscribeTransactionStatusUseCase.execute(transactionExternalId);
+  }
+
+}
@@ -0,0 +1,127 @@
+package com.yape.services.expose.graphql;
+
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.shared.exception.ResourceNotFoundException;
+import com.yape.services.shared.exception.ValidationException;
+import com.yape.services.transaction.application.usecase.GetTransactionUseCase;
+import com.yape.services.transaction.application.usecase.GetTransactionsUseCase;
+import com.yape.services.transaction.graphql.model.Transaction;
+import com.yape.services.transaction.infrastructure.config.TransactionBulkConfig;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Batches the transaction fields of a GraphQL request into one lookup, like a DataLoader.
+ * The fields of a query, aliases included, are resolved one after another on the event loop:
+ * each field only registers its ID, and the lookup runs on the next turn of the event loop with
+ * every ID registered meanwhile. A lookup of a single ID takes the single transaction path,
+ * which coalesces concurrent cache misses; off the event loop every field is looked up alone.
+ * A turn with more IDs than a transactions query accepts is looked up in several chunks, and a
+ * malformed ID fails its own field without being looked up.
+ */
+@RequestScoped
+class TransactionBatchLoader {
+
+  private final GetTransactionUseCase getTransactionUseCase;
+  private final GetTransactionsUseCase getTransactionsUseCase;
+  private final ResolverExecutor executor;
+  private final TransactionBulkConfig bulkConfig;
+
+  private Map<String, CompletableFuture<Transaction>> pending = new LinkedHashMap<>();
+
+  /**
+   * Constructor for TransactionBatchLoader.
+   *
+   * @param getTransactionUseCase  the service retrieving a single transaction
+   * @param getTransactionsUseCase the service retrieving several transactions
+   * @param executor               the executor running the lookups
+   * @param bulkConfig             the bulk operations configuration
+   */
+  @Inject
+  TransactionBatchLoader(GetTransactionUseCase getTransactionUseCase,
+                         GetTransactionsUseCase getTransactionsUseCase,
+                         ResolverExecutor executor,
+                         TransactionBulkConfig bulkConfig) {
+    this.getTransactionUseCase = getTransactionUseCase;
+    this.getTransactionsUseCase = getTransactionsUseCase;
+    this.executor = executor;
+    this.bulkConfig = bulkConfig;
+  }
+
+  /**
+   * Registers a transaction ID for the next lookup.
+   *
+   * @param transactionExternalId the external ID of the transaction
+   * @return a Uni with the transaction, failing if it does not exist or the ID is malformed
+   */
+  Uni<Transaction> load(String transactionExternalId) {
+    try {
+      UUID.fromString(transactionExternalId);
+    } catch (IllegalArgumentException e) {
+      return Uni.createFrom().failure(new ValidationException(ErrorCode.INVALID_FORMAT,
+          "transactionExternalId", "Invalid UUID format for transactionExternalId"));
+    }
+    CompletableFuture<Transaction> result;
+    boolean first;
+    synchronized (this) {
+      first = pending.isEmpty();
+      result = pending.computeIfAbsent(transactionExternalId, id -> new CompletableFuture<>());
+    }
+    if (first) {
+      Context context = Vertx.currentContext();
+      if (context != null) {
+        context.runOnContext(ignored -> dispatch());
+      } else {
+        dispatch();
+      }
+    }
+    return Uni.createFrom().completionStage(result);
+  }
+
+  private void dispatch() {
+    Map<String, CompletableFuture<Transaction>> batch;
+    synchronized (this) {
+      batch = pending;
+      pending = new LinkedHashMap<>();
+    }
+    List<String> ids = List.copyOf(batch.keySet());
+    int chunkSize = bulkConfig.maxLookupSize();
+    for (int from = 0; from < ids.size(); from += chunkSize) {
+      lookUp(ids.subList(from, Math.min(from + chunkSize, ids.size())), batch);
+    }
+  }
+
+  private void lookUp(List<String> ids, Map<String, CompletableFuture<Transaction>> batch) {
+    Uni<List<Transaction>> lookup = ids.size() == 1
+        ? executor.offload(() -> List.of(getTransactionUseCase.execute(ids.get(0))))
+        : executor.offload(() -> getTransactionsUseCase.execute(ids).getTransactions());
+
+    lookup.subscribe().with(
+        transactions -> {
+          for (int i = 0; i < ids.size(); i++) {
+            complete(batch.get(ids.get(i)), ids.get(i), transactions.get(i));
+          }
+        },
+        failure -> ids.forEach(id -> batch.get(id).completeExceptionally(failure)));
+  }
+
+  private static void complete(CompletableFuture<Transaction> result,
+                               String transactionExternalId,
+                               Transaction transaction) {
+    if (transaction != null) {
+      result.complete(transaction);
+    } else {
+      result.completeExceptionally(new ResourceNotFoundException(
+          ErrorCode.TRANSACTION_NOT_FOUND, "Transaction", transactionExternalId));
+    }
+  }
+
+}
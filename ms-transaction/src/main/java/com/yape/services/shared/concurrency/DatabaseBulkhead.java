@@ -0,0 +1,29 @@
+package com.yape.services.shared.concurrency;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks methods that use the database, so they run only while holding a permit of the database
+ * bulkhead. Nested calls on the same thread reuse the permit of the outermost call, which must
+ * wrap the whole database transaction since the connection is held until it ends.
+ */
+@InterceptorBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DatabaseBulkhead {
+
+  /**
+   * Whether the caller waits for a permit as long as it takes instead of being rejected after the
+   * acquire timeout. Meant for background work such as consumers, for which a rejection would
+   * only fail work that has to be done anyway.
+   *
+   * @return true to wait for a permit without timeout
+   */
+  @Nonbinding
+  boolean waitForPermit() default false;
+}
@@ -23,10 +23,15 @@ public enum ErrorCode {
   // Business logic errors (422)
   BUSINESS_ERROR("BUSINESS_ERROR", "Business rule violation"),
   AMOUNT_BELOW_MINIMUM("AMOUNT_BELOW_MINIMUM", "Amount is below the minimum allowed"),
+  AMOUNT_ABOVE_MAXIMUM("AMOUNT_ABOVE_MAXIMUM", "Amount is above the maximum allowed"),
+  REQUEST_ID_REUSED("REQUEST_ID_REUSED", "Request-ID already used with a different input"),
 
   // Internal errors (500)
   INTERNAL_ERROR("INTERNAL_ERROR", "Internal server error"),
-  CONFIGURATION_ERROR("CONFIGURATION_ERROR", "Configuration error");
+  CONFIGURATION_ERROR("CONFIGURATION_ERROR", "Configuration error"),
+
+  // Availability errors (503)
+  SERVICE_UNAVAILABLE("SERVICE_UNAVAILABLE", "Service temporarily unavailable");
 
   private final String code;
   private final String defaultMessage;
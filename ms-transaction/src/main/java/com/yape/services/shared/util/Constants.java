@@ -15,4 +15,7 @@ public class Constants {
   public static final String TRANSACTION_STATUS_APPROVED = "APPROVED";
   public static final String TRANSACTION_STATUS_REJECTED = "REJECTED";
 
+  public static final String USE_CASE_METRIC = "transaction.usecase";
+  public static final String DB_METRIC = "transaction.db";
+
 }
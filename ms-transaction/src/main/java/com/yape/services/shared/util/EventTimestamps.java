@@ -0,0 +1,36 @@
+package com.yape.services.shared.util;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+
+/**
+ * Parser for the ISO 8601 timestamps carried by events.
+ * Accepts any fraction of second and the offset written as 'Z', '+00:00' or '+0000', which
+ * covers both the schema format (yyyy-MM-dd'T'HH:mm:ss.SSSZ) and ISO instants.
+ */
+public final class EventTimestamps {
+
+  private static final DateTimeFormatter PARSER = new DateTimeFormatterBuilder()
+      .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+      .optionalStart().appendOffset("+HH:MM", "Z").optionalEnd()
+      .optionalStart().appendOffset("+HHMM", "Z").optionalEnd()
+      .toFormatter();
+
+  private EventTimestamps() {
+    // Utility class, prevent instantiation
+  }
+
+  /**
+   * Parses an event timestamp.
+   *
+   * @param timestamp the timestamp
+   * @return the instant
+   * @throws java.time.format.DateTimeParseException if the timestamp cannot be parsed
+   */
+  public static Instant parse(String timestamp) {
+    return OffsetDateTime.parse(timestamp, PARSER).toInstant();
+  }
+
+}
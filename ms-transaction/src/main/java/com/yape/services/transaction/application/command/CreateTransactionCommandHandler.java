@@ -1,14 +1,29 @@
 package com.yape.services.transaction.application.command;
 
 import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionCreation;
+import com.yape.services.transaction.domain.repository.ReactiveTransactionRepository;
 import com.yape.services.transaction.domain.repository.TransactionRepository;
 import com.yape.services.transaction.domain.service.TransactionCacheService;
+import com.yape.services.transaction.domain.service.TransactionExistenceFilter;
+import com.yape.services.transaction.domain.service.TransactionIdGenerator;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
-import java.util.UUID;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import org.jboss.logging.Logger;
 
 /**
  * Command handler for creating a transaction.
+ * Created transactions are cached and recorded in the existence filter once the database
+ * transaction that saved them has committed.
  */
 @ApplicationScoped
 public class CreateTransactionCommandHandler {
@@ -17,21 +32,38 @@ public class CreateTransactionCommandHandler {
 
   private final TransactionRepository repository;
   private final TransactionCacheService cacheService;
+  private final TransactionIdGenerator idGenerator;
+  private final ReactiveTransactionRepository reactiveRepository;
+  private final TransactionExistenceFilter existenceFilter;
+  private final Event<TransactionsCreated> transactionsCreated;
 
   /**
    * Constructor for CreateTransactionCommandHandler.
    *
-   * @param repository   the repository for managing transactions
-   * @param cacheService the cache service for transactions
+   * @param repository          the repository for managing transactions
+   * @param cacheService        the cache service for transactions
+   * @param idGenerator         the generator for transaction external IDs
+   * @param reactiveRepository  the non-blocking repository for managing transactions
+   * @param existenceFilter     the filter of the external IDs of known transactions
+   * @param transactionsCreated the event fired for the saved transactions
    */
   public CreateTransactionCommandHandler(TransactionRepository repository,
-                                         TransactionCacheService cacheService) {
+                                         TransactionCacheService cacheService,
+                                         TransactionIdGenerator idGenerator,
+                                         ReactiveTransactionRepository reactiveRepository,
+                                         TransactionExistenceFilter existenceFilter,
+                                         Event<TransactionsCreated> transactionsCreated) {
     this.repository = repository;
     this.cacheService = cacheService;
+    this.idGenerator = idGenerator;
+    this.reactiveRepository = reactiveRepository;
+    this.existenceFilter = existenceFilter;
+    this.transactionsCreated = transactionsCreated;
   }
 
   /**
    * Handles the creation of a transaction.
+   * The transaction is cached once the current database transaction commits.
    *
    * @param command the command containing transaction data
    * @return the created transaction
@@ -43,15 +75,86 @@ public class CreateTransactionCommandHandler {
     Transaction savedTx = repository.save(tx);
     LOGGER.infof("Transaction created with ID: %s", savedTx.getTransactionExternalId());
 
-    cacheService.saveTransaction(savedTx, command.transactionStatusCode());
-    LOGGER.info("Transaction cached successfully");
-
+    transactionsCreated.fire(
+        new TransactionsCreated(List.of(savedTx), command.transactionStatusCode()));
     return savedTx;
   }
 
+  /**
+   * Caches the saved transactions and records them in the existence filter, after the database
+   * transaction that saved them has committed. Called right away when there was no transaction.
+   *
+   * @param created the saved transactions
+   */
+  void onTransactionsCreated(
+      @Observes(during = TransactionPhase.AFTER_SUCCESS) TransactionsCreated created) {
+    List<Transaction> transactions = created.transactions();
+    if (transactions.size() == 1) {
+      existenceFilter.add(transactions.get(0).getTransactionExternalId());
+      cacheService.saveTransaction(transactions.get(0), created.transactionStatusCode());
+    } else {
+      existenceFilter.addAll(
+          transactions.stream().map(Transaction::getTransactionExternalId).toList());
+      cacheService.saveTransactions(transactions, created.transactionStatusCode());
+    }
+    LOGGER.infof("%d committed transactions cached", transactions.size());
+  }
+
+  /**
+   * Handles the creation of a transaction without blocking the calling thread.
+   * The transaction, its event and the Request-ID claim are written in one database transaction;
+   * the transaction is cached once committed, unless an earlier request had already created it.
+   *
+   * @param command      the command containing transaction data
+   * @param requestId    the Request-ID of the request, or null
+   * @param eventFactory builds the TransactionCreatedEvent of the saved transaction
+   * @return the outcome of the creation
+   */
+  public Uni<TransactionCreation> handleAsync(
+      CreateTransactionCommand command,
+      String requestId,
+      Function<Transaction, TransactionCreatedEvent> eventFactory) {
+    LOGGER.info("Handling transaction creation command");
+
+    String requestHash = requestId != null ? RequestHash.of(command) : null;
+    return reactiveRepository.create(buildTransaction(command), requestId, requestHash,
+            eventFactory)
+        .invoke(creation -> existenceFilter.add(creation.transaction().getTransactionExternalId()))
+        .call(creation -> creation.created()
+            ? cacheService.saveTransactionAsync(creation.transaction(),
+                command.transactionStatusCode())
+            : Uni.createFrom().voidItem());
+  }
+
+  /**
+   * Handles the creation of several transactions.
+   * The rows are inserted with batched statements, and cached with pipelined requests once the
+   * current database transaction commits.
+   *
+   * @param commands the commands containing transaction data
+   * @return the created transactions, in command order
+   */
+  public List<Transaction> handleAll(List<CreateTransactionCommand> commands) {
+    LOGGER.infof("Handling %d transaction creation commands", commands.size());
+
+    List<Transaction> savedTxs = repository.saveAll(
+        commands.stream().map(this::buildTransaction).toList());
+    LOGGER.infof("%d transactions created", savedTxs.size());
+
+    Map<String, List<Transaction>> byStatusCode = new HashMap<>();
+    for (int i = 0; i < commands.size(); i++) {
+      byStatusCode.computeIfAbsent(commands.get(i).transactionStatusCode(),
+          code -> new ArrayList<>()).add(savedTxs.get(i));
+    }
+    byStatusCode.forEach((statusCode, txs) ->
+        transactionsCreated.fire(new TransactionsCreated(txs, statusCode)));
+
+    return savedTxs;
+  }
+
   private Transaction buildTransaction(CreateTransactionCommand command) {
     return Transaction.builder()
-        .transactionExternalId(UUID.randomUUID())
+        .transactionExternalId(idGenerator.nextId())
         .accountExternalIdDebit(command.accountExternalIdDebit())
         .accountExternalIdCredit(command.accountExternalIdCredit())
         .transferTypeId(command.transferTypeId())
@@ -0,0 +1,42 @@
+package com.yape.services.transaction.application.command;
+
+import com.yape.services.transaction.domain.model.Transaction;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * SHA-256 of the input a Request-ID is bound to: accounts, transfer type and value.
+ * A command and the transaction it created have the same hash, so a retry can be checked against
+ * either the stored hash or a cached result.
+ */
+final class RequestHash {
+
+  private RequestHash() {
+  }
+
+  static String of(CreateTransactionCommand command) {
+    return of(command.accountExternalIdDebit(), command.accountExternalIdCredit(),
+        command.transferTypeId(), command.value());
+  }
+
+  static String of(Transaction transaction) {
+    return of(transaction.getAccountExternalIdDebit(), transaction.getAccountExternalIdCredit(),
+        transaction.getTransferTypeId(), transaction.getValue());
+  }
+
+  private static String of(UUID debit, UUID credit, Integer transferTypeId, BigDecimal value) {
+    String input = debit + "|" + credit + "|" + transferTypeId + "|"
+        + value.stripTrailingZeros().toPlainString();
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+          .digest(input.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+}
@@ -0,0 +1,13 @@
+package com.yape.services.transaction.application.command;
+
+import com.yape.services.transaction.domain.model.Transaction;
+
+/**
+ * Event fired when a claimed Request-ID has been completed in the current database transaction.
+ * Observed once that transaction has committed, so only committed results are cached.
+ *
+ * @param requestId   the Request-ID
+ * @param transaction the transaction created for the Request-ID
+ */
+public record TransactionRequestCompleted(String requestId, Transaction transaction) {
+}
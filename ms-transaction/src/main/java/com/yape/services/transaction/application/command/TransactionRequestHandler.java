@@ -0,0 +1,171 @@
+package com.yape.services.transaction.application.command;
+
+import com.yape.services.shared.exception.BusinessException;
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.shared.exception.ValidationException;
+import com.yape.services.shared.util.Constants;
+import com.yape.services.transaction.application.query.TransactionQueryHandler;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionRequest;
+import com.yape.services.transaction.domain.repository.TransactionRequestRepository;
+import com.yape.services.transaction.domain.service.TransactionRequestCacheService;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import java.util.Optional;
+import java.util.UUID;
+import org.jboss.logging.Logger;
+
+/**
+ * Handler making transaction creation idempotent on the Request-ID header.
+ * A retry is answered from Redis while the result is cached; otherwise the Request-ID is claimed
+ * in the database, where a retry racing with the first request waits for it to commit and then
+ * reads the transaction it created. The Request-ID is bound to the hash of the request input, and
+ * a retry with a different input is rejected instead of replaying an unrelated transaction.
+ * Results are cached only once the database transaction that created them has committed.
+ */
+@ApplicationScoped
+public class TransactionRequestHandler {
+
+  static final int MAX_REQUEST_ID_LENGTH = 100;
+
+  private static final Logger LOGGER = Logger.getLogger(TransactionRequestHandler.class);
+
+  private final TransactionRequestRepository requestRepository;
+  private final TransactionRequestCacheService requestCacheService;
+  private final TransactionQueryHandler transactionQueryHandler;
+  private final Event<TransactionRequestCompleted> requestCompleted;
+
+  /**
+   * Constructor for TransactionRequestHandler.
+   *
+   * @param requestRepository       the repository for Request-IDs
+   * @param requestCacheService     the cache service for request results
+   * @param transactionQueryHandler the query handler for transactions
+   * @param requestCompleted        the event fired for completed Request-IDs
+   */
+  public TransactionRequestHandler(TransactionRequestRepository requestRepository,
+                                   TransactionRequestCacheService requestCacheService,
+                                   TransactionQueryHandler transactionQueryHandler,
+                                   Event<TransactionRequestCompleted> requestCompleted) {
+    this.requestRepository = requestRepository;
+    this.requestCacheService = requestCacheService;
+    this.transactionQueryHandler = transactionQueryHandler;
+    this.requestCompleted = requestCompleted;
+  }
+
+  /**
+   * Returns the transaction created by an earlier request with the same Request-ID, or claims the
+   * Request-ID for the current database transaction.
+   * Must run in the database transaction that creates the transaction, so that a rollback
+   * releases the claim.
+   *
+   * @param requestId the Request-ID
+   * @param command   the command of the current request
+   * @return the transaction created earlier, or empty if this request must create it
+   * @throws BusinessException if the Request-ID was used with a different input
+   */
+  public Optional<Transaction> findPreviousOrClaim(String requestId,
+                                                   CreateTransactionCommand command) {
+    validateRequestId(requestId);
+    String requestHash = RequestHash.of(command);
+
+    Optional<Transaction> cached = requestCacheService.getResult(requestId);
+    if (cached.isPresent()) {
+      checkSameInput(requestId, requestHash, RequestHash.of(cached.get()));
+      LOGGER.infof("Replaying cached result for request: %s", requestId);
+      return cached;
+    }
+
+    if (requestRepository.claim(requestId, requestHash)) {
+      return Optional.empty();
+    }
+
+    LOGGER.infof("Replaying stored result for request: %s", requestId);
+    TransactionRequest request = requestRepository.findByRequestId(requestId)
+        .filter(claimed -> claimed.transactionExternalId() != null)
+        .orElseThrow(() -> new IllegalStateException(
+            "Request claimed without a transaction: " + requestId));
+    checkSameInput(requestId, requestHash, request.requestHash());
+    UUID transactionExternalId = request.transactionExternalId();
+    Transaction previous = transactionQueryHandler.getTransactionByExternalId(transactionExternalId)
+        .orElseThrow(() -> new IllegalStateException(
+            "Transaction of request not found: " + transactionExternalId));
+    requestCacheService.saveResult(requestId, previous);
+    return Optional.of(previous);
+  }
+
+  /**
+   * Returns the cached transaction of an earlier request with the same Request-ID, without
+   * blocking the calling thread. The Request-ID is not claimed here: the reactive repository
+   * claims it in the database transaction that creates the transaction.
+   *
+   * @param requestId the Request-ID
+   * @param command   the command of the current request
+   * @return a Uni with the cached transaction, or empty if not cached; failed with a
+   *     BusinessException if the Request-ID was used with a different input
+   */
+  public Uni<Optional<Transaction>> findCachedResultAsync(String requestId,
+                                                          CreateTransactionCommand command) {
+    validateRequestId(requestId);
+    String requestHash = RequestHash.of(command);
+    return requestCacheService.getResultAsync(requestId)
+        .invoke(cached -> cached.ifPresent(transaction -> {
+          checkSameInput(requestId, requestHash, RequestHash.of(transaction));
+          LOGGER.infof("Replaying cached result for request: %s", requestId);
+        }));
+  }
+
+  /**
+   * Caches the transaction created or replayed for a Request-ID, without blocking the calling
+   * thread.
+   *
+   * @param requestId   the Request-ID
+   * @param transaction the transaction of the request
+   * @return a Uni completed once the result is cached
+   */
+  public Uni<Void> cacheResultAsync(String requestId, Transaction transaction) {
+    return requestCacheService.saveResultAsync(requestId, transaction);
+  }
+
+  /**
+   * Records the transaction created for a claimed Request-ID. The result is cached for retries
+   * once the current database transaction commits.
+   *
+   * @param requestId   the Request-ID
+   * @param transaction the created transaction
+   */
+  public void complete(String requestId, Transaction transaction) {
+    requestRepository.complete(requestId, transaction.getTransactionExternalId());
+    requestCompleted.fire(new TransactionRequestCompleted(requestId, transaction));
+  }
+
+  /**
+   * Caches the result of a completed Request-ID, after the database transaction that completed
+   * it has committed.
+   *
+   * @param completed the completed Request-ID
+   */
+  void onRequestCompleted(
+      @Observes(during = TransactionPhase.AFTER_SUCCESS) TransactionRequestCompleted completed) {
+    requestCacheService.saveResult(completed.requestId(), completed.transaction());
+  }
+
+  private static void checkSameInput(String requestId, String requestHash, String previousHash) {
+    if (previousHash != null && !previousHash.equals(requestHash)) {
+      LOGGER.warnf("Request-ID %s reused with a different input", requestId);
+      throw new BusinessException(ErrorCode.REQUEST_ID_REUSED,
+          "Request-ID " + requestId + " was already used with a different input");
+    }
+  }
+
+  private static void validateRequestId(String requestId) {
+    if (requestId.length() > MAX_REQUEST_ID_LENGTH) {
+      throw new ValidationException(ErrorCode.VALIDATION_ERROR, Constants.REQUEST_ID,
+          Constants.REQUEST_ID + " must be at most " + MAX_REQUEST_ID_LENGTH + " characters");
+    }
+  }
+
+}
@@ -0,0 +1,14 @@
+package com.yape.services.transaction.application.command;
+
+import com.yape.services.transaction.domain.model.Transaction;
+import java.util.List;
+
+/**
+ * Event fired when transactions have been saved in the current database transaction.
+ * Observed once that transaction has committed, so nothing is cached for rolled back rows.
+ *
+ * @param transactions          the saved transactions
+ * @param transactionStatusCode the status code of the saved transactions
+ */
+public record TransactionsCreated(List<Transaction> transactions, String transactionStatusCode) {
+}
@@ -0,0 +1,54 @@
+package com.yape.services.transaction.application.dto;
+
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.shared.exception.ValidationException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a transaction in an account history page, ordered by creation date and ID.
+ * Exposed to clients as an opaque Base64 string.
+ */
+public record TransactionCursor(
+    LocalDateTime createdAt,
+    long transactionId
+) {
+
+  private static final String SEPARATOR = "|";
+
+  /**
+   * Encodes this cursor as an opaque string.
+   *
+   * @return the encoded cursor
+   */
+  public String encode() {
+    String raw = createdAt + SEPARATOR + transactionId;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor returned by {@link #encode()}.
+   *
+   * @param value     the encoded cursor
+   * @param fieldName the input field the cursor was read from
+   * @return the decoded cursor
+   * @throws ValidationException if the value is not a valid cursor
+   */
+  public static TransactionCursor decode(String value, String fieldName) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(SEPARATOR);
+      return new TransactionCursor(
+          LocalDateTime.parse(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException
+             | StringIndexOutOfBoundsException e) {
+      throw new ValidationException(ErrorCode.INVALID_FORMAT, fieldName,
+          "Invalid cursor for " + fieldName);
+    }
+  }
+
+}
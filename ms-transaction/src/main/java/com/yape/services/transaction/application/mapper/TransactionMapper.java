@@ -4,12 +4,12 @@ import com.yape.services.common.events.EventMetadata;
 import com.yape.services.transaction.application.dto.RequestMetaData;
 import com.yape.services.transaction.domain.model.Transaction;
 import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.service.TransactionIdGenerator;
 import com.yape.services.transaction.events.TransactionCreatedEvent;
 import com.yape.services.transaction.events.TransactionCreatedPayload;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
 
 /**
  * Mapper for transaction Avro events.
@@ -22,6 +22,17 @@ public class TransactionMapper {
   private static final String EVENT_SOURCE = "ms-transaction";
   private static final String EVENT_VERSION = "1.0.0";
 
+  private final TransactionIdGenerator idGenerator;
+
+  /**
+   * Constructor for TransactionMapper.
+   *
+   * @param idGenerator the generator for event IDs
+   */
+  public TransactionMapper(TransactionIdGenerator idGenerator) {
+    this.idGenerator = idGenerator;
+  }
+
   /**
    * Maps Transaction and RequestMetaData to TransactionCreatedEvent.
    *
@@ -36,7 +47,7 @@ public class TransactionMapper {
     String timestamp = DateTimeFormatter.ISO_INSTANT.format(Instant.now());
 
     EventMetadata metadata = EventMetadata.newBuilder()
-        .setEventId(UUID.randomUUID().toString())
+        .setEventId(idGenerator.nextId().toString())
         .setEventType(EVENT_TYPE)
         .setEventTimestamp(timestamp)
         .setSource(EVENT_SOURCE)
@@ -0,0 +1,108 @@
+package com.yape.services.transaction.application.query;
+
+import io.micrometer.core.instrument.Counter;
+import io.smallrye.mutiny.Uni;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key into one, also known as single flight.
+ * The first caller for a key runs the load; callers arriving while it is in flight wait for its
+ * result, or its failure, instead of running their own. Blocking and non-blocking callers share
+ * the same in-flight loads. A load is forgotten once it completes, so results are never reused
+ * beyond the callers that overlapped with it. A non-blocking load runs to completion on its own:
+ * a caller that cancels only stops waiting for it, and the other callers still get its result.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded values
+ */
+final class InFlightLoads<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Counter coalesced;
+
+  /**
+   * Constructor for InFlightLoads.
+   *
+   * @param coalesced the counter of callers that waited for a load of another caller
+   */
+  InFlightLoads(Counter coalesced) {
+    this.coalesced = coalesced;
+  }
+
+  /**
+   * Loads the value of a key, or waits for the load already in flight for it.
+   *
+   * @param key    the key
+   * @param loader the blocking load
+   * @return the loaded value
+   */
+  V load(K key, Supplier<V> loader) {
+    CompletableFuture<V> load = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+    if (existing != null) {
+      coalesced.increment();
+      return join(existing);
+    }
+    try {
+      V value = loader.get();
+      load.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      load.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, load);
+    }
+  }
+
+  /**
+   * Loads the value of a key without blocking, or waits for the load already in flight for it.
+   *
+   * @param key    the key
+   * @param loader the non-blocking load
+   * @return a Uni with the loaded value
+   */
+  Uni<V> loadAsync(K key, Supplier<Uni<V>> loader) {
+    return Uni.createFrom().deferred(() -> {
+      CompletableFuture<V> load = new CompletableFuture<>();
+      CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+      if (existing != null) {
+        coalesced.increment();
+        return waitFor(existing);
+      }
+      loader.get().subscribe().with(
+          value -> {
+            inFlight.remove(key, load);
+            load.complete(value);
+          },
+          failure -> {
+            inFlight.remove(key, load);
+            load.completeExceptionally(failure);
+          });
+      return waitFor(load);
+    });
+  }
+
+  /**
+   * Waits for a shared load through a copy, since cancelling the Uni cancels the stage it waits on.
+   */
+  private static <V> Uni<V> waitFor(CompletableFuture<V> load) {
+    return Uni.createFrom().completionStage(load.copy());
+  }
+
+  private static <V> V join(CompletableFuture<V> load) {
+    try {
+      return load.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+}
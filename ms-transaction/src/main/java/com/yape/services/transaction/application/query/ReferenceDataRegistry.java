@@ -0,0 +1,127 @@
+package com.yape.services.transaction.application.query;
+
+import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransferType;
+import com.yape.services.transaction.domain.repository.TransactionStatusRepository;
+import com.yape.services.transaction.domain.repository.TransferTypeRepository;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.jboss.logging.Logger;
+
+/**
+ * In-process registry for transaction statuses and transfer types.
+ * Both tables are small and static, so they are loaded once at startup into an immutable
+ * snapshot: lookups by ID are array reads and lookups by code are map reads, with no database
+ * or Redis round trip. Call {@link #refresh()} to reload the snapshot after the tables change.
+ */
+@ApplicationScoped
+public class ReferenceDataRegistry {
+
+  private static final Logger LOGGER = Logger.getLogger(ReferenceDataRegistry.class);
+
+  private final TransactionStatusRepository transactionStatusRepository;
+  private final TransferTypeRepository transferTypeRepository;
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  /**
+   * Constructor for ReferenceDataRegistry.
+   *
+   * @param transactionStatusRepository the repository for transaction status data
+   * @param transferTypeRepository      the repository for transfer type data
+   */
+  @Inject
+  public ReferenceDataRegistry(TransactionStatusRepository transactionStatusRepository,
+                               TransferTypeRepository transferTypeRepository) {
+    this.transactionStatusRepository = transactionStatusRepository;
+    this.transferTypeRepository = transferTypeRepository;
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    refresh();
+  }
+
+  /**
+   * Reloads transaction statuses and transfer types from the database.
+   * The new snapshot replaces the previous one atomically.
+   */
+  public void refresh() {
+    List<TransactionStatus> statuses = transactionStatusRepository.findAll();
+    List<TransferType> transferTypes = transferTypeRepository.findAll();
+
+    snapshot = new Snapshot(
+        indexById(statuses, TransactionStatus::getTransactionStatusId, TransactionStatus[]::new),
+        indexByCode(statuses, TransactionStatus::getCode),
+        indexById(transferTypes, TransferType::getTransferTypeId, TransferType[]::new)
+    );
+    LOGGER.infof("Reference data loaded: %d transaction statuses, %d transfer types",
+        statuses.size(), transferTypes.size());
+  }
+
+  /**
+   * Retrieves a transaction status by its ID.
+   *
+   * @param id the ID of the transaction status
+   * @return an Optional containing the transaction status, or empty if not found
+   */
+  public Optional<TransactionStatus> getTransactionStatusById(int id) {
+    return Optional.ofNullable(lookup(snapshot.statusesById(), id));
+  }
+
+  /**
+   * Retrieves a transaction status by its code.
+   *
+   * @param code the code of the transaction status
+   * @return an Optional containing the transaction status, or empty if not found
+   */
+  public Optional<TransactionStatus> getTransactionStatusByCode(String code) {
+    return Optional.ofNullable(snapshot.statusesByCode().get(code));
+  }
+
+  /**
+   * Retrieves a transfer type by its ID.
+   *
+   * @param id the ID of the transfer type
+   * @return an Optional containing the transfer type, or empty if not found
+   */
+  public Optional<TransferType> getTransferTypeById(int id) {
+    return Optional.ofNullable(lookup(snapshot.transferTypesById(), id));
+  }
+
+  private static <T> T lookup(T[] byId, int id) {
+    return id >= 0 && id < byId.length ? byId[id] : null;
+  }
+
+  private static <T> T[] indexById(List<T> values,
+                                   Function<T, Integer> idGetter,
+                                   IntFunction<T[]> arrayFactory) {
+    int maxId = values.stream().mapToInt(idGetter::apply).max().orElse(-1);
+    T[] byId = arrayFactory.apply(maxId + 1);
+    values.forEach(value -> byId[idGetter.apply(value)] = value);
+    return byId;
+  }
+
+  private static <T> Map<String, T> indexByCode(List<T> values, Function<T, String> codeGetter) {
+    Map<String, T> byCode = new HashMap<>();
+    values.forEach(value -> byCode.put(codeGetter.apply(value), value));
+    return Map.copyOf(byCode);
+  }
+
+  private record Snapshot(TransactionStatus[] statusesById,
+                          Map<String, TransactionStatus> statusesByCode,
+                          TransferType[] transferTypesById) {
+
+    private static final Snapshot EMPTY =
+        new Snapshot(new TransactionStatus[0], Map.of(), new TransferType[0]);
+
+  }
+
+}
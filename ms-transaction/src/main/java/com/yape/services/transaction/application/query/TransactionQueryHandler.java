@@ -1,39 +1,79 @@
 package com.yape.services.transaction.application.query;
 
+import com.yape.services.transaction.application.dto.TransactionCursor;
 import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.repository.ReactiveTransactionRepository;
 import com.yape.services.transaction.domain.repository.TransactionRepository;
-import com.yape.services.transaction.domain.repository.TransactionStatusRepository;
 import com.yape.services.transaction.domain.service.TransactionCacheService;
+import com.yape.services.transaction.domain.service.TransactionExistenceFilter;
+import com.yape.services.transaction.domain.service.TransactionLoadLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.jboss.logging.Logger;
 
 /**
  * Query handler for transaction related operations.
+ * Concurrent cache misses for the same transaction share one load from the database, and with
+ * the cross-instance lock enabled only one instance at a time reloads it; the callers that
+ * waited instead of loading are counted in the coalesced loads metric. IDs ruled out by the
+ * existence filter, or recently found missing, are answered without reading Redis or the
+ * database.
  */
 @ApplicationScoped
 public class TransactionQueryHandler {
 
   private static final Logger LOGGER = Logger.getLogger(TransactionQueryHandler.class);
+  private static final String COALESCED_METRIC = "transaction.load.coalesced";
+  private static final String SKIPPED_METRIC = "transaction.load.skipped";
 
   private final TransactionRepository transactionRepository;
-  private final TransactionStatusRepository transactionStatusRepository;
   private final TransactionCacheService cacheService;
+  private final ReactiveTransactionRepository reactiveTransactionRepository;
+  private final ReferenceDataRegistry referenceDataRegistry;
+  private final TransactionLoadLock loadLock;
+  private final InFlightLoads<UUID, Optional<Transaction>> inFlightLoads;
+  private final Counter remoteCoalesced;
+  private final TransactionExistenceFilter existenceFilter;
+  private final Counter filteredLoads;
+  private final Counter negativeCacheHits;
 
   /**
    * Constructor for TransactionQueryHandler.
    *
-   * @param transactionRepository       the repository for transaction data
-   * @param transactionStatusRepository the repository for transaction status data
-   * @param cacheService                the cache service for transactions
+   * @param transactionRepository         the repository for transaction data
+   * @param cacheService                  the cache service for transactions
+   * @param reactiveTransactionRepository the non-blocking repository for transaction data
+   * @param referenceDataRegistry         the registry for transfer types and statuses
+   * @param loadLock                      the cross-instance lock for reloading transactions
+   * @param meterRegistry                 the meter registry for coalesced load metrics
+   * @param existenceFilter               the filter of the external IDs of known transactions
    */
   public TransactionQueryHandler(TransactionRepository transactionRepository,
-                                 TransactionStatusRepository transactionStatusRepository,
-                                 TransactionCacheService cacheService) {
+                                 TransactionCacheService cacheService,
+                                 ReactiveTransactionRepository reactiveTransactionRepository,
+                                 ReferenceDataRegistry referenceDataRegistry,
+                                 TransactionLoadLock loadLock,
+                                 MeterRegistry meterRegistry,
+                                 TransactionExistenceFilter existenceFilter) {
     this.transactionRepository = transactionRepository;
-    this.transactionStatusRepository = transactionStatusRepository;
     this.cacheService = cacheService;
+    this.reactiveTransactionRepository = reactiveTransactionRepository;
+    this.referenceDataRegistry = referenceDataRegistry;
+    this.loadLock = loadLock;
+    this.inFlightLoads =
+        new InFlightLoads<>(meterRegistry.counter(COALESCED_METRIC, "scope", "local"));
+    this.remoteCoalesced = meterRegistry.counter(COALESCED_METRIC, "scope", "remote");
+    this.existenceFilter = existenceFilter;
+    this.filteredLoads = meterRegistry.counter(SKIPPED_METRIC, "reason", "filter");
+    this.negativeCacheHits = meterRegistry.counter(SKIPPED_METRIC, "reason", "negative-cache");
   }
 
   /**
@@ -45,6 +85,9 @@ public class TransactionQueryHandler {
    */
   public Optional<Transaction> getTransactionByExternalId(UUID externalId) {
     LOGGER.infof("Fetching transaction with external ID: %s", externalId);
+    if (isKnownMissing(externalId)) {
+      return Optional.empty();
+    }
 
     Optional<Transaction> cachedTransaction = cacheService.getTransactionByExternalId(externalId);
     if (cachedTransaction.isPresent()) {
@@ -52,20 +95,139 @@ public class TransactionQueryHandler {
     }
 
     LOGGER.info("Cache miss - reading from database");
-    Optional<Transaction> transaction = transactionRepository.findByExternalId(externalId);
+    return inFlightLoads.load(externalId,
+        () -> loadLock.callLocked(externalId, contended -> reload(externalId, contended)));
+  }
+
+  /**
+   * Retrieves a transaction by its external ID without blocking the calling thread.
+   * Same cache-aside flow as {@link #getTransactionByExternalId(UUID)}, with the async cache
+   * API and the reactive repository; the status code for the TTL comes from the registry.
+   * Misses are coalesced within the instance only, as the lock is held by a blocking thread.
+   *
+   * @param externalId the external ID of the transaction
+   * @return a Uni with an Optional containing the transaction, or empty if not found
+   */
+  public Uni<Optional<Transaction>> getTransactionByExternalIdAsync(UUID externalId) {
+    LOGGER.infof("Fetching transaction with external ID: %s", externalId);
+    if (isKnownMissing(externalId)) {
+      return Uni.createFrom().item(Optional.empty());
+    }
+
+    return cacheService.getTransactionByExternalIdAsync(externalId)
+        .flatMap(cachedTransaction -> {
+          if (cachedTransaction.isPresent()) {
+            return Uni.createFrom().item(cachedTransaction);
+          }
+          LOGGER.info("Cache miss - reading from database");
+          return inFlightLoads.loadAsync(externalId,
+              () -> reactiveTransactionRepository.findByExternalId(externalId)
+                  .call(transaction -> transaction
+                      .map(this::cacheTransactionWithStatusAsync)
+                      .orElseGet(() -> {
+                        cacheService.saveMissing(externalId);
+                        return Uni.createFrom().voidItem();
+                      })));
+        });
+  }
 
-    transaction.ifPresent(this::cacheTransactionWithStatus);
+  /**
+   * Retrieves several transactions by their external IDs.
+   * IDs ruled out by the existence filter or recently found missing are skipped; the others are
+   * read from the cache with one multi-get, and the misses from the database with one query.
+   * The transactions loaded are cached back in one pipelined batch, each with the TTL of its
+   * status, and the IDs still missing are remembered as such.
+   *
+   * @param externalIds the external IDs of the transactions
+   * @return the transactions found, keyed by external ID
+   */
+  public Map<UUID, Transaction> getTransactionsByExternalIds(Collection<UUID> externalIds) {
+    LOGGER.infof("Fetching %d transactions by external ID", externalIds.size());
+    List<UUID> candidates = externalIds.stream()
+        .filter(externalId -> !isKnownMissing(externalId))
+        .toList();
+    if (candidates.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<UUID, Transaction> found =
+        new HashMap<>(cacheService.getTransactionsByExternalIds(candidates));
+    List<UUID> misses = candidates.stream()
+        .filter(externalId -> !found.containsKey(externalId))
+        .toList();
+    if (misses.isEmpty()) {
+      return found;
+    }
 
+    LOGGER.infof("Cache miss for %d of %d transactions - reading from database",
+        misses.size(), candidates.size());
+    List<Transaction> loaded = transactionRepository.findByExternalIds(misses);
+    loaded.forEach(transaction -> found.put(transaction.getTransactionExternalId(), transaction));
+    cacheService.saveTransactions(loaded);
+    misses.stream()
+        .filter(externalId -> !found.containsKey(externalId))
+        .forEach(cacheService::saveMissing);
+    return found;
+  }
+
+  /**
+   * Retrieves a page of the transactions of an account, newest first.
+   * Pages are read straight from the database; the transaction cache is not involved.
+   *
+   * @param accountExternalId the external ID of the debit or credit account
+   * @param after             the position of the last transaction read, or null
+   * @param limit             the maximum number of transactions to return
+   * @return the transactions of the page
+   */
+  public List<Transaction> getTransactionsByAccount(UUID accountExternalId,
+                                                    TransactionCursor after,
+                                                    int limit) {
+    LOGGER.infof("Fetching up to %d transactions of account: %s", limit, accountExternalId);
+    return after == null
+        ? transactionRepository.findByAccount(accountExternalId, null, null, limit)
+        : transactionRepository.findByAccount(accountExternalId, after.createdAt(),
+            after.transactionId(), limit);
+  }
+
+  private Optional<Transaction> reload(UUID externalId, boolean contended) {
+    if (contended) {
+      Optional<Transaction> reloaded = cacheService.getTransactionByExternalId(externalId);
+      if (reloaded.isPresent()) {
+        remoteCoalesced.increment();
+        return reloaded;
+      }
+    }
+    Optional<Transaction> transaction = transactionRepository.findByExternalId(externalId);
+    transaction.ifPresentOrElse(this::cacheTransactionWithStatus,
+        () -> cacheService.saveMissing(externalId));
     return transaction;
   }
 
+  /**
+   * Tells whether a transaction certainly does not exist, from the existence filter or a
+   * recent lookup, without any remote call.
+   */
+  private boolean isKnownMissing(UUID externalId) {
+    if (!existenceFilter.mightExist(externalId)) {
+      filteredLoads.increment();
+      LOGGER.infof("Transaction ruled out by the existence filter: %s", externalId);
+      return true;
+    }
+    if (cacheService.isMissing(externalId)) {
+      negativeCacheHits.increment();
+      LOGGER.infof("Transaction recently found missing: %s", externalId);
+      return true;
+    }
+    return false;
+  }
+
   /**
    * Caches a transaction with the appropriate TTL based on its status.
    *
    * @param transaction the transaction to cache
    */
   private void cacheTransactionWithStatus(Transaction transaction) {
-    transactionStatusRepository.findById(transaction.getTransactionStatusId())
+    referenceDataRegistry.getTransactionStatusById(transaction.getTransactionStatusId())
         .ifPresentOrElse(
             status -> {
               cacheService.saveTransaction(transaction, status.getCode());
@@ -76,4 +238,14 @@ public class TransactionQueryHandler {
         );
   }
 
+  private Uni<Void> cacheTransactionWithStatusAsync(Transaction transaction) {
+    return referenceDataRegistry.getTransactionStatusById(transaction.getTransactionStatusId())
+        .map(status -> cacheService.saveTransactionAsync(transaction, status.getCode()))
+        .orElseGet(() -> {
+          LOGGER.warnf("Could not cache transaction - status not found for ID: %d",
+              transaction.getTransactionStatusId());
+          return Uni.createFrom().voidItem();
+        });
+  }
+
 }
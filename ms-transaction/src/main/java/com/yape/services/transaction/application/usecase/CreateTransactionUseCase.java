@@ -1,5 +1,6 @@
 package com.yape.services.transaction.application.usecase;
 
+import com.yape.services.shared.concurrency.DatabaseBulkhead;
 import com.yape.services.shared.exception.BusinessException;
 import com.yape.services.shared.exception.ErrorCode;
 import com.yape.services.shared.exception.ResourceNotFoundException;
@@ -7,20 +8,29 @@ import com.yape.services.shared.exception.ValidationException;
 import com.yape.services.shared.util.Constants;
 import com.yape.services.transaction.application.command.CreateTransactionCommand;
 import com.yape.services.transaction.application.command.CreateTransactionCommandHandler;
+import com.yape.services.transaction.application.command.TransactionRequestHandler;
 import com.yape.services.transaction.application.dto.RequestMetaData;
 import com.yape.services.transaction.application.mapper.GraphqlTransactionMapper;
 import com.yape.services.transaction.application.mapper.TransactionMapper;
-import com.yape.services.transaction.application.query.TransactionStatusQueryHandler;
-import com.yape.services.transaction.application.query.TransferTypeQueryHandler;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
 import com.yape.services.transaction.domain.model.Transaction;
 import com.yape.services.transaction.domain.model.TransactionStatus;
 import com.yape.services.transaction.domain.model.TransferType;
 import com.yape.services.transaction.domain.service.TransactionEventPublisher;
 import com.yape.services.transaction.events.TransactionCreatedEvent;
 import com.yape.services.transaction.graphql.model.CreateTransaction;
+import com.yape.services.transaction.graphql.model.CreateTransactionResult;
+import com.yape.services.transaction.graphql.model.TransactionError;
+import io.micrometer.core.annotation.Timed;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.jboss.logging.Logger;
 
@@ -30,15 +40,17 @@ import org.jboss.logging.Logger;
 @ApplicationScoped
 public class CreateTransactionUseCase {
 
-  private static final BigDecimal MIN_AMOUNT = BigDecimal.valueOf(0.00);
+  /** Precision and scale of the {@code value DECIMAL(19, 4)} column. */
+  private static final int MAX_PRECISION = 19;
+  private static final int MAX_SCALE = 4;
   private static final Logger LOGGER = Logger.getLogger(CreateTransactionUseCase.class);
 
   private final TransactionEventPublisher transactionEventPublisher;
   private final TransactionMapper transactionMapper;
   private final GraphqlTransactionMapper graphqlTransactionMapper;
   private final CreateTransactionCommandHandler createTransactionCommandHandler;
-  private final TransferTypeQueryHandler transferTypeQueryHandler;
-  private final TransactionStatusQueryHandler transactionStatusQueryHandler;
+  private final ReferenceDataRegistry referenceDataRegistry;
+  private final TransactionRequestHandler transactionRequestHandler;
 
   /**
    * Constructor for CreateTransactionUseCase.
@@ -47,30 +59,38 @@ public class CreateTransactionUseCase {
    * @param transactionEventPublisher       the event publisher for transaction events
    * @param transactionMapper               the mapper for transaction events
    * @param graphqlTransactionMapper        the mapper for GraphQL responses
-   * @param transferTypeQueryHandler        the query handler for transfer types
-   * @param transactionStatusQueryHandler   the query handler for transaction statuses
+   * @param referenceDataRegistry           the registry for transfer types and statuses
+   * @param transactionRequestHandler       the handler deduplicating requests by Request-ID
    */
   public CreateTransactionUseCase(CreateTransactionCommandHandler createTransactionCommandHandler,
                                   TransactionEventPublisher transactionEventPublisher,
                                   TransactionMapper transactionMapper,
                                   GraphqlTransactionMapper graphqlTransactionMapper,
-                                  TransferTypeQueryHandler transferTypeQueryHandler,
-                                  TransactionStatusQueryHandler transactionStatusQueryHandler) {
+                                  ReferenceDataRegistry referenceDataRegistry,
+                                  TransactionRequestHandler transactionRequestHandler) {
     this.createTransactionCommandHandler = createTransactionCommandHandler;
     this.transactionEventPublisher = transactionEventPublisher;
     this.transactionMapper = transactionMapper;
     this.graphqlTransactionMapper = graphqlTransactionMapper;
-    this.transferTypeQueryHandler = transferTypeQueryHandler;
-    this.transactionStatusQueryHandler = transactionStatusQueryHandler;
+    this.referenceDataRegistry = referenceDataRegistry;
+    this.transactionRequestHandler = transactionRequestHandler;
   }
 
   /**
    * Executes the use case to create a transaction.
+   * The transaction row and its TransactionCreatedEvent are written in one database transaction.
+   * When the request carries a Request-ID, a retry of an earlier request returns the transaction
+   * that request created instead of creating a new one; a Request-ID reused with a different input
+   * is rejected.
    *
    * @param input    the input data for creating a transaction
    * @param metaData the request metadata
    * @return the created transaction details
    */
+  @DatabaseBulkhead
+  @Transactional
+  @Timed(value = Constants.USE_CASE_METRIC, extraTags = {"usecase", "create"},
+      histogram = true)
   public com.yape.services.transaction.graphql.model.Transaction execute(
       @NotNull CreateTransaction input,
       RequestMetaData metaData
@@ -80,14 +100,144 @@ public class CreateTransactionUseCase {
     TransactionStatus status = getPendingStatus();
 
     CreateTransactionCommand command = buildCommand(input, transferType, status, value);
+
+    String requestId = metaData != null ? metaData.requestId() : null;
+    boolean idempotent = requestId != null && !requestId.isBlank();
+    if (idempotent) {
+      Optional<Transaction> previous =
+          transactionRequestHandler.findPreviousOrClaim(requestId, command);
+      if (previous.isPresent()) {
+        return toGraphqlModel(previous.get());
+      }
+    }
+
     Transaction savedTransaction = createTransactionCommandHandler.handle(command);
+    if (idempotent) {
+      transactionRequestHandler.complete(requestId, savedTransaction);
+    }
 
     publishTransactionCreatedEvent(savedTransaction, status, metaData);
 
     return graphqlTransactionMapper.toGraphqlModel(savedTransaction, transferType, status);
   }
 
-  private BigDecimal parseAndValidateAmount(String value) {
+  /**
+   * Executes the use case to create a transaction without blocking the calling thread.
+   * Same validation and Request-ID semantics as {@link #execute}: the transaction row, its
+   * TransactionCreatedEvent and the Request-ID claim are written by the reactive repository in
+   * one database transaction.
+   *
+   * @param input    the input data for creating a transaction
+   * @param metaData the request metadata
+   * @return a Uni with the created transaction details
+   */
+  public Uni<com.yape.services.transaction.graphql.model.Transaction> executeAsync(
+      @NotNull CreateTransaction input,
+      RequestMetaData metaData
+  ) {
+    BigDecimal value = parseAndValidateAmount(input.getValue());
+    TransferType transferType = getTransferType(input.getTransferTypeId());
+    TransactionStatus status = getPendingStatus();
+
+    CreateTransactionCommand command = buildCommand(input, transferType, status, value);
+
+    String requestId = metaData != null ? metaData.requestId() : null;
+    if (requestId == null || requestId.isBlank()) {
+      return createAsync(command, null, transferType, status, metaData);
+    }
+    return transactionRequestHandler.findCachedResultAsync(requestId, command)
+        .flatMap(cached -> cached.isPresent()
+            ? Uni.createFrom().item(toGraphqlModel(cached.get()))
+            : createAsync(command, requestId, transferType, status, metaData));
+  }
+
+  private Uni<com.yape.services.transaction.graphql.model.Transaction> createAsync(
+      CreateTransactionCommand command,
+      String requestId,
+      TransferType transferType,
+      TransactionStatus status,
+      RequestMetaData metaData) {
+    return createTransactionCommandHandler.handleAsync(command, requestId,
+            savedTransaction -> transactionMapper
+                .toTransactionCreatedEvent(savedTransaction, status, metaData))
+        .call(creation -> requestId != null
+            ? transactionRequestHandler.cacheResultAsync(requestId, creation.transaction())
+            : Uni.createFrom().voidItem())
+        .map(creation -> creation.created()
+            ? graphqlTransactionMapper.toGraphqlModel(creation.transaction(), transferType, status)
+            : toGraphqlModel(creation.transaction()));
+  }
+
+  /**
+   * Executes the use case to create several transactions.
+   * Each input is validated on its own and invalid inputs are reported at their index; the valid
+   * ones are inserted in batches and their TransactionCreatedEvents written to the outbox in the
+   * same database transaction, then cached with pipelined requests once it commits.
+   *
+   * @param inputs   the input data for each transaction
+   * @param metaData the request metadata
+   * @return one result per input, in input order
+   */
+  @DatabaseBulkhead
+  @Transactional
+  @Timed(value = Constants.USE_CASE_METRIC, extraTags = {"usecase", "create-batch"},
+      histogram = true)
+  public List<CreateTransactionResult> executeBatch(List<CreateTransaction> inputs,
+                                                    RequestMetaData metaData) {
+    TransactionStatus status = getPendingStatus();
+    CreateTransactionResult[] results = new CreateTransactionResult[inputs.size()];
+    List<Integer> validIndexes = new ArrayList<>(inputs.size());
+    List<TransferType> transferTypes = new ArrayList<>(inputs.size());
+    List<CreateTransactionCommand> commands = new ArrayList<>(inputs.size());
+
+    for (int i = 0; i < inputs.size(); i++) {
+      CreateTransaction input = inputs.get(i);
+      try {
+        BigDecimal value = parseAndValidateAmount(input.getValue());
+        TransferType transferType = getTransferType(input.getTransferTypeId());
+        commands.add(buildCommand(input, transferType, status, value));
+        transferTypes.add(transferType);
+        validIndexes.add(i);
+      } catch (BusinessException e) {
+        results[i] = toFailure(i, e);
+      }
+    }
+
+    if (!commands.isEmpty()) {
+      List<Transaction> savedTransactions = createTransactionCommandHandler.handleAll(commands);
+      List<TransactionCreatedEvent> events = new ArrayList<>(savedTransactions.size());
+      for (int j = 0; j < savedTransactions.size(); j++) {
+        Transaction savedTransaction = savedTransactions.get(j);
+        int index = validIndexes.get(j);
+        events.add(transactionMapper.toTransactionCreatedEvent(savedTransaction, status, metaData));
+        results[index] = CreateTransactionResult.builder()
+            .setIndex(index)
+            .setTransaction(graphqlTransactionMapper.toGraphqlModel(
+                savedTransaction, transferTypes.get(j), status))
+            .build();
+      }
+      transactionEventPublisher.publishTransactionsCreated(events);
+    }
+
+    LOGGER.infof("Bulk creation: %d of %d transactions created",
+        commands.size(), inputs.size());
+    return Arrays.asList(results);
+  }
+
+  private static CreateTransactionResult toFailure(int index, BusinessException e) {
+    return CreateTransactionResult.builder()
+        .setIndex(index)
+        .setError(TransactionError.builder()
+            .setCode(e.getErrorCode().getCode())
+            .setField(e instanceof ValidationException validation
+                ? validation.getFieldName()
+                : null)
+            .setMessage(e.getMessage())
+            .build())
+        .build();
+  }
+
+  BigDecimal parseAndValidateAmount(String value) {
     if (value == null || value.isBlank()) {
       LOGGER.error("Transaction value is null or empty");
       throw new ValidationException(ErrorCode.VALIDATION_ERROR,
@@ -103,16 +253,28 @@ public class CreateTransactionUseCase {
           "value", "Invalid transaction value format");
     }
 
-    if (amount.compareTo(MIN_AMOUNT) < 0) {
-      LOGGER.errorf("Transaction value %s is below minimum %s", amount, MIN_AMOUNT);
+    if (amount.signum() <= 0) {
+      LOGGER.errorf("Transaction value %s is not positive", amount);
       throw new ValidationException(ErrorCode.AMOUNT_BELOW_MINIMUM,
-          "value", "Transaction value is below the minimum allowed");
+          "value", "Transaction value must be greater than zero");
+    }
+    // Checked per item so a value the column cannot hold never fails a whole batch insert
+    BigDecimal normalized = amount.stripTrailingZeros();
+    if (normalized.scale() > MAX_SCALE) {
+      LOGGER.errorf("Transaction value %s has more than %d decimal places", amount, MAX_SCALE);
+      throw new ValidationException(ErrorCode.INVALID_FORMAT,
+          "value", "Transaction value allows at most " + MAX_SCALE + " decimal places");
+    }
+    if (normalized.precision() - normalized.scale() > MAX_PRECISION - MAX_SCALE) {
+      LOGGER.errorf("Transaction value %s is above the maximum allowed", amount);
+      throw new ValidationException(ErrorCode.AMOUNT_ABOVE_MAXIMUM,
+          "value", "Transaction value is above the maximum allowed");
     }
     return amount;
   }
 
   private TransferType getTransferType(int transferTypeId) {
-    return transferTypeQueryHandler.getTransferTypeById(transferTypeId)
+    return referenceDataRegistry.getTransferTypeById(transferTypeId)
         .orElseThrow(() -> {
           LOGGER.errorf("Invalid transfer type ID: %d", transferTypeId);
           return new ResourceNotFoundException(ErrorCode.TRANSFER_TYPE_NOT_FOUND,
@@ -120,8 +282,18 @@ public class CreateTransactionUseCase {
         });
   }
 
+  private com.yape.services.transaction.graphql.model.Transaction toGraphqlModel(
+      Transaction transaction) {
+    TransferType transferType = getTransferType(transaction.getTransferTypeId());
+    TransactionStatus status = referenceDataRegistry
+        .getTransactionStatusById(transaction.getTransactionStatusId())
+        .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.TRANSACTION_STATUS_NOT_FOUND,
+            "TransactionStatus", String.valueOf(transaction.getTransactionStatusId())));
+    return graphqlTransactionMapper.toGraphqlModel(transaction, transferType, status);
+  }
+
   private TransactionStatus getPendingStatus() {
-    return transactionStatusQueryHandler
+    return referenceDataRegistry
         .getTransactionStatusByCode(Constants.TRANSACTION_STATUS_PENDING)
         .orElseThrow(() -> {
           LOGGER.error("PENDING transaction status not found in database");
@@ -147,7 +319,7 @@ public class CreateTransactionUseCase {
     );
   }
 
-  private UUID parseUuid(String value, String fieldName) {
+  UUID parseUuid(String value, String fieldName) {
     if (value == null || value.isBlank()) {
       LOGGER.errorf("Field %s is null or empty", fieldName);
       throw new ValidationException(ErrorCode.VALIDATION_ERROR,
@@ -0,0 +1,126 @@
+package com.yape.services.transaction.application.usecase;
+
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.shared.exception.ResourceNotFoundException;
+import com.yape.services.shared.exception.ValidationException;
+import com.yape.services.shared.util.Constants;
+import com.yape.services.transaction.application.dto.TransactionCursor;
+import com.yape.services.transaction.application.mapper.GraphqlTransactionMapper;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
+import com.yape.services.transaction.application.query.TransactionQueryHandler;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransferType;
+import com.yape.services.transaction.graphql.model.PageInfo;
+import com.yape.services.transaction.graphql.model.TransactionConnection;
+import com.yape.services.transaction.graphql.model.TransactionEdge;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.jboss.logging.Logger;
+
+/**
+ * Use case for retrieving the transaction history of an account.
+ * Pages are read with keyset pagination on (createdAt, transactionId): the cursor of a page is
+ * the position of its last transaction, so reading a deep page costs the same as the first one.
+ */
+@ApplicationScoped
+public class GetAccountTransactionsUseCase {
+
+  private static final Logger LOGGER = Logger.getLogger(GetAccountTransactionsUseCase.class);
+  private static final int DEFAULT_PAGE_SIZE = 20;
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final TransactionQueryHandler transactionQueryHandler;
+  private final ReferenceDataRegistry referenceDataRegistry;
+  private final GraphqlTransactionMapper mapper;
+
+  /**
+   * Constructor for GetAccountTransactionsUseCase.
+   *
+   * @param transactionQueryHandler the handler for querying transactions
+   * @param referenceDataRegistry   the registry for transfer types and statuses
+   * @param mapper                  the mapper for converting transaction data
+   */
+  @Inject
+  public GetAccountTransactionsUseCase(TransactionQueryHandler transactionQueryHandler,
+                                       ReferenceDataRegistry referenceDataRegistry,
+                                       GraphqlTransactionMapper mapper) {
+    this.transactionQueryHandler = transactionQueryHandler;
+    this.referenceDataRegistry = referenceDataRegistry;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Executes the use case to retrieve a page of the transactions of an account.
+   *
+   * @param accountExternalId the external ID of the debit or credit account
+   * @param first             the maximum number of transactions to return, or null
+   * @param after             the cursor after which to start reading, or null
+   * @return the page of transactions
+   */
+  @Timed(value = Constants.USE_CASE_METRIC, extraTags = {"usecase", "list-by-account"},
+      histogram = true)
+  public TransactionConnection execute(String accountExternalId, Integer first, String after) {
+    LOGGER.infof("Executing GetAccountTransactionsUseCase for account ID: %s", accountExternalId);
+    UUID accountId = UUID.fromString(accountExternalId);
+    int pageSize = validatePageSize(first);
+    TransactionCursor cursor = after != null ? TransactionCursor.decode(after, "after") : null;
+
+    List<Transaction> transactions =
+        transactionQueryHandler.getTransactionsByAccount(accountId, cursor, pageSize + 1);
+    boolean hasNextPage = transactions.size() > pageSize;
+    List<Transaction> page = hasNextPage ? transactions.subList(0, pageSize) : transactions;
+
+    List<TransactionEdge> edges = new ArrayList<>(page.size());
+    for (Transaction transaction : page) {
+      edges.add(TransactionEdge.builder()
+          .setCursor(new TransactionCursor(transaction.getCreatedAt(),
+              transaction.getTransactionId()).encode())
+          .setNode(mapper.toGraphqlModel(transaction,
+              getTransferType(transaction.getTransferTypeId()),
+              getTransactionStatus(transaction.getTransactionStatusId())))
+          .build());
+    }
+
+    return TransactionConnection.builder()
+        .setEdges(edges)
+        .setPageInfo(PageInfo.builder()
+            .setHasNextPage(hasNextPage)
+            .setEndCursor(edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor())
+            .build())
+        .build();
+  }
+
+  private int validatePageSize(Integer first) {
+    int pageSize = first != null ? first : DEFAULT_PAGE_SIZE;
+    if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+      LOGGER.errorf("Invalid page size: %d", pageSize);
+      throw new ValidationException(ErrorCode.VALIDATION_ERROR, "first",
+          "first must be between 1 and " + MAX_PAGE_SIZE);
+    }
+    return pageSize;
+  }
+
+  private TransferType getTransferType(int transferTypeId) {
+    return referenceDataRegistry.getTransferTypeById(transferTypeId)
+        .orElseThrow(() -> {
+          LOGGER.errorf("Invalid transfer type ID: %d", transferTypeId);
+          return new ResourceNotFoundException(ErrorCode.TRANSFER_TYPE_NOT_FOUND,
+              "TransferType", String.valueOf(transferTypeId));
+        });
+  }
+
+  private TransactionStatus getTransactionStatus(int transactionStatusId) {
+    return referenceDataRegistry.getTransactionStatusById(transactionStatusId)
+        .orElseThrow(() -> {
+          LOGGER.errorf("Invalid transaction status ID: %d", transactionStatusId);
+          return new ResourceNotFoundException(ErrorCode.TRANSACTION_STATUS_NOT_FOUND,
+              "TransactionStatus", String.valueOf(transactionStatusId));
+        });
+  }
+
+}
@@ -2,15 +2,18 @@ package com.yape.services.transaction.application.usecase;
 
 import com.yape.services.shared.exception.ErrorCode;
 import com.yape.services.shared.exception.ResourceNotFoundException;
+import com.yape.services.shared.util.Constants;
 import com.yape.services.transaction.application.mapper.GraphqlTransactionMapper;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
 import com.yape.services.transaction.application.query.TransactionQueryHandler;
-import com.yape.services.transaction.application.query.TransactionStatusQueryHandler;
-import com.yape.services.transaction.application.query.TransferTypeQueryHandler;
 import com.yape.services.transaction.domain.model.TransactionStatus;
 import com.yape.services.transaction.domain.model.TransferType;
 import com.yape.services.transaction.graphql.model.Transaction;
+import io.micrometer.core.annotation.Timed;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.util.Optional;
 import java.util.UUID;
 import org.jboss.logging.Logger;
 
@@ -23,27 +26,23 @@ public class GetTransactionUseCase {
   private static final Logger LOGGER = Logger.getLogger(GetTransactionUseCase.class);
 
   private final TransactionQueryHandler transactionQueryHandler;
-  private final TransferTypeQueryHandler transferTypeQueryHandler;
-  private final TransactionStatusQueryHandler transactionStatusQueryHandler;
+  private final ReferenceDataRegistry referenceDataRegistry;
   private final GraphqlTransactionMapper mapper;
 
   /**
    * Constructor for GetTransactionUseCase.
    *
    * @param transactionQueryHandler       the handler for querying transactions
-   * @param transferTypeQueryHandler      the handler for querying transfer types
-   * @param transactionStatusQueryHandler the handler for querying transaction statuses
+   * @param referenceDataRegistry         the registry for transfer types and statuses
    * @param mapper                        the mapper for converting transaction data
    *
    */
   @Inject
   public GetTransactionUseCase(TransactionQueryHandler transactionQueryHandler,
-                               TransferTypeQueryHandler transferTypeQueryHandler,
-                               TransactionStatusQueryHandler transactionStatusQueryHandler,
+                               ReferenceDataRegistry referenceDataRegistry,
                                GraphqlTransactionMapper mapper) {
     this.transactionQueryHandler = transactionQueryHandler;
-    this.transferTypeQueryHandler = transferTypeQueryHandler;
-    this.transactionStatusQueryHandler = transactionStatusQueryHandler;
+    this.referenceDataRegistry = referenceDataRegistry;
     this.mapper = mapper;
   }
 
@@ -53,16 +52,38 @@ public class GetTransactionUseCase {
    * @param transactionExternalId the external ID of the transaction
    * @return the retrieved transaction
    */
+  @Timed(value = Constants.USE_CASE_METRIC, extraTags = {"usecase", "get"}, histogram = true)
   public Transaction execute(String transactionExternalId) {
     LOGGER.infof("Executing GetTransactionUseCase for transaction ID: %s", transactionExternalId);
     UUID externalId = UUID.fromString(transactionExternalId);
 
-    var transaction = transactionQueryHandler.getTransactionByExternalId(externalId)
-        .orElseThrow(() -> {
-          LOGGER.errorf("Transaction not found with external ID: %s", transactionExternalId);
-          return new ResourceNotFoundException(ErrorCode.TRANSACTION_NOT_FOUND,
-              "Transaction", transactionExternalId);
-        });
+    return toGraphqlModel(transactionQueryHandler.getTransactionByExternalId(externalId),
+        transactionExternalId);
+  }
+
+  /**
+   * Executes the use case to retrieve a transaction by its external ID without blocking the
+   * calling thread.
+   *
+   * @param transactionExternalId the external ID of the transaction
+   * @return a Uni with the retrieved transaction
+   */
+  public Uni<Transaction> executeAsync(String transactionExternalId) {
+    LOGGER.infof("Executing GetTransactionUseCase for transaction ID: %s", transactionExternalId);
+    UUID externalId = UUID.fromString(transactionExternalId);
+
+    return transactionQueryHandler.getTransactionByExternalIdAsync(externalId)
+        .map(transaction -> toGraphqlModel(transaction, transactionExternalId));
+  }
+
+  private Transaction toGraphqlModel(
+      Optional<com.yape.services.transaction.domain.model.Transaction> found,
+      String transactionExternalId) {
+    var transaction = found.orElseThrow(() -> {
+      LOGGER.errorf("Transaction not found with external ID: %s", transactionExternalId);
+      return new ResourceNotFoundException(ErrorCode.TRANSACTION_NOT_FOUND,
+          "Transaction", transactionExternalId);
+    });
 
     var transferType = getTransferType(transaction.getTransferTypeId());
     var transactionStatus = getTransactionStatus(transaction.getTransactionStatusId());
@@ -71,7 +92,7 @@ public class GetTransactionUseCase {
   }
 
   private TransferType getTransferType(int transferTypeId) {
-    return transferTypeQueryHandler.getTransferTypeById(transferTypeId)
+    return referenceDataRegistry.getTransferTypeById(transferTypeId)
         .orElseThrow(() -> {
           LOGGER.errorf("Invalid transfer type ID: %d", transferTypeId);
           return new ResourceNotFoundException(ErrorCode.TRANSFER_TYPE_NOT_FOUND,
@@ -80,7 +101,7 @@ public class GetTransactionUseCase {
   }
 
   private TransactionStatus getTransactionStatus(int transactionStatusId) {
-    return transactionStatusQueryHandler.getTransactionStatusById(transactionStatusId)
+    return referenceDataRegistry.getTransactionStatusById(transactionStatusId)
         .orElseThrow(() -> {
           LOGGER.errorf("Invalid transaction status ID: %d", transactionStatusId);
           return new ResourceNotFoundException(ErrorCode.TRANSACTION_STATUS_NOT_FOUND,
@@ -0,0 +1,121 @@
+package com.yape.services.transaction.application.usecase;
+
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.shared.exception.ResourceNotFoundException;
+import com.yape.services.shared.util.Constants;
+import com.yape.services.transaction.application.mapper.GraphqlTransactionMapper;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
+import com.yape.services.transaction.application.query.TransactionQueryHandler;
+import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransferType;
+import com.yape.services.transaction.graphql.model.Transaction;
+import com.yape.services.transaction.graphql.model.TransactionBatch;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.jboss.logging.Logger;
+
+/**
+ * Use case for retrieving several transactions at once.
+ * The transactions are read with one cache request and at most one database query, however many
+ * IDs are requested, and returned in the order of the IDs with the ones not found reported apart.
+ */
+@ApplicationScoped
+public class GetTransactionsUseCase {
+
+  private static final Logger LOGGER = Logger.getLogger(GetTransactionsUseCase.class);
+
+  private final TransactionQueryHandler transactionQueryHandler;
+  private final ReferenceDataRegistry referenceDataRegistry;
+  private final GraphqlTransactionMapper mapper;
+
+  /**
+   * Constructor for GetTransactionsUseCase.
+   *
+   * @param transactionQueryHandler the handler for querying transactions
+   * @param referenceDataRegistry   the registry for transfer types and statuses
+   * @param mapper                  the mapper for converting transaction data
+   */
+  @Inject
+  public GetTransactionsUseCase(TransactionQueryHandler transactionQueryHandler,
+                                ReferenceDataRegistry referenceDataRegistry,
+                                GraphqlTransactionMapper mapper) {
+    this.transactionQueryHandler = transactionQueryHandler;
+    this.referenceDataRegistry = referenceDataRegistry;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Executes the use case to retrieve several transactions by their external IDs.
+   * An ID requested more than once is looked up once and returned at each of its positions.
+   *
+   * @param transactionExternalIds the external IDs of the transactions
+   * @return the transactions in the order of the IDs, null where not found, and the missing IDs
+   */
+  @Timed(value = Constants.USE_CASE_METRIC, extraTags = {"usecase", "get-batch"},
+      histogram = true)
+  public TransactionBatch execute(List<String> transactionExternalIds) {
+    LOGGER.infof("Executing GetTransactionsUseCase for %d transaction IDs",
+        transactionExternalIds.size());
+    List<UUID> externalIds = transactionExternalIds.stream()
+        .map(UUID::fromString)
+        .toList();
+
+    Map<UUID, com.yape.services.transaction.domain.model.Transaction> found =
+        transactionQueryHandler.getTransactionsByExternalIds(new LinkedHashSet<>(externalIds));
+
+    Map<UUID, Transaction> mapped = new HashMap<>(found.size());
+    List<Transaction> transactions = new ArrayList<>(externalIds.size());
+    Set<String> missing = new LinkedHashSet<>();
+    for (UUID externalId : externalIds) {
+      var transaction = found.get(externalId);
+      if (transaction == null) {
+        transactions.add(null);
+        missing.add(externalId.toString());
+      } else {
+        transactions.add(mapped.computeIfAbsent(externalId, id -> toGraphqlModel(transaction)));
+      }
+    }
+    if (!missing.isEmpty()) {
+      LOGGER.infof("Transactions not found: %s", missing);
+    }
+
+    return TransactionBatch.builder()
+        .setTransactions(transactions)
+        .setMissingTransactionExternalIds(new ArrayList<>(missing))
+        .build();
+  }
+
+  private Transaction toGraphqlModel(
+      com.yape.services.transaction.domain.model.Transaction transaction) {
+    return mapper.toGraphqlModel(transaction,
+        getTransferType(transaction.getTransferTypeId()),
+        getTransactionStatus(transaction.getTransactionStatusId()));
+  }
+
+  private TransferType getTransferType(int transferTypeId) {
+    return referenceDataRegistry.getTransferTypeById(transferTypeId)
+        .orElseThrow(() -> {
+          LOGGER.errorf("Invalid transfer type ID: %d", transferTypeId);
+          return new ResourceNotFoundException(ErrorCode.TRANSFER_TYPE_NOT_FOUND,
+              "TransferType", String.valueOf(transferTypeId));
+        });
+  }
+
+  private TransactionStatus getTransactionStatus(int transactionStatusId) {
+    return referenceDataRegistry.getTransactionStatusById(transactionStatusId)
+        .orElseThrow(() -> {
+          LOGGER.errorf("Invalid transaction status ID: %d", transactionStatusId);
+          return new ResourceNotFoundException(ErrorCode.TRANSACTION_STATUS_NOT_FOUND,
+              "TransactionStatus", String.valueOf(transactionStatusId));
+        });
+  }
+
+}
@@ -0,0 +1,92 @@
+package com.yape.services.transaction.application.usecase;
+
+import com.yape.services.transaction.application.mapper.GraphqlTransactionMapper;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
+import com.yape.services.transaction.application.query.TransactionQueryHandler;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransactionStatusChange;
+import com.yape.services.transaction.domain.model.TransferType;
+import com.yape.services.transaction.domain.service.TransactionStatusNotifier;
+import com.yape.services.transaction.graphql.model.TransactionStatusChangedEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.jboss.logging.Logger;
+
+/**
+ * Use case for subscribing to the status changes of a transaction.
+ * Changes are received on the notifier thread and mapped on a worker thread, since resolving
+ * the transaction may hit the cache or the database.
+ */
+@ApplicationScoped
+public class SubscribeTransactionStatusUseCase {
+
+  private static final Logger LOGGER = Logger.getLogger(SubscribeTransactionStatusUseCase.class);
+
+  private final TransactionStatusNotifier transactionStatusNotifier;
+  private final TransactionQueryHandler transactionQueryHandler;
+  private final ReferenceDataRegistry referenceDataRegistry;
+  private final GraphqlTransactionMapper mapper;
+
+  /**
+   * Constructor for SubscribeTransactionStatusUseCase.
+   *
+   * @param transactionStatusNotifier the notifier of transaction status changes
+   * @param transactionQueryHandler   the handler for querying transactions
+   * @param referenceDataRegistry     the registry for transfer types and statuses
+   * @param mapper                    the mapper for converting transaction data
+   */
+  @Inject
+  public SubscribeTransactionStatusUseCase(TransactionStatusNotifier transactionStatusNotifier,
+                                           TransactionQueryHandler transactionQueryHandler,
+                                           ReferenceDataRegistry referenceDataRegistry,
+                                           GraphqlTransactionMapper mapper) {
+    this.transactionStatusNotifier = transactionStatusNotifier;
+    this.transactionQueryHandler = transactionQueryHandler;
+    this.referenceDataRegistry = referenceDataRegistry;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Executes the use case to watch the status changes of a transaction.
+   *
+   * @param transactionExternalId the external ID of the transaction
+   * @return the stream of status change events
+   */
+  public Multi<TransactionStatusChangedEvent> execute(String transactionExternalId) {
+    LOGGER.infof("Subscribing to status changes of transaction ID: %s", transactionExternalId);
+    UUID externalId = UUID.fromString(transactionExternalId);
+
+    return transactionStatusNotifier.watch(externalId)
+        .emitOn(Infrastructure.getDefaultWorkerPool())
+        .onItem().transformToIterable(change -> toEvent(change).map(List::of).orElse(List.of()));
+  }
+
+  private Optional<TransactionStatusChangedEvent> toEvent(TransactionStatusChange change) {
+    Optional<Transaction> transaction =
+        transactionQueryHandler.getTransactionByExternalId(change.getTransactionExternalId());
+    Optional<TransactionStatus> newStatus =
+        referenceDataRegistry.getTransactionStatusByCode(change.getNewStatus());
+    if (transaction.isEmpty() || newStatus.isEmpty()) {
+      LOGGER.warnf("Skipping status change of transaction %s to %s",
+          change.getTransactionExternalId(), change.getNewStatus());
+      return Optional.empty();
+    }
+
+    TransferType transferType = referenceDataRegistry
+        .getTransferTypeById(transaction.get().getTransferTypeId())
+        .orElse(null);
+    return Optional.of(TransactionStatusChangedEvent.builder()
+        .setTransaction(mapper.toGraphqlModel(transaction.get(), transferType, newStatus.get()))
+        .setPreviousStatus(change.getPreviousStatus())
+        .setNewStatus(change.getNewStatus())
+        .setChangedAt(change.getChangedAt())
+        .build());
+  }
+
+}
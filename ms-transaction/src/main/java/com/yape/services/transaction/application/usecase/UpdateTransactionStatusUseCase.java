@@ -1,53 +1,92 @@
 package com.yape.services.transaction.application.usecase;
 
+import com.yape.services.shared.concurrency.DatabaseBulkhead;
+import com.yape.services.shared.util.Constants;
+import com.yape.services.shared.util.EventTimestamps;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
 import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransactionStatusTransition;
 import com.yape.services.transaction.domain.repository.TransactionRepository;
-import com.yape.services.transaction.domain.repository.TransactionStatusRepository;
 import com.yape.services.transaction.domain.service.TransactionCacheService;
 import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
 import com.yape.services.transaction.events.TransactionStatusUpdatedPayload;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.jboss.logging.Logger;
 
 /**
  * Use case for updating a transaction status based on anti-fraud validation results.
- * Updates both PostgreSQL and Redis cache.
+ * Updates both PostgreSQL and Redis cache. Events are delivered at least once, so a status is
+ * applied as a conditional transition from the event's previous status: a redelivered or
+ * out-of-order event matches no row and ends as a no-op, without cache write or row lock. Every
+ * event is counted in {@code transaction.status.events}, tagged by its outcome. The time from
+ * the anti-fraud decision ({@code processedAt}) until the status is written is exported as
+ * {@code transaction.status.apply.lag}, tagged by the final status.
  */
 @ApplicationScoped
 public class UpdateTransactionStatusUseCase {
 
   private static final Logger LOGGER = Logger.getLogger(UpdateTransactionStatusUseCase.class);
+  private static final String APPLY_LAG_METRIC = "transaction.status.apply.lag";
+  private static final String EVENTS_METRIC = "transaction.status.events";
 
   private final TransactionRepository transactionRepository;
-  private final TransactionStatusRepository transactionStatusRepository;
+  private final ReferenceDataRegistry referenceDataRegistry;
   private final TransactionCacheService transactionCacheService;
+  private final MeterRegistry meterRegistry;
+  private final Map<Outcome, Counter> outcomeCounters = new EnumMap<>(Outcome.class);
 
   /**
    * Constructor for UpdateTransactionStatusUseCase.
    *
    * @param transactionRepository       repository for transaction persistence
-   * @param transactionStatusRepository repository for transaction status lookup
+   * @param referenceDataRegistry       registry for transaction status lookup
    * @param transactionCacheService     service for cache operations
+   * @param meterRegistry               registry the status lag is exported to
    */
   @Inject
   public UpdateTransactionStatusUseCase(TransactionRepository transactionRepository,
-                                        TransactionStatusRepository transactionStatusRepository,
-                                        TransactionCacheService transactionCacheService) {
+                                        ReferenceDataRegistry referenceDataRegistry,
+                                        TransactionCacheService transactionCacheService,
+                                        MeterRegistry meterRegistry) {
     this.transactionRepository = transactionRepository;
-    this.transactionStatusRepository = transactionStatusRepository;
+    this.referenceDataRegistry = referenceDataRegistry;
     this.transactionCacheService = transactionCacheService;
+    this.meterRegistry = meterRegistry;
+    for (Outcome outcome : Outcome.values()) {
+      outcomeCounters.put(outcome, meterRegistry.counter(EVENTS_METRIC, "result", outcome.tag));
+    }
   }
 
   /**
    * Executes the transaction status update.
    *
    * @param event the transaction status updated event from anti-fraud service
+   * @return true if the status was applied, false if the event was a duplicate, stale or for an
+   *         unknown transaction
    */
+  @DatabaseBulkhead(waitForPermit = true)
   @Transactional
-  public void execute(TransactionStatusUpdatedEvent event) {
+  @Timed(value = Constants.USE_CASE_METRIC, extraTags = {"usecase", "update-status"},
+      histogram = true)
+  public boolean execute(TransactionStatusUpdatedEvent event) {
     TransactionStatusUpdatedPayload payload = event.getPayload();
     String transactionExternalIdStr = payload.getTransactionExternalId();
     UUID transactionExternalId = UUID.fromString(transactionExternalIdStr);
@@ -56,18 +95,21 @@ public class UpdateTransactionStatusUseCase {
     LOGGER.infof("Processing status update for transaction: %s, new status: %s",
         transactionExternalIdStr, newStatusCode);
 
-    TransactionStatus newStatus = transactionStatusRepository.findByCode(newStatusCode)
-        .orElseThrow(() -> {
-          LOGGER.errorf("Transaction status not found for code: %s", newStatusCode);
-          return new IllegalStateException("Transaction status not found: " + newStatusCode);
-        });
-
-    var updatedRows = transactionRepository.updateStatus(transactionExternalId,
+    TransactionStatus newStatus = findStatusByCode(newStatusCode);
+    TransactionStatusTransition transition = new TransactionStatusTransition(
+        findStatusByCode(payload.getPreviousStatus().name()).getTransactionStatusId(),
         newStatus.getTransactionStatusId());
 
+    var updatedRows = transactionRepository.updateStatus(transactionExternalId, transition);
+
     if (updatedRows == 0) {
-      LOGGER.warnf("No transaction found to update with external ID: %s", transactionExternalIdStr);
-      return;
+      Map<UUID, Integer> currentStatusIds =
+          transactionRepository.findStatusIds(List.of(transactionExternalId));
+      Outcome outcome = classify(currentStatusIds.get(transactionExternalId), transition);
+      count(outcome, 1);
+      LOGGER.warnf("Status update for transaction %s not applied: %s",
+          transactionExternalIdStr, outcome.tag);
+      return false;
     }
 
     LOGGER.infof("Transaction %s status updated in database to: %s",
@@ -81,6 +123,152 @@ public class UpdateTransactionStatusUseCase {
 
     LOGGER.infof("Transaction %s status updated in cache to: %s",
         transactionExternalIdStr, newStatusCode);
+    count(Outcome.APPLIED, 1);
+    recordApplyLag(payload, Instant.now());
+    return true;
+  }
+
+  /**
+   * Executes the status update for a batch of events in a single database transaction.
+   * Statuses are resolved once per distinct code and all rows are updated with one
+   * bulk statement. When the same transaction appears more than once, the first event is applied
+   * and the later ones are handled as redeliveries, as they would be one poll later.
+   *
+   * @param events the transaction status updated events, in offset order
+   * @return the events whose status was applied, in offset order
+   */
+  @DatabaseBulkhead(waitForPermit = true)
+  @Transactional
+  @Timed(value = Constants.USE_CASE_METRIC, extraTags = {"usecase", "update-status-batch"},
+      histogram = true)
+  public List<TransactionStatusUpdatedEvent> executeBatch(
+      List<TransactionStatusUpdatedEvent> events) {
+    Map<String, TransactionStatus> statusesByCode = new HashMap<>();
+    Map<UUID, TransactionStatusUpdatedEvent> firstEvents = new LinkedHashMap<>();
+    Map<UUID, TransactionStatusTransition> transitions = new LinkedHashMap<>();
+    List<TransactionStatusUpdatedEvent> repeatedEvents = new ArrayList<>();
+    for (TransactionStatusUpdatedEvent event : events) {
+      TransactionStatusUpdatedPayload payload = event.getPayload();
+      UUID externalId = UUID.fromString(payload.getTransactionExternalId());
+      if (firstEvents.putIfAbsent(externalId, event) != null) {
+        repeatedEvents.add(event);
+        continue;
+      }
+      transitions.put(externalId, new TransactionStatusTransition(
+          statusesByCode.computeIfAbsent(payload.getPreviousStatus().name(),
+              this::findStatusByCode).getTransactionStatusId(),
+          statusesByCode.computeIfAbsent(payload.getNewStatus().name(),
+              this::findStatusByCode).getTransactionStatusId()));
+    }
+
+    LOGGER.infof("Processing batch status update for %d events, %d transactions",
+        events.size(), transitions.size());
+
+    List<UUID> updatedIds = transactionRepository.updateStatuses(transitions);
+    Set<UUID> applied = new HashSet<>(updatedIds);
+    countNotApplied(transitions, applied);
+    for (TransactionStatusUpdatedEvent event : repeatedEvents) {
+      UUID externalId = UUID.fromString(event.getPayload().getTransactionExternalId());
+      String appliedStatus = firstEvents.get(externalId).getPayload().getNewStatus().name();
+      count(appliedStatus.equals(event.getPayload().getNewStatus().name())
+          ? Outcome.DUPLICATE
+          : Outcome.STALE, 1);
+    }
+    if (updatedIds.isEmpty()) {
+      return List.of();
+    }
+
+    Map<UUID, TransactionStatus> updatedStatuses = new LinkedHashMap<>();
+    List<TransactionStatusUpdatedEvent> appliedEvents = new ArrayList<>(updatedIds.size());
+    firstEvents.forEach((externalId, event) -> {
+      if (applied.contains(externalId)) {
+        updatedStatuses.put(externalId,
+            statusesByCode.get(event.getPayload().getNewStatus().name()));
+        appliedEvents.add(event);
+      }
+    });
+    transactionCacheService.updateTransactionStatuses(updatedStatuses);
+    count(Outcome.APPLIED, appliedEvents.size());
+
+    Instant appliedAt = Instant.now();
+    appliedEvents.forEach(event -> recordApplyLag(event.getPayload(), appliedAt));
+
+    LOGGER.infof("Batch status update applied to %d transactions", appliedEvents.size());
+    return appliedEvents;
+  }
+
+  /**
+   * Counts the transitions that matched no row, reading the current status of their
+   * transactions to tell duplicates from stale events and unknown transactions.
+   */
+  private void countNotApplied(Map<UUID, TransactionStatusTransition> transitions,
+                               Set<UUID> applied) {
+    if (applied.size() == transitions.size()) {
+      return;
+    }
+    List<UUID> notApplied = transitions.keySet().stream()
+        .filter(externalId -> !applied.contains(externalId))
+        .toList();
+    Map<UUID, Integer> currentStatusIds = transactionRepository.findStatusIds(notApplied);
+    Map<Outcome, Integer> outcomes = new EnumMap<>(Outcome.class);
+    for (UUID externalId : notApplied) {
+      Outcome outcome = classify(currentStatusIds.get(externalId), transitions.get(externalId));
+      outcomes.merge(outcome, 1, Integer::sum);
+    }
+    outcomes.forEach(this::count);
+    LOGGER.warnf("Batch status update not applied to %d of %d transactions: %s",
+        notApplied.size(), transitions.size(), outcomes);
+  }
+
+  private static Outcome classify(Integer currentStatusId,
+                                  TransactionStatusTransition transition) {
+    if (currentStatusId == null) {
+      return Outcome.NOT_FOUND;
+    }
+    return currentStatusId.equals(transition.toStatusId()) ? Outcome.DUPLICATE : Outcome.STALE;
+  }
+
+  private void count(Outcome outcome, int events) {
+    outcomeCounters.get(outcome).increment(events);
+  }
+
+  private void recordApplyLag(TransactionStatusUpdatedPayload payload, Instant appliedAt) {
+    Instant processedAt;
+    try {
+      processedAt = EventTimestamps.parse(payload.getProcessedAt());
+    } catch (DateTimeParseException e) {
+      LOGGER.debugf("Skipping status lag, unparseable processedAt: %s", payload.getProcessedAt());
+      return;
+    }
+    Timer.builder(APPLY_LAG_METRIC)
+        .tag("status", payload.getNewStatus().name())
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(Duration.between(processedAt, appliedAt));
+  }
+
+  private TransactionStatus findStatusByCode(String code) {
+    return referenceDataRegistry.getTransactionStatusByCode(code)
+        .orElseThrow(() -> {
+          LOGGER.errorf("Transaction status not found for code: %s", code);
+          return new IllegalStateException("Transaction status not found: " + code);
+        });
+  }
+
+  /**
+   * Outcome of a status updated event.
+   */
+  private enum Outcome {
+    APPLIED("applied"),
+    DUPLICATE("duplicate"),
+    STALE("stale"),
+    NOT_FOUND("not_found");
+
+    private final String tag;
+
+    Outcome(String tag) {
+      this.tag = tag;
+    }
   }
 
 }
@@ -0,0 +1,10 @@
+package com.yape.services.transaction.domain.model;
+
+/**
+ * Outcome of a transaction creation that may replay an earlier request.
+ *
+ * @param transaction the created transaction, or the one created by the earlier request
+ * @param created     true if the transaction was created by this request
+ */
+public record TransactionCreation(Transaction transaction, boolean created) {
+}
@@ -0,0 +1,14 @@
+package com.yape.services.transaction.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Request-ID claimed by a transaction creation request.
+ *
+ * @param requestId             the Request-ID
+ * @param requestHash           the hash of the request input, or null if claimed before V1.12
+ * @param transactionExternalId the external ID of the created transaction
+ */
+public record TransactionRequest(String requestId, String requestHash,
+                                 UUID transactionExternalId) {
+}
@@ -0,0 +1,23 @@
+package com.yape.services.transaction.domain.model;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Domain model representing an applied change of a transaction status.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionStatusChange {
+  private UUID transactionExternalId;
+  private String previousStatus;
+  private String newStatus;
+  private String changedAt;
+}
@@ -0,0 +1,10 @@
+package com.yape.services.transaction.domain.model;
+
+/**
+ * Status transition of a transaction, applied only while the transaction is in the source status.
+ *
+ * @param fromStatusId the status ID the transaction must have
+ * @param toStatusId   the status ID to set
+ */
+public record TransactionStatusTransition(Integer fromStatusId, Integer toStatusId) {
+}
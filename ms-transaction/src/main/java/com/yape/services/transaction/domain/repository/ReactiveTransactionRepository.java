@@ -0,0 +1,39 @@
+package com.yape.services.transaction.domain.repository;
+
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionCreation;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import io.smallrye.mutiny.Uni;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Non-blocking repository interface for the create and read paths of transactions.
+ */
+public interface ReactiveTransactionRepository {
+
+  /**
+   * Finds a transaction by its external ID.
+   *
+   * @param externalId the external ID of the transaction
+   * @return an Optional containing the transaction, or empty if not found
+   */
+  Uni<Optional<Transaction>> findByExternalId(UUID externalId);
+
+  /**
+   * Inserts a transaction and its TransactionCreatedEvent into the outbox in one database
+   * transaction. When a Request-ID is given it is claimed in the same database transaction; if an
+   * earlier request already claimed it, nothing is inserted and the transaction created by that
+   * request is returned instead, unless that request had a different input hash.
+   *
+   * @param transaction  the transaction to insert
+   * @param requestId    the Request-ID of the request, or null
+   * @param requestHash  the hash of the request input, or null without Request-ID
+   * @param eventFactory builds the event of the transaction once its ID and creation time are set
+   * @return the outcome of the creation
+   */
+  Uni<TransactionCreation> create(Transaction transaction, String requestId, String requestHash,
+                                  Function<Transaction, TransactionCreatedEvent> eventFactory);
+
+}
@@ -1,8 +1,15 @@
 package com.yape.services.transaction.domain.repository;
 
 import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatusTransition;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for managing transactions.
@@ -17,6 +24,14 @@ public interface TransactionRepository {
    */
   Transaction save(Transaction tx);
 
+  /**
+   * Saves several transactions using batched inserts.
+   *
+   * @param transactions the transactions to save
+   * @return the saved transactions, in the same order
+   */
+  List<Transaction> saveAll(List<Transaction> transactions);
+
   /**
    * Finds a transaction by its external ID.
    *
@@ -26,12 +41,60 @@ public interface TransactionRepository {
   Optional<Transaction> findByExternalId(UUID externalId);
 
   /**
-   * Updates the status of a transaction.
+   * Finds several transactions by their external IDs with a single query.
+   *
+   * @param externalIds the external IDs of the transactions
+   * @return the transactions found, in no particular order
+   */
+  List<Transaction> findByExternalIds(Collection<UUID> externalIds);
+
+  /**
+   * Finds a page of the transactions of an account, debit or credit side, newest first.
+   * Pages are ordered by creation date and ID and read after the given position.
+   *
+   * @param accountExternalId  the external ID of the account
+   * @param afterCreatedAt     the creation date of the last transaction read, or null
+   * @param afterTransactionId the ID of the last transaction read, or null
+   * @param limit              the maximum number of transactions to return
+   * @return the transactions of the page
+   */
+  List<Transaction> findByAccount(UUID accountExternalId, LocalDateTime afterCreatedAt,
+                                  Long afterTransactionId, int limit);
+
+  /**
+   * Updates the status of a transaction if it still has the source status of the transition.
+   *
+   * @param externalId the external ID of the transaction
+   * @param transition the source and new status IDs
+   * @return the number of updated records, 0 if the transaction is missing or in another status
+   */
+  int updateStatus(UUID externalId, TransactionStatusTransition transition);
+
+  /**
+   * Updates the status of several transactions in a single statement.
+   * Each transaction is updated only if it still has the source status of its transition.
+   *
+   * @param transitions the status transition to apply, keyed by transaction external ID
+   * @return the external IDs of the transactions that were updated
+   */
+  List<UUID> updateStatuses(Map<UUID, TransactionStatusTransition> transitions);
+
+  /**
+   * Finds the current status of several transactions.
+   *
+   * @param externalIds the external IDs of the transactions
+   * @return the status ID of each transaction found, keyed by external ID
+   */
+  Map<UUID, Integer> findStatusIds(Collection<UUID> externalIds);
+
+  /**
+   * Reads the external IDs of the transactions, one at a time.
+   * The IDs are streamed from the database, so they are never all held in memory.
    *
-   * @param externalId  the external ID of the transaction
-   * @param newStatusId the new status ID to set
-   * @return the number of updated records
+   * @param createdWithin only reads the transactions created within this time, or all if null
+   * @param consumer      receives each external ID
+   * @return the number of external IDs read
    */
-  int updateStatus(UUID externalId, Integer newStatusId);
+  long forEachExternalId(Duration createdWithin, Consumer<UUID> consumer);
 
 }
@@ -0,0 +1,38 @@
+package com.yape.services.transaction.domain.repository;
+
+import com.yape.services.transaction.domain.model.TransactionRequest;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for the Request-IDs of transaction creation requests.
+ */
+public interface TransactionRequestRepository {
+
+  /**
+   * Claims a Request-ID for the current database transaction.
+   * While another database transaction holds the same Request-ID, waits until it completes.
+   *
+   * @param requestId   the Request-ID
+   * @param requestHash the hash of the request input
+   * @return true if the Request-ID was claimed, false if an earlier request already claimed it
+   */
+  boolean claim(String requestId, String requestHash);
+
+  /**
+   * Records the transaction created for a claimed Request-ID.
+   *
+   * @param requestId             the Request-ID
+   * @param transactionExternalId the external ID of the created transaction
+   */
+  void complete(String requestId, UUID transactionExternalId);
+
+  /**
+   * Finds a claimed Request-ID with the input hash and the transaction it was claimed for.
+   *
+   * @param requestId the Request-ID
+   * @return an Optional containing the claimed Request-ID, or empty if not found
+   */
+  Optional<TransactionRequest> findByRequestId(String requestId);
+
+}
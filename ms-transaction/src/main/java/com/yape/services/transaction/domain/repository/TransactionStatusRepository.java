@@ -1,6 +1,7 @@
 package com.yape.services.transaction.domain.repository;
 
 import com.yape.services.transaction.domain.model.TransactionStatus;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,4 +25,11 @@ public interface TransactionStatusRepository {
    */
   Optional<TransactionStatus> findById(Integer id);
 
+  /**
+   * Retrieves all transaction statuses.
+   *
+   * @return a list of all transaction statuses
+   */
+  List<TransactionStatus> findAll();
+
 }
@@ -1,6 +1,11 @@
 package com.yape.services.transaction.domain.service;
 
 import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatus;
+import io.smallrye.mutiny.Uni;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,6 +22,22 @@ public interface TransactionCacheService {
    */
   void saveTransaction(Transaction transaction, String statusCode);
 
+  /**
+   * Save several transactions with the same status to the cache using pipelined requests.
+   *
+   * @param transactions The transactions to save.
+   * @param statusCode   The status code of the transactions.
+   */
+  void saveTransactions(List<Transaction> transactions, String statusCode);
+
+  /**
+   * Save several transactions to the cache, each with the TTL of its own status, using
+   * pipelined requests.
+   *
+   * @param transactions The transactions to save.
+   */
+  void saveTransactions(List<Transaction> transactions);
+
   /**
    * Retrieve a transaction from the cache by its ID.
    *
@@ -25,6 +46,31 @@ public interface TransactionCacheService {
    */
   Optional<Transaction> getTransactionByExternalId(UUID externalId);
 
+  /**
+   * Retrieve several transactions from the cache with a single request.
+   *
+   * @param externalIds The IDs of the transactions to retrieve.
+   * @return The transactions found, keyed by external ID.
+   */
+  Map<UUID, Transaction> getTransactionsByExternalIds(Collection<UUID> externalIds);
+
+  /**
+   * Save a transaction to the cache without blocking the calling thread.
+   *
+   * @param transaction The transaction to save.
+   * @param statusCode  The status code of the transaction.
+   * @return A Uni completed once the transaction is cached.
+   */
+  Uni<Void> saveTransactionAsync(Transaction transaction, String statusCode);
+
+  /**
+   * Retrieve a transaction from the cache by its ID without blocking the calling thread.
+   *
+   * @param externalId The ID of the transaction to retrieve.
+   * @return A Uni with an Optional containing the Transaction if found, or empty if not found.
+   */
+  Uni<Optional<Transaction>> getTransactionByExternalIdAsync(UUID externalId);
+
   /**
    * Update the status of a transaction in the cache.
    *
@@ -36,4 +82,26 @@ public interface TransactionCacheService {
                                Integer newStatusId,
                                String newStatusCode);
 
+  /**
+   * Update the status of several cached transactions using pipelined requests.
+   *
+   * @param newStatuses The new status to set, keyed by transaction external ID.
+   */
+  void updateTransactionStatuses(Map<UUID, TransactionStatus> newStatuses);
+
+  /**
+   * Remember for a short time that a transaction does not exist.
+   *
+   * @param externalId The external ID of the missing transaction.
+   */
+  void saveMissing(UUID externalId);
+
+  /**
+   * Check whether a transaction was recently found not to exist.
+   *
+   * @param externalId The external ID of the transaction.
+   * @return true if the transaction is remembered as missing.
+   */
+  boolean isMissing(UUID externalId);
+
 }
@@ -1,6 +1,7 @@
 package com.yape.services.transaction.domain.service;
 
 import com.yape.services.transaction.events.TransactionCreatedEvent;
+import java.util.List;
 
 /**
  * Interface for publishing transaction-related events.
@@ -14,4 +15,11 @@ public interface TransactionEventPublisher {
    */
   void publishTransactionCreated(TransactionCreatedEvent event);
 
+  /**
+   * Publishes several TransactionCreatedEvents.
+   *
+   * @param events the events to publish
+   */
+  void publishTransactionsCreated(List<TransactionCreatedEvent> events);
+
 }
@@ -0,0 +1,36 @@
+package com.yape.services.transaction.domain.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Probabilistic set of the external IDs of all transactions, used to answer lookups of unknown
+ * IDs without reading the cache or the database.
+ */
+public interface TransactionExistenceFilter {
+
+  /**
+   * Tells whether a transaction may exist.
+   * False positives are possible, false negatives are not: while the filter cannot rule a
+   * transaction out, for instance before it is built, it answers true.
+   *
+   * @param externalId the external ID of the transaction
+   * @return false if the transaction certainly does not exist
+   */
+  boolean mightExist(UUID externalId);
+
+  /**
+   * Records a new transaction.
+   *
+   * @param externalId the external ID of the transaction
+   */
+  void add(UUID externalId);
+
+  /**
+   * Records several new transactions.
+   *
+   * @param externalIds the external IDs of the transactions
+   */
+  void addAll(Collection<UUID> externalIds);
+
+}
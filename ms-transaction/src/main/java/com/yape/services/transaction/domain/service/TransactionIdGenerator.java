@@ -0,0 +1,17 @@
+package com.yape.services.transaction.domain.service;
+
+import java.util.UUID;
+
+/**
+ * Service interface for generating the IDs of transactions and of their events.
+ */
+public interface TransactionIdGenerator {
+
+  /**
+   * Generates a new unique ID.
+   *
+   * @return the generated ID
+   */
+  UUID nextId();
+
+}
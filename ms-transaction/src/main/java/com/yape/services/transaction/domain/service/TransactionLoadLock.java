@@ -0,0 +1,42 @@
+package com.yape.services.transaction.domain.service;
+
+import java.util.UUID;
+
+/**
+ * Lock shared by all instances, so that a transaction missing from the cache is reloaded from
+ * the database by one instance at a time.
+ */
+public interface TransactionLoadLock {
+
+  /**
+   * Runs the load of a transaction while holding the lock of its external ID.
+   * The load still runs when the lock cannot be taken in time, so a slow or unavailable lock
+   * only costs the duplicate loads it was meant to prevent.
+   *
+   * @param externalId the external ID of the transaction
+   * @param load       the load, told whether another instance held the lock first
+   * @param <T>        the type of the result
+   * @return the result of the load
+   */
+  <T> T callLocked(UUID externalId, Load<T> load);
+
+  /**
+   * Load run under the lock.
+   *
+   * @param <T> the type of the result
+   */
+  @FunctionalInterface
+  interface Load<T> {
+
+    /**
+     * Runs the load.
+     *
+     * @param contended true if another instance held the lock first and may have already
+     *                  reloaded the transaction into the cache
+     * @return the result of the load
+     */
+    T run(boolean contended);
+
+  }
+
+}
@@ -0,0 +1,45 @@
+package com.yape.services.transaction.domain.service;
+
+import com.yape.services.transaction.domain.model.Transaction;
+import io.smallrye.mutiny.Uni;
+import java.util.Optional;
+
+/**
+ * Service interface for caching the result of transaction creation requests.
+ */
+public interface TransactionRequestCacheService {
+
+  /**
+   * Gets the transaction created for a Request-ID.
+   *
+   * @param requestId the Request-ID
+   * @return an Optional containing the created transaction, or empty if not cached
+   */
+  Optional<Transaction> getResult(String requestId);
+
+  /**
+   * Caches the transaction created for a Request-ID.
+   *
+   * @param requestId   the Request-ID
+   * @param transaction the created transaction
+   */
+  void saveResult(String requestId, Transaction transaction);
+
+  /**
+   * Gets the transaction created for a Request-ID without blocking the calling thread.
+   *
+   * @param requestId the Request-ID
+   * @return a Uni with an Optional containing the created transaction, or empty if not cached
+   */
+  Uni<Optional<Transaction>> getResultAsync(String requestId);
+
+  /**
+   * Caches the transaction created for a Request-ID without blocking the calling thread.
+   *
+   * @param requestId   the Request-ID
+   * @param transaction the created transaction
+   * @return a Uni completed once the result is cached
+   */
+  Uni<Void> saveResultAsync(String requestId, Transaction transaction);
+
+}
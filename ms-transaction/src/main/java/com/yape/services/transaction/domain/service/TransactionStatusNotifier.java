@@ -0,0 +1,29 @@
+package com.yape.services.transaction.domain.service;
+
+import com.yape.services.transaction.domain.model.TransactionStatusChange;
+import io.smallrye.mutiny.Multi;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for notifying transaction status changes to live subscribers.
+ */
+public interface TransactionStatusNotifier {
+
+  /**
+   * Notifies applied status changes to the subscribers of every instance.
+   *
+   * @param changes the applied status changes
+   */
+  void notifyStatusChanged(List<TransactionStatusChange> changes);
+
+  /**
+   * Watches the status changes of a transaction.
+   * The subscription is released when the returned stream is cancelled.
+   *
+   * @param transactionExternalId the external ID of the transaction
+   * @return the stream of status changes of the transaction
+   */
+  Multi<TransactionStatusChange> watch(UUID transactionExternalId);
+
+}
@@ -0,0 +1,209 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import com.yape.services.shared.util.CacheKeyUtils;
+import com.yape.services.transaction.domain.repository.TransactionRepository;
+import com.yape.services.transaction.domain.service.TransactionExistenceFilter;
+import com.yape.services.transaction.infrastructure.config.TransactionCacheConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.jboss.logging.Logger;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.ByteArrayCodec;
+
+/**
+ * TransactionExistenceFilter backed by an in-process {@link ScalableBloomFilter}.
+ * The filter is built at startup, off the startup thread, with a streaming scan of the external
+ * IDs in the database; until it is ready every transaction may exist. Only a full scan is trusted
+ * to rule an ID out: a UUIDv7 ID generated after the start of the last full scan, minus the scan
+ * margin, is always looked up, since it may have been committed by another instance or late.
+ * The filter is rebuilt from a new full scan every rebuild interval, which moves that boundary
+ * forward. Transactions saved by this instance are still added as they are created. With sharing
+ * enabled the built filter is stored in Redis as a bitmap, and instances building while a newer
+ * one is there load it instead of scanning the table.
+ */
+@ApplicationScoped
+public class BloomTransactionExistenceFilter implements TransactionExistenceFilter {
+
+  private static final Logger LOGGER = Logger.getLogger(BloomTransactionExistenceFilter.class);
+  private static final String SIZE_METRIC = "transaction.existence.filter.size";
+  private static final String SNAPSHOT_KEY = "existence-filter";
+  private static final int UUID_V7 = 7;
+  private static final int UUID_V7_TIMESTAMP_SHIFT = 16;
+
+  private final TransactionRepository repository;
+  private final RedissonClient redissonClient;
+  private final TransactionCacheConfig cacheConfig;
+  private final Clock clock;
+
+  // Null until built; the filter and the start of its full scan are replaced together
+  private volatile Snapshot active;
+
+  /**
+   * Constructor for BloomTransactionExistenceFilter.
+   *
+   * @param repository     the repository the filter is built from
+   * @param redissonClient the Redisson client the filter is shared with
+   * @param cacheConfig    the transaction cache configuration
+   * @param meterRegistry  the registry the filter size is exported to
+   */
+  @Inject
+  public BloomTransactionExistenceFilter(TransactionRepository repository,
+                                         RedissonClient redissonClient,
+                                         TransactionCacheConfig cacheConfig,
+                                         MeterRegistry meterRegistry) {
+    this(repository, redissonClient, cacheConfig, meterRegistry, Clock.systemUTC());
+  }
+
+  BloomTransactionExistenceFilter(TransactionRepository repository,
+                                  RedissonClient redissonClient,
+                                  TransactionCacheConfig cacheConfig,
+                                  MeterRegistry meterRegistry,
+                                  Clock clock) {
+    this.repository = repository;
+    this.redissonClient = redissonClient;
+    this.cacheConfig = cacheConfig;
+    this.clock = clock;
+    Gauge.builder(SIZE_METRIC, this, BloomTransactionExistenceFilter::approximateSize)
+        .register(meterRegistry);
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    if (cacheConfig.existenceFilter().enabled()) {
+      Infrastructure.getDefaultWorkerPool().execute(this::build);
+    }
+  }
+
+  @Scheduled(every = "${application.cache.transaction.existence-filter.rebuild-interval:1h}",
+      delayed = "${application.cache.transaction.existence-filter.rebuild-interval:1h}",
+      concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+  void scheduledRebuild() {
+    if (active != null) {
+      build();
+    }
+  }
+
+  @Override
+  public boolean mightExist(UUID externalId) {
+    Snapshot current = active;
+    if (current == null) {
+      return true;
+    }
+    if (externalId.version() == UUID_V7) {
+      long margin = cacheConfig.existenceFilter().scanMarginMs();
+      long generatedAt = externalId.getMostSignificantBits() >>> UUID_V7_TIMESTAMP_SHIFT;
+      if (generatedAt >= current.scannedAt() - margin) {
+        return true;
+      }
+    }
+    return current.filter().mightContain(externalId);
+  }
+
+  @Override
+  public void add(UUID externalId) {
+    Snapshot current = active;
+    if (current != null) {
+      current.filter().put(externalId);
+    }
+  }
+
+  @Override
+  public void addAll(Collection<UUID> externalIds) {
+    Snapshot current = active;
+    if (current != null) {
+      externalIds.forEach(current.filter()::put);
+    }
+  }
+
+  /**
+   * Builds the filter from a full scan, or from the shared snapshot if it is newer than the
+   * active filter, and makes it active. IDs created meanwhile are newer than the scan, so they
+   * are not ruled out until the next build.
+   */
+  void build() {
+    TransactionCacheConfig.ExistenceFilter settings = cacheConfig.existenceFilter();
+    try {
+      Snapshot current = active;
+      Snapshot snapshot = settings.shared() ? loadSnapshot() : null;
+      if (snapshot == null || current != null && snapshot.scannedAt() <= current.scannedAt()) {
+        snapshot = scan(settings);
+        if (settings.shared()) {
+          share(snapshot, settings);
+        }
+      }
+      active = snapshot;
+    } catch (RuntimeException e) {
+      LOGGER.warn("Could not build the transaction existence filter, unknown IDs are looked up"
+          + " in the database", e);
+    }
+  }
+
+  private Snapshot scan(TransactionCacheConfig.ExistenceFilter settings) {
+    long startedAt = clock.millis();
+    ScalableBloomFilter built =
+        new ScalableBloomFilter(settings.expectedInsertions(), settings.falsePositiveRate());
+    long count = repository.forEachExternalId(null, built::put);
+    LOGGER.infof("Transaction existence filter built from %d IDs in %d ms",
+        count, clock.millis() - startedAt);
+    return new Snapshot(built, startedAt);
+  }
+
+  private Snapshot loadSnapshot() {
+    try {
+      byte[] bytes = snapshotBucket().get();
+      if (bytes == null) {
+        return null;
+      }
+      long snapshotScannedAt = ByteBuffer.wrap(bytes).getLong();
+      ScalableBloomFilter loaded =
+          ScalableBloomFilter.fromBytes(Arrays.copyOfRange(bytes, Long.BYTES, bytes.length));
+      LOGGER.infof("Transaction existence filter loaded from Redis with %d IDs",
+          loaded.approximateCount());
+      return new Snapshot(loaded, snapshotScannedAt);
+    } catch (RedisException | IllegalArgumentException | IndexOutOfBoundsException e) {
+      LOGGER.warnf("Could not load the shared transaction existence filter, scanning: %s",
+          e.getMessage());
+      return null;
+    }
+  }
+
+  private void share(Snapshot snapshot, TransactionCacheConfig.ExistenceFilter settings) {
+    byte[] bits = snapshot.filter().toBytes();
+    byte[] bytes = ByteBuffer.allocate(Long.BYTES + bits.length)
+        .putLong(snapshot.scannedAt())
+        .put(bits)
+        .array();
+    try {
+      snapshotBucket().set(bytes, settings.snapshotTtl(), TimeUnit.SECONDS);
+    } catch (RedisException e) {
+      LOGGER.warnf("Could not share the transaction existence filter: %s", e.getMessage());
+    }
+  }
+
+  private RBucket<byte[]> snapshotBucket() {
+    return redissonClient.getBucket(
+        CacheKeyUtils.buildKey(cacheConfig.prefix(), SNAPSHOT_KEY), ByteArrayCodec.INSTANCE);
+  }
+
+  private double approximateSize() {
+    Snapshot current = active;
+    return current != null ? current.filter().approximateCount() : 0;
+  }
+
+  private record Snapshot(ScalableBloomFilter filter, long scannedAt) {
+  }
+
+}
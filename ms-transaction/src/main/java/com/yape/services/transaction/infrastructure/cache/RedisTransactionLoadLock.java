@@ -0,0 +1,85 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import com.yape.services.shared.util.CacheKeyUtils;
+import com.yape.services.transaction.domain.service.TransactionLoadLock;
+import com.yape.services.transaction.infrastructure.config.TransactionCacheConfig;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.jboss.logging.Logger;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+
+/**
+ * Redisson implementation of TransactionLoadLock.
+ * The lock of a transaction is a short-leased RLock next to the cache map, so a crashed holder
+ * blocks the reload of a key for the lease time at most. When disabled, loads run unlocked.
+ */
+@ApplicationScoped
+public class RedisTransactionLoadLock implements TransactionLoadLock {
+
+  private static final Logger LOGGER = Logger.getLogger(RedisTransactionLoadLock.class);
+  private static final String LOCK_SUFFIX = "load-lock:";
+
+  private final RedissonClient redissonClient;
+  private final TransactionCacheConfig cacheConfig;
+
+  /**
+   * Constructor for RedisTransactionLoadLock.
+   *
+   * @param redissonClient the Redisson client
+   * @param cacheConfig    the transaction cache configuration
+   */
+  @Inject
+  public RedisTransactionLoadLock(RedissonClient redissonClient,
+                                  TransactionCacheConfig cacheConfig) {
+    this.redissonClient = redissonClient;
+    this.cacheConfig = cacheConfig;
+  }
+
+  @Override
+  public <T> T callLocked(UUID externalId, Load<T> load) {
+    TransactionCacheConfig.Reload reload = cacheConfig.reload();
+    if (!reload.distributedLock()) {
+      return load.run(false);
+    }
+
+    RLock lock = redissonClient.getLock(
+        CacheKeyUtils.buildKey(cacheConfig.prefix() + LOCK_SUFFIX, externalId.toString()));
+    boolean acquired = false;
+    boolean contended = false;
+    try {
+      acquired = lock.tryLock(0, reload.lockLeaseMs(), TimeUnit.MILLISECONDS);
+      if (!acquired) {
+        contended = true;
+        acquired = lock.tryLock(reload.lockWaitMs(), reload.lockLeaseMs(),
+            TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RedisException e) {
+      LOGGER.warnf(e, "Could not lock the reload of transaction %s, loading unlocked",
+          externalId);
+    }
+
+    try {
+      return load.run(contended);
+    } finally {
+      if (acquired) {
+        unlock(lock, externalId);
+      }
+    }
+  }
+
+  private static void unlock(RLock lock, UUID externalId) {
+    try {
+      lock.unlock();
+    } catch (RedisException | IllegalMonitorStateException e) {
+      // The lease expired during a slow load; the lock is already free
+      LOGGER.debugf("Reload lock of transaction %s released before unlock", externalId);
+    }
+  }
+
+}
@@ -0,0 +1,208 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Scalable Bloom filter of UUIDs (Almeida et al., 2007).
+ * IDs go into the newest stage; once it holds its capacity a stage twice as large, with half the
+ * false positive rate, is added, so the overall rate stays below twice the configured one however
+ * many IDs are added. Stages set bits with atomic updates: adds and lookups are lock-free, only
+ * adding a stage is synchronized. Each stage derives its bit positions from two hashes of the
+ * UUID (Kirsch and Mitzenmacher, 2006).
+ */
+final class ScalableBloomFilter {
+
+  private static final int FORMAT_VERSION = 1;
+  private static final int GROWTH_FACTOR = 2;
+  private static final double TIGHTENING_RATIO = 0.5;
+  private static final double LN2 = Math.log(2);
+
+  private volatile Stage[] stages;
+
+  /**
+   * Constructor for ScalableBloomFilter.
+   *
+   * @param initialCapacity   the number of IDs of the first stage
+   * @param falsePositiveRate the false positive rate of the first stage
+   */
+  ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+    this.stages = new Stage[] {new Stage(initialCapacity, falsePositiveRate)};
+  }
+
+  private ScalableBloomFilter(Stage[] stages) {
+    this.stages = stages;
+  }
+
+  boolean mightContain(UUID id) {
+    long hash1 = hash1(id);
+    long hash2 = hash2(id);
+    for (Stage stage : stages) {
+      if (stage.mightContain(hash1, hash2)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  void put(UUID id) {
+    long hash1 = hash1(id);
+    long hash2 = hash2(id);
+    Stage[] current = stages;
+    for (Stage stage : current) {
+      if (stage.mightContain(hash1, hash2)) {
+        return;
+      }
+    }
+    Stage last = current[current.length - 1];
+    if (last.count.get() >= last.capacity) {
+      last = grow(last);
+    }
+    last.put(hash1, hash2);
+  }
+
+  /**
+   * Returns the number of IDs added, not counting the ones already reported as present.
+   */
+  long approximateCount() {
+    long count = 0;
+    for (Stage stage : stages) {
+      count += stage.count.get();
+    }
+    return count;
+  }
+
+  private synchronized Stage grow(Stage full) {
+    Stage[] current = stages;
+    Stage last = current[current.length - 1];
+    if (last != full) {
+      return last;
+    }
+    Stage next = new Stage(full.capacity * GROWTH_FACTOR,
+        full.falsePositiveRate * TIGHTENING_RATIO);
+    Stage[] grown = Arrays.copyOf(current, current.length + 1);
+    grown[current.length] = next;
+    stages = grown;
+    return next;
+  }
+
+  byte[] toBytes() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      Stage[] current = stages;
+      out.writeByte(FORMAT_VERSION);
+      out.writeInt(current.length);
+      for (Stage stage : current) {
+        out.writeLong(stage.capacity);
+        out.writeDouble(stage.falsePositiveRate);
+        out.writeLong(stage.count.get());
+        for (int i = 0; i < stage.words.length(); i++) {
+          out.writeLong(stage.words.get(i));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static ScalableBloomFilter fromBytes(byte[] bytes) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      int version = in.readByte();
+      if (version != FORMAT_VERSION) {
+        throw new IllegalArgumentException("Unsupported Bloom filter format: " + version);
+      }
+      Stage[] stages = new Stage[in.readInt()];
+      for (int s = 0; s < stages.length; s++) {
+        Stage stage = new Stage(in.readLong(), in.readDouble());
+        stage.count.set(in.readLong());
+        for (int i = 0; i < stage.words.length(); i++) {
+          stage.words.set(i, in.readLong());
+        }
+        stages[s] = stage;
+      }
+      return new ScalableBloomFilter(stages);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Truncated Bloom filter", e);
+    }
+  }
+
+  private static long hash1(UUID id) {
+    return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+  }
+
+  private static long hash2(UUID id) {
+    // Odd, so that the probe sequence never degenerates to a single bit
+    return mix(id.getLeastSignificantBits() ^ Long.rotateLeft(id.getMostSignificantBits(), 32))
+        | 1L;
+  }
+
+  /**
+   * Finalizer of MurmurHash3, which spreads the mostly sequential bits of UUIDv7 IDs.
+   */
+  private static long mix(long value) {
+    long h = value;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  private static final class Stage {
+
+    private final long capacity;
+    private final double falsePositiveRate;
+    private final long bits;
+    private final int hashes;
+    private final AtomicLongArray words;
+    private final AtomicLong count = new AtomicLong();
+
+    Stage(long capacity, double falsePositiveRate) {
+      this.capacity = capacity;
+      this.falsePositiveRate = falsePositiveRate;
+      long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+      this.words = new AtomicLongArray(Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE));
+      this.bits = (long) words.length() * Long.SIZE;
+      this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * LN2));
+    }
+
+    boolean mightContain(long hash1, long hash2) {
+      long combined = hash1;
+      for (int i = 0; i < hashes; i++) {
+        long bit = Math.floorMod(combined, bits);
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+        combined += hash2;
+      }
+      return true;
+    }
+
+    void put(long hash1, long hash2) {
+      long combined = hash1;
+      for (int i = 0; i < hashes; i++) {
+        long bit = Math.floorMod(combined, bits);
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word = words.get(index);
+        while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+          word = words.get(index);
+        }
+        combined += hash2;
+      }
+      count.incrementAndGet();
+    }
+
+  }
+
+}
@@ -0,0 +1,251 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yape.services.transaction.domain.model.Transaction;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+import org.redisson.codec.TypedJsonJacksonCodec;
+
+/**
+ * Redisson codec that stores cached {@link Transaction} values in a fixed binary layout.
+ * A value starts with a version byte, a bitmask of the fields present and the status as an
+ * unsigned short at {@link #STATUS_OFFSET}, so that a status change can patch it in place. The
+ * other fields follow: the IDs as longs, the UUIDs as two longs, transfer type as a var-int, the
+ * amount as unscaled bytes plus scale, and the creation time as UTC epoch microseconds.
+ * Version 1 values, with the status as a var-int after the transfer type, are still read.
+ * Values written as JSON by the previous codec are still read; map keys keep the JSON encoding
+ * of that codec, so existing entries remain addressable.
+ */
+final class TransactionBinaryCodec extends BaseCodec {
+
+  static final byte VERSION = 2;
+  static final int STATUS_OFFSET = 2;
+  static final int HAS_STATUS = 1 << 5;
+
+  private static final byte VERSION_1 = 1;
+  private static final int MAX_STATUS_ID = 0xFFFF;
+
+  // First byte of a JSON object; a future version byte must never take this value
+  private static final byte LEGACY_JSON_START = '{';
+  private static final int INITIAL_CAPACITY = 96;
+  private static final long MICROS_PER_SECOND = 1_000_000L;
+  private static final int NANOS_PER_MICRO = 1_000;
+
+  private static final int HAS_TRANSACTION_ID = 1;
+  private static final int HAS_EXTERNAL_ID = 1 << 1;
+  private static final int HAS_DEBIT_ACCOUNT = 1 << 2;
+  private static final int HAS_CREDIT_ACCOUNT = 1 << 3;
+  private static final int HAS_TRANSFER_TYPE = 1 << 4;
+  private static final int HAS_VALUE = 1 << 6;
+  private static final int HAS_CREATED_AT = 1 << 7;
+
+  private final TypedJsonJacksonCodec legacyCodec;
+
+  private final Encoder encoder = TransactionBinaryCodec::encode;
+  private final Decoder<Object> decoder = this::decode;
+
+  /**
+   * Constructor for TransactionBinaryCodec.
+   *
+   * @param legacyMapper the object mapper the previous JSON codec was created with
+   */
+  TransactionBinaryCodec(ObjectMapper legacyMapper) {
+    this.legacyCodec = new TypedJsonJacksonCodec(String.class, Transaction.class, legacyMapper);
+  }
+
+  @Override
+  public Decoder<Object> getValueDecoder() {
+    return decoder;
+  }
+
+  @Override
+  public Encoder getValueEncoder() {
+    return encoder;
+  }
+
+  @Override
+  public Decoder<Object> getMapKeyDecoder() {
+    return legacyCodec.getMapKeyDecoder();
+  }
+
+  @Override
+  public Encoder getMapKeyEncoder() {
+    return legacyCodec.getMapKeyEncoder();
+  }
+
+  private static ByteBuf encode(Object in) {
+    ByteBuf out = ByteBufAllocator.DEFAULT.buffer(INITIAL_CAPACITY);
+    try {
+      write((Transaction) in, out);
+      return out;
+    } catch (RuntimeException e) {
+      out.release();
+      throw e;
+    }
+  }
+
+  private Object decode(ByteBuf buf, State state) throws IOException {
+    byte version = buf.getByte(buf.readerIndex());
+    if (version == LEGACY_JSON_START) {
+      return legacyCodec.getValueDecoder().decode(buf, state);
+    }
+    if (version != VERSION && version != VERSION_1) {
+      throw new IOException("Unsupported cached transaction version: " + version);
+    }
+    buf.skipBytes(1);
+    return read(buf, version);
+  }
+
+  static void write(Transaction transaction, ByteBuf out) {
+    int fields = flag(transaction.getTransactionId(), HAS_TRANSACTION_ID)
+        | flag(transaction.getTransactionExternalId(), HAS_EXTERNAL_ID)
+        | flag(transaction.getAccountExternalIdDebit(), HAS_DEBIT_ACCOUNT)
+        | flag(transaction.getAccountExternalIdCredit(), HAS_CREDIT_ACCOUNT)
+        | flag(transaction.getTransferTypeId(), HAS_TRANSFER_TYPE)
+        | flag(transaction.getTransactionStatusId(), HAS_STATUS)
+        | flag(transaction.getValue(), HAS_VALUE)
+        | flag(transaction.getCreatedAt(), HAS_CREATED_AT);
+    out.writeByte(VERSION);
+    out.writeByte(fields);
+    Integer statusId = transaction.getTransactionStatusId();
+    out.writeShort(statusId != null ? checkStatusId(statusId) : 0);
+    if ((fields & HAS_TRANSACTION_ID) != 0) {
+      out.writeLong(transaction.getTransactionId());
+    }
+    if ((fields & HAS_EXTERNAL_ID) != 0) {
+      writeUuid(transaction.getTransactionExternalId(), out);
+    }
+    if ((fields & HAS_DEBIT_ACCOUNT) != 0) {
+      writeUuid(transaction.getAccountExternalIdDebit(), out);
+    }
+    if ((fields & HAS_CREDIT_ACCOUNT) != 0) {
+      writeUuid(transaction.getAccountExternalIdCredit(), out);
+    }
+    if ((fields & HAS_TRANSFER_TYPE) != 0) {
+      writeVarInt(zigZag(transaction.getTransferTypeId()), out);
+    }
+    if ((fields & HAS_VALUE) != 0) {
+      byte[] unscaled = transaction.getValue().unscaledValue().toByteArray();
+      writeVarInt(unscaled.length, out);
+      out.writeBytes(unscaled);
+      writeVarInt(zigZag(transaction.getValue().scale()), out);
+    }
+    if ((fields & HAS_CREATED_AT) != 0) {
+      LocalDateTime createdAt = transaction.getCreatedAt();
+      out.writeLong(createdAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND
+          + createdAt.getNano() / NANOS_PER_MICRO);
+    }
+  }
+
+  static Transaction read(ByteBuf in, byte version) {
+    int fields = in.readUnsignedByte();
+    Transaction transaction = new Transaction();
+    if (version != VERSION_1) {
+      int statusId = in.readUnsignedShort();
+      if ((fields & HAS_STATUS) != 0) {
+        transaction.setTransactionStatusId(statusId);
+      }
+    }
+    if ((fields & HAS_TRANSACTION_ID) != 0) {
+      transaction.setTransactionId(in.readLong());
+    }
+    if ((fields & HAS_EXTERNAL_ID) != 0) {
+      transaction.setTransactionExternalId(readUuid(in));
+    }
+    if ((fields & HAS_DEBIT_ACCOUNT) != 0) {
+      transaction.setAccountExternalIdDebit(readUuid(in));
+    }
+    if ((fields & HAS_CREDIT_ACCOUNT) != 0) {
+      transaction.setAccountExternalIdCredit(readUuid(in));
+    }
+    if ((fields & HAS_TRANSFER_TYPE) != 0) {
+      transaction.setTransferTypeId(unZigZag(readVarInt(in)));
+    }
+    if (version == VERSION_1 && (fields & HAS_STATUS) != 0) {
+      transaction.setTransactionStatusId(unZigZag(readVarInt(in)));
+    }
+    if ((fields & HAS_VALUE) != 0) {
+      byte[] unscaled = new byte[readVarInt(in)];
+      in.readBytes(unscaled);
+      transaction.setValue(new BigDecimal(new BigInteger(unscaled), unZigZag(readVarInt(in))));
+    }
+    if ((fields & HAS_CREATED_AT) != 0) {
+      long micros = in.readLong();
+      transaction.setCreatedAt(LocalDateTime.ofEpochSecond(
+          Math.floorDiv(micros, MICROS_PER_SECOND),
+          (int) Math.floorMod(micros, MICROS_PER_SECOND) * NANOS_PER_MICRO,
+          ZoneOffset.UTC));
+    }
+    return transaction;
+  }
+
+  /**
+   * Encodes a status ID as stored at {@link #STATUS_OFFSET}.
+   *
+   * @param statusId the status ID
+   * @return the two bytes of the status
+   */
+  static byte[] encodeStatusId(int statusId) {
+    checkStatusId(statusId);
+    return new byte[] {(byte) (statusId >>> Byte.SIZE), (byte) statusId};
+  }
+
+  private static int checkStatusId(int statusId) {
+    if (statusId < 0 || statusId > MAX_STATUS_ID) {
+      throw new IllegalArgumentException("Status ID out of range: " + statusId);
+    }
+    return statusId;
+  }
+
+  private static int flag(Object field, int bit) {
+    return field != null ? bit : 0;
+  }
+
+  private static void writeUuid(UUID uuid, ByteBuf out) {
+    out.writeLong(uuid.getMostSignificantBits());
+    out.writeLong(uuid.getLeastSignificantBits());
+  }
+
+  private static UUID readUuid(ByteBuf in) {
+    return new UUID(in.readLong(), in.readLong());
+  }
+
+  private static int zigZag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  private static int unZigZag(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarInt(int value, ByteBuf out) {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarInt(ByteBuf in) {
+    int value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      byte b = in.readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed var-int in cached transaction");
+  }
+
+}
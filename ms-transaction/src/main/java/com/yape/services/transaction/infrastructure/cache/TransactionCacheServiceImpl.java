@@ -3,49 +3,195 @@ package com.yape.services.transaction.infrastructure.cache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.yape.services.shared.util.CacheKeyUtils;
 import com.yape.services.shared.util.Constants;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
 import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatus;
 import com.yape.services.transaction.domain.service.TransactionCacheService;
 import com.yape.services.transaction.infrastructure.config.TransactionCacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.jboss.logging.Logger;
+import org.redisson.api.RBatch;
 import org.redisson.api.RMapCache;
+import org.redisson.api.RMapCacheAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
-import org.redisson.codec.TypedJsonJacksonCodec;
+import org.redisson.api.map.event.EntryExpiredListener;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
 
 /**
- * Redis implementation of TransactionCacheService using Redisson RMapCache.
+ * Two-tier implementation of TransactionCacheService.
+ * A bounded local tier (L1) sits in front of the Redisson RMapCache (L2); both tiers expire
+ * entries after the per-status TTL. Status updates invalidate the local tier of every instance
+ * through a Redis pub/sub topic. Hits, misses and evictions are exported per tier as
+ * {@code transaction.cache.gets} and {@code transaction.cache.evictions}. Every instance is
+ * notified of each L2 expiry, so evictions are also tagged with the host that counted them and
+ * L2 expiries must not be summed across hosts. Redis values are
+ * stored with the compact {@link TransactionBinaryCodec}; a status update patches the status and
+ * TTL of the entry with one atomic script call, without reading or rewriting the entity. The
+ * script is loaded into Redis once and called by its SHA; it is sent again with eval only when
+ * Redis answers NOSCRIPT, e.g. after a restart or a failover.
+ * The reactive execution mode reads and writes entries through the async Redisson API.
+ * Transactions found missing in the database are remembered for a short time in a local
+ * negative tier, which saving the transaction on this instance clears. Several transactions are
+ * read from Redis with one getAll call and written back in one pipelined batch.
  */
 @ApplicationScoped
 public class TransactionCacheServiceImpl implements TransactionCacheService {
 
   private static final Logger LOGGER = Logger.getLogger(TransactionCacheServiceImpl.class);
+  private static final String GETS_METRIC = "transaction.cache.gets";
+  private static final String EVICTIONS_METRIC = "transaction.cache.evictions";
+  private static final String HOST_TAG = "host";
+  private static final String KEY_SEPARATOR = ",";
+  private static final String TIMEOUT_SET_PREFIX = "redisson__timeout__set:";
+  private static final long STATUS_UPDATED = 1L;
+  private static final long STATUS_ENTRY_DROPPED = -1L;
+  private static final String NO_SCRIPT_ERROR = "NOSCRIPT";
 
+  /**
+   * Patches the status of an RMapCache entry in place. Redisson stores an entry as
+   * struct 'dLc0' (max idle, length, value) in the hash and its expiry as score in the timeout
+   * set. Entries in an older layout are dropped instead, so the next read reloads them.
+   * Returns 1 if updated, 0 if absent, -1 if dropped.
+   */
+  private static final String STATUS_UPDATE_SCRIPT = """
+      local entry = redis.call('hget', KEYS[1], ARGV[1])
+      if entry == false then
+        return 0
+      end
+      local maxIdle, value = struct.unpack('dLc0', entry)
+      if string.byte(value, 1) ~= %1$d then
+        redis.call('hdel', KEYS[1], ARGV[1])
+        redis.call('zrem', KEYS[2], ARGV[1])
+        return -1
+      end
+      local fields = bit.bor(string.byte(value, 2), %2$d)
+      value = string.sub(value, 1, 1) .. string.char(fields) .. ARGV[2]
+          .. string.sub(value, %3$d)
+      redis.call('hset', KEYS[1], ARGV[1], struct.pack('dLc0', maxIdle, string.len(value), value))
+      redis.call('zadd', KEYS[2], ARGV[3], ARGV[1])
+      return 1
+      """.formatted(TransactionBinaryCodec.VERSION, TransactionBinaryCodec.HAS_STATUS,
+      TransactionBinaryCodec.STATUS_OFFSET + Short.BYTES + 1);
+
+  private final RedissonClient redissonClient;
+  private final TransactionBinaryCodec codec;
   private final RMapCache<String, Transaction> transactionCache;
   private final TransactionCacheConfig cacheConfig;
+  private final ReferenceDataRegistry referenceDataRegistry;
+  private final TransactionLocalCache localCache;
+  private final Cache<UUID, Boolean> missingTransactions;
+  private final RTopic invalidationTopic;
+  private final List<Object> statusScriptKeys;
+  private final Counter remoteHits;
+  private final Counter remoteMisses;
+  private volatile String statusScriptSha;
 
   /**
    * Constructor for TransactionCacheServiceImpl.
    *
-   * @param redissonClient the Redisson client
-   * @param cacheConfig    the cache configuration
+   * @param redissonClient        the Redisson client
+   * @param cacheConfig           the cache configuration
+   * @param referenceDataRegistry the registry used to resolve the status of cached entries
+   * @param meterRegistry         the registry the cache metrics are exported to
    */
   @Inject
   public TransactionCacheServiceImpl(RedissonClient redissonClient,
-                                     TransactionCacheConfig cacheConfig) {
-    ObjectMapper mapper = createObjectMapper();
-    TypedJsonJacksonCodec codec =
-        new TypedJsonJacksonCodec(String.class, Transaction.class, mapper);
+                                     TransactionCacheConfig cacheConfig,
+                                     ReferenceDataRegistry referenceDataRegistry,
+                                     MeterRegistry meterRegistry) {
+    this(redissonClient, cacheConfig, referenceDataRegistry, meterRegistry, Ticker.systemTicker());
+  }
+
+  TransactionCacheServiceImpl(RedissonClient redissonClient,
+                              TransactionCacheConfig cacheConfig,
+                              ReferenceDataRegistry referenceDataRegistry,
+                              MeterRegistry meterRegistry,
+                              Ticker ticker) {
+    this.redissonClient = redissonClient;
+    this.codec = new TransactionBinaryCodec(createObjectMapper());
     this.transactionCache = redissonClient.getMapCache(cacheConfig.mapName(), codec);
+    this.statusScriptKeys = List.of(cacheConfig.mapName(),
+        TIMEOUT_SET_PREFIX + "{" + cacheConfig.mapName() + "}");
     this.cacheConfig = cacheConfig;
+    this.referenceDataRegistry = referenceDataRegistry;
+    this.localCache = new TransactionLocalCache(
+        cacheConfig.local().maxSize(), cacheConfig.local().maxTtl(), ticker);
+    this.missingTransactions = Caffeine.newBuilder()
+        .maximumSize(cacheConfig.negative().maxSize())
+        .expireAfterWrite(cacheConfig.negative().ttl(), TimeUnit.SECONDS)
+        .ticker(ticker)
+        .executor(Runnable::run)
+        .build();
+
+    this.invalidationTopic = redissonClient.getTopic(
+        cacheConfig.local().invalidationTopic(), StringCodec.INSTANCE);
+    this.invalidationTopic.addListener(String.class, (channel, keys) ->
+        localCache.invalidateAll(Arrays.asList(keys.split(KEY_SEPARATOR))));
+
+    String host = hostName();
+    registerLocalMetrics(meterRegistry, host);
+    this.remoteHits = meterRegistry.counter(GETS_METRIC, "tier", "l2", "result", "hit");
+    this.remoteMisses = meterRegistry.counter(GETS_METRIC, "tier", "l2", "result", "miss");
+    // Every subscriber receives every expiry event: this counts expiries seen by this host
+    Counter remoteEvictions =
+        meterRegistry.counter(EVICTIONS_METRIC, "tier", "l2", HOST_TAG, host);
+    this.transactionCache.addListener(
+        (EntryExpiredListener<String, Transaction>) event -> remoteEvictions.increment());
   }
 
-  private static ObjectMapper createObjectMapper() {
+  private void registerLocalMetrics(MeterRegistry meterRegistry, String host) {
+    FunctionCounter.builder(GETS_METRIC, localCache, cache -> cache.stats().hitCount())
+        .tags("tier", "l1", "result", "hit")
+        .register(meterRegistry);
+    FunctionCounter.builder(GETS_METRIC, localCache, cache -> cache.stats().missCount())
+        .tags("tier", "l1", "result", "miss")
+        .register(meterRegistry);
+    FunctionCounter.builder(EVICTIONS_METRIC, localCache, cache -> cache.stats().evictionCount())
+        .tags("tier", "l1", HOST_TAG, host)
+        .register(meterRegistry);
+  }
+
+  private static String hostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      LOGGER.warnf("Could not resolve the host name for cache metrics: %s", e.getMessage());
+      return "unknown";
+    }
+  }
+
+  static ObjectMapper createObjectMapper() {
     ObjectMapper mapper = new ObjectMapper();
     mapper.registerModule(new JavaTimeModule());
     mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -58,40 +204,300 @@ public class TransactionCacheServiceImpl implements TransactionCacheService {
     long ttl = getTtlForStatus(statusCode);
 
     transactionCache.put(key, transaction, ttl, TimeUnit.SECONDS);
+    localCache.put(key, transaction, ttl);
+    missingTransactions.invalidate(transaction.getTransactionExternalId());
     LOGGER.infof("Transaction cached with key: %s, TTL: %d seconds", key, ttl);
   }
 
+  @Override
+  public void saveTransactions(List<Transaction> transactions, String statusCode) {
+    if (transactions.isEmpty()) {
+      return;
+    }
+
+    long ttl = getTtlForStatus(statusCode);
+    RBatch batch = redissonClient.createBatch();
+    RMapCacheAsync<String, Transaction> batchCache =
+        batch.getMapCache(cacheConfig.mapName(), codec);
+    for (Transaction transaction : transactions) {
+      putInBatch(batchCache, transaction, ttl);
+    }
+    batch.execute();
+    LOGGER.infof("Cached %d transactions, TTL: %d seconds", transactions.size(), ttl);
+  }
+
+  @Override
+  public void saveTransactions(List<Transaction> transactions) {
+    if (transactions.isEmpty()) {
+      return;
+    }
+
+    RBatch batch = redissonClient.createBatch();
+    RMapCacheAsync<String, Transaction> batchCache =
+        batch.getMapCache(cacheConfig.mapName(), codec);
+    int cached = 0;
+    for (Transaction transaction : transactions) {
+      Optional<TransactionStatus> status = findStatus(transaction);
+      if (status.isEmpty()) {
+        LOGGER.warnf("Could not cache transaction - status not found for ID: %d",
+            transaction.getTransactionStatusId());
+        continue;
+      }
+      putInBatch(batchCache, transaction, getTtlForStatus(status.get().getCode()));
+      cached++;
+    }
+    if (cached > 0) {
+      batch.execute();
+    }
+    LOGGER.infof("Cached %d of %d transactions with the TTL of their status",
+        cached, transactions.size());
+  }
+
+  private void putInBatch(RMapCacheAsync<String, Transaction> batchCache,
+                          Transaction transaction, long ttl) {
+    String key = buildKey(transaction.getTransactionExternalId());
+    batchCache.putAsync(key, transaction, ttl, TimeUnit.SECONDS);
+    localCache.put(key, transaction, ttl);
+    missingTransactions.invalidate(transaction.getTransactionExternalId());
+  }
+
+  @Override
+  public Uni<Void> saveTransactionAsync(Transaction transaction, String statusCode) {
+    String key = buildKey(transaction.getTransactionExternalId());
+    long ttl = getTtlForStatus(statusCode);
+
+    return Uni.createFrom()
+        .completionStage(() -> transactionCache.fastPutAsync(key, transaction, ttl,
+            TimeUnit.SECONDS))
+        .invoke(() -> {
+          localCache.put(key, transaction, ttl);
+          missingTransactions.invalidate(transaction.getTransactionExternalId());
+          LOGGER.infof("Transaction cached with key: %s, TTL: %d seconds", key, ttl);
+        })
+        .replaceWithVoid();
+  }
+
   @Override
   public Optional<Transaction> getTransactionByExternalId(UUID externalId) {
     String key = buildKey(externalId);
-    Transaction transaction = transactionCache.get(key);
+    Transaction localTransaction = localCache.get(key);
+    if (localTransaction != null) {
+      LOGGER.infof("Transaction found in local cache with key: %s", key);
+      return Optional.of(localTransaction);
+    }
 
+    return onRemoteGet(key, transactionCache.get(key));
+  }
+
+  @Override
+  public Uni<Optional<Transaction>> getTransactionByExternalIdAsync(UUID externalId) {
+    String key = buildKey(externalId);
+    Transaction localTransaction = localCache.get(key);
+    if (localTransaction != null) {
+      LOGGER.infof("Transaction found in local cache with key: %s", key);
+      return Uni.createFrom().item(Optional.of(localTransaction));
+    }
+
+    return Uni.createFrom().completionStage(() -> transactionCache.getAsync(key))
+        .map(transaction -> onRemoteGet(key, transaction));
+  }
+
+  @Override
+  public Map<UUID, Transaction> getTransactionsByExternalIds(Collection<UUID> externalIds) {
+    Map<UUID, Transaction> found = new HashMap<>(externalIds.size());
+    Map<String, UUID> remoteKeys = new HashMap<>();
+    for (UUID externalId : externalIds) {
+      String key = buildKey(externalId);
+      Transaction localTransaction = localCache.get(key);
+      if (localTransaction != null) {
+        found.put(externalId, localTransaction);
+      } else {
+        remoteKeys.put(key, externalId);
+      }
+    }
+    if (remoteKeys.isEmpty()) {
+      LOGGER.infof("All %d transactions found in local cache", found.size());
+      return found;
+    }
+
+    Map<String, Transaction> remoteTransactions = transactionCache.getAll(remoteKeys.keySet());
+    remoteKeys.forEach((key, externalId) -> onRemoteGet(key, remoteTransactions.get(key))
+        .ifPresent(transaction -> found.put(externalId, transaction)));
+    return found;
+  }
+
+  private Optional<Transaction> onRemoteGet(String key, Transaction transaction) {
     if (transaction != null) {
+      remoteHits.increment();
+      cacheLocally(key, transaction);
       LOGGER.infof("Transaction found in cache with key: %s", key);
       return Optional.of(transaction);
     }
 
+    remoteMisses.increment();
     LOGGER.infof("Transaction not found in cache with key: %s", key);
     return Optional.empty();
   }
 
+  @Override
+  public void saveMissing(UUID externalId) {
+    missingTransactions.put(externalId, Boolean.TRUE);
+  }
+
+  @Override
+  public boolean isMissing(UUID externalId) {
+    return missingTransactions.getIfPresent(externalId) != null;
+  }
+
   @Override
   public void updateTransactionStatus(UUID externalId,
                                       Integer newStatusId,
                                       String newStatusCode) {
     String key = buildKey(externalId);
-    Transaction transaction = transactionCache.get(key);
+    long ttl = getTtlForStatus(newStatusCode);
+
+    RScript script = redissonClient.getScript(ByteArrayCodec.INSTANCE);
+    Object[] args = statusScriptArgs(key, newStatusId, ttl);
+    Long result;
+    try {
+      result = script.evalSha(RScript.Mode.READ_WRITE, statusScriptSha(),
+          RScript.ReturnType.INTEGER, statusScriptKeys, args);
+    } catch (RedisException e) {
+      if (!isNoScript(e)) {
+        throw e;
+      }
+      LOGGER.warn("Status update script not cached in Redis, sending it with eval");
+      result = script.eval(RScript.Mode.READ_WRITE, STATUS_UPDATE_SCRIPT,
+          RScript.ReturnType.INTEGER, statusScriptKeys, args);
+    }
+    invalidateLocally(List.of(key));
 
-    if (transaction == null) {
-      LOGGER.warnf("Transaction not found in cache for status update: %s", key);
+    if (result == null || result != STATUS_UPDATED) {
+      LOGGER.warnf("Transaction not updated in cache for status update: %s%s", key,
+          result != null && result == STATUS_ENTRY_DROPPED ? ", outdated entry dropped" : "");
       return;
     }
+    LOGGER.infof("Transaction status updated to %s with new TTL: %d seconds", newStatusCode, ttl);
+  }
 
-    transaction.setTransactionStatusId(newStatusId);
-    long ttl = getTtlForStatus(newStatusCode);
+  @Override
+  public void updateTransactionStatuses(Map<UUID, TransactionStatus> newStatuses) {
+    if (newStatuses.isEmpty()) {
+      return;
+    }
 
-    transactionCache.put(key, transaction, ttl, TimeUnit.SECONDS);
-    LOGGER.infof("Transaction status updated to %s with new TTL: %d seconds", newStatusCode, ttl);
+    List<String> keys = new ArrayList<>(newStatuses.size());
+    List<Object[]> args = new ArrayList<>(newStatuses.size());
+    newStatuses.forEach((externalId, status) -> {
+      String key = buildKey(externalId);
+      keys.add(key);
+      args.add(statusScriptArgs(key, status.getTransactionStatusId(),
+          getTtlForStatus(status.getCode())));
+    });
+    List<?> results;
+    try {
+      results = executeStatusBatch(args, statusScriptSha());
+    } catch (RedisException e) {
+      if (!isNoScript(e)) {
+        throw e;
+      }
+      // Patching a status is idempotent, so entries already patched by the batch can be redone
+      LOGGER.warn("Status update script not cached in Redis, sending the batch with eval");
+      results = executeStatusBatch(args, null);
+    }
+    invalidateLocally(keys);
+
+    long updated = results.stream().filter(result -> Long.valueOf(STATUS_UPDATED).equals(result))
+        .count();
+    LOGGER.infof("Transaction statuses updated in cache: %d of %d entries present",
+        updated, keys.size());
+  }
+
+  /**
+   * Pipelines one status update script call per entry, by SHA or, without one, with eval.
+   */
+  private List<?> executeStatusBatch(List<Object[]> args, String sha) {
+    RBatch batch = redissonClient.createBatch();
+    RScriptAsync script = batch.getScript(ByteArrayCodec.INSTANCE);
+    for (Object[] entryArgs : args) {
+      if (sha != null) {
+        script.evalShaAsync(RScript.Mode.READ_WRITE, sha, RScript.ReturnType.INTEGER,
+            statusScriptKeys, entryArgs);
+      } else {
+        script.evalAsync(RScript.Mode.READ_WRITE, STATUS_UPDATE_SCRIPT,
+            RScript.ReturnType.INTEGER, statusScriptKeys, entryArgs);
+      }
+    }
+    return batch.execute().getResponses();
+  }
+
+  /**
+   * Returns the SHA of the status update script, loading the script into Redis on first use.
+   */
+  private String statusScriptSha() {
+    String sha = statusScriptSha;
+    if (sha == null) {
+      sha = redissonClient.getScript(ByteArrayCodec.INSTANCE).scriptLoad(STATUS_UPDATE_SCRIPT);
+      statusScriptSha = sha;
+    }
+    return sha;
+  }
+
+  private static boolean isNoScript(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause.getMessage() != null && cause.getMessage().contains(NO_SCRIPT_ERROR)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Builds the script arguments: the encoded map key, the encoded status and the expiry time.
+   * Redisson scores the timeout set with the client clock, so the expiry is computed here too.
+   */
+  private Object[] statusScriptArgs(String key, int statusId, long ttlSeconds) {
+    long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds);
+    return new Object[] {
+        encodeMapKey(key),
+        TransactionBinaryCodec.encodeStatusId(statusId),
+        Long.toString(expiresAt).getBytes(StandardCharsets.US_ASCII)
+    };
+  }
+
+  private byte[] encodeMapKey(String key) {
+    ByteBuf encoded;
+    try {
+      encoded = codec.getMapKeyEncoder().encode(key);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    try {
+      return ByteBufUtil.getBytes(encoded);
+    } finally {
+      encoded.release();
+    }
+  }
+
+  private void cacheLocally(String key, Transaction transaction) {
+    findStatus(transaction)
+        .ifPresent(status -> localCache.put(key, transaction, getTtlForStatus(status.getCode())));
+  }
+
+  private Optional<TransactionStatus> findStatus(Transaction transaction) {
+    Integer statusId = transaction.getTransactionStatusId();
+    return statusId != null
+        ? referenceDataRegistry.getTransactionStatusById(statusId)
+        : Optional.empty();
+  }
+
+  /**
+   * Drops the entries from the local tier of this and every other instance.
+   * Runs after the Redis write so that a concurrent reader cannot reload the previous value.
+   */
+  private void invalidateLocally(List<String> keys) {
+    localCache.invalidateAll(keys);
+    invalidationTopic.publish(String.join(KEY_SEPARATOR, keys));
   }
 
   private String buildKey(UUID transactionExternalId) {
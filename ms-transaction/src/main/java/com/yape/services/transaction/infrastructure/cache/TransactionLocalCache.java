@@ -0,0 +1,84 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.yape.services.transaction.domain.model.Transaction;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-process tier for cached transactions.
+ * Each entry carries its own TTL, so the per-status TTL policy applies here as in Redis.
+ */
+final class TransactionLocalCache {
+
+  private final Cache<String, Entry> cache;
+  private final long maxTtlSeconds;
+
+  /**
+   * Constructor for TransactionLocalCache.
+   *
+   * @param maxSize       the maximum number of entries
+   * @param maxTtlSeconds the upper bound for the TTL of an entry
+   * @param ticker        the time source
+   */
+  TransactionLocalCache(long maxSize, long maxTtlSeconds, Ticker ticker) {
+    this.maxTtlSeconds = maxTtlSeconds;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new EntryExpiry())
+        .ticker(ticker)
+        .executor(Runnable::run)
+        .recordStats()
+        .build();
+  }
+
+  Transaction get(String key) {
+    Entry entry = cache.getIfPresent(key);
+    return entry != null ? entry.transaction() : null;
+  }
+
+  void put(String key, Transaction transaction, long ttlSeconds) {
+    long ttl = Math.min(ttlSeconds, maxTtlSeconds);
+    if (ttl <= 0) {
+      return;
+    }
+    cache.put(key, new Entry(transaction, TimeUnit.SECONDS.toNanos(ttl)));
+  }
+
+  void invalidateAll(Collection<String> keys) {
+    cache.invalidateAll(keys);
+  }
+
+  CacheStats stats() {
+    return cache.stats();
+  }
+
+  private record Entry(Transaction transaction, long ttlNanos) {
+  }
+
+  private static final class EntryExpiry implements Expiry<String, Entry> {
+
+    @Override
+    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+      return entry.ttlNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Entry entry,
+                                  long currentTime, long currentDuration) {
+      return entry.ttlNanos();
+    }
+
+    @Override
+    public long expireAfterRead(String key, Entry entry,
+                                long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import com.yape.services.shared.util.CacheKeyUtils;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.service.TransactionRequestCacheService;
+import com.yape.services.transaction.infrastructure.config.TransactionIdempotencyConfig;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.jboss.logging.Logger;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+
+/**
+ * Redisson implementation of TransactionRequestCacheService.
+ * Results are kept for a short TTL, long enough to absorb client retries.
+ */
+@ApplicationScoped
+public class TransactionRequestCacheServiceImpl implements TransactionRequestCacheService {
+
+  private static final Logger LOGGER = Logger.getLogger(TransactionRequestCacheServiceImpl.class);
+
+  private final RMapCache<String, Transaction> requestCache;
+  private final TransactionIdempotencyConfig idempotencyConfig;
+
+  /**
+   * Constructor for TransactionRequestCacheServiceImpl.
+   *
+   * @param redissonClient    the Redisson client
+   * @param idempotencyConfig the idempotency configuration
+   */
+  @Inject
+  public TransactionRequestCacheServiceImpl(RedissonClient redissonClient,
+                                            TransactionIdempotencyConfig idempotencyConfig) {
+    this.requestCache = redissonClient.getMapCache(idempotencyConfig.mapName(),
+        new TransactionBinaryCodec(TransactionCacheServiceImpl.createObjectMapper()));
+    this.idempotencyConfig = idempotencyConfig;
+  }
+
+  @Override
+  public Optional<Transaction> getResult(String requestId) {
+    return Optional.ofNullable(requestCache.get(buildKey(requestId)));
+  }
+
+  @Override
+  public void saveResult(String requestId, Transaction transaction) {
+    String key = buildKey(requestId);
+    requestCache.put(key, transaction, idempotencyConfig.ttl(), TimeUnit.SECONDS);
+    LOGGER.debugf("Request result cached with key: %s", key);
+  }
+
+  @Override
+  public Uni<Optional<Transaction>> getResultAsync(String requestId) {
+    return Uni.createFrom().completionStage(() -> requestCache.getAsync(buildKey(requestId)))
+        .map(Optional::ofNullable);
+  }
+
+  @Override
+  public Uni<Void> saveResultAsync(String requestId, Transaction transaction) {
+    String key = buildKey(requestId);
+    return Uni.createFrom()
+        .completionStage(() -> requestCache.fastPutAsync(key, transaction,
+            idempotencyConfig.ttl(), TimeUnit.SECONDS))
+        .invoke(() -> LOGGER.debugf("Request result cached with key: %s", key))
+        .replaceWithVoid();
+  }
+
+  private String buildKey(String requestId) {
+    return CacheKeyUtils.buildKey(idempotencyConfig.prefix(), requestId);
+  }
+
+}
@@ -4,6 +4,8 @@ import com.yape.services.shared.util.CacheKeyUtils;
 import com.yape.services.transaction.domain.model.TransferType;
 import com.yape.services.transaction.domain.service.TransferTypeCacheService;
 import com.yape.services.transaction.infrastructure.config.TransferTypeCacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.util.List;
@@ -17,28 +19,36 @@ import org.redisson.codec.TypedJsonJacksonCodec;
 
 /**
  * Redis implementation of TransferTypeCacheService using Redisson RMapCache.
- * Uses cache-aside pattern for transfer type data.
+ * Uses cache-aside pattern for transfer type data. Hits and misses are exported as
+ * {@code transfer.type.cache.gets}.
  */
 @ApplicationScoped
 public class TransferTypeCacheServiceImpl implements TransferTypeCacheService {
 
   private static final Logger LOGGER = Logger.getLogger(TransferTypeCacheServiceImpl.class);
+  private static final String GETS_METRIC = "transfer.type.cache.gets";
 
   private final RMapCache<String, TransferType> transferTypeCache;
   private final TransferTypeCacheConfig cacheConfig;
+  private final Counter hits;
+  private final Counter misses;
 
   /**
    * Constructor for TransferTypeCacheServiceImpl.
    *
    * @param redissonClient the Redisson client
    * @param cacheConfig    the cache configuration
+   * @param meterRegistry  the registry the cache metrics are exported to
    */
   @Inject
   public TransferTypeCacheServiceImpl(RedissonClient redissonClient,
-                                      TransferTypeCacheConfig cacheConfig) {
+                                      TransferTypeCacheConfig cacheConfig,
+                                      MeterRegistry meterRegistry) {
     TypedJsonJacksonCodec codec = new TypedJsonJacksonCodec(String.class, TransferType.class);
     this.transferTypeCache = redissonClient.getMapCache(cacheConfig.mapName(), codec);
     this.cacheConfig = cacheConfig;
+    this.hits = meterRegistry.counter(GETS_METRIC, "result", "hit");
+    this.misses = meterRegistry.counter(GETS_METRIC, "result", "miss");
   }
 
   @Override
@@ -60,10 +70,12 @@ public class TransferTypeCacheServiceImpl implements TransferTypeCacheService {
     TransferType transferType = transferTypeCache.get(key);
 
     if (transferType != null) {
+      hits.increment();
       LOGGER.infof("Cache HIT for transfer type key: %s", key);
       return Optional.of(transferType);
     }
 
+    misses.increment();
     LOGGER.infof("Cache MISS for transfer type key: %s", key);
     return Optional.empty();
   }
@@ -71,6 +83,7 @@ public class TransferTypeCacheServiceImpl implements TransferTypeCacheService {
   @Override
   public Optional<List<TransferType>> findAll() {
     if (transferTypeCache.isEmpty()) {
+      misses.increment();
       LOGGER.info("Cache MISS for all transfer types");
       return Optional.empty();
     }
@@ -83,6 +96,7 @@ public class TransferTypeCacheServiceImpl implements TransferTypeCacheService {
         .values()
         .stream()
         .toList();
+    hits.increment();
     LOGGER.infof("Cache HIT for all transfer types, count: %d", transferTypes.size());
     return Optional.of(transferTypes);
   }
@@ -0,0 +1,41 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for the bulkhead capping the concurrent use of the JDBC connection pool.
+ */
+@ConfigMapping(prefix = "application.database.bulkhead")
+public interface DatabaseBulkheadConfig {
+
+  /**
+   * Whether database work must take a permit of the bulkhead.
+   *
+   * @return true if the bulkhead is enabled
+   */
+  @WithName("enabled")
+  @WithDefault("true")
+  boolean enabled();
+
+  /**
+   * Number of threads allowed to use the database at once.
+   * Should not exceed the maximum size of the JDBC pool.
+   *
+   * @return the number of permits
+   */
+  @WithName("permits")
+  @WithDefault("16")
+  int permits();
+
+  /**
+   * Maximum time to wait for a permit, in milliseconds.
+   *
+   * @return the acquire timeout in milliseconds
+   */
+  @WithName("acquire-timeout-ms")
+  @WithDefault("2000")
+  long acquireTimeoutMs();
+
+}
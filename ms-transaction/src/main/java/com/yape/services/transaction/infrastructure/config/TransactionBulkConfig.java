@@ -0,0 +1,32 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for bulk transaction creation and lookup.
+ */
+@ConfigMapping(prefix = "application.bulk")
+public interface TransactionBulkConfig {
+
+  /**
+   * Maximum number of transactions accepted by a single createTransactions call.
+   * The whole call runs in one database transaction.
+   *
+   * @return the maximum number of items
+   */
+  @WithName("max-size")
+  @WithDefault("5000")
+  int maxSize();
+
+  /**
+   * Maximum number of transaction IDs accepted by a single transactions query.
+   *
+   * @return the maximum number of IDs
+   */
+  @WithName("max-lookup-size")
+  @WithDefault("500")
+  int maxLookupSize();
+
+}
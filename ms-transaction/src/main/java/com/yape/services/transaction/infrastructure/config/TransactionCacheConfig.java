@@ -1,6 +1,7 @@
 package com.yape.services.transaction.infrastructure.config;
 
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
 
 /**
@@ -31,6 +32,34 @@ public interface TransactionCacheConfig {
    */
   Ttl ttl();
 
+  /**
+   * Gets the local (in-process) cache tier configuration.
+   *
+   * @return the local tier settings
+   */
+  Local local();
+
+  /**
+   * Gets the settings for reloading missing transactions from the database.
+   * @return the reload settings
+   */
+  Reload reload();
+
+  /**
+   * Gets the settings for remembering transactions found missing.
+   *
+   * @return the negative cache settings
+   */
+  Negative negative();
+
+  /**
+   * Gets the settings of the filter of known transaction external IDs.
+   *
+   * @return the existence filter settings
+   */
+  @WithName("existence-filter")
+  ExistenceFilter existenceFilter();
+
   /**
    * TTL configuration for different transaction statuses.
    */
@@ -62,4 +91,170 @@ public interface TransactionCacheConfig {
 
   }
 
+  /**
+   * Local cache tier kept in front of the Redis map.
+   * Entries expire after the per-status TTL, capped by {@link #maxTtl()}.
+   */
+  interface Local {
+
+    /**
+     * Maximum number of transactions held in the local tier.
+     *
+     * @return the maximum number of entries
+     */
+    @WithName("max-size")
+    @WithDefault("10000")
+    long maxSize();
+
+    /**
+     * Upper bound in seconds for the TTL of a local entry.
+     * Bounds staleness if an invalidation message is missed.
+     *
+     * @return TTL cap in seconds
+     */
+    @WithName("max-ttl")
+    @WithDefault("30")
+    long maxTtl();
+
+    /**
+     * Redis pub/sub topic used to invalidate local entries across instances.
+     *
+     * @return the invalidation topic name
+     */
+    @WithName("invalidation-topic")
+    @WithDefault("transactions:invalidations")
+    String invalidationTopic();
+
+  }
+
+  /**
+   * Reload of transactions missing from the cache.
+   * Concurrent misses within an instance always share one load; the distributed lock extends
+   * this across instances at the cost of a Redis round trip per miss.
+   */
+  interface Reload {
+
+    /**
+     * Whether only one instance at a time reloads a transaction, using a Redis lock.
+     *
+     * @return true if the distributed lock is enabled
+     */
+    @WithName("distributed-lock")
+    @WithDefault("false")
+    boolean distributedLock();
+
+    /**
+     * Maximum time to wait for the lock held by another instance, in milliseconds.
+     * The transaction is reloaded without the lock once it elapses.
+     *
+     * @return the wait time in milliseconds
+     */
+    @WithName("lock-wait-ms")
+    @WithDefault("200")
+    long lockWaitMs();
+
+    /**
+     * Time after which the lock is released even if its holder never unlocks it, in
+     * milliseconds.
+     *
+     * @return the lease time in milliseconds
+     */
+    @WithName("lock-lease-ms")
+    @WithDefault("2000")
+    long lockLeaseMs();
+
+  }
+
+  /**
+   * Local tier of transactions found missing in the database.
+   * Repeated lookups of the same unknown ID are answered from it until the entry expires.
+   */
+  interface Negative {
+
+    /**
+     * Time in seconds a missing transaction is remembered.
+     *
+     * @return TTL in seconds
+     */
+    @WithName("ttl")
+    @WithDefault("10")
+    long ttl();
+
+    /**
+     * Maximum number of missing transactions remembered.
+     *
+     * @return the maximum number of entries
+     */
+    @WithName("max-size")
+    @WithDefault("100000")
+    long maxSize();
+
+  }
+
+  /**
+   * Bloom filter of the external IDs of all transactions, built at startup and rebuilt from a
+   * full scan every {@code application.cache.transaction.existence-filter.rebuild-interval}.
+   * Lookups of IDs the filter rules out are answered without reading Redis or the database.
+   */
+  interface ExistenceFilter {
+
+    /**
+     * Whether lookups are checked against the filter.
+     *
+     * @return true if the filter is enabled
+     */
+    @WithName("enabled")
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * Number of IDs of the first stage of the filter; it grows beyond it on its own.
+     *
+     * @return the initial capacity
+     */
+    @WithName("expected-insertions")
+    @WithDefault("1000000")
+    long expectedInsertions();
+
+    /**
+     * False positive rate of the first stage of the filter.
+     *
+     * @return the false positive rate
+     */
+    @WithName("false-positive-rate")
+    @WithDefault("0.01")
+    double falsePositiveRate();
+
+    /**
+     * Longest time in milliseconds between generating the ID of a transaction and committing
+     * it, plus the clock skew between instances and the database. UUIDv7 IDs generated later
+     * than the start of the last full scan minus this margin are not ruled out.
+     *
+     * @return the margin in milliseconds
+     */
+    @WithName("scan-margin-ms")
+    @WithDefault("120000")
+    long scanMarginMs();
+
+    /**
+     * Whether the built filter is shared through Redis, so that instances starting within
+     * {@link #snapshotTtl()} load it instead of scanning the table.
+     *
+     * @return true if the filter is shared
+     */
+    @WithName("shared")
+    @WithDefault("false")
+    boolean shared();
+
+    /**
+     * Time in seconds a shared filter can be loaded by starting instances.
+     *
+     * @return TTL in seconds
+     */
+    @WithName("snapshot-ttl")
+    @WithDefault("3600")
+    long snapshotTtl();
+
+  }
+
 }
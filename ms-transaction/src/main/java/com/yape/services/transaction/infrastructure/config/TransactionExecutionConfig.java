@@ -0,0 +1,44 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for how the createTransaction and transaction resolvers are executed.
+ */
+@ConfigMapping(prefix = "application.execution")
+public interface TransactionExecutionConfig {
+
+  /**
+   * Execution mode of the createTransaction and transaction resolvers.
+   *
+   * @return the execution mode
+   */
+  @WithName("mode")
+  @WithDefault("blocking")
+  Mode mode();
+
+  /**
+   * Execution modes.
+   */
+  enum Mode {
+
+    /**
+     * Runs on a worker thread with JDBC, the blocking Redisson API and JTA transactions.
+     */
+    BLOCKING,
+
+    /**
+     * Runs on the event loop with the reactive PostgreSQL client and the async Redisson API.
+     */
+    REACTIVE,
+
+    /**
+     * Runs on a new virtual thread with JDBC, the blocking Redisson API and JTA transactions.
+     */
+    VIRTUAL_THREADS
+
+  }
+
+}
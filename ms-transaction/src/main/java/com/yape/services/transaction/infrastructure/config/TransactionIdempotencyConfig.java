@@ -0,0 +1,39 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for idempotent transaction creation keyed on the Request-ID header.
+ */
+@ConfigMapping(prefix = "application.idempotency")
+public interface TransactionIdempotencyConfig {
+
+  /**
+   * Gets the name of the Redis map holding the results of recent requests.
+   *
+   * @return the name of the cache map
+   */
+  @WithName("map-name")
+  @WithDefault("transaction-requests")
+  String mapName();
+
+  /**
+   * Gets the cache key prefix.
+   *
+   * @return the prefix for cache keys
+   */
+  @WithDefault("request:")
+  String prefix();
+
+  /**
+   * Gets the time in seconds a request result stays in Redis.
+   * Older retries are still deduplicated through the database.
+   *
+   * @return TTL in seconds
+   */
+  @WithDefault("600")
+  long ttl();
+
+}
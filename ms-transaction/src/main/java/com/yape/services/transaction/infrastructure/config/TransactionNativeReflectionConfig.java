@@ -0,0 +1,73 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import com.yape.services.common.events.EventMetadata;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatusChange;
+import com.yape.services.transaction.domain.model.TransferType;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
+import com.yape.services.transaction.events.TransactionStatusUpdatedPayload;
+import com.yape.services.transaction.events.ValidationResult;
+import com.yape.services.transaction.graphql.model.CreateTransaction;
+import com.yape.services.transaction.graphql.model.CreateTransactionResult;
+import com.yape.services.transaction.graphql.model.PageInfo;
+import com.yape.services.transaction.graphql.model.TransactionBatch;
+import com.yape.services.transaction.graphql.model.TransactionConnection;
+import com.yape.services.transaction.graphql.model.TransactionEdge;
+import com.yape.services.transaction.graphql.model.TransactionError;
+import com.yape.services.transaction.graphql.model.TransactionStatusChangedEvent;
+import com.yape.services.transaction.graphql.model.TransactionType;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.codec.TypedJsonJacksonCodec;
+
+/**
+ * Registers for reflection the classes a native image cannot discover by static analysis.
+ * Covers the Avro-generated events, the types stored through the Redisson Jackson codecs, the
+ * MapStruct mapper implementations and the GraphQL codegen models.
+ */
+@RegisterForReflection(
+    targets = {
+        // Avro events (Kafka)
+        TransactionCreatedEvent.class,
+        TransactionCreatedPayload.class,
+        TransactionStatusUpdatedEvent.class,
+        TransactionStatusUpdatedPayload.class,
+        EventMetadata.class,
+        ValidationResult.class,
+        com.yape.services.transaction.events.enums.TransactionStatus.class,
+        // Redisson codecs and the values they serialize
+        StringCodec.class,
+        JsonJacksonCodec.class,
+        TypedJsonJacksonCodec.class,
+        Transaction.class,
+        TransferType.class,
+        TransactionStatusChange.class,
+        TransactionStatusChange[].class,
+        // GraphQL codegen models
+        CreateTransaction.class,
+        CreateTransactionResult.class,
+        PageInfo.class,
+        com.yape.services.transaction.graphql.model.Transaction.class,
+        TransactionBatch.class,
+        TransactionConnection.class,
+        TransactionEdge.class,
+        TransactionError.class,
+        com.yape.services.transaction.graphql.model.TransactionStatus.class,
+        TransactionStatusChangedEvent.class,
+        TransactionType.class,
+        com.yape.services.transaction.graphql.model.TransferType.class
+    },
+    // MapStruct implementations are generated in the same compilation round
+    classNames = {
+        "com.yape.services.transaction.application.mapper.GraphqlTransactionMapperImpl",
+        "com.yape.services.transaction.application.mapper.TransferTypeMapperImpl"
+    })
+public final class TransactionNativeReflectionConfig {
+
+  private TransactionNativeReflectionConfig() {
+  }
+
+}
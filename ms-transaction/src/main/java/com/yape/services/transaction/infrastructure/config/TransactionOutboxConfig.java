@@ -0,0 +1,43 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for the transaction outbox relay.
+ */
+@ConfigMapping(prefix = "application.outbox")
+public interface TransactionOutboxConfig {
+
+  /**
+   * Maximum number of outbox events relayed per batch.
+   * Must stay below the emitter buffer size, since the whole batch is sent before any ack.
+   *
+   * @return the maximum batch size
+   */
+  @WithName("batch-size")
+  @WithDefault("100")
+  int batchSize();
+
+  /**
+   * Maximum time in milliseconds to wait for the broker to acknowledge a batch.
+   * Events not acknowledged in time stay in the outbox and are sent again.
+   *
+   * @return the send timeout in milliseconds
+   */
+  @WithName("send-timeout-ms")
+  @WithDefault("10000")
+  long sendTimeoutMs();
+
+  /**
+   * Time in milliseconds a claimed batch stays reserved for the relay that claimed it.
+   * Must be longer than the send timeout; entries not deleted by then are claimed again.
+   *
+   * @return the claim lease in milliseconds
+   */
+  @WithName("claim-lease-ms")
+  @WithDefault("30000")
+  long claimLeaseMs();
+
+}
@@ -0,0 +1,32 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for the monthly partitions of the transaction table.
+ */
+@ConfigMapping(prefix = "application.partitioning")
+public interface TransactionPartitionConfig {
+
+  /**
+   * Number of months after the current one that must already have a partition.
+   *
+   * @return the number of months created ahead
+   */
+  @WithName("months-ahead")
+  @WithDefault("3")
+  int monthsAhead();
+
+  /**
+   * Number of past months kept besides the current one; older partitions are dropped.
+   * Zero keeps every partition.
+   *
+   * @return the number of months retained
+   */
+  @WithName("retention-months")
+  @WithDefault("0")
+  int retentionMonths();
+
+}
@@ -0,0 +1,42 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for the transaction status batch consumer.
+ */
+@ConfigMapping(prefix = "application.messaging.transaction-status")
+public interface TransactionStatusConsumerConfig {
+
+  /**
+   * Whether each polled batch is applied with a single bulk update.
+   * When disabled, the batch is applied record by record.
+   *
+   * @return true if bulk updates are enabled
+   */
+  @WithName("bulk-update")
+  @WithDefault("true")
+  boolean bulkUpdate();
+
+  /**
+   * Maximum number of records applied per bulk update.
+   * Also bounds the Kafka poll size (max.poll.records).
+   *
+   * @return the maximum batch size
+   */
+  @WithName("max-batch-size")
+  @WithDefault("500")
+  int maxBatchSize();
+
+  /**
+   * Maximum time in milliseconds the broker waits to fill a poll (fetch.max.wait.ms).
+   *
+   * @return the maximum wait in milliseconds
+   */
+  @WithName("max-wait-ms")
+  @WithDefault("100")
+  long maxWaitMs();
+
+}
@@ -0,0 +1,22 @@
+package com.yape.services.transaction.infrastructure.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration for the transaction status subscriptions.
+ */
+@ConfigMapping(prefix = "application.subscription")
+public interface TransactionSubscriptionConfig {
+
+  /**
+   * Redis pub/sub topic the applied status changes are broadcast on to every instance.
+   *
+   * @return the topic name
+   */
+  @WithName("status-topic")
+  @WithDefault("transactions:status-changes")
+  String statusTopic();
+
+}
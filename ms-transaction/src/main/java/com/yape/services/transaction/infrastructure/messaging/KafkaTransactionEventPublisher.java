@@ -1,46 +1,63 @@
 package com.yape.services.transaction.infrastructure.messaging;
 
-import com.yape.services.transaction.domain.service.TransactionEventPublisher;
 import com.yape.services.transaction.events.TransactionCreatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.smallrye.reactive.messaging.kafka.Record;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.util.concurrent.CompletionStage;
 import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
 import org.jboss.logging.Logger;
 
 /**
- * Kafka implementation of TransactionEventPublisher.
+ * Kafka publisher for transaction events.
  * Publishes transaction events to Kafka topics using MicroProfile Reactive Messaging.
+ * Used by {@link TransactionOutboxRelay} to forward events committed to the outbox.
+ * The time until the broker acknowledges a send is exported as {@code transaction.kafka.send}.
  */
 @ApplicationScoped
-public class KafkaTransactionEventPublisher implements TransactionEventPublisher {
+public class KafkaTransactionEventPublisher {
 
   private static final Logger LOGGER = Logger.getLogger(KafkaTransactionEventPublisher.class);
+  private static final String SEND_METRIC = "transaction.kafka.send";
 
   private final Emitter<Record<String, TransactionCreatedEvent>> transactionCreatedEmitter;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Constructor for KafkaTransactionEventPublisher.
    *
    * @param transactionCreatedEmitter the emitter for transaction created events
+   * @param meterRegistry             the registry the send latency is exported to
    */
   @Inject
   public KafkaTransactionEventPublisher(
       @Channel("transaction-producer")
-      Emitter<Record<String, TransactionCreatedEvent>> transactionCreatedEmitter
+      Emitter<Record<String, TransactionCreatedEvent>> transactionCreatedEmitter,
+      MeterRegistry meterRegistry
   ) {
     this.transactionCreatedEmitter = transactionCreatedEmitter;
+    this.meterRegistry = meterRegistry;
   }
 
-  @Override
-  public void publishTransactionCreated(TransactionCreatedEvent event) {
+  /**
+   * Publishes a TransactionCreatedEvent keyed by the transaction external ID.
+   *
+   * @param event the event to publish
+   * @return a stage completed when the broker acknowledges the event
+   */
+  public CompletionStage<Void> publishTransactionCreated(TransactionCreatedEvent event) {
     String key = event.getPayload().getTransactionExternalId();
 
     LOGGER.infof("Publishing TransactionCreatedEvent with key: %s", key);
 
-    transactionCreatedEmitter.send(Record.of(key, event))
+    Timer.Sample sample = Timer.start(meterRegistry);
+    return transactionCreatedEmitter.send(Record.of(key, event))
         .whenComplete((result, error) -> {
+          sample.stop(meterRegistry.timer(SEND_METRIC,
+              "event", "transaction-created", "result", error == null ? "success" : "failure"));
           if (error != null) {
             LOGGER.errorf(error, "Failed to publish TransactionCreatedEvent with key: %s", key);
           } else {
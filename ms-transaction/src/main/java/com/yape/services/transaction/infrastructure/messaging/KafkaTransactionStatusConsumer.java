@@ -1,16 +1,34 @@
 package com.yape.services.transaction.infrastructure.messaging;
 
 import com.yape.services.transaction.application.usecase.UpdateTransactionStatusUseCase;
+import com.yape.services.transaction.domain.model.TransactionStatusChange;
+import com.yape.services.transaction.domain.service.TransactionStatusNotifier;
 import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
-import io.smallrye.reactive.messaging.kafka.Record;
+import com.yape.services.transaction.events.TransactionStatusUpdatedPayload;
+import com.yape.services.transaction.infrastructure.config.TransactionStatusConsumerConfig;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.util.List;
+import java.util.UUID;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
 import org.jboss.logging.Logger;
 
 /**
  * Kafka consumer for transaction status updated events.
- * Listens to the 'transaction.status' topic and delegates to the update use case.
+ * Listens to the 'transaction.status' topic in batch mode and delegates to the update use case.
+ * Each poll is applied with one bulk update per chunk; the batch offsets are committed only
+ * after this method returns, that is, after the database transaction has committed.
+ * Only applied changes are handed to the status notifier for the live subscriptions; redelivered
+ * and stale events leave no trace beyond their metric.
+ * Batches are processed on a virtual thread, one at a time so they are applied in offset order.
+ * Database work waits for a bulkhead permit rather than being rejected, so a busy pool slows the
+ * consumer down instead of failing its batches.
+ * When a bulk update fails the chunk is retried record by record; if any record still fails, the
+ * whole batch is failed once every record has been tried, so it is nacked and sent to the dead
+ * letter topic instead of having its offsets committed. The disabled-by-default replay channel
+ * applies the dead-lettered batches again; records that were already applied are skipped as stale
+ * by the conditional status transition.
  */
 @ApplicationScoped
 public class KafkaTransactionStatusConsumer {
@@ -18,37 +36,124 @@ public class KafkaTransactionStatusConsumer {
   private static final Logger LOGGER = Logger.getLogger(KafkaTransactionStatusConsumer.class);
 
   private final UpdateTransactionStatusUseCase updateTransactionStatusUseCase;
+  private final TransactionStatusConsumerConfig consumerConfig;
+  private final TransactionStatusNotifier transactionStatusNotifier;
 
   /**
    * Constructor for KafkaTransactionStatusConsumer.
    *
    * @param updateTransactionStatusUseCase the use case for updating transaction status
+   * @param consumerConfig                 the batch consumer configuration
+   * @param transactionStatusNotifier      the notifier of applied status changes
    */
   @Inject
   public KafkaTransactionStatusConsumer(
-      UpdateTransactionStatusUseCase updateTransactionStatusUseCase) {
+      UpdateTransactionStatusUseCase updateTransactionStatusUseCase,
+      TransactionStatusConsumerConfig consumerConfig,
+      TransactionStatusNotifier transactionStatusNotifier) {
     this.updateTransactionStatusUseCase = updateTransactionStatusUseCase;
+    this.consumerConfig = consumerConfig;
+    this.transactionStatusNotifier = transactionStatusNotifier;
   }
 
   /**
-   * Consumes transaction status updated events from Kafka.
+   * Consumes a polled batch of transaction status updated events from Kafka.
    *
-   * @param kafkaRecord the Kafka record containing the transaction status updated event
+   * @param events the events of the batch, in offset order
    */
   @Incoming("transaction-status-consumer")
-  public void consume(Record<String, TransactionStatusUpdatedEvent> kafkaRecord) {
-    String key = kafkaRecord.key();
-    TransactionStatusUpdatedEvent event = kafkaRecord.value();
+  @RunOnVirtualThread
+  public void consume(List<TransactionStatusUpdatedEvent> events) {
+    LOGGER.infof("Received batch of %d TransactionStatusUpdatedEvents", events.size());
 
-    LOGGER.infof("Received TransactionStatusUpdatedEvent with key: %s", key);
+    int failed = 0;
+    if (!consumerConfig.bulkUpdate()) {
+      failed = consumeRecords(events);
+    } else {
+      int chunkSize = Math.max(1, consumerConfig.maxBatchSize());
+      for (int from = 0; from < events.size(); from += chunkSize) {
+        failed += consumeChunk(events.subList(from, Math.min(from + chunkSize, events.size())));
+      }
+    }
+
+    if (failed > 0) {
+      throw new IllegalStateException(String.format(
+          "%d of %d TransactionStatusUpdatedEvents failed, failing the batch", failed,
+          events.size()));
+    }
+  }
+
+  /**
+   * Applies again a batch of events sent to the dead letter topic.
+   * The channel is disabled unless a replay is wanted; a batch that fails again stops the channel
+   * without committing its offsets, so no record is lost.
+   *
+   * @param events the dead-lettered events of the batch, in offset order
+   */
+  @Incoming("transaction-status-dlq-replay")
+  @RunOnVirtualThread
+  public void replay(List<TransactionStatusUpdatedEvent> events) {
+    LOGGER.infof("Replaying batch of %d dead-lettered TransactionStatusUpdatedEvents",
+        events.size());
+    consume(events);
+  }
+
+  /**
+   * Applies a chunk with one bulk update, falling back to record by record when it fails.
+   *
+   * @return the number of records of the chunk that could not be applied
+   */
+  private int consumeChunk(List<TransactionStatusUpdatedEvent> chunk) {
+    try {
+      List<TransactionStatusUpdatedEvent> applied =
+          updateTransactionStatusUseCase.executeBatch(chunk);
+      LOGGER.infof("Successfully processed batch of %d events, %d transactions updated",
+          chunk.size(), applied.size());
+      if (!applied.isEmpty()) {
+        transactionStatusNotifier.notifyStatusChanged(
+            applied.stream().map(KafkaTransactionStatusConsumer::toStatusChange).toList());
+      }
+    } catch (Exception e) {
+      LOGGER.errorf(e, "Bulk update failed for batch of %d events, retrying record by record",
+          chunk.size());
+      return consumeRecords(chunk);
+    }
+    return 0;
+  }
 
+  private int consumeRecords(List<TransactionStatusUpdatedEvent> events) {
+    int failed = 0;
+    for (TransactionStatusUpdatedEvent event : events) {
+      if (!consumeRecord(event)) {
+        failed++;
+      }
+    }
+    return failed;
+  }
+
+  private boolean consumeRecord(TransactionStatusUpdatedEvent event) {
+    String key = event.getPayload().getTransactionExternalId();
     try {
-      updateTransactionStatusUseCase.execute(event);
+      boolean applied = updateTransactionStatusUseCase.execute(event);
       LOGGER.infof("Successfully processed TransactionStatusUpdatedEvent with key: %s", key);
+      if (applied) {
+        transactionStatusNotifier.notifyStatusChanged(List.of(toStatusChange(event)));
+      }
+      return true;
     } catch (Exception e) {
       LOGGER.errorf(e, "Error processing TransactionStatusUpdatedEvent with key: %s", key);
-      throw e;
+      return false;
     }
   }
 
+  private static TransactionStatusChange toStatusChange(TransactionStatusUpdatedEvent event) {
+    TransactionStatusUpdatedPayload payload = event.getPayload();
+    return TransactionStatusChange.builder()
+        .transactionExternalId(UUID.fromString(payload.getTransactionExternalId()))
+        .previousStatus(payload.getPreviousStatus().name())
+        .newStatus(payload.getNewStatus().name())
+        .changedAt(payload.getProcessedAt())
+        .build();
+  }
+
 }
@@ -0,0 +1,85 @@
+package com.yape.services.transaction.infrastructure.messaging;
+
+import com.yape.services.transaction.domain.service.TransactionEventPublisher;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.infrastructure.persistence.entity.TransactionOutboxEntity;
+import com.yape.services.transaction.infrastructure.persistence.repository.TransactionOutboxPostgresRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import org.jboss.logging.Logger;
+
+/**
+ * Outbox implementation of TransactionEventPublisher.
+ * Writes events to the transaction_outbox table in the caller's database transaction;
+ * {@link TransactionOutboxRelay} forwards them to Kafka once committed.
+ */
+@ApplicationScoped
+public class TransactionOutboxPublisher implements TransactionEventPublisher {
+
+  private static final Logger LOGGER = Logger.getLogger(TransactionOutboxPublisher.class);
+  static final String TRANSACTION_CREATED = "TRANSACTION_CREATED";
+
+  private final TransactionOutboxPostgresRepository repository;
+
+  /**
+   * Constructor for TransactionOutboxPublisher.
+   *
+   * @param repository the PostgreSQL repository for outbox events
+   */
+  @Inject
+  public TransactionOutboxPublisher(TransactionOutboxPostgresRepository repository) {
+    this.repository = repository;
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.MANDATORY)
+  public void publishTransactionCreated(TransactionCreatedEvent event) {
+    TransactionOutboxEntity entity = toEntity(event);
+    repository.save(entity);
+
+    LOGGER.infof("TransactionCreatedEvent stored in outbox with key: %s", entity.getAggregateId());
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.MANDATORY)
+  public void publishTransactionsCreated(List<TransactionCreatedEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    repository.saveAll(events.stream().map(TransactionOutboxPublisher::toEntity).toList());
+
+    LOGGER.infof("%d TransactionCreatedEvents stored in outbox", events.size());
+  }
+
+  /**
+   * Builds the outbox entry of a TransactionCreatedEvent.
+   * Also used by the reactive execution mode, which inserts the entry without Hibernate.
+   *
+   * @param event the event
+   * @return the outbox entry, without ID
+   */
+  public static TransactionOutboxEntity toEntity(TransactionCreatedEvent event) {
+    TransactionOutboxEntity entity = new TransactionOutboxEntity();
+    entity.setAggregateId(UUID.fromString(event.getPayload().getTransactionExternalId()));
+    entity.setEventType(TRANSACTION_CREATED);
+    entity.setPayload(serialize(event));
+    return entity;
+  }
+
+  private static byte[] serialize(TransactionCreatedEvent event) {
+    try {
+      ByteBuffer buffer = event.toByteBuffer();
+      byte[] payload = new byte[buffer.remaining()];
+      buffer.get(payload);
+      return payload;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to serialize TransactionCreatedEvent", e);
+    }
+  }
+
+}
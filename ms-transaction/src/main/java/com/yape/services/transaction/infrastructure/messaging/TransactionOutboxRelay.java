@@ -0,0 +1,125 @@
+package com.yape.services.transaction.infrastructure.messaging;
+
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.infrastructure.config.TransactionOutboxConfig;
+import com.yape.services.transaction.infrastructure.persistence.entity.TransactionOutboxEntity;
+import com.yape.services.transaction.infrastructure.persistence.repository.TransactionOutboxPostgresRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.avro.AvroRuntimeException;
+import org.jboss.logging.Logger;
+
+/**
+ * Relays events from the transaction outbox to Kafka.
+ * Each batch is claimed for a lease in insertion order and the claim is committed, so no
+ * database transaction, connection or row lock is held while the batch is sent. The acknowledged
+ * entries are then deleted with a single statement. Entries that fail or time out stay in the
+ * outbox and are claimed again once their lease expires, so events are delivered at least once.
+ * Entries whose payload cannot be read are logged and deleted, since retrying them would block
+ * the head of the outbox.
+ */
+@ApplicationScoped
+public class TransactionOutboxRelay {
+
+  private static final Logger LOGGER = Logger.getLogger(TransactionOutboxRelay.class);
+
+  private final TransactionOutboxPostgresRepository repository;
+  private final KafkaTransactionEventPublisher kafkaPublisher;
+  private final TransactionOutboxConfig outboxConfig;
+
+  /**
+   * Constructor for TransactionOutboxRelay.
+   *
+   * @param repository     the PostgreSQL repository for outbox events
+   * @param kafkaPublisher the Kafka publisher for transaction events
+   * @param outboxConfig   the outbox relay configuration
+   */
+  @Inject
+  public TransactionOutboxRelay(TransactionOutboxPostgresRepository repository,
+                                KafkaTransactionEventPublisher kafkaPublisher,
+                                TransactionOutboxConfig outboxConfig) {
+    this.repository = repository;
+    this.kafkaPublisher = kafkaPublisher;
+    this.outboxConfig = outboxConfig;
+  }
+
+  /**
+   * Drains the outbox, batch by batch, until a batch comes back short.
+   */
+  @Scheduled(every = "${application.outbox.poll-interval:1s}",
+      concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+  void drain() {
+    int relayed;
+    do {
+      relayed = relayBatch();
+    } while (relayed == outboxConfig.batchSize());
+  }
+
+  /**
+   * Relays the next batch of outbox events to Kafka.
+   *
+   * @return the number of events removed from the outbox, acknowledged or unreadable
+   */
+  public int relayBatch() {
+    List<TransactionOutboxEntity> batch =
+        repository.claimNextBatch(outboxConfig.batchSize(), outboxConfig.claimLeaseMs());
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    List<TransactionOutboxEntity> sentEntries = new ArrayList<>(batch.size());
+    List<CompletableFuture<Void>> sends = new ArrayList<>(batch.size());
+    List<Long> removedIds = new ArrayList<>(batch.size());
+    for (TransactionOutboxEntity entry : batch) {
+      try {
+        TransactionCreatedEvent event =
+            TransactionCreatedEvent.fromByteBuffer(ByteBuffer.wrap(entry.getPayload()));
+        sends.add(kafkaPublisher.publishTransactionCreated(event).toCompletableFuture());
+        sentEntries.add(entry);
+      } catch (IOException | AvroRuntimeException e) {
+        LOGGER.errorf(e, "Discarding unreadable outbox event %d of type %s for key: %s",
+            entry.getOutboxId(), entry.getEventType(), entry.getAggregateId());
+        removedIds.add(entry.getOutboxId());
+      }
+    }
+
+    long deadline = System.nanoTime()
+        + TimeUnit.MILLISECONDS.toNanos(outboxConfig.sendTimeoutMs());
+    int relayed = 0;
+    for (int i = 0; i < sentEntries.size(); i++) {
+      if (awaitSend(sends.get(i), deadline, sentEntries.get(i))) {
+        removedIds.add(sentEntries.get(i).getOutboxId());
+        relayed++;
+      }
+    }
+
+    repository.deleteByIds(removedIds);
+    LOGGER.infof("Relayed %d of %d outbox events", relayed, batch.size());
+    return removedIds.size();
+  }
+
+  private static boolean awaitSend(CompletableFuture<Void> send, long deadline,
+                                   TransactionOutboxEntity entry) {
+    try {
+      send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException | TimeoutException e) {
+      LOGGER.warnf(e, "Outbox event %d for key %s not acknowledged, will retry after its lease",
+          entry.getOutboxId(), entry.getAggregateId());
+      return false;
+    }
+  }
+
+}
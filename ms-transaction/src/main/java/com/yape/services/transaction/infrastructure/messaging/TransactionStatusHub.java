@@ -0,0 +1,121 @@
+package com.yape.services.transaction.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yape.services.transaction.domain.model.TransactionStatusChange;
+import com.yape.services.transaction.domain.service.TransactionStatusNotifier;
+import com.yape.services.transaction.infrastructure.config.TransactionSubscriptionConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jboss.logging.Logger;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.codec.TypedJsonJacksonCodec;
+
+/**
+ * Fan-out hub for transaction status subscriptions.
+ * Applied changes are broadcast on a Redis pub/sub topic, so every instance receives the changes
+ * consumed by any other one, and each instance hands them to its local subscribers. Subscribers
+ * are kept per transaction external ID in a concurrent map; a subscriber is removed as soon as
+ * its stream terminates and the entry of a transaction is dropped with its last subscriber.
+ * The number of live subscribers is exported as {@code transaction.subscriptions.active}.
+ */
+@ApplicationScoped
+public class TransactionStatusHub implements TransactionStatusNotifier {
+
+  private static final Logger LOGGER = Logger.getLogger(TransactionStatusHub.class);
+  private static final String SUBSCRIBERS_METRIC = "transaction.subscriptions.active";
+
+  private final RTopic statusTopic;
+  private final Map<UUID, Set<MultiEmitter<? super TransactionStatusChange>>> subscribers =
+      new ConcurrentHashMap<>();
+  private final AtomicInteger activeSubscribers = new AtomicInteger();
+
+  /**
+   * Constructor for TransactionStatusHub.
+   *
+   * @param redissonClient     the Redisson client
+   * @param subscriptionConfig the subscription configuration
+   * @param meterRegistry      the registry the subscriber count is exported to
+   */
+  @Inject
+  public TransactionStatusHub(RedissonClient redissonClient,
+                              TransactionSubscriptionConfig subscriptionConfig,
+                              MeterRegistry meterRegistry) {
+    this.statusTopic = redissonClient.getTopic(subscriptionConfig.statusTopic(),
+        new TypedJsonJacksonCodec(TransactionStatusChange[].class, new ObjectMapper()));
+    this.statusTopic.addListener(TransactionStatusChange[].class,
+        (channel, changes) -> dispatch(changes));
+    meterRegistry.gauge(SUBSCRIBERS_METRIC, activeSubscribers);
+  }
+
+  @Override
+  public void notifyStatusChanged(List<TransactionStatusChange> changes) {
+    if (changes.isEmpty()) {
+      return;
+    }
+    try {
+      statusTopic.publish(changes.toArray(TransactionStatusChange[]::new));
+    } catch (Exception e) {
+      LOGGER.errorf(e, "Failed to broadcast %d status changes", changes.size());
+    }
+  }
+
+  @Override
+  public Multi<TransactionStatusChange> watch(UUID transactionExternalId) {
+    return Multi.createFrom().emitter(emitter -> {
+      register(transactionExternalId, emitter);
+      emitter.onTermination(() -> unregister(transactionExternalId, emitter));
+    }, BackPressureStrategy.LATEST);
+  }
+
+  /**
+   * Returns the number of live subscribers on this instance.
+   *
+   * @return the number of live subscribers
+   */
+  public int activeSubscribers() {
+    return activeSubscribers.get();
+  }
+
+  private void dispatch(TransactionStatusChange[] changes) {
+    for (TransactionStatusChange change : changes) {
+      Set<MultiEmitter<? super TransactionStatusChange>> emitters =
+          subscribers.get(change.getTransactionExternalId());
+      if (emitters != null) {
+        emitters.forEach(emitter -> emitter.emit(change));
+      }
+    }
+  }
+
+  private void register(UUID transactionExternalId,
+                        MultiEmitter<? super TransactionStatusChange> emitter) {
+    subscribers.compute(transactionExternalId, (key, emitters) -> {
+      Set<MultiEmitter<? super TransactionStatusChange>> current =
+          emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+      current.add(emitter);
+      return current;
+    });
+    activeSubscribers.incrementAndGet();
+  }
+
+  private void unregister(UUID transactionExternalId,
+                          MultiEmitter<? super TransactionStatusChange> emitter) {
+    subscribers.computeIfPresent(transactionExternalId, (key, emitters) -> {
+      if (emitters.remove(emitter)) {
+        activeSubscribers.decrementAndGet();
+      }
+      return emitters.isEmpty() ? null : emitters;
+    });
+  }
+
+}
@@ -0,0 +1,42 @@
+package com.yape.services.transaction.infrastructure.persistence;
+
+import com.yape.services.shared.concurrency.DatabaseBulkhead;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Runs methods annotated with {@link DatabaseBulkhead} while holding a database permit.
+ * Its priority places it outside the JTA interceptor, so a permit is taken before a transaction
+ * borrows a connection and released only after the transaction has returned it.
+ * {@link DatabaseBulkhead#waitForPermit()} is read from the method, or else from its class.
+ */
+@DatabaseBulkhead
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class DatabaseBulkheadInterceptor {
+
+  private final DatabasePermits databasePermits;
+
+  /**
+   * Constructor for DatabaseBulkheadInterceptor.
+   *
+   * @param databasePermits the shared database permits
+   */
+  @Inject
+  public DatabaseBulkheadInterceptor(DatabasePermits databasePermits) {
+    this.databasePermits = databasePermits;
+  }
+
+  @AroundInvoke
+  Object guard(InvocationContext context) throws Exception {
+    DatabaseBulkhead bulkhead = context.getMethod().getAnnotation(DatabaseBulkhead.class);
+    if (bulkhead == null) {
+      bulkhead = context.getMethod().getDeclaringClass().getAnnotation(DatabaseBulkhead.class);
+    }
+    return databasePermits.call(context::proceed, bulkhead != null && bulkhead.waitForPermit());
+  }
+
+}
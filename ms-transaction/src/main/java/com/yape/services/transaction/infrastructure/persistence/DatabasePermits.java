@@ -0,0 +1,115 @@
+package com.yape.services.transaction.infrastructure.persistence;
+
+import com.yape.services.shared.exception.BusinessException;
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.transaction.infrastructure.config.DatabaseBulkheadConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Semaphore bulkhead capping the number of threads using the database at once.
+ * With virtual threads the number of concurrent requests is no longer bounded by a thread pool,
+ * so without it every request beyond the JDBC pool size would queue inside Agroal and fail on
+ * its acquisition timeout. Callers wait for a permit in FIFO order instead and are rejected with
+ * SERVICE_UNAVAILABLE when none is freed in time. Background callers, such as the status
+ * consumer, may wait without timeout instead: rejecting them would fail a whole Kafka batch.
+ */
+@ApplicationScoped
+public class DatabasePermits {
+
+  private static final String WAIT_METRIC = "transaction.db.bulkhead.wait";
+  private static final String REJECTED_METRIC = "transaction.db.bulkhead.rejected";
+  private static final String AVAILABLE_METRIC = "transaction.db.bulkhead.available";
+
+  // Calls holding a permit on the current thread; nested calls reuse the outermost permit
+  private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+  private final DatabaseBulkheadConfig bulkheadConfig;
+  private final Semaphore permits;
+  private final Timer waitTimer;
+  private final Counter rejected;
+
+  /**
+   * Constructor for DatabasePermits.
+   *
+   * @param bulkheadConfig the bulkhead configuration
+   * @param meterRegistry  the meter registry for bulkhead metrics
+   */
+  @Inject
+  public DatabasePermits(DatabaseBulkheadConfig bulkheadConfig, MeterRegistry meterRegistry) {
+    this.bulkheadConfig = bulkheadConfig;
+    this.permits = new Semaphore(bulkheadConfig.permits(), true);
+    this.waitTimer = meterRegistry.timer(WAIT_METRIC);
+    this.rejected = meterRegistry.counter(REJECTED_METRIC);
+    Gauge.builder(AVAILABLE_METRIC, permits, Semaphore::availablePermits)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Runs the work while holding a permit, taking one unless the thread already holds it.
+   *
+   * @param work the database work
+   * @param <T>  the type of the result
+   * @return the result of the work
+   * @throws Exception if the work fails
+   */
+  public <T> T call(Callable<T> work) throws Exception {
+    return call(work, false);
+  }
+
+  /**
+   * Runs the work while holding a permit, taking one unless the thread already holds it.
+   *
+   * @param work          the database work
+   * @param waitForPermit true to wait for a permit without timeout instead of being rejected
+   * @param <T>           the type of the result
+   * @return the result of the work
+   * @throws Exception if the work fails
+   */
+  public <T> T call(Callable<T> work, boolean waitForPermit) throws Exception {
+    int[] depth = DEPTH.get();
+    if (!bulkheadConfig.enabled() || depth[0] > 0) {
+      return nested(work, depth);
+    }
+    acquire(waitForPermit);
+    try {
+      return nested(work, depth);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private static <T> T nested(Callable<T> work, int[] depth) throws Exception {
+    depth[0]++;
+    try {
+      return work.call();
+    } finally {
+      depth[0]--;
+    }
+  }
+
+  private void acquire(boolean waitForPermit) throws InterruptedException {
+    long start = System.nanoTime();
+    boolean acquired = true;
+    if (waitForPermit) {
+      permits.acquire();
+    } else {
+      acquired = permits.tryAcquire(bulkheadConfig.acquireTimeoutMs(), TimeUnit.MILLISECONDS);
+    }
+    waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    if (!acquired) {
+      rejected.increment();
+      throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE,
+          "Database busy, no connection freed within "
+              + bulkheadConfig.acquireTimeoutMs() + " ms");
+    }
+  }
+
+}
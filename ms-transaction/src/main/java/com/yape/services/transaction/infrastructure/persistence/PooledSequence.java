@@ -0,0 +1,60 @@
+package com.yape.services.transaction.infrastructure.persistence;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.SqlClient;
+
+/**
+ * Hands out IDs of a PostgreSQL sequence in blocks, like the Hibernate pooled optimizer.
+ * The sequence value is the upper bound of a block of {@code blockSize} IDs, so the blocks taken
+ * here never overlap the ones Hibernate takes from the same sequence. When two callers refill at
+ * the same time, the remaining IDs of one of the fetched blocks are left unused.
+ */
+final class PooledSequence {
+
+  private final String nextValueSql;
+  private final int blockSize;
+
+  // Guarded by this; the block is exhausted when next > hi
+  private long next = 1;
+  private long hi;
+
+  /**
+   * Constructor for PooledSequence.
+   *
+   * @param sequenceName the name of the sequence, incremented by {@code blockSize}
+   * @param blockSize    the number of IDs per sequence value
+   */
+  PooledSequence(String sequenceName, int blockSize) {
+    this.nextValueSql = "SELECT nextval('" + sequenceName + "')";
+    this.blockSize = blockSize;
+  }
+
+  /**
+   * Returns the next ID, fetching a new block from the sequence when the current one is used up.
+   *
+   * @param client the client the sequence is read with
+   * @return the next ID
+   */
+  Uni<Long> nextId(SqlClient client) {
+    Long id = takeFromBlock();
+    if (id != null) {
+      return Uni.createFrom().item(id);
+    }
+    return client.query(nextValueSql).execute()
+        .map(rows -> takeFromNewBlock(rows.iterator().next().getLong(0)));
+  }
+
+  private synchronized Long takeFromBlock() {
+    return next <= hi ? next++ : null;
+  }
+
+  synchronized long takeFromNewBlock(long blockHi) {
+    long first = Math.max(blockHi - blockSize + 1, 1);
+    if (next > hi) {
+      next = first + 1;
+      hi = blockHi;
+    }
+    return first;
+  }
+
+}
@@ -0,0 +1,90 @@
+package com.yape.services.transaction.infrastructure.persistence;
+
+import com.yape.services.shared.concurrency.DatabaseBulkhead;
+import com.yape.services.transaction.infrastructure.config.TransactionPartitionConfig;
+import com.yape.services.transaction.infrastructure.persistence.repository.TransactionPartitionRepository;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import java.time.Clock;
+import java.time.YearMonth;
+import org.jboss.logging.Logger;
+
+/**
+ * Maintains the monthly partitions of the transaction table.
+ * Partitions for the current month and the configured months ahead are created at startup and
+ * on every run, so inserts always find their partition. With a retention configured, partitions
+ * older than the retention window are dropped, which replaces deleting old rows.
+ */
+@ApplicationScoped
+public class TransactionPartitionManager {
+
+  private static final Logger LOGGER = Logger.getLogger(TransactionPartitionManager.class);
+
+  private final TransactionPartitionRepository repository;
+  private final TransactionPartitionConfig partitionConfig;
+  private final Clock clock;
+
+  /**
+   * Constructor for TransactionPartitionManager.
+   *
+   * @param repository      the repository for transaction partitions
+   * @param partitionConfig the partitioning configuration
+   */
+  @Inject
+  public TransactionPartitionManager(TransactionPartitionRepository repository,
+                                     TransactionPartitionConfig partitionConfig) {
+    this(repository, partitionConfig, Clock.systemUTC());
+  }
+
+  TransactionPartitionManager(TransactionPartitionRepository repository,
+                              TransactionPartitionConfig partitionConfig,
+                              Clock clock) {
+    this.repository = repository;
+    this.partitionConfig = partitionConfig;
+    this.clock = clock;
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    maintain();
+  }
+
+  @Scheduled(every = "${application.partitioning.check-interval:1h}",
+      concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+  void scheduledMaintain() {
+    maintain();
+  }
+
+  /**
+   * Creates the upcoming partitions and drops the expired ones.
+   * Skipped when another instance is already maintaining the partitions.
+   */
+  @DatabaseBulkhead
+  @Transactional
+  public void maintain() {
+    if (!repository.tryLockMaintenance()) {
+      LOGGER.debug("Partition maintenance running on another instance, skipping");
+      return;
+    }
+
+    YearMonth current = YearMonth.now(clock);
+    for (int i = 0; i <= partitionConfig.monthsAhead(); i++) {
+      repository.createPartition(current.plusMonths(i));
+    }
+
+    if (partitionConfig.retentionMonths() <= 0) {
+      return;
+    }
+    YearMonth oldestKept = current.minusMonths(partitionConfig.retentionMonths());
+    for (YearMonth month : repository.findPartitions()) {
+      if (month.isBefore(oldestKept)) {
+        repository.dropPartition(month);
+        LOGGER.infof("Dropped transaction partition for %s", month);
+      }
+    }
+  }
+
+}
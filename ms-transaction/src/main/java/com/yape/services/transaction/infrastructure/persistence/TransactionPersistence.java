@@ -1,21 +1,39 @@
 package com.yape.services.transaction.infrastructure.persistence;
 
+import com.yape.services.shared.concurrency.DatabaseBulkhead;
+import com.yape.services.shared.util.Constants;
 import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatusTransition;
 import com.yape.services.transaction.domain.repository.TransactionRepository;
 import com.yape.services.transaction.infrastructure.persistence.entity.TransactionEntity;
+import com.yape.services.transaction.infrastructure.persistence.projection.TransactionHistoryRow;
 import com.yape.services.transaction.infrastructure.persistence.repository.TransactionPostgresRepository;
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Persistence implementation for TransactionRepository using PostgreSQL.
  */
 @ApplicationScoped
+@Timed(Constants.DB_METRIC)
+@DatabaseBulkhead
 public class TransactionPersistence implements TransactionRepository {
 
+  private static final int SCAN_TIMEOUT_SECONDS = 1800;
+
   private final TransactionPostgresRepository repository;
 
   /**
@@ -36,6 +54,17 @@ public class TransactionPersistence implements TransactionRepository {
     return toDomain(savedEntity);
   }
 
+  @Override
+  @Transactional(Transactional.TxType.REQUIRED)
+  public List<Transaction> saveAll(List<Transaction> transactions) {
+    List<TransactionEntity> entities = transactions.stream()
+        .map(TransactionPersistence::toEntity)
+        .toList();
+    return repository.saveAll(entities).stream()
+        .map(TransactionPersistence::toDomain)
+        .toList();
+  }
+
   @Override
   @Transactional(Transactional.TxType.SUPPORTS)
   public Optional<Transaction> findByExternalId(UUID externalId) {
@@ -43,6 +72,25 @@ public class TransactionPersistence implements TransactionRepository {
         .map(TransactionPersistence::toDomain);
   }
 
+  @Override
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public List<Transaction> findByExternalIds(Collection<UUID> externalIds) {
+    return repository.findByTransactionExternalIds(externalIds).stream()
+        .map(TransactionPersistence::toDomain)
+        .toList();
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public List<Transaction> findByAccount(UUID accountExternalId, LocalDateTime afterCreatedAt,
+                                         Long afterTransactionId, int limit) {
+    List<TransactionHistoryRow> rows = repository.findPageByAccount(
+        accountExternalId, afterCreatedAt, afterTransactionId, limit);
+    return rows.stream()
+        .map(TransactionPersistence::toDomain)
+        .toList();
+  }
+
   private static TransactionEntity toEntity(Transaction domain) {
     if (domain == null) {
       return null;
@@ -74,10 +122,50 @@ public class TransactionPersistence implements TransactionRepository {
         .build();
   }
 
+  private static Transaction toDomain(TransactionHistoryRow row) {
+    return Transaction.builder()
+        .transactionId(row.transactionId())
+        .transactionExternalId(row.transactionExternalId())
+        .accountExternalIdDebit(row.accountExternalIdDebit())
+        .accountExternalIdCredit(row.accountExternalIdCredit())
+        .transferTypeId(row.transferTypeId())
+        .transactionStatusId(row.transactionStatusId())
+        .value(row.value())
+        .createdAt(row.createdAt())
+        .build();
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.REQUIRED)
+  public int updateStatus(UUID externalId, TransactionStatusTransition transition) {
+    return repository.updateStatusByExternalId(externalId, transition);
+  }
+
   @Override
   @Transactional(Transactional.TxType.REQUIRED)
-  public int updateStatus(UUID externalId, Integer newStatusId) {
-    return repository.updateStatusByExternalId(externalId, newStatusId);
+  public List<UUID> updateStatuses(Map<UUID, TransactionStatusTransition> transitions) {
+    return repository.updateStatusesByExternalIds(transitions);
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public Map<UUID, Integer> findStatusIds(Collection<UUID> externalIds) {
+    return repository.findStatusIdsByExternalIds(externalIds);
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.REQUIRED)
+  @TransactionConfiguration(timeout = SCAN_TIMEOUT_SECONDS)
+  public long forEachExternalId(Duration createdWithin, Consumer<UUID> consumer) {
+    long count = 0;
+    try (Stream<UUID> externalIds = repository.streamExternalIds(createdWithin)) {
+      Iterator<UUID> iterator = externalIds.iterator();
+      while (iterator.hasNext()) {
+        consumer.accept(iterator.next());
+        count++;
+      }
+    }
+    return count;
   }
 
 }
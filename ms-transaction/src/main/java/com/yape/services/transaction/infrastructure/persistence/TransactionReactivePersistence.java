@@ -0,0 +1,210 @@
+package com.yape.services.transaction.infrastructure.persistence;
+
+import com.yape.services.shared.exception.BusinessException;
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionCreation;
+import com.yape.services.transaction.domain.repository.ReactiveTransactionRepository;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.infrastructure.messaging.TransactionOutboxPublisher;
+import com.yape.services.transaction.infrastructure.persistence.entity.TransactionOutboxEntity;
+import com.yape.services.transaction.infrastructure.persistence.repository.TransactionRequestPostgresRepository;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlClient;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.jboss.logging.Logger;
+
+/**
+ * Reactive implementation of ReactiveTransactionRepository using the Vert.x PostgreSQL client.
+ * Runs the statements of the JDBC persistence on the event loop: lookups by external ID prune to
+ * one partition through transaction_lookup, and IDs are taken from the pooled sequences in blocks
+ * that do not overlap the ones Hibernate allocates.
+ */
+@ApplicationScoped
+public class TransactionReactivePersistence implements ReactiveTransactionRepository {
+
+  private static final Logger LOGGER = Logger.getLogger(TransactionReactivePersistence.class);
+  private static final int SEQUENCE_BLOCK_SIZE = 50;
+
+  private static final String FIND_BY_EXTERNAL_ID_SQL = """
+      SELECT transaction_id, transaction_external_id, account_external_id_debit,
+             account_external_id_credit, transfer_type_id, transaction_status_id, value,
+             created_at
+        FROM transaction
+       WHERE transaction_external_id = $1
+         AND created_at = (SELECT created_at
+                             FROM transaction_lookup
+                            WHERE transaction_external_id = $1)
+      """;
+  private static final String INSERT_SQL = """
+      INSERT INTO transaction (transaction_id, transaction_external_id, account_external_id_debit,
+                               account_external_id_credit, transfer_type_id,
+                               transaction_status_id, value, created_at)
+      VALUES ($1, $2, $3, $4, $5, $6, $7, $8)
+      """;
+  private static final String INSERT_OUTBOX_SQL = """
+      INSERT INTO transaction_outbox (outbox_id, aggregate_id, event_type, payload, created_at)
+      VALUES ($1, $2, $3, $4, $5)
+      """;
+  private static final String LOCK_REQUEST_SQL =
+      "SELECT 1 FROM pg_advisory_xact_lock($1, hashtext($2))";
+  private static final String CLAIM_REQUEST_SQL = """
+      INSERT INTO transaction_request (request_id, request_hash)
+      SELECT $1, $2
+       WHERE NOT EXISTS (SELECT 1 FROM transaction_request WHERE request_id = $1)
+      """;
+  private static final String COMPLETE_REQUEST_SQL = """
+      UPDATE transaction_request
+         SET transaction_external_id = $2
+       WHERE request_id = $1
+      """;
+  private static final String FIND_REQUEST_SQL = """
+      SELECT transaction_external_id, request_hash
+        FROM transaction_request
+       WHERE request_id = $1
+      """;
+
+  private final Pool pool;
+  private final PooledSequence transactionIds =
+      new PooledSequence("transaction_transaction_id_seq", SEQUENCE_BLOCK_SIZE);
+  private final PooledSequence outboxIds =
+      new PooledSequence("transaction_outbox_outbox_id_seq", SEQUENCE_BLOCK_SIZE);
+
+  /**
+   * Constructor for TransactionReactivePersistence.
+   *
+   * @param pool the reactive PostgreSQL pool
+   */
+  @Inject
+  public TransactionReactivePersistence(Pool pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  public Uni<Optional<Transaction>> findByExternalId(UUID externalId) {
+    return findByExternalId(pool, externalId);
+  }
+
+  @Override
+  public Uni<TransactionCreation> create(
+      Transaction transaction,
+      String requestId,
+      String requestHash,
+      Function<Transaction, TransactionCreatedEvent> eventFactory) {
+    return pool.withTransaction(connection -> claim(connection, requestId, requestHash)
+        .flatMap(claimed -> claimed
+            ? insert(connection, transaction, requestId, eventFactory)
+                .map(saved -> new TransactionCreation(saved, true))
+            : findPrevious(connection, requestId, requestHash)
+                .map(previous -> new TransactionCreation(previous, false))));
+  }
+
+  private Uni<Boolean> claim(SqlConnection connection, String requestId, String requestHash) {
+    if (requestId == null) {
+      return Uni.createFrom().item(true);
+    }
+    return connection.preparedQuery(LOCK_REQUEST_SQL)
+        .execute(Tuple.of(TransactionRequestPostgresRepository.REQUEST_LOCK_SPACE, requestId))
+        .flatMap(locked -> connection.preparedQuery(CLAIM_REQUEST_SQL)
+            .execute(Tuple.of(requestId, requestHash)))
+        .map(rows -> rows.rowCount() == 1);
+  }
+
+  private Uni<Transaction> insert(SqlConnection connection, Transaction transaction,
+                                  String requestId,
+                                  Function<Transaction, TransactionCreatedEvent> eventFactory) {
+    return transactionIds.nextId(connection)
+        .flatMap(transactionId -> {
+          transaction.setTransactionId(transactionId);
+          transaction.setCreatedAt(LocalDateTime.now());
+          return connection.preparedQuery(INSERT_SQL).execute(Tuple.from(List.of(
+              Math.toIntExact(transactionId),
+              transaction.getTransactionExternalId(),
+              transaction.getAccountExternalIdDebit(),
+              transaction.getAccountExternalIdCredit(),
+              transaction.getTransferTypeId(),
+              transaction.getTransactionStatusId(),
+              transaction.getValue(),
+              transaction.getCreatedAt())));
+        })
+        .flatMap(rows -> insertOutbox(connection,
+            TransactionOutboxPublisher.toEntity(eventFactory.apply(transaction))))
+        .flatMap(rows -> requestId == null
+            ? Uni.createFrom().item(rows)
+            : connection.preparedQuery(COMPLETE_REQUEST_SQL)
+                .execute(Tuple.of(requestId, transaction.getTransactionExternalId())))
+        .invoke(() -> LOGGER.infof("Transaction created with ID: %s",
+            transaction.getTransactionExternalId()))
+        .replaceWith(transaction);
+  }
+
+  private Uni<RowSet<Row>> insertOutbox(SqlConnection connection, TransactionOutboxEntity entry) {
+    return outboxIds.nextId(connection)
+        .flatMap(outboxId -> connection.preparedQuery(INSERT_OUTBOX_SQL).execute(Tuple.of(
+            outboxId,
+            entry.getAggregateId(),
+            entry.getEventType(),
+            Buffer.buffer(entry.getPayload()),
+            LocalDateTime.now())));
+  }
+
+  private Uni<Transaction> findPrevious(SqlConnection connection, String requestId,
+                                       String requestHash) {
+    LOGGER.infof("Replaying stored result for request: %s", requestId);
+    return connection.preparedQuery(FIND_REQUEST_SQL).execute(Tuple.of(requestId))
+        .map(rows -> {
+          Row row = firstRow(rows);
+          if (row == null || row.getUUID("transaction_external_id") == null) {
+            throw new IllegalStateException("Request claimed without a transaction: " + requestId);
+          }
+          String storedHash = row.getString("request_hash");
+          if (storedHash != null && !storedHash.equals(requestHash)) {
+            throw new BusinessException(ErrorCode.REQUEST_ID_REUSED,
+                "Request-ID " + requestId + " was already used with a different input");
+          }
+          return row.getUUID("transaction_external_id");
+        })
+        .flatMap(transactionExternalId -> findByExternalId(connection, transactionExternalId)
+            .map(previous -> previous.orElseThrow(() -> new IllegalStateException(
+                "Transaction of request not found: " + transactionExternalId))));
+  }
+
+  private static Uni<Optional<Transaction>> findByExternalId(SqlClient client,
+                                                            UUID externalId) {
+    return client.preparedQuery(FIND_BY_EXTERNAL_ID_SQL).execute(Tuple.of(externalId))
+        .map(rows -> Optional.ofNullable(firstRow(rows))
+            .map(TransactionReactivePersistence::toDomain));
+  }
+
+  private static Row firstRow(RowSet<Row> rows) {
+    RowIterator<Row> iterator = rows.iterator();
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+
+  private static Transaction toDomain(Row row) {
+    return Transaction.builder()
+        .transactionId(row.getLong("transaction_id"))
+        .transactionExternalId(row.getUUID("transaction_external_id"))
+        .accountExternalIdDebit(row.getUUID("account_external_id_debit"))
+        .accountExternalIdCredit(row.getUUID("account_external_id_credit"))
+        .transferTypeId(row.getInteger("transfer_type_id"))
+        .transactionStatusId(row.getInteger("transaction_status_id"))
+        .value(row.getBigDecimal("value"))
+        .createdAt(row.getLocalDateTime("created_at"))
+        .build();
+  }
+
+}
@@ -0,0 +1,56 @@
+package com.yape.services.transaction.infrastructure.persistence;
+
+import com.yape.services.shared.concurrency.DatabaseBulkhead;
+import com.yape.services.shared.util.Constants;
+import com.yape.services.transaction.domain.model.TransactionRequest;
+import com.yape.services.transaction.domain.repository.TransactionRequestRepository;
+import com.yape.services.transaction.infrastructure.persistence.repository.TransactionRequestPostgresRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistence implementation for TransactionRequestRepository using PostgreSQL.
+ * An advisory lock on the Request-ID makes concurrent claims of the same ID wait for each other,
+ * so only one of them creates a transaction.
+ */
+@ApplicationScoped
+@Timed(Constants.DB_METRIC)
+@DatabaseBulkhead
+public class TransactionRequestPersistence implements TransactionRequestRepository {
+
+  private final TransactionRequestPostgresRepository repository;
+
+  /**
+   * Constructor for TransactionRequestPersistence.
+   *
+   * @param repository the PostgreSQL repository for Request-IDs
+   */
+  @Inject
+  public TransactionRequestPersistence(TransactionRequestPostgresRepository repository) {
+    this.repository = repository;
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.MANDATORY)
+  public boolean claim(String requestId, String requestHash) {
+    return repository.insertIfAbsent(requestId, requestHash) > 0;
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.MANDATORY)
+  public void complete(String requestId, UUID transactionExternalId) {
+    repository.updateTransactionExternalId(requestId, transactionExternalId);
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public Optional<TransactionRequest> findByRequestId(String requestId) {
+    return Optional.ofNullable(repository.findByRequestId(requestId))
+        .map(row -> new TransactionRequest(requestId, (String) row[1], (UUID) row[0]));
+  }
+
+}
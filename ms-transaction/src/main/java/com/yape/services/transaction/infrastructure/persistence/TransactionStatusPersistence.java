@@ -1,18 +1,24 @@
 package com.yape.services.transaction.infrastructure.persistence;
 
+import com.yape.services.shared.concurrency.DatabaseBulkhead;
+import com.yape.services.shared.util.Constants;
 import com.yape.services.transaction.domain.model.TransactionStatus;
 import com.yape.services.transaction.domain.repository.TransactionStatusRepository;
 import com.yape.services.transaction.infrastructure.persistence.entity.TransactionStatusEntity;
 import com.yape.services.transaction.infrastructure.persistence.repository.TransactionStatusPostgresRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Persistence implementation for TransactionStatus.
  */
 @ApplicationScoped
+@Timed(Constants.DB_METRIC)
+@DatabaseBulkhead
 public class TransactionStatusPersistence implements TransactionStatusRepository {
 
   private final TransactionStatusPostgresRepository repository;
@@ -41,6 +47,14 @@ public class TransactionStatusPersistence implements TransactionStatusRepository
         .map(TransactionStatusPersistence::toDomain);
   }
 
+  @Override
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public List<TransactionStatus> findAll() {
+    return repository.findAllTransactionStatuses().stream()
+        .map(TransactionStatusPersistence::toDomain)
+        .toList();
+  }
+
   private static TransactionStatus toDomain(TransactionStatusEntity entity) {
     if (entity == null) {
       return null;
@@ -1,9 +1,12 @@
 package com.yape.services.transaction.infrastructure.persistence;
 
+import com.yape.services.shared.concurrency.DatabaseBulkhead;
+import com.yape.services.shared.util.Constants;
 import com.yape.services.transaction.domain.model.TransferType;
 import com.yape.services.transaction.domain.repository.TransferTypeRepository;
 import com.yape.services.transaction.infrastructure.persistence.entity.TransferTypeEntity;
 import com.yape.services.transaction.infrastructure.persistence.repository.TransferTypePostgresRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -14,6 +17,8 @@ import java.util.Optional;
  * Persistence implementation for TransferTypeRepository using PostgreSQL.
  */
 @ApplicationScoped
+@Timed(Constants.DB_METRIC)
+@DatabaseBulkhead
 public class TransferTypePersistence implements TransferTypeRepository {
 
   private final TransferTypePostgresRepository repository;
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -23,7 +24,9 @@ import org.hibernate.annotations.CreationTimestamp;
 public class TransactionEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_id_seq")
+  @SequenceGenerator(name = "transaction_id_seq", sequenceName = "transaction_transaction_id_seq",
+      allocationSize = 50)
   @Column(name = "transaction_id")
   private Integer transactionId;
 
@@ -0,0 +1,48 @@
+package com.yape.services.transaction.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * Entity class representing an event waiting in the transaction outbox.
+ */
+@Entity
+@Table(name = "transaction_outbox")
+@Getter
+@Setter
+public class TransactionOutboxEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_outbox_id_seq")
+  @SequenceGenerator(name = "transaction_outbox_id_seq",
+      sequenceName = "transaction_outbox_outbox_id_seq", allocationSize = 50)
+  @Column(name = "outbox_id")
+  private Long outboxId;
+
+  @Column(name = "aggregate_id", nullable = false)
+  private UUID aggregateId;
+
+  @Column(name = "event_type", nullable = false, length = 50)
+  private String eventType;
+
+  @Column(name = "payload", nullable = false)
+  private byte[] payload;
+
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "claimed_until")
+  private LocalDateTime claimedUntil;
+
+}
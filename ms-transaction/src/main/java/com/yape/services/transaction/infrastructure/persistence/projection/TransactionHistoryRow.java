@@ -0,0 +1,30 @@
+package com.yape.services.transaction.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a transaction row of an account history page.
+ * Rows are read straight from the covering indexes and are never managed by Hibernate.
+ *
+ * @param transactionId           the internal ID, second key of the page order
+ * @param transactionExternalId   the external ID of the transaction
+ * @param accountExternalIdDebit  the debit account external ID
+ * @param accountExternalIdCredit the credit account external ID
+ * @param transferTypeId          the transfer type ID
+ * @param transactionStatusId     the transaction status ID
+ * @param value                   the transaction value
+ * @param createdAt               the creation date, first key of the page order
+ */
+public record TransactionHistoryRow(
+    long transactionId,
+    UUID transactionExternalId,
+    UUID accountExternalIdDebit,
+    UUID accountExternalIdCredit,
+    int transferTypeId,
+    int transactionStatusId,
+    BigDecimal value,
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,90 @@
+package com.yape.services.transaction.infrastructure.persistence.repository;
+
+import com.yape.services.transaction.infrastructure.persistence.entity.TransactionOutboxEntity;
+import com.yape.services.shared.concurrency.DatabaseBulkhead;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import java.util.List;
+
+/**
+ * Repository for transaction outbox entities in PostgreSQL using Panache.
+ * The relay claims a batch and deletes the acknowledged entries in two short transactions of
+ * their own, so no connection or row lock is held while it waits for the broker.
+ */
+@ApplicationScoped
+public class TransactionOutboxPostgresRepository
+    implements PanacheRepositoryBase<TransactionOutboxEntity, Long> {
+
+  private static final String CLAIM_NEXT_BATCH_SQL = """
+      WITH claimed AS (
+          UPDATE transaction_outbox
+             SET claimed_until = LOCALTIMESTAMP + make_interval(secs => ?2)
+           WHERE outbox_id IN (SELECT outbox_id
+                                 FROM transaction_outbox
+                                WHERE claimed_until IS NULL
+                                   OR claimed_until < LOCALTIMESTAMP
+                                ORDER BY outbox_id
+                                LIMIT ?1
+                                  FOR UPDATE SKIP LOCKED)
+          RETURNING *)
+      SELECT *
+        FROM claimed
+       ORDER BY outbox_id
+      """;
+
+  /**
+   * Saves an outbox entity.
+   *
+   * @param entity the entity to save
+   * @return the saved entity
+   */
+  public TransactionOutboxEntity save(TransactionOutboxEntity entity) {
+    persist(entity);
+    return entity;
+  }
+
+  /**
+   * Saves several outbox entities; the inserts are sent as JDBC batches on flush.
+   *
+   * @param entities the entities to save
+   */
+  public void saveAll(List<TransactionOutboxEntity> entities) {
+    persist(entities);
+  }
+
+  /**
+   * Claims the oldest unclaimed outbox entries for a lease, in insertion order, and commits the
+   * claim. Entries claimed by another relay are skipped until their lease expires.
+   *
+   * @param batchSize the maximum number of entries to claim
+   * @param leaseMs   how long the entries stay claimed, in milliseconds
+   * @return the claimed outbox entries
+   */
+  @DatabaseBulkhead
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  @SuppressWarnings("unchecked")
+  public List<TransactionOutboxEntity> claimNextBatch(int batchSize, long leaseMs) {
+    return getEntityManager()
+        .createNativeQuery(CLAIM_NEXT_BATCH_SQL, TransactionOutboxEntity.class)
+        .setParameter(1, batchSize)
+        .setParameter(2, leaseMs / 1_000.0)
+        .getResultList();
+  }
+
+  /**
+   * Deletes several outbox entries with a single statement, in a transaction of its own.
+   *
+   * @param outboxIds the IDs of the entries to delete
+   * @return the number of deleted entries
+   */
+  @DatabaseBulkhead
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  public long deleteByIds(List<Long> outboxIds) {
+    if (outboxIds.isEmpty()) {
+      return 0;
+    }
+    return delete("outboxId in ?1", outboxIds);
+  }
+
+}
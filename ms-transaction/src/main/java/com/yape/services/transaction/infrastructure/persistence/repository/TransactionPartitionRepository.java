@@ -0,0 +1,130 @@
+package com.yape.services.transaction.infrastructure.persistence.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Repository for the monthly partitions of the transaction table in PostgreSQL.
+ * Partitions are named {@code transaction_pYYYY_MM} and cover one calendar month of created_at.
+ * The transaction_request table is partitioned by the same months and its partitions are created
+ * and dropped with the transaction partition of the month. transaction_lookup is not partitioned,
+ * so its primary key keeps external IDs unique across months; the lookup rows of a dropped month
+ * are deleted by created_at.
+ */
+@ApplicationScoped
+public class TransactionPartitionRepository {
+
+  private static final long MAINTENANCE_LOCK_KEY = 0x7472616E73L;
+  private static final Pattern PARTITION_NAME =
+      Pattern.compile("transaction_p(\\d{4})_(\\d{2})");
+  private static final List<String> PARTITIONED_TABLES =
+      List.of("transaction", "transaction_request");
+
+  private static final String CREATE_PARTITION_SQL = """
+      CREATE TABLE IF NOT EXISTS %s PARTITION OF %s
+         FOR VALUES FROM ('%s') TO ('%s')
+      """;
+  private static final String LIST_PARTITIONS_SQL = """
+      SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+       WHERE p.relname = 'transaction'
+      """;
+  private static final String DELETE_LOOKUP_SQL = """
+      DELETE FROM transaction_lookup
+       WHERE created_at >= ?1
+         AND created_at < ?2
+      """;
+
+  private final EntityManager entityManager;
+
+  /**
+   * Constructor for TransactionPartitionRepository.
+   *
+   * @param entityManager the entity manager
+   */
+  @Inject
+  public TransactionPartitionRepository(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Takes the partition maintenance lock for the current database transaction.
+   * Only one instance maintains the partitions at a time.
+   *
+   * @return true if the lock was taken, false if another instance holds it
+   */
+  public boolean tryLockMaintenance() {
+    Object locked = entityManager
+        .createNativeQuery("SELECT pg_try_advisory_xact_lock(?1)")
+        .setParameter(1, MAINTENANCE_LOCK_KEY)
+        .getSingleResult();
+    return Boolean.TRUE.equals(locked);
+  }
+
+  /**
+   * Creates the partitions of a month if they do not exist yet.
+   *
+   * @param month the month covered by the partitions
+   */
+  public void createPartition(YearMonth month) {
+    for (String table : PARTITIONED_TABLES) {
+      entityManager.createNativeQuery(String.format(CREATE_PARTITION_SQL,
+              partitionName(table, month), table, month.atDay(1), month.plusMonths(1).atDay(1)))
+          .executeUpdate();
+    }
+  }
+
+  /**
+   * Lists the months that have a partition.
+   *
+   * @return the months with a partition
+   */
+  @SuppressWarnings("unchecked")
+  public List<YearMonth> findPartitions() {
+    List<String> names = entityManager.createNativeQuery(LIST_PARTITIONS_SQL).getResultList();
+    return names.stream()
+        .map(TransactionPartitionRepository::parseMonth)
+        .filter(Objects::nonNull)
+        .sorted()
+        .toList();
+  }
+
+  /**
+   * Drops the transaction partition of a month together with the request partition of the same
+   * month, and deletes the lookup rows of the month.
+   *
+   * @param month the month covered by the partitions
+   */
+  public void dropPartition(YearMonth month) {
+    entityManager.createNativeQuery(DELETE_LOOKUP_SQL)
+        .setParameter(1, month.atDay(1).atStartOfDay())
+        .setParameter(2, month.plusMonths(1).atDay(1).atStartOfDay())
+        .executeUpdate();
+    entityManager.createNativeQuery("DROP TABLE IF EXISTS " + PARTITIONED_TABLES.stream()
+            .map(table -> partitionName(table, month))
+            .collect(Collectors.joining(", ")))
+        .executeUpdate();
+  }
+
+  static String partitionName(String table, YearMonth month) {
+    return String.format("%s_p%04d_%02d", table, month.getYear(), month.getMonthValue());
+  }
+
+  private static YearMonth parseMonth(String partitionName) {
+    Matcher matcher = PARTITION_NAME.matcher(partitionName);
+    if (!matcher.matches()) {
+      return null;
+    }
+    return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+  }
+
+}
@@ -1,25 +1,144 @@
 package com.yape.services.transaction.infrastructure.persistence.repository;
 
+import com.yape.services.transaction.domain.model.TransactionStatusTransition;
 import com.yape.services.transaction.infrastructure.persistence.entity.TransactionEntity;
+import com.yape.services.transaction.infrastructure.persistence.projection.TransactionHistoryRow;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.Query;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 
 /**
  * Repository for transaction entities in PostgreSQL using Panache.
+ * The transaction table is range-partitioned by created_at. Statements by external ID read the
+ * created_at of the transaction from transaction_lookup, so PostgreSQL only visits the partition
+ * holding it.
  */
 @ApplicationScoped
 public class TransactionPostgresRepository
     implements PanacheRepositoryBase<TransactionEntity, Integer> {
 
+  private static final String FIND_BY_EXTERNAL_ID_SQL = """
+      SELECT *
+        FROM transaction
+       WHERE transaction_external_id = ?1
+         AND created_at = (SELECT created_at
+                             FROM transaction_lookup
+                            WHERE transaction_external_id = ?1)
+      """;
+  private static final String FIND_BY_EXTERNAL_IDS_SQL = """
+      SELECT t.*
+        FROM transaction_lookup AS l
+        JOIN transaction AS t
+          ON t.transaction_external_id = l.transaction_external_id
+         AND t.created_at = l.created_at
+       WHERE l.transaction_external_id = ANY(?1)
+      """;
+  private static final String UPDATE_STATUS_SQL = """
+      UPDATE transaction
+         SET transaction_status_id = ?1,
+             updated_at = CURRENT_TIMESTAMP
+       WHERE transaction_external_id = ?2
+         AND created_at = (SELECT created_at
+                             FROM transaction_lookup
+                            WHERE transaction_external_id = ?2)
+         AND transaction_status_id = ?3
+      """;
+  private static final String BULK_UPDATE_STATUS_SQL = """
+      UPDATE transaction AS t
+         SET transaction_status_id = v.transaction_status_id,
+             updated_at = CURRENT_TIMESTAMP
+        FROM (VALUES %s) AS v (transaction_external_id, transaction_status_id, from_status_id)
+        JOIN transaction_lookup AS l ON l.transaction_external_id = v.transaction_external_id
+       WHERE t.transaction_external_id = v.transaction_external_id
+         AND t.created_at = l.created_at
+         AND t.transaction_status_id = v.from_status_id
+      RETURNING t.transaction_external_id
+      """;
+  private static final String BULK_UPDATE_ROW =
+      "(CAST(?%d AS uuid), CAST(?%d AS integer), CAST(?%d AS integer))";
+  private static final String FIND_STATUS_IDS_SQL = """
+      SELECT t.transaction_external_id, t.transaction_status_id
+        FROM transaction_lookup AS l
+        JOIN transaction AS t
+          ON t.transaction_external_id = l.transaction_external_id
+         AND t.created_at = l.created_at
+       WHERE l.transaction_external_id IN (:ids)
+      """;
+
+  private static final String EXTERNAL_IDS_SQL =
+      "SELECT transaction_external_id FROM transaction_lookup";
+  private static final String CREATED_WITHIN =
+      " WHERE created_at >= :createdSince";
+  private static final int EXTERNAL_IDS_FETCH_SIZE = 10_000;
+
+  private static final String HISTORY_COLUMNS = "transaction_id, transaction_external_id, "
+      + "account_external_id_debit, account_external_id_credit, transfer_type_id, "
+      + "transaction_status_id, value, created_at";
+  private static final String HISTORY_SQL = """
+      SELECT %1$s
+        FROM ((SELECT %1$s
+                 FROM transaction
+                WHERE account_external_id_debit = :account %2$s
+                ORDER BY created_at DESC, transaction_id DESC
+                LIMIT :limit)
+              UNION ALL
+              (SELECT %1$s
+                 FROM transaction
+                WHERE account_external_id_credit = :account
+                  AND account_external_id_debit <> :account %2$s
+                ORDER BY created_at DESC, transaction_id DESC
+                LIMIT :limit)) AS page
+       ORDER BY created_at DESC, transaction_id DESC
+       LIMIT :limit
+      """;
+  private static final String HISTORY_SEEK = "AND created_at <= :afterCreatedAt "
+      + "AND (created_at, transaction_id) < (:afterCreatedAt, :afterTransactionId)";
+
   /**
    * Finds a transaction entity by its external ID.
    *
    * @param transactionExternalId the external ID of the transaction
    * @return the transaction entity
    */
+  @SuppressWarnings("unchecked")
   public TransactionEntity findByTransactionExternalId(UUID transactionExternalId) {
-    return find("transactionExternalId", transactionExternalId).firstResult();
+    List<TransactionEntity> result = getEntityManager()
+        .createNativeQuery(FIND_BY_EXTERNAL_ID_SQL, TransactionEntity.class)
+        .setParameter(1, transactionExternalId)
+        .getResultList();
+    return result.isEmpty() ? null : result.get(0);
+  }
+
+  /**
+   * Finds several transaction entities by their external IDs.
+   * The IDs are bound as one array parameter, so the statement is the same whatever their number,
+   * and each row is read from the partition its transaction_lookup row points to.
+   *
+   * @param transactionExternalIds the external IDs of the transactions
+   * @return the transaction entities found
+   */
+  @SuppressWarnings("unchecked")
+  public List<TransactionEntity> findByTransactionExternalIds(
+      Collection<UUID> transactionExternalIds) {
+    if (transactionExternalIds.isEmpty()) {
+      return List.of();
+    }
+
+    return getEntityManager()
+        .createNativeQuery(FIND_BY_EXTERNAL_IDS_SQL, TransactionEntity.class)
+        .setParameter(1, transactionExternalIds.toArray(UUID[]::new))
+        .getResultList();
   }
 
   /**
@@ -29,20 +148,164 @@ public class TransactionPostgresRepository
    * @return the saved entity
    */
   public TransactionEntity save(TransactionEntity entity) {
-    persist(entity);
+    persistAndFlush(entity);
     return entity;
   }
 
   /**
-   * Updates the status of a transaction by its external ID.
+   * Saves several transaction entities.
+   * IDs come from the pooled sequence, so the inserts are sent as JDBC batches on flush.
+   *
+   * @param entities the entities to save
+   * @return the saved entities
+   */
+  public List<TransactionEntity> saveAll(List<TransactionEntity> entities) {
+    persist(entities);
+    flush();
+    return entities;
+  }
+
+  /**
+   * Finds a page of the transactions of an account, newest first.
+   * Each side of the account is read with a seek on its covering index, so the cost of a page
+   * does not depend on how deep it is. The extra bound on created_at lets PostgreSQL skip the
+   * partitions newer than the cursor. Rows are projected without loading entities.
+   *
+   * @param accountExternalId  the external ID of the debit or credit account
+   * @param afterCreatedAt     the creation date of the last row of the previous page, or null
+   * @param afterTransactionId the ID of the last row of the previous page, or null
+   * @param limit              the maximum number of rows to return
+   * @return the rows of the page
+   */
+  @SuppressWarnings("unchecked")
+  public List<TransactionHistoryRow> findPageByAccount(UUID accountExternalId,
+                                                       LocalDateTime afterCreatedAt,
+                                                       Long afterTransactionId,
+                                                       int limit) {
+    boolean seek = afterCreatedAt != null && afterTransactionId != null;
+    Query query = getEntityManager()
+        .createNativeQuery(String.format(HISTORY_SQL, HISTORY_COLUMNS, seek ? HISTORY_SEEK : ""))
+        .setParameter("account", accountExternalId)
+        .setParameter("limit", limit);
+    if (seek) {
+      query.setParameter("afterCreatedAt", afterCreatedAt)
+          .setParameter("afterTransactionId", afterTransactionId);
+    }
+    return ((List<Object[]>) query.getResultList()).stream()
+        .map(TransactionPostgresRepository::toHistoryRow)
+        .toList();
+  }
+
+  private static TransactionHistoryRow toHistoryRow(Object[] row) {
+    return new TransactionHistoryRow(
+        ((Number) row[0]).longValue(),
+        (UUID) row[1],
+        (UUID) row[2],
+        (UUID) row[3],
+        ((Number) row[4]).intValue(),
+        ((Number) row[5]).intValue(),
+        (BigDecimal) row[6],
+        row[7] instanceof Timestamp timestamp
+            ? timestamp.toLocalDateTime()
+            : (LocalDateTime) row[7]);
+  }
+
+  /**
+   * Updates the status of a transaction by its external ID, only while it has the source status.
+   * A row in another status is neither updated nor locked.
    *
    * @param transactionExternalId the external ID of the transaction
-   * @param newStatusId           the new status ID to set
+   * @param transition            the source and new status IDs
    * @return the number of updated records
    */
-  public int updateStatusByExternalId(UUID transactionExternalId, Integer newStatusId) {
-    return update("transactionStatusId = ?1 where transactionExternalId = ?2",
-        newStatusId, transactionExternalId);
+  public int updateStatusByExternalId(UUID transactionExternalId,
+                                      TransactionStatusTransition transition) {
+    return getEntityManager().createNativeQuery(UPDATE_STATUS_SQL)
+        .setParameter(1, transition.toStatusId())
+        .setParameter(2, transactionExternalId)
+        .setParameter(3, transition.fromStatusId())
+        .executeUpdate();
+  }
+
+  /**
+   * Updates the status of several transactions with a single multi-row UPDATE statement.
+   * Each transaction is updated only while it has the source status of its transition.
+   *
+   * @param transitions the status transition to apply, keyed by transaction external ID
+   * @return the external IDs of the updated transactions
+   */
+  @SuppressWarnings("unchecked")
+  public List<UUID> updateStatusesByExternalIds(
+      Map<UUID, TransactionStatusTransition> transitions) {
+    if (transitions.isEmpty()) {
+      return List.of();
+    }
+
+    StringBuilder rows = new StringBuilder();
+    int position = 1;
+    for (int i = 0; i < transitions.size(); i++) {
+      if (i > 0) {
+        rows.append(", ");
+      }
+      rows.append(String.format(BULK_UPDATE_ROW, position, position + 1, position + 2));
+      position += 3;
+    }
+
+    Query query = getEntityManager()
+        .createNativeQuery(String.format(BULK_UPDATE_STATUS_SQL, rows));
+    position = 1;
+    for (Map.Entry<UUID, TransactionStatusTransition> entry : transitions.entrySet()) {
+      query.setParameter(position++, entry.getKey());
+      query.setParameter(position++, entry.getValue().toStatusId());
+      query.setParameter(position++, entry.getValue().fromStatusId());
+    }
+    return query.getResultList();
+  }
+
+  /**
+   * Reads the current status of several transactions, without locking them.
+   *
+   * @param transactionExternalIds the external IDs of the transactions
+   * @return the status ID of each transaction found, keyed by external ID
+   */
+  @SuppressWarnings("unchecked")
+  public Map<UUID, Integer> findStatusIdsByExternalIds(Collection<UUID> transactionExternalIds) {
+    if (transactionExternalIds.isEmpty()) {
+      return Map.of();
+    }
+
+    List<Object[]> rows = getEntityManager().createNativeQuery(FIND_STATUS_IDS_SQL)
+        .setParameter("ids", transactionExternalIds)
+        .getResultList();
+    Map<UUID, Integer> statusIds = new HashMap<>(rows.size());
+    for (Object[] row : rows) {
+      statusIds.put((UUID) row[0], ((Number) row[1]).intValue());
+    }
+    return statusIds;
+  }
+
+  /**
+   * Streams the external IDs of the transactions from transaction_lookup.
+   * The rows are read through a cursor, {@value #EXTERNAL_IDS_FETCH_SIZE} at a time, so the
+   * stream has to be consumed and closed within a transaction. Recent rows are found through
+   * the BRIN index on created_at. The lower bound is computed with the JVM clock, the same
+   * clock created_at is written with, so a database clock ahead of the application servers
+   * does not skip rows.
+   *
+   * @param createdWithin only streams the transactions created within this time, or all if null
+   * @return the external IDs
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<UUID> streamExternalIds(Duration createdWithin) {
+    if (createdWithin == null) {
+      return getEntityManager().createNativeQuery(EXTERNAL_IDS_SQL)
+          .setHint(HibernateHints.HINT_FETCH_SIZE, EXTERNAL_IDS_FETCH_SIZE)
+          .getResultStream();
+    }
+    return getEntityManager().createNativeQuery(EXTERNAL_IDS_SQL + CREATED_WITHIN)
+        .setParameter("createdSince", LocalDateTime.now().minus(createdWithin))
+        .setHint(HibernateHints.HINT_FETCH_SIZE, EXTERNAL_IDS_FETCH_SIZE)
+        .getResultStream();
   }
 
 }
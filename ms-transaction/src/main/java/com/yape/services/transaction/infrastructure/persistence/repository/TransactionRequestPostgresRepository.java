@@ -0,0 +1,96 @@
+package com.yape.services.transaction.infrastructure.persistence.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for the Request-IDs of transaction creation requests in PostgreSQL.
+ * transaction_request is partitioned by month, so its primary key cannot make a Request-ID unique
+ * on its own; claims of the same Request-ID are serialized with an advisory lock instead.
+ */
+@ApplicationScoped
+public class TransactionRequestPostgresRepository {
+
+  public static final int REQUEST_LOCK_SPACE = 0x72657175;
+
+  private static final String LOCK_SQL = "SELECT 1 FROM pg_advisory_xact_lock(?1, hashtext(?2))";
+  private static final String INSERT_SQL = """
+      INSERT INTO transaction_request (request_id, request_hash)
+      SELECT ?1, ?2
+       WHERE NOT EXISTS (SELECT 1 FROM transaction_request WHERE request_id = ?1)
+      """;
+  private static final String COMPLETE_SQL = """
+      UPDATE transaction_request
+         SET transaction_external_id = ?2
+       WHERE request_id = ?1
+      """;
+  private static final String FIND_SQL = """
+      SELECT transaction_external_id, request_hash
+        FROM transaction_request
+       WHERE request_id = ?1
+      """;
+
+  private final EntityManager entityManager;
+
+  /**
+   * Constructor for TransactionRequestPostgresRepository.
+   *
+   * @param entityManager the entity manager
+   */
+  @Inject
+  public TransactionRequestPostgresRepository(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Inserts a Request-ID unless it already exists.
+   * The Request-ID is locked until the end of the database transaction first, so an insert racing
+   * with an uncommitted one for the same Request-ID waits for its outcome.
+   *
+   * @param requestId   the Request-ID
+   * @param requestHash the hash of the request input
+   * @return the number of inserted rows, 0 if the Request-ID already exists
+   */
+  public int insertIfAbsent(String requestId, String requestHash) {
+    entityManager.createNativeQuery(LOCK_SQL)
+        .setParameter(1, REQUEST_LOCK_SPACE)
+        .setParameter(2, requestId)
+        .getSingleResult();
+    return entityManager.createNativeQuery(INSERT_SQL)
+        .setParameter(1, requestId)
+        .setParameter(2, requestHash)
+        .executeUpdate();
+  }
+
+  /**
+   * Sets the transaction created for a Request-ID.
+   *
+   * @param requestId             the Request-ID
+   * @param transactionExternalId the external ID of the created transaction
+   * @return the number of updated rows
+   */
+  public int updateTransactionExternalId(String requestId, UUID transactionExternalId) {
+    return entityManager.createNativeQuery(COMPLETE_SQL)
+        .setParameter(1, requestId)
+        .setParameter(2, transactionExternalId)
+        .executeUpdate();
+  }
+
+  /**
+   * Finds the transaction created for a Request-ID and the hash of its input.
+   *
+   * @param requestId the Request-ID
+   * @return the transaction external ID and the request hash, or null if not found
+   */
+  @SuppressWarnings("unchecked")
+  public Object[] findByRequestId(String requestId) {
+    List<Object[]> rows = entityManager.createNativeQuery(FIND_SQL)
+        .setParameter(1, requestId)
+        .getResultList();
+    return rows.isEmpty() ? null : rows.getFirst();
+  }
+
+}
@@ -3,6 +3,7 @@ package com.yape.services.transaction.infrastructure.persistence.repository;
 import com.yape.services.transaction.infrastructure.persistence.entity.TransactionStatusEntity;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
 
 /**
  * Repository for transaction status entities in PostgreSQL using Panache.
@@ -31,4 +32,13 @@ public class TransactionStatusPostgresRepository
     return find("transactionStatusId", id).firstResult();
   }
 
+  /**
+   * Finds all transaction status entities.
+   *
+   * @return list of all transaction status entities
+   */
+  public List<TransactionStatusEntity> findAllTransactionStatuses() {
+    return listAll();
+  }
+
 }
@@ -0,0 +1,16 @@
+-- Rebuilds the account history indexes of V1.5/V1.6 without transaction_status_id.
+-- An indexed column blocks HOT updates, so with the status in INCLUDE every status change wrote a
+-- new entry in both history indexes as well as in idx_transaction_external_id. Without it, the
+-- PENDING -> APPROVED/REJECTED update can stay on the same heap page and touch no index.
+-- A history page now reads the status from the heap, that is first + 1 rows of recent pages
+-- that are usually cached, which is cheaper than an extra index write on every status update.
+DROP INDEX IF EXISTS idx_transaction_debit_history;
+DROP INDEX IF EXISTS idx_transaction_credit_history;
+
+CREATE INDEX IF NOT EXISTS idx_transaction_debit_history
+    ON transaction (account_external_id_debit, created_at, transaction_id)
+    INCLUDE (transaction_external_id, account_external_id_credit, transfer_type_id, value);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_credit_history
+    ON transaction (account_external_id_credit, created_at, transaction_id)
+    INCLUDE (transaction_external_id, account_external_id_debit, transfer_type_id, value);
@@ -0,0 +1,74 @@
+-- Range-partitions transaction_lookup and transaction_request by created_at, one partition per
+-- month like transaction (transaction_lookup_pYYYY_MM, transaction_request_pYYYY_MM), so that
+-- TransactionPartitionManager drops the three partitions of a month together instead of
+-- deleting lookup and request rows one by one.
+--
+-- The partition key must be part of the primary key. A duplicated external ID is still rejected
+-- within a month; across months it would need two UUIDv7 with different timestamps to collide.
+-- Request-IDs are claimed under an advisory lock on the Request-ID instead of relying on the
+-- primary key, so a retry is answered whichever month its first request was claimed in.
+
+CREATE TABLE transaction_lookup_partitioned
+(
+    transaction_external_id UUID      NOT NULL,
+    created_at              TIMESTAMP NOT NULL,
+
+    PRIMARY KEY (transaction_external_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE transaction_request_partitioned
+(
+    request_id              VARCHAR(100) NOT NULL,
+    transaction_external_id UUID,
+    created_at              TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (request_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+DO
+$$
+    DECLARE
+        month DATE;
+    BEGIN
+        FOR month IN
+            SELECT generate_series(
+                           date_trunc('month', LEAST(
+                                   COALESCE((SELECT MIN(created_at) FROM transaction_lookup),
+                                            now()),
+                                   COALESCE((SELECT MIN(created_at) FROM transaction_request),
+                                            now()),
+                                   now())),
+                           date_trunc('month', now()) + INTERVAL '3 months',
+                           INTERVAL '1 month')
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE IF NOT EXISTS %I PARTITION OF transaction_lookup_partitioned '
+                            || 'FOR VALUES FROM (%L) TO (%L)',
+                        'transaction_lookup_p' || to_char(month, 'YYYY_MM'),
+                        month, month + INTERVAL '1 month');
+                EXECUTE format(
+                        'CREATE TABLE IF NOT EXISTS %I PARTITION OF transaction_request_partitioned '
+                            || 'FOR VALUES FROM (%L) TO (%L)',
+                        'transaction_request_p' || to_char(month, 'YYYY_MM'),
+                        month, month + INTERVAL '1 month');
+            END LOOP;
+    END
+$$;
+
+INSERT INTO transaction_lookup_partitioned (transaction_external_id, created_at)
+SELECT transaction_external_id, created_at
+FROM transaction_lookup;
+
+INSERT INTO transaction_request_partitioned (request_id, transaction_external_id, created_at)
+SELECT request_id, transaction_external_id, created_at
+FROM transaction_request;
+
+DROP TABLE transaction_lookup;
+ALTER TABLE transaction_lookup_partitioned RENAME TO transaction_lookup;
+
+DROP TABLE transaction_request;
+ALTER TABLE transaction_request_partitioned RENAME TO transaction_request;
+
+-- Recreates the BRIN index of V1.9 used by the existence filter catch-up on each partition.
+CREATE INDEX IF NOT EXISTS idx_transaction_lookup_created_at
+    ON transaction_lookup USING brin (created_at);
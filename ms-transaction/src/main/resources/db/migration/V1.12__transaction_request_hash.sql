@@ -0,0 +1,5 @@
+-- SHA-256 of the input a Request-ID was first used with (accounts, transfer type and value).
+-- A retry whose input hashes differently is rejected instead of replaying the transaction of an
+-- unrelated request. Rows claimed before this migration have no hash and are not checked.
+ALTER TABLE transaction_request
+    ADD COLUMN IF NOT EXISTS request_hash VARCHAR(64);
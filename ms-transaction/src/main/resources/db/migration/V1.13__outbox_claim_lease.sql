@@ -0,0 +1,6 @@
+-- Lease of an outbox row claimed by a relay. The relay claims and commits a batch, sends it to
+-- Kafka outside of any database transaction, then deletes the acknowledged rows. A row whose
+-- lease has expired (relay crashed or the broker never acknowledged it) is claimed again.
+-- Leases are set and compared with the database clock only.
+ALTER TABLE transaction_outbox
+    ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
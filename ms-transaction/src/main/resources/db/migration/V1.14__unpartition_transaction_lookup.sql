@@ -0,0 +1,26 @@
+-- Turns transaction_lookup back into a plain table keyed by transaction_external_id alone.
+--
+-- V1.11 partitioned it by created_at, which forced created_at into the primary key: contrary to
+-- its header, a duplicated external ID was then accepted whenever the two rows differed in
+-- created_at, even within a month, and the insert trigger of V1.6 no longer rejected it either.
+-- The lookups by external ID read created_at with a scalar subquery, which fails once an ID has
+-- two rows. The primary key on the external ID restores the global uniqueness the V1.6 trigger
+-- relies on; rows of dropped months are deleted by created_at through the BRIN index instead.
+-- transaction_request stays partitioned: Request-ID claims are serialized by an advisory lock.
+
+CREATE TABLE transaction_lookup_unpartitioned
+(
+    transaction_external_id UUID      NOT NULL PRIMARY KEY,
+    created_at              TIMESTAMP NOT NULL
+);
+
+INSERT INTO transaction_lookup_unpartitioned (transaction_external_id, created_at)
+SELECT transaction_external_id, created_at
+FROM transaction_lookup
+ORDER BY created_at;
+
+DROP TABLE transaction_lookup;
+ALTER TABLE transaction_lookup_unpartitioned RENAME TO transaction_lookup;
+
+CREATE INDEX IF NOT EXISTS idx_transaction_lookup_created_at
+    ON transaction_lookup USING brin (created_at);
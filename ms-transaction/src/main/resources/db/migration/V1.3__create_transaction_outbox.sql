@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS transaction_outbox
+(
+    outbox_id    BIGSERIAL PRIMARY KEY,
+    aggregate_id UUID        NOT NULL,
+    event_type   VARCHAR(50) NOT NULL,
+    payload      BYTEA       NOT NULL,
+    created_at   TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
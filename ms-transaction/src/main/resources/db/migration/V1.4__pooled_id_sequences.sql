@@ -0,0 +1,4 @@
+-- Hibernate allocates IDs in blocks of 50 (pooled optimizer) so inserts can be batched.
+-- The sequence value is the upper bound of the block handed out to the application.
+ALTER SEQUENCE transaction_transaction_id_seq INCREMENT BY 50;
+ALTER SEQUENCE transaction_outbox_outbox_id_seq INCREMENT BY 50;
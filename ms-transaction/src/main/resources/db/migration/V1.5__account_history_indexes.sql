@@ -0,0 +1,12 @@
+-- Account history is read newest first with keyset pagination on (created_at, transaction_id).
+-- One index per side of the transaction; the INCLUDE columns let each page be served by an
+-- index-only scan without visiting the heap.
+CREATE INDEX IF NOT EXISTS idx_transaction_debit_history
+    ON transaction (account_external_id_debit, created_at, transaction_id)
+    INCLUDE (transaction_external_id, account_external_id_credit, transfer_type_id,
+             transaction_status_id, value);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_credit_history
+    ON transaction (account_external_id_credit, created_at, transaction_id)
+    INCLUDE (transaction_external_id, account_external_id_debit, transfer_type_id,
+             transaction_status_id, value);
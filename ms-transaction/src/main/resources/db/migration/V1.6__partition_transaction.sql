@@ -0,0 +1,104 @@
+-- Range-partitions transaction by created_at, one partition per month (transaction_pYYYY_MM).
+-- Upcoming partitions and retention are handled by TransactionPartitionManager at runtime;
+-- this migration only creates the partitions needed by the existing rows and the next months.
+--
+-- The partition key must be part of every unique constraint, so the uniqueness of
+-- transaction_external_id moves to transaction_lookup. The lookup table also gives the
+-- created_at of a transaction, which lets lookups by external ID prune to one partition.
+
+CREATE TABLE transaction_partitioned
+(
+    transaction_id             INT            NOT NULL
+        DEFAULT nextval('transaction_transaction_id_seq'),
+    transaction_external_id    UUID           NOT NULL,
+    account_external_id_debit  UUID           NOT NULL,
+    account_external_id_credit UUID           NOT NULL,
+    transfer_type_id           INT            NOT NULL,
+    transaction_status_id      INT            NOT NULL,
+    value                      DECIMAL(19, 4) NOT NULL,
+    created_at                 TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at                 TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (transaction_id, created_at),
+    CONSTRAINT fk_transfer_type FOREIGN KEY (transfer_type_id)
+        REFERENCES transfer_type (transfer_type_id),
+    CONSTRAINT fk_transaction_status FOREIGN KEY (transaction_status_id)
+        REFERENCES transaction_status (transaction_status_id),
+    CONSTRAINT chk_value CHECK (value > 0)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE IF NOT EXISTS transaction_lookup
+(
+    transaction_external_id UUID      NOT NULL PRIMARY KEY,
+    created_at              TIMESTAMP NOT NULL
+);
+
+DO
+$$
+    DECLARE
+        month DATE;
+    BEGIN
+        FOR month IN
+            SELECT generate_series(
+                           date_trunc('month', LEAST(
+                                   COALESCE((SELECT MIN(created_at) FROM transaction), now()),
+                                   now())),
+                           date_trunc('month', now()) + INTERVAL '3 months',
+                           INTERVAL '1 month')
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE IF NOT EXISTS %I PARTITION OF transaction_partitioned '
+                            || 'FOR VALUES FROM (%L) TO (%L)',
+                        'transaction_p' || to_char(month, 'YYYY_MM'),
+                        month, month + INTERVAL '1 month');
+            END LOOP;
+    END
+$$;
+
+INSERT INTO transaction_partitioned (transaction_id, transaction_external_id,
+                                     account_external_id_debit, account_external_id_credit,
+                                     transfer_type_id, transaction_status_id, value,
+                                     created_at, updated_at)
+SELECT transaction_id, transaction_external_id, account_external_id_debit,
+       account_external_id_credit, transfer_type_id, transaction_status_id, value,
+       COALESCE(created_at, updated_at, now()), updated_at
+FROM transaction;
+
+INSERT INTO transaction_lookup (transaction_external_id, created_at)
+SELECT transaction_external_id, created_at
+FROM transaction_partitioned;
+
+-- Keep the ID sequence, which is owned by the old table, when dropping it.
+ALTER SEQUENCE transaction_transaction_id_seq OWNED BY NONE;
+DROP TABLE transaction;
+ALTER TABLE transaction_partitioned RENAME TO transaction;
+ALTER SEQUENCE transaction_transaction_id_seq OWNED BY transaction.transaction_id;
+
+CREATE INDEX IF NOT EXISTS idx_transaction_external_id ON transaction (transaction_external_id);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_debit_history
+    ON transaction (account_external_id_debit, created_at, transaction_id)
+    INCLUDE (transaction_external_id, account_external_id_credit, transfer_type_id,
+             transaction_status_id, value);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_credit_history
+    ON transaction (account_external_id_credit, created_at, transaction_id)
+    INCLUDE (transaction_external_id, account_external_id_debit, transfer_type_id,
+             transaction_status_id, value);
+
+-- Every insert registers the transaction in the lookup table, in the same statement.
+-- A duplicated external ID fails on the lookup primary key, as the old UNIQUE constraint did.
+CREATE OR REPLACE FUNCTION transaction_lookup_insert() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO transaction_lookup (transaction_external_id, created_at)
+    VALUES (NEW.transaction_external_id, NEW.created_at);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_transaction_lookup_insert
+    AFTER INSERT
+    ON transaction
+    FOR EACH ROW
+EXECUTE FUNCTION transaction_lookup_insert();
@@ -0,0 +1,34 @@
+-- transaction_status.code is UNIQUE and transfer_type_id is the primary key, so both columns
+-- already have a B-tree. The extra indexes from V1.2 only doubled the write cost.
+-- idx_transaction_external_id stays: since V1.6 it is the only index on that column in the
+-- partitioned table, uniqueness being enforced by the transaction_lookup primary key.
+DROP INDEX IF EXISTS idx_transaction_status_code;
+DROP INDEX IF EXISTS idx_transfer_type_id;
+
+-- Index advisor: lists every index whose key columns are a leading prefix of another index on
+-- the same table, with the same access method and operator classes. Such an index is redundant
+-- unless it enforces a uniqueness the covering index does not. Partial, expression and INCLUDE
+-- indexes are never reported. Exact duplicates are reported once.
+CREATE OR REPLACE VIEW redundant_index AS
+SELECT tc.relname AS table_name,
+       ic.relname AS index_name,
+       jc.relname AS covered_by
+  FROM pg_index i
+  JOIN pg_index j ON j.indrelid = i.indrelid AND j.indexrelid <> i.indexrelid
+  JOIN pg_class ic ON ic.oid = i.indexrelid
+  JOIN pg_class jc ON jc.oid = j.indexrelid
+  JOIN pg_class tc ON tc.oid = i.indrelid
+ WHERE tc.relnamespace = current_schema()::regnamespace
+   AND ic.relam = jc.relam
+   AND i.indpred IS NULL
+   AND j.indpred IS NULL
+   AND i.indexprs IS NULL
+   AND j.indexprs IS NULL
+   AND i.indnatts = i.indnkeyatts
+   AND i.indnkeyatts <= j.indnkeyatts
+   AND (i.indkey::int2[])[0:i.indnkeyatts - 1] = (j.indkey::int2[])[0:i.indnkeyatts - 1]
+   AND (i.indclass::oid[])[0:i.indnkeyatts - 1] = (j.indclass::oid[])[0:i.indnkeyatts - 1]
+   AND (NOT i.indisunique OR (j.indisunique AND i.indnkeyatts = j.indnkeyatts))
+   AND (i.indnkeyatts < j.indnkeyatts
+        OR i.indisunique < j.indisunique
+        OR (i.indisunique = j.indisunique AND i.indexrelid > j.indexrelid));
@@ -0,0 +1,9 @@
+-- Request-ID of each createTransaction call, claimed in the same database transaction as the
+-- transaction it creates. A retry with the same Request-ID conflicts on the primary key and is
+-- answered with the recorded transaction instead of creating a new one.
+CREATE TABLE IF NOT EXISTS transaction_request
+(
+    request_id              VARCHAR(100) PRIMARY KEY,
+    transaction_external_id UUID,
+    created_at              TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
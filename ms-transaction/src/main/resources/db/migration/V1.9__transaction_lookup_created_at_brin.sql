@@ -0,0 +1,5 @@
+-- Lets the transaction existence filter catch up with the transactions created since its last
+-- scan without reading the whole lookup table. Rows are appended in created_at order, so a
+-- BRIN index on it stays a few pages large and adds almost nothing to the cost of an insert.
+CREATE INDEX IF NOT EXISTS idx_transaction_lookup_created_at
+    ON transaction_lookup USING brin (created_at);
@@ -2,19 +2,30 @@ package com.yape.services.expose.graphql;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.yape.services.shared.exception.ValidationException;
 import com.yape.services.transaction.application.dto.RequestMetaData;
 import com.yape.services.transaction.application.usecase.CreateTransactionUseCase;
 import com.yape.services.transaction.graphql.model.CreateTransaction;
+import com.yape.services.transaction.graphql.model.CreateTransactionResult;
 import com.yape.services.transaction.graphql.model.Transaction;
+import com.yape.services.transaction.infrastructure.config.TransactionBulkConfig;
+import com.yape.services.transaction.infrastructure.config.TransactionExecutionConfig;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.smallrye.mutiny.Uni;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -33,6 +44,10 @@ class MutationResolverImplTest {
   @Mock
   private CurrentVertxRequest currentVertxRequest;
   @Mock
+  private TransactionBulkConfig bulkConfig;
+  @Mock
+  private TransactionExecutionConfig executionConfig;
+  @Mock
   private RoutingContext routingContext;
   @Mock
   private HttpServerRequest httpServerRequest;
@@ -44,7 +59,9 @@ class MutationResolverImplTest {
 
   @BeforeEach
   void setUp() {
-    resolver = new MutationResolverImpl(createTransactionUseCase, currentVertxRequest);
+    resolver = new MutationResolverImpl(createTransactionUseCase, currentVertxRequest,
+        bulkConfig,
+        new ResolverExecutor(executionConfig, Executors.newVirtualThreadPerTaskExecutor()));
   }
 
   @Nested
@@ -63,11 +80,12 @@ class MutationResolverImplTest {
       when(httpServerRequest.getHeader("Authorization")).thenReturn("Bearer token");
       when(httpServerRequest.getHeader("Request-ID")).thenReturn("req-123");
       when(httpServerRequest.getHeader("Request-Date")).thenReturn("2024-01-01");
+      when(executionConfig.mode()).thenReturn(TransactionExecutionConfig.Mode.BLOCKING);
       when(createTransactionUseCase.execute(eq(input), any(RequestMetaData.class)))
           .thenReturn(expectedTransaction);
 
       // Act
-      Transaction result = resolver.createTransaction(input);
+      Transaction result = resolver.createTransaction(input).await().indefinitely();
 
       // Assert
       assertEquals(expectedTransaction, result);
@@ -86,11 +104,12 @@ class MutationResolverImplTest {
       when(httpServerRequest.getHeader("Authorization")).thenReturn("Bearer my-token");
       when(httpServerRequest.getHeader("Request-ID")).thenReturn("request-456");
       when(httpServerRequest.getHeader("Request-Date")).thenReturn("2024-02-15");
+      when(executionConfig.mode()).thenReturn(TransactionExecutionConfig.Mode.BLOCKING);
       when(createTransactionUseCase.execute(eq(input), metaDataCaptor.capture()))
           .thenReturn(expectedTransaction);
 
       // Act
-      resolver.createTransaction(input);
+      resolver.createTransaction(input).await().indefinitely();
 
       // Assert
       RequestMetaData capturedMetaData = metaDataCaptor.getValue();
@@ -111,11 +130,12 @@ class MutationResolverImplTest {
       when(httpServerRequest.getHeader("Authorization")).thenReturn(null);
       when(httpServerRequest.getHeader("Request-ID")).thenReturn(null);
       when(httpServerRequest.getHeader("Request-Date")).thenReturn(null);
+      when(executionConfig.mode()).thenReturn(TransactionExecutionConfig.Mode.BLOCKING);
       when(createTransactionUseCase.execute(eq(input), metaDataCaptor.capture()))
           .thenReturn(expectedTransaction);
 
       // Act
-      Transaction result = resolver.createTransaction(input);
+      Transaction result = resolver.createTransaction(input).await().indefinitely();
 
       // Assert
       assertEquals(expectedTransaction, result);
@@ -124,6 +144,77 @@ class MutationResolverImplTest {
       assertNull(capturedMetaData.requestId());
       assertNull(capturedMetaData.requestDate());
     }
+
+    @Test
+    @DisplayName("should use the non-blocking use case in reactive mode")
+    void shouldUseAsyncUseCaseInReactiveMode() {
+      // Arrange
+      CreateTransaction input = createInput();
+      Transaction expectedTransaction = createTransaction();
+
+      when(currentVertxRequest.getCurrent()).thenReturn(routingContext);
+      when(routingContext.request()).thenReturn(httpServerRequest);
+      when(httpServerRequest.getHeader("Request-ID")).thenReturn("req-789");
+      when(executionConfig.mode()).thenReturn(TransactionExecutionConfig.Mode.REACTIVE);
+      when(createTransactionUseCase.executeAsync(eq(input), metaDataCaptor.capture()))
+          .thenReturn(Uni.createFrom().item(expectedTransaction));
+
+      // Act
+      Transaction result = resolver.createTransaction(input).await().indefinitely();
+
+      // Assert
+      assertEquals(expectedTransaction, result);
+      assertEquals("req-789", metaDataCaptor.getValue().requestId());
+      verify(createTransactionUseCase, never()).execute(any(), any());
+    }
+  }
+
+  @Nested
+  @DisplayName("createTransactions")
+  class CreateTransactionsTests {
+
+    @Test
+    @DisplayName("should delegate the batch to use case with request metadata")
+    void shouldDelegateBatchToUseCase() {
+      // Arrange
+      List<CreateTransaction> inputs = List.of(createInput(), createInput());
+      List<CreateTransactionResult> expected = List.of(
+          CreateTransactionResult.builder().setIndex(0).build(),
+          CreateTransactionResult.builder().setIndex(1).build());
+
+      when(bulkConfig.maxSize()).thenReturn(10);
+      when(currentVertxRequest.getCurrent()).thenReturn(routingContext);
+      when(routingContext.request()).thenReturn(httpServerRequest);
+      when(httpServerRequest.getHeader("Authorization")).thenReturn("Bearer token");
+      when(httpServerRequest.getHeader("Request-ID")).thenReturn("req-123");
+      when(httpServerRequest.getHeader("Request-Date")).thenReturn("2024-01-01");
+      when(createTransactionUseCase.executeBatch(eq(inputs), metaDataCaptor.capture()))
+          .thenReturn(expected);
+
+      // Act
+      List<CreateTransactionResult> result = resolver.createTransactions(inputs)
+          .await().indefinitely();
+
+      // Assert
+      assertSame(expected, result);
+      assertEquals("req-123", metaDataCaptor.getValue().requestId());
+    }
+
+    @Test
+    @DisplayName("should reject batches above the configured maximum")
+    void shouldRejectOversizedBatch() {
+      // Arrange
+      List<CreateTransaction> inputs = List.of(createInput(), createInput(), createInput());
+      when(bulkConfig.maxSize()).thenReturn(2);
+
+      // Act
+      ValidationException exception = assertThrows(ValidationException.class,
+          () -> resolver.createTransactions(inputs));
+
+      // Assert
+      assertEquals("inputs", exception.getFieldName());
+      verifyNoInteractions(createTransactionUseCase);
+    }
   }
 
   private CreateTransaction createInput() {
@@ -1,16 +1,30 @@
 package com.yape.services.expose.graphql;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.yape.services.shared.exception.ValidationException;
+import com.yape.services.transaction.application.usecase.GetAccountTransactionsUseCase;
 import com.yape.services.transaction.application.usecase.GetTransactionUseCase;
+import com.yape.services.transaction.application.usecase.GetTransactionsUseCase;
 import com.yape.services.transaction.application.usecase.GetTransferTypesUseCase;
 import com.yape.services.transaction.graphql.model.Transaction;
+import com.yape.services.transaction.graphql.model.TransactionBatch;
+import com.yape.services.transaction.graphql.model.TransactionConnection;
 import com.yape.services.transaction.graphql.model.TransferType;
+import com.yape.services.transaction.infrastructure.config.TransactionBulkConfig;
+import com.yape.services.transaction.infrastructure.config.TransactionExecutionConfig;
+import io.smallrye.mutiny.Uni;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,6 +40,14 @@ class QueryResolverImplTest {
   private GetTransferTypesUseCase getTransferTypesUseCase;
   @Mock
   private GetTransactionUseCase getTransactionUseCase;
+  @Mock
+  private GetAccountTransactionsUseCase getAccountTransactionsUseCase;
+  @Mock
+  private GetTransactionsUseCase getTransactionsUseCase;
+  @Mock
+  private TransactionBulkConfig bulkConfig;
+  @Mock
+  private TransactionExecutionConfig executionConfig;
 
   private QueryResolverImpl resolver;
 
@@ -33,7 +55,14 @@ class QueryResolverImplTest {
 
   @BeforeEach
   void setUp() {
-    resolver = new QueryResolverImpl(getTransferTypesUseCase, getTransactionUseCase);
+    ResolverExecutor executor =
+        new ResolverExecutor(executionConfig, Executors.newVirtualThreadPerTaskExecutor());
+    lenient().when(bulkConfig.maxLookupSize()).thenReturn(500);
+    resolver = new QueryResolverImpl(getTransferTypesUseCase, getTransactionUseCase,
+        getAccountTransactionsUseCase, getTransactionsUseCase,
+        new TransactionBatchLoader(getTransactionUseCase, getTransactionsUseCase, executor,
+            bulkConfig),
+        bulkConfig, executor);
   }
 
   @Nested
@@ -45,11 +74,12 @@ class QueryResolverImplTest {
     void shouldDelegateToUseCaseAndReturnTransaction() {
       // Arrange
       Transaction expectedTransaction = createTransaction();
+      when(executionConfig.mode()).thenReturn(TransactionExecutionConfig.Mode.BLOCKING);
       when(getTransactionUseCase.execute(TRANSACTION_EXTERNAL_ID))
           .thenReturn(expectedTransaction);
 
       // Act
-      Transaction result = resolver.transaction(TRANSACTION_EXTERNAL_ID);
+      Transaction result = resolver.transaction(TRANSACTION_EXTERNAL_ID).await().indefinitely();
 
       // Assert
       assertEquals(expectedTransaction, result);
@@ -62,15 +92,91 @@ class QueryResolverImplTest {
       // Arrange
       String specificId = "specific-transaction-id";
       Transaction expectedTransaction = createTransaction();
+      when(executionConfig.mode()).thenReturn(TransactionExecutionConfig.Mode.BLOCKING);
       when(getTransactionUseCase.execute(specificId))
           .thenReturn(expectedTransaction);
 
       // Act
-      resolver.transaction(specificId);
+      resolver.transaction(specificId).await().indefinitely();
 
       // Assert
       verify(getTransactionUseCase).execute(specificId);
     }
+
+    @Test
+    @DisplayName("should use the non-blocking use case in reactive mode")
+    void shouldUseAsyncUseCaseInReactiveMode() {
+      // Arrange
+      Transaction expectedTransaction = createTransaction();
+      when(executionConfig.mode()).thenReturn(TransactionExecutionConfig.Mode.REACTIVE);
+      when(getTransactionUseCase.executeAsync(TRANSACTION_EXTERNAL_ID))
+          .thenReturn(Uni.createFrom().item(expectedTransaction));
+
+      // Act
+      Transaction result = resolver.transaction(TRANSACTION_EXTERNAL_ID).await().indefinitely();
+
+      // Assert
+      assertEquals(expectedTransaction, result);
+      verify(getTransactionUseCase).executeAsync(TRANSACTION_EXTERNAL_ID);
+      verifyNoMoreInteractions(getTransactionUseCase);
+    }
+  }
+
+  @Nested
+  @DisplayName("transactions")
+  class TransactionsQueryTests {
+
+    @Test
+    @DisplayName("should delegate to use case with the requested IDs")
+    void shouldDelegateToUseCaseWithRequestedIds() {
+      // Arrange
+      List<String> ids = List.of(TRANSACTION_EXTERNAL_ID, UUID.randomUUID().toString());
+      TransactionBatch expected = new TransactionBatch();
+      when(bulkConfig.maxLookupSize()).thenReturn(500);
+      when(getTransactionsUseCase.execute(ids)).thenReturn(expected);
+
+      // Act
+      TransactionBatch result = resolver.transactions(ids).await().indefinitely();
+
+      // Assert
+      assertEquals(expected, result);
+      verify(getTransactionsUseCase).execute(ids);
+    }
+
+    @Test
+    @DisplayName("should reject more IDs than the configured maximum")
+    void shouldRejectTooManyIds() {
+      // Arrange
+      List<String> ids = List.of(TRANSACTION_EXTERNAL_ID, UUID.randomUUID().toString());
+      when(bulkConfig.maxLookupSize()).thenReturn(1);
+
+      // Act & Assert
+      assertThrows(ValidationException.class, () -> resolver.transactions(ids));
+      verifyNoInteractions(getTransactionsUseCase);
+    }
+  }
+
+  @Nested
+  @DisplayName("transactionsByAccount")
+  class TransactionsByAccountQueryTests {
+
+    @Test
+    @DisplayName("should delegate to use case with the pagination arguments")
+    void shouldDelegateToUseCaseWithPaginationArguments() {
+      // Arrange
+      String accountId = UUID.randomUUID().toString();
+      TransactionConnection expected = new TransactionConnection();
+      when(getAccountTransactionsUseCase.execute(accountId, 10, "cursor"))
+          .thenReturn(expected);
+
+      // Act
+      TransactionConnection result = resolver.transactionsByAccount(accountId, 10, "cursor")
+          .await().indefinitely();
+
+      // Assert
+      assertEquals(expected, result);
+      verify(getAccountTransactionsUseCase).execute(accountId, 10, "cursor");
+    }
   }
 
   @Nested
@@ -88,7 +194,7 @@ class QueryResolverImplTest {
       when(getTransferTypesUseCase.execute()).thenReturn(expectedTypes);
 
       // Act
-      List<TransferType> result = resolver.transferTypes();
+      List<TransferType> result = resolver.transferTypes().await().indefinitely();
 
       // Assert
       assertEquals(2, result.size());
@@ -103,11 +209,29 @@ class QueryResolverImplTest {
       when(getTransferTypesUseCase.execute()).thenReturn(List.of());
 
       // Act
-      List<TransferType> result = resolver.transferTypes();
+      List<TransferType> result = resolver.transferTypes().await().indefinitely();
 
       // Assert
       assertTrue(result.isEmpty());
     }
+
+    @Test
+    @DisplayName("should run the use case on a virtual thread in virtual-threads mode")
+    void shouldRunOnVirtualThreadInVirtualThreadsMode() {
+      // Arrange
+      AtomicBoolean virtual = new AtomicBoolean();
+      when(executionConfig.mode()).thenReturn(TransactionExecutionConfig.Mode.VIRTUAL_THREADS);
+      when(getTransferTypesUseCase.execute()).thenAnswer(invocation -> {
+        virtual.set(Thread.currentThread().isVirtual());
+        return List.of();
+      });
+
+      // Act
+      resolver.transferTypes().await().indefinitely();
+
+      // Assert
+      assertTrue(virtual.get());
+    }
   }
 
   private Transaction createTransaction() {
@@ -0,0 +1,46 @@
+package com.yape.services.expose.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.transaction.application.usecase.SubscribeTransactionStatusUseCase;
+import com.yape.services.transaction.graphql.model.TransactionStatusChangedEvent;
+import io.smallrye.mutiny.Multi;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriptionResolverImplTest {
+
+  @Mock
+  private SubscribeTransactionStatusUseCase subscribeTransactionStatusUseCase;
+
+  private SubscriptionResolverImpl resolver;
+
+  private static final String TRANSACTION_EXTERNAL_ID = UUID.randomUUID().toString();
+
+  @BeforeEach
+  void setUp() {
+    resolver = new SubscriptionResolverImpl(subscribeTransactionStatusUseCase);
+  }
+
+  @Test
+  @DisplayName("should delegate to use case and return the status change stream")
+  void shouldDelegateToUseCase() {
+    // Arrange
+    Multi<TransactionStatusChangedEvent> stream = Multi.createFrom().empty();
+    when(subscribeTransactionStatusUseCase.execute(TRANSACTION_EXTERNAL_ID)).thenReturn(stream);
+
+    // Act
+    Multi<TransactionStatusChangedEvent> result =
+        resolver.transactionStatusChanged(TRANSACTION_EXTERNAL_ID);
+
+    // Assert
+    assertSame(stream, result);
+  }
+}
@@ -0,0 +1,203 @@
+package com.yape.services.expose.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.shared.exception.ResourceNotFoundException;
+import com.yape.services.shared.exception.ValidationException;
+import com.yape.services.transaction.application.usecase.GetTransactionUseCase;
+import com.yape.services.transaction.application.usecase.GetTransactionsUseCase;
+import com.yape.services.transaction.graphql.model.Transaction;
+import com.yape.services.transaction.graphql.model.TransactionBatch;
+import com.yape.services.transaction.infrastructure.config.TransactionBulkConfig;
+import com.yape.services.transaction.infrastructure.config.TransactionExecutionConfig;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionBatchLoaderTest {
+
+  @Mock
+  private GetTransactionUseCase getTransactionUseCase;
+  @Mock
+  private GetTransactionsUseCase getTransactionsUseCase;
+  @Mock
+  private TransactionExecutionConfig executionConfig;
+  @Mock
+  private TransactionBulkConfig bulkConfig;
+
+  private Vertx vertx;
+  private TransactionBatchLoader loader;
+
+  private static final String FIRST_ID = UUID.randomUUID().toString();
+  private static final String SECOND_ID = UUID.randomUUID().toString();
+
+  @BeforeEach
+  void setUp() {
+    vertx = Vertx.vertx();
+    lenient().when(bulkConfig.maxLookupSize()).thenReturn(500);
+    loader = new TransactionBatchLoader(getTransactionUseCase, getTransactionsUseCase,
+        new ResolverExecutor(executionConfig, Executors.newVirtualThreadPerTaskExecutor()),
+        bulkConfig);
+  }
+
+  @AfterEach
+  void tearDown() {
+    vertx.close().toCompletionStage().toCompletableFuture().join();
+  }
+
+  @Test
+  @DisplayName("should look up the fields registered in one event loop turn together")
+  void shouldLookUpFieldsOfOneTurnTogether() {
+    // Arrange
+    Transaction first = createTransaction(FIRST_ID);
+    when(getTransactionsUseCase.execute(List.of(FIRST_ID, SECOND_ID)))
+        .thenReturn(createBatch(first, null));
+
+    // Act
+    List<Uni<Transaction>> fields = onEventLoop(() -> List.of(
+        loader.load(FIRST_ID), loader.load(SECOND_ID), loader.load(FIRST_ID)));
+
+    // Assert
+    assertEquals(first, fields.get(0).await().indefinitely());
+    Uni<Transaction> missing = fields.get(1);
+    assertThrows(ResourceNotFoundException.class, () -> missing.await().indefinitely());
+    assertEquals(first, fields.get(2).await().indefinitely());
+    verify(getTransactionsUseCase, times(1)).execute(any());
+    verifyNoInteractions(getTransactionUseCase);
+  }
+
+  @Test
+  @DisplayName("should take the single transaction path for a lone field")
+  void shouldUseSingleTransactionPathForLoneField() {
+    // Arrange
+    Transaction first = createTransaction(FIRST_ID);
+    when(getTransactionUseCase.execute(FIRST_ID)).thenReturn(first);
+
+    // Act
+    Uni<Transaction> field = onEventLoop(() -> loader.load(FIRST_ID));
+
+    // Assert
+    assertEquals(first, field.await().indefinitely());
+    verifyNoInteractions(getTransactionsUseCase);
+  }
+
+  @Test
+  @DisplayName("should look up each field alone off the event loop")
+  void shouldLookUpEachFieldAloneOffEventLoop() {
+    // Arrange
+    when(getTransactionUseCase.execute(FIRST_ID)).thenReturn(createTransaction(FIRST_ID));
+    when(getTransactionUseCase.execute(SECOND_ID)).thenReturn(createTransaction(SECOND_ID));
+
+    // Act
+    Uni<Transaction> first = loader.load(FIRST_ID);
+    Uni<Transaction> second = loader.load(SECOND_ID);
+
+    // Assert
+    assertEquals(FIRST_ID, first.await().indefinitely().getTransactionExternalId());
+    assertEquals(SECOND_ID, second.await().indefinitely().getTransactionExternalId());
+    verifyNoInteractions(getTransactionsUseCase);
+  }
+
+  @Test
+  @DisplayName("should fail every field of a batch when the lookup fails")
+  void shouldFailEveryFieldWhenLookupFails() {
+    // Arrange
+    when(getTransactionsUseCase.execute(any())).thenThrow(new IllegalStateException("down"));
+
+    // Act
+    List<Uni<Transaction>> fields = onEventLoop(() -> List.of(
+        loader.load(FIRST_ID), loader.load(SECOND_ID)));
+
+    // Assert
+    for (Uni<Transaction> field : fields) {
+      assertThrows(IllegalStateException.class, () -> field.await().indefinitely());
+    }
+  }
+
+  @Test
+  @DisplayName("should fail only the field of a malformed ID")
+  void shouldFailOnlyFieldOfMalformedId() {
+    // Arrange
+    Transaction first = createTransaction(FIRST_ID);
+    Transaction second = createTransaction(SECOND_ID);
+    when(getTransactionsUseCase.execute(List.of(FIRST_ID, SECOND_ID)))
+        .thenReturn(createBatch(first, second));
+
+    // Act
+    List<Uni<Transaction>> fields = onEventLoop(() -> List.of(
+        loader.load(FIRST_ID), loader.load("not-a-uuid"), loader.load(SECOND_ID)));
+
+    // Assert
+    assertEquals(first, fields.get(0).await().indefinitely());
+    Uni<Transaction> malformed = fields.get(1);
+    ValidationException exception =
+        assertThrows(ValidationException.class, () -> malformed.await().indefinitely());
+    assertEquals(ErrorCode.INVALID_FORMAT, exception.getErrorCode());
+    assertEquals(second, fields.get(2).await().indefinitely());
+  }
+
+  @Test
+  @DisplayName("should split a turn with more IDs than a lookup accepts into chunks")
+  void shouldSplitLargeTurnIntoChunks() {
+    // Arrange
+    String thirdId = UUID.randomUUID().toString();
+    Transaction first = createTransaction(FIRST_ID);
+    Transaction second = createTransaction(SECOND_ID);
+    Transaction third = createTransaction(thirdId);
+    when(bulkConfig.maxLookupSize()).thenReturn(2);
+    when(getTransactionsUseCase.execute(List.of(FIRST_ID, SECOND_ID)))
+        .thenReturn(createBatch(first, second));
+    when(getTransactionUseCase.execute(thirdId)).thenReturn(third);
+
+    // Act
+    List<Uni<Transaction>> fields = onEventLoop(() -> List.of(
+        loader.load(FIRST_ID), loader.load(SECOND_ID), loader.load(thirdId)));
+
+    // Assert
+    assertEquals(first, fields.get(0).await().indefinitely());
+    assertEquals(second, fields.get(1).await().indefinitely());
+    assertEquals(third, fields.get(2).await().indefinitely());
+    verify(getTransactionsUseCase, times(1)).execute(any());
+  }
+
+  private <T> T onEventLoop(Supplier<T> registration) {
+    CompletableFuture<T> registered = new CompletableFuture<>();
+    vertx.getOrCreateContext().runOnContext(ignored -> registered.complete(registration.get()));
+    return registered.join();
+  }
+
+  private TransactionBatch createBatch(Transaction... transactions) {
+    TransactionBatch batch = new TransactionBatch();
+    batch.setTransactions(new ArrayList<>(Arrays.asList(transactions)));
+    return batch;
+  }
+
+  private Transaction createTransaction(String externalId) {
+    Transaction tx = new Transaction();
+    tx.setTransactionExternalId(externalId);
+    tx.setValue("100.00");
+    return tx;
+  }
+}
@@ -1,15 +1,27 @@
 package com.yape.services.transaction.application.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionCreation;
+import com.yape.services.transaction.domain.repository.ReactiveTransactionRepository;
 import com.yape.services.transaction.domain.repository.TransactionRepository;
 import com.yape.services.transaction.domain.service.TransactionCacheService;
+import com.yape.services.transaction.domain.service.TransactionExistenceFilter;
+import com.yape.services.transaction.infrastructure.id.UuidV7TransactionIdGenerator;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.event.Event;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +40,12 @@ class CreateTransactionCommandHandlerTest {
   private TransactionRepository repository;
   @Mock
   private TransactionCacheService cacheService;
+  @Mock
+  private ReactiveTransactionRepository reactiveRepository;
+  @Mock
+  private TransactionExistenceFilter existenceFilter;
+  @Mock
+  private Event<TransactionsCreated> transactionsCreated;
 
   @Captor
   private ArgumentCaptor<Transaction> transactionCaptor;
@@ -43,7 +61,9 @@ class CreateTransactionCommandHandlerTest {
 
   @BeforeEach
   void setUp() {
-    handler = new CreateTransactionCommandHandler(repository, cacheService);
+    handler = new CreateTransactionCommandHandler(repository, cacheService,
+        new UuidV7TransactionIdGenerator(), reactiveRepository, existenceFilter,
+        transactionsCreated);
   }
 
   @Test
@@ -72,8 +92,8 @@ class CreateTransactionCommandHandlerTest {
   }
 
   @Test
-  @DisplayName("should cache transaction after saving")
-  void shouldCacheTransactionAfterSaving() {
+  @DisplayName("should leave caching to the commit of the saving transaction")
+  void shouldFireTransactionsCreatedInsteadOfCaching() {
     // Arrange
     CreateTransactionCommand command = createCommand();
     Transaction savedTransaction = createSavedTransaction();
@@ -83,12 +103,47 @@ class CreateTransactionCommandHandlerTest {
     // Act
     handler.handle(command);
 
+    // Assert
+    verify(transactionsCreated).fire(
+        new TransactionsCreated(List.of(savedTransaction), STATUS_CODE));
+    verify(cacheService, never()).saveTransaction(any(), any());
+    verify(existenceFilter, never()).add(any());
+  }
+
+  @Test
+  @DisplayName("should cache a committed transaction and record it in the existence filter")
+  void shouldCacheCommittedTransaction() {
+    // Arrange
+    Transaction savedTransaction = createSavedTransaction();
+
+    // Act
+    handler.onTransactionsCreated(
+        new TransactionsCreated(List.of(savedTransaction), STATUS_CODE));
+
     // Assert
     verify(cacheService).saveTransaction(savedTransaction, STATUS_CODE);
+    verify(existenceFilter).add(savedTransaction.getTransactionExternalId());
   }
 
   @Test
-  @DisplayName("should generate unique transaction external ID")
+  @DisplayName("should cache committed transactions with one cache batch")
+  void shouldCacheCommittedTransactionsWithOneBatch() {
+    // Arrange
+    List<Transaction> savedTransactions =
+        List.of(createSavedTransaction(), createSavedTransaction());
+
+    // Act
+    handler.onTransactionsCreated(new TransactionsCreated(savedTransactions, STATUS_CODE));
+
+    // Assert
+    verify(cacheService).saveTransactions(savedTransactions, STATUS_CODE);
+    verify(existenceFilter).addAll(savedTransactions.stream()
+        .map(Transaction::getTransactionExternalId)
+        .toList());
+  }
+
+  @Test
+  @DisplayName("should generate a time-ordered transaction external ID")
   void shouldGenerateUniqueTransactionExternalId() {
     // Arrange
     CreateTransactionCommand command = createCommand();
@@ -103,6 +158,7 @@ class CreateTransactionCommandHandlerTest {
     verify(repository).save(transactionCaptor.capture());
     Transaction capturedTransaction = transactionCaptor.getValue();
     assertNotNull(capturedTransaction.getTransactionExternalId());
+    assertEquals(7, capturedTransaction.getTransactionExternalId().version());
   }
 
   @Test
@@ -123,6 +179,71 @@ class CreateTransactionCommandHandlerTest {
     assertEquals(0, result.getValue().compareTo(VALUE));
   }
 
+  @Test
+  @DisplayName("should save several transactions with one bulk save and cache them on commit")
+  @SuppressWarnings("unchecked")
+  void shouldHandleAllWithBulkSaveAndCacheBatch() {
+    // Arrange
+    List<Transaction> savedTransactions =
+        List.of(createSavedTransaction(), createSavedTransaction());
+    ArgumentCaptor<List<Transaction>> listCaptor = ArgumentCaptor.forClass(List.class);
+    when(repository.saveAll(any())).thenReturn(savedTransactions);
+
+    // Act
+    List<Transaction> result = handler.handleAll(List.of(createCommand(), createCommand()));
+
+    // Assert
+    assertEquals(savedTransactions, result);
+    verify(repository).saveAll(listCaptor.capture());
+    assertEquals(2, listCaptor.getValue().size());
+    assertNotEquals(listCaptor.getValue().get(0).getTransactionExternalId(),
+        listCaptor.getValue().get(1).getTransactionExternalId());
+    verify(transactionsCreated).fire(new TransactionsCreated(savedTransactions, STATUS_CODE));
+    verify(cacheService, never()).saveTransactions(any(), any());
+    verify(existenceFilter, never()).addAll(any());
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("should create through the reactive repository and cache the new transaction")
+  void shouldHandleAsyncAndCacheCreatedTransaction() {
+    // Arrange
+    Transaction savedTransaction = createSavedTransaction();
+    TransactionCreation creation = new TransactionCreation(savedTransaction, true);
+    when(reactiveRepository.create(transactionCaptor.capture(), isNull(), isNull(), any()))
+        .thenReturn(Uni.createFrom().item(creation));
+    when(cacheService.saveTransactionAsync(savedTransaction, STATUS_CODE))
+        .thenReturn(Uni.createFrom().voidItem());
+
+    // Act
+    TransactionCreation result = handler.handleAsync(createCommand(), null, tx -> null)
+        .await().indefinitely();
+
+    // Assert
+    assertEquals(creation, result);
+    assertEquals(7, transactionCaptor.getValue().getTransactionExternalId().version());
+    assertEquals(DEBIT_ACCOUNT_ID, transactionCaptor.getValue().getAccountExternalIdDebit());
+    verify(existenceFilter).add(savedTransaction.getTransactionExternalId());
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("should not cache a transaction replayed from an earlier request")
+  void shouldNotCacheReplayedTransactionAsync() {
+    // Arrange
+    Transaction previous = createSavedTransaction();
+    when(reactiveRepository.create(any(), eq("req-1"), anyString(), any()))
+        .thenReturn(Uni.createFrom().item(new TransactionCreation(previous, false)));
+
+    // Act
+    TransactionCreation result = handler.handleAsync(createCommand(), "req-1", tx -> null)
+        .await().indefinitely();
+
+    // Assert
+    assertEquals(previous, result.transaction());
+    verify(cacheService, never()).saveTransactionAsync(any(), any());
+  }
+
   private CreateTransactionCommand createCommand() {
     return new CreateTransactionCommand(
         DEBIT_ACCOUNT_ID,
@@ -0,0 +1,273 @@
+package com.yape.services.transaction.application.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.shared.exception.BusinessException;
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.shared.exception.ValidationException;
+import com.yape.services.transaction.application.query.TransactionQueryHandler;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionRequest;
+import com.yape.services.transaction.domain.repository.TransactionRequestRepository;
+import com.yape.services.transaction.domain.service.TransactionRequestCacheService;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.event.Event;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionRequestHandler")
+class TransactionRequestHandlerTest {
+
+  private static final String REQUEST_ID = "request-123";
+
+  @Mock
+  private TransactionRequestRepository requestRepository;
+  @Mock
+  private TransactionRequestCacheService requestCacheService;
+  @Mock
+  private TransactionQueryHandler transactionQueryHandler;
+  @Mock
+  private Event<TransactionRequestCompleted> requestCompleted;
+
+  private TransactionRequestHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    handler = new TransactionRequestHandler(
+        requestRepository, requestCacheService, transactionQueryHandler, requestCompleted);
+  }
+
+  @Test
+  @DisplayName("should replay the cached result without touching the database")
+  void shouldReplayCachedResult() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    when(requestCacheService.getResult(REQUEST_ID)).thenReturn(Optional.of(transaction));
+
+    // Act
+    Optional<Transaction> result =
+        handler.findPreviousOrClaim(REQUEST_ID, commandFor(transaction));
+
+    // Assert
+    assertEquals(Optional.of(transaction), result);
+    verifyNoInteractions(requestRepository, transactionQueryHandler);
+  }
+
+  @Test
+  @DisplayName("should reject a cached Request-ID reused with a different input")
+  void shouldRejectCachedRequestIdWithDifferentInput() {
+    // Arrange
+    when(requestCacheService.getResult(REQUEST_ID))
+        .thenReturn(Optional.of(createTransaction()));
+    CreateTransactionCommand command = commandFor(createTransaction());
+
+    // Act
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> handler.findPreviousOrClaim(REQUEST_ID, command));
+
+    // Assert
+    assertEquals(ErrorCode.REQUEST_ID_REUSED, exception.getErrorCode());
+    verifyNoInteractions(requestRepository);
+  }
+
+  @Test
+  @DisplayName("should claim a new Request-ID with the hash of its input")
+  void shouldClaimNewRequestId() {
+    // Arrange
+    CreateTransactionCommand command = commandFor(createTransaction());
+    when(requestCacheService.getResult(REQUEST_ID)).thenReturn(Optional.empty());
+    when(requestRepository.claim(REQUEST_ID, RequestHash.of(command))).thenReturn(true);
+
+    // Act
+    Optional<Transaction> result = handler.findPreviousOrClaim(REQUEST_ID, command);
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verify(requestRepository, never()).findByRequestId(anyString());
+  }
+
+  @Test
+  @DisplayName("should replay the stored result when the Request-ID was already claimed")
+  void shouldReplayStoredResultWhenAlreadyClaimed() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    CreateTransactionCommand command = commandFor(transaction);
+    UUID externalId = transaction.getTransactionExternalId();
+    when(requestCacheService.getResult(REQUEST_ID)).thenReturn(Optional.empty());
+    when(requestRepository.claim(REQUEST_ID, RequestHash.of(command))).thenReturn(false);
+    when(requestRepository.findByRequestId(REQUEST_ID)).thenReturn(Optional.of(
+        new TransactionRequest(REQUEST_ID, RequestHash.of(command), externalId)));
+    when(transactionQueryHandler.getTransactionByExternalId(externalId))
+        .thenReturn(Optional.of(transaction));
+
+    // Act
+    Optional<Transaction> result = handler.findPreviousOrClaim(REQUEST_ID, command);
+
+    // Assert
+    assertEquals(Optional.of(transaction), result);
+    verify(requestCacheService).saveResult(REQUEST_ID, transaction);
+  }
+
+  @Test
+  @DisplayName("should reject a claimed Request-ID reused with a different input")
+  void shouldRejectClaimedRequestIdWithDifferentInput() {
+    // Arrange
+    CreateTransactionCommand command = commandFor(createTransaction());
+    String otherHash = RequestHash.of(createTransaction());
+    when(requestCacheService.getResult(REQUEST_ID)).thenReturn(Optional.empty());
+    when(requestRepository.claim(REQUEST_ID, RequestHash.of(command))).thenReturn(false);
+    when(requestRepository.findByRequestId(REQUEST_ID)).thenReturn(Optional.of(
+        new TransactionRequest(REQUEST_ID, otherHash, UUID.randomUUID())));
+
+    // Act
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> handler.findPreviousOrClaim(REQUEST_ID, command));
+
+    // Assert
+    assertEquals(ErrorCode.REQUEST_ID_REUSED, exception.getErrorCode());
+    verifyNoInteractions(transactionQueryHandler);
+  }
+
+  @Test
+  @DisplayName("should reject a Request-ID longer than the stored column")
+  void shouldRejectTooLongRequestId() {
+    // Arrange
+    String requestId = "r".repeat(TransactionRequestHandler.MAX_REQUEST_ID_LENGTH + 1);
+    CreateTransactionCommand command = commandFor(createTransaction());
+
+    // Act & Assert
+    assertThrows(ValidationException.class,
+        () -> handler.findPreviousOrClaim(requestId, command));
+    verify(requestRepository, never()).claim(any(), any());
+  }
+
+  @Test
+  @DisplayName("should record the created transaction and leave caching to the commit")
+  void shouldRecordCreatedTransactionAndCacheOnCommit() {
+    // Arrange
+    Transaction transaction = createTransaction();
+
+    // Act
+    handler.complete(REQUEST_ID, transaction);
+
+    // Assert
+    verify(requestRepository).complete(REQUEST_ID, transaction.getTransactionExternalId());
+    verify(requestCompleted).fire(new TransactionRequestCompleted(REQUEST_ID, transaction));
+    verify(requestCacheService, never()).saveResult(any(), any());
+  }
+
+  @Test
+  @DisplayName("should cache the result of a committed Request-ID")
+  void shouldCacheCommittedResult() {
+    // Arrange
+    Transaction transaction = createTransaction();
+
+    // Act
+    handler.onRequestCompleted(new TransactionRequestCompleted(REQUEST_ID, transaction));
+
+    // Assert
+    verify(requestCacheService).saveResult(REQUEST_ID, transaction);
+  }
+
+  @Test
+  @DisplayName("should look up the cached result async without claiming the Request-ID")
+  void shouldFindCachedResultAsync() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    when(requestCacheService.getResultAsync(REQUEST_ID))
+        .thenReturn(Uni.createFrom().item(Optional.of(transaction)));
+
+    // Act
+    Optional<Transaction> result =
+        handler.findCachedResultAsync(REQUEST_ID, commandFor(transaction)).await().indefinitely();
+
+    // Assert
+    assertEquals(Optional.of(transaction), result);
+    verifyNoInteractions(requestRepository, transactionQueryHandler);
+  }
+
+  @Test
+  @DisplayName("should fail the async lookup when the cached input differs")
+  void shouldRejectCachedRequestIdWithDifferentInputAsync() {
+    // Arrange
+    when(requestCacheService.getResultAsync(REQUEST_ID))
+        .thenReturn(Uni.createFrom().item(Optional.of(createTransaction())));
+    Uni<Optional<Transaction>> result =
+        handler.findCachedResultAsync(REQUEST_ID, commandFor(createTransaction()));
+
+    // Act
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> result.await().indefinitely());
+
+    // Assert
+    assertEquals(ErrorCode.REQUEST_ID_REUSED, exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("should reject a too long Request-ID before the async cache lookup")
+  void shouldRejectTooLongRequestIdAsync() {
+    // Arrange
+    String requestId = "r".repeat(TransactionRequestHandler.MAX_REQUEST_ID_LENGTH + 1);
+    CreateTransactionCommand command = commandFor(createTransaction());
+
+    // Act & Assert
+    assertThrows(ValidationException.class,
+        () -> handler.findCachedResultAsync(requestId, command));
+    verifyNoInteractions(requestCacheService);
+  }
+
+  @Test
+  @DisplayName("should hash a command and the transaction it created the same way")
+  void shouldHashCommandAndTransactionAlike() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    transaction.setValue(new BigDecimal("100.0000"));
+
+    // Act & Assert
+    assertEquals(RequestHash.of(transaction), RequestHash.of(commandFor(createTransaction(
+        transaction.getAccountExternalIdDebit(), transaction.getAccountExternalIdCredit()))));
+  }
+
+  private Transaction createTransaction() {
+    return createTransaction(UUID.randomUUID(), UUID.randomUUID());
+  }
+
+  private Transaction createTransaction(UUID debit, UUID credit) {
+    return Transaction.builder()
+        .transactionExternalId(UUID.randomUUID())
+        .accountExternalIdDebit(debit)
+        .accountExternalIdCredit(credit)
+        .transferTypeId(1)
+        .transactionStatusId(1)
+        .value(new BigDecimal("100.00"))
+        .build();
+  }
+
+  private static CreateTransactionCommand commandFor(Transaction transaction) {
+    return new CreateTransactionCommand(
+        transaction.getAccountExternalIdDebit(),
+        transaction.getAccountExternalIdCredit(),
+        transaction.getTransferTypeId(),
+        transaction.getTransactionStatusId(),
+        "PENDING",
+        transaction.getValue()
+    );
+  }
+
+}
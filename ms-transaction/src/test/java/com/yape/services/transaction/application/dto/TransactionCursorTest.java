@@ -0,0 +1,42 @@
+package com.yape.services.transaction.application.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.shared.exception.ValidationException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TransactionCursorTest {
+
+  @Test
+  @DisplayName("should decode an encoded cursor back to the same position")
+  void shouldRoundTrip() {
+    // Arrange
+    TransactionCursor cursor =
+        new TransactionCursor(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_456_000), 42L);
+
+    // Act
+    TransactionCursor decoded = TransactionCursor.decode(cursor.encode(), "after");
+
+    // Assert
+    assertEquals(cursor, decoded);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"not base64!", "bm8tc2VwYXJhdG9y", "MjAyNC0wMS0xNXx4"})
+  @DisplayName("should reject values that are not cursors")
+  void shouldRejectInvalidCursors(String value) {
+    // Act
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> TransactionCursor.decode(value, "after"));
+
+    // Assert
+    assertEquals(ErrorCode.INVALID_FORMAT, exception.getErrorCode());
+    assertEquals("after", exception.getFieldName());
+  }
+}
@@ -9,6 +9,7 @@ import com.yape.services.transaction.application.dto.RequestMetaData;
 import com.yape.services.transaction.domain.model.Transaction;
 import com.yape.services.transaction.domain.model.TransactionStatus;
 import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.infrastructure.id.UuidV7TransactionIdGenerator;
 import java.math.BigDecimal;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,7 +28,7 @@ class TransactionMapperTest {
 
   @BeforeEach
   void setUp() {
-    mapper = new TransactionMapper();
+    mapper = new TransactionMapper(new UuidV7TransactionIdGenerator());
   }
 
   @Test
@@ -0,0 +1,185 @@
+package com.yape.services.transaction.application.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InFlightLoadsTest {
+
+  private Counter coalesced;
+  private InFlightLoads<String, String> inFlightLoads;
+
+  @BeforeEach
+  void setUp() {
+    coalesced = new SimpleMeterRegistry().counter("coalesced");
+    inFlightLoads = new InFlightLoads<>(coalesced);
+  }
+
+  @Test
+  @DisplayName("should give the result of an in-flight load to concurrent callers")
+  void shouldShareInFlightLoad() throws Exception {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    // Act
+    String first;
+    String second;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<String> loader = executor.submit(() -> inFlightLoads.load("key", () -> {
+        loads.incrementAndGet();
+        loading.countDown();
+        await(release);
+        return "value";
+      }));
+      loading.await();
+      Future<String> waiter = executor.submit(() -> inFlightLoads.load("key", () -> {
+        loads.incrementAndGet();
+        return "other";
+      }));
+      awaitCoalesced(1);
+      release.countDown();
+      first = loader.get();
+      second = waiter.get();
+    }
+
+    // Assert
+    assertEquals("value", first);
+    assertEquals("value", second);
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  @DisplayName("should propagate the failure of an in-flight load to concurrent callers")
+  void shouldShareFailure() throws Exception {
+    // Arrange
+    IllegalStateException failure = new IllegalStateException("database down");
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    // Act
+    ExecutionException waiterFailure;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      executor.submit(() -> inFlightLoads.load("key", () -> {
+        loading.countDown();
+        await(release);
+        throw failure;
+      }));
+      loading.await();
+      Future<String> waiter = executor.submit(() -> inFlightLoads.load("key", () -> "other"));
+      awaitCoalesced(1);
+      release.countDown();
+      waiterFailure = assertThrows(ExecutionException.class, waiter::get);
+    }
+
+    // Assert
+    assertSame(failure, waiterFailure.getCause());
+  }
+
+  @Test
+  @DisplayName("should load again once the previous load has completed")
+  void shouldNotReuseCompletedLoad() {
+    // Act
+    String first = inFlightLoads.load("key", () -> "first");
+    String second = inFlightLoads.load("key", () -> "second");
+
+    // Assert
+    assertEquals("first", first);
+    assertEquals("second", second);
+    assertEquals(0, coalesced.count());
+  }
+
+  @Test
+  @DisplayName("should share an in-flight non-blocking load")
+  void shouldShareInFlightAsyncLoad() {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+    AtomicReference<UniEmitter<? super String>> emitter = new AtomicReference<>();
+    Uni<String> first = inFlightLoads.loadAsync("key", () -> {
+      loads.incrementAndGet();
+      return Uni.createFrom().emitter(emitter::set);
+    });
+    Uni<String> second = inFlightLoads.loadAsync("key", () -> {
+      loads.incrementAndGet();
+      return Uni.createFrom().item("other");
+    });
+
+    // Act
+    AtomicReference<String> firstResult = new AtomicReference<>();
+    AtomicReference<String> secondResult = new AtomicReference<>();
+    first.subscribe().with(firstResult::set);
+    second.subscribe().with(secondResult::set);
+    emitter.get().complete("value");
+
+    // Assert
+    assertEquals("value", firstResult.get());
+    assertEquals("value", secondResult.get());
+    assertEquals(1, loads.get());
+    assertEquals(1, coalesced.count());
+  }
+
+  @Test
+  @DisplayName("should keep serving the other callers when one cancels its wait")
+  void shouldDetachOnlyTheCancellingCaller() {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+    AtomicReference<UniEmitter<? super String>> emitter = new AtomicReference<>();
+    Uni<String> first = inFlightLoads.loadAsync("key", () -> {
+      loads.incrementAndGet();
+      return Uni.createFrom().emitter(emitter::set);
+    });
+    Uni<String> second = inFlightLoads.loadAsync("key", () -> {
+      loads.incrementAndGet();
+      return Uni.createFrom().item("other");
+    });
+    AtomicReference<String> firstResult = new AtomicReference<>();
+    AtomicReference<String> secondResult = new AtomicReference<>();
+    Cancellable firstSubscription = first.subscribe().with(firstResult::set);
+    second.subscribe().with(secondResult::set);
+
+    // Act
+    firstSubscription.cancel();
+    emitter.get().complete("value");
+
+    // Assert
+    assertNull(firstResult.get());
+    assertEquals("value", secondResult.get());
+    assertEquals(1, loads.get());
+    assertEquals("next", inFlightLoads.loadAsync("key", () -> Uni.createFrom().item("next"))
+        .await().indefinitely());
+  }
+
+  private void awaitCoalesced(int expected) {
+    while (coalesced.count() < expected) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
@@ -0,0 +1,130 @@
+package com.yape.services.transaction.application.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransferType;
+import com.yape.services.transaction.domain.repository.TransactionStatusRepository;
+import com.yape.services.transaction.domain.repository.TransferTypeRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+  @Mock
+  private TransactionStatusRepository transactionStatusRepository;
+  @Mock
+  private TransferTypeRepository transferTypeRepository;
+
+  private ReferenceDataRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new ReferenceDataRegistry(transactionStatusRepository, transferTypeRepository);
+  }
+
+  @Test
+  @DisplayName("should resolve statuses and transfer types without hitting repositories again")
+  void shouldResolveFromSnapshotAfterRefresh() {
+    // Arrange
+    stubReferenceData();
+
+    // Act
+    registry.refresh();
+    Optional<TransactionStatus> byCode = registry.getTransactionStatusByCode("APPROVED");
+    Optional<TransactionStatus> byId = registry.getTransactionStatusById(3);
+    Optional<TransferType> transferType = registry.getTransferTypeById(2);
+    registry.getTransactionStatusByCode("PENDING");
+
+    // Assert
+    assertTrue(byCode.isPresent());
+    assertEquals(2, byCode.get().getTransactionStatusId());
+    assertTrue(byId.isPresent());
+    assertEquals("REJECTED", byId.get().getCode());
+    assertTrue(transferType.isPresent());
+    assertEquals("PAYMENT", transferType.get().getCode());
+    verify(transactionStatusRepository, times(1)).findAll();
+    verify(transferTypeRepository, times(1)).findAll();
+  }
+
+  @Test
+  @DisplayName("should return empty for unknown IDs and codes")
+  void shouldReturnEmptyForUnknownKeys() {
+    // Arrange
+    stubReferenceData();
+    registry.refresh();
+
+    // Act / Assert
+    assertTrue(registry.getTransactionStatusByCode("UNKNOWN").isEmpty());
+    assertTrue(registry.getTransactionStatusById(0).isEmpty());
+    assertTrue(registry.getTransactionStatusById(-1).isEmpty());
+    assertTrue(registry.getTransactionStatusById(999).isEmpty());
+    assertTrue(registry.getTransferTypeById(999).isEmpty());
+  }
+
+  @Test
+  @DisplayName("should return empty before the first refresh")
+  void shouldReturnEmptyBeforeRefresh() {
+    // Act / Assert
+    assertTrue(registry.getTransactionStatusByCode("PENDING").isEmpty());
+    assertTrue(registry.getTransactionStatusById(1).isEmpty());
+    assertTrue(registry.getTransferTypeById(1).isEmpty());
+  }
+
+  @Test
+  @DisplayName("should replace the snapshot on refresh")
+  void shouldReplaceSnapshotOnRefresh() {
+    // Arrange
+    stubReferenceData();
+    registry.refresh();
+    when(transactionStatusRepository.findAll())
+        .thenReturn(List.of(createStatus(1, "PENDING", "Pendiente")));
+    when(transferTypeRepository.findAll()).thenReturn(List.of());
+
+    // Act
+    registry.refresh();
+
+    // Assert
+    assertTrue(registry.getTransactionStatusByCode("PENDING").isPresent());
+    assertTrue(registry.getTransactionStatusByCode("APPROVED").isEmpty());
+    assertTrue(registry.getTransferTypeById(1).isEmpty());
+  }
+
+  private void stubReferenceData() {
+    when(transactionStatusRepository.findAll()).thenReturn(List.of(
+        createStatus(1, "PENDING", "Pendiente"),
+        createStatus(2, "APPROVED", "Aprobado"),
+        createStatus(3, "REJECTED", "Rechazado")));
+    when(transferTypeRepository.findAll()).thenReturn(List.of(
+        createTransferType(1, "TRANSFER", "Transferencia"),
+        createTransferType(2, "PAYMENT", "Pago"),
+        createTransferType(3, "DEPOSIT", "Depósito")));
+  }
+
+  private TransactionStatus createStatus(int id, String code, String name) {
+    return TransactionStatus.builder()
+        .transactionStatusId(id)
+        .code(code)
+        .name(name)
+        .build();
+  }
+
+  private TransferType createTransferType(int id, String code, String name) {
+    return TransferType.builder()
+        .transferTypeId(id)
+        .code(code)
+        .name(name)
+        .build();
+  }
+}
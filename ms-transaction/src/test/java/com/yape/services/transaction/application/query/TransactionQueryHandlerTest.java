@@ -2,19 +2,34 @@ package com.yape.services.transaction.application.query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.yape.services.transaction.application.dto.TransactionCursor;
 import com.yape.services.transaction.domain.model.Transaction;
 import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.repository.ReactiveTransactionRepository;
 import com.yape.services.transaction.domain.repository.TransactionRepository;
-import com.yape.services.transaction.domain.repository.TransactionStatusRepository;
 import com.yape.services.transaction.domain.service.TransactionCacheService;
+import com.yape.services.transaction.domain.service.TransactionExistenceFilter;
+import com.yape.services.transaction.domain.service.TransactionLoadLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,10 +43,17 @@ class TransactionQueryHandlerTest {
   @Mock
   private TransactionRepository transactionRepository;
   @Mock
-  private TransactionStatusRepository transactionStatusRepository;
-  @Mock
   private TransactionCacheService cacheService;
+  @Mock
+  private ReactiveTransactionRepository reactiveTransactionRepository;
+  @Mock
+  private ReferenceDataRegistry referenceDataRegistry;
+  @Mock
+  private TransactionLoadLock loadLock;
+  @Mock
+  private TransactionExistenceFilter existenceFilter;
 
+  private SimpleMeterRegistry meterRegistry;
   private TransactionQueryHandler handler;
 
   private static final UUID TRANSACTION_EXTERNAL_ID = UUID.randomUUID();
@@ -39,13 +61,53 @@ class TransactionQueryHandlerTest {
 
   @BeforeEach
   void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    lenient().when(loadLock.callLocked(any(), any())).thenAnswer(
+        invocation -> invocation.<TransactionLoadLock.Load<?>>getArgument(1).run(false));
+    lenient().when(existenceFilter.mightExist(any())).thenReturn(true);
     handler = new TransactionQueryHandler(
         transactionRepository,
-        transactionStatusRepository,
-        cacheService
+        cacheService,
+        reactiveTransactionRepository,
+        referenceDataRegistry,
+        loadLock,
+        meterRegistry,
+        existenceFilter
     );
   }
 
+  @Test
+  @DisplayName("should read account pages from the repository without the cache")
+  void shouldReadAccountPagesFromRepository() {
+    // Arrange
+    UUID accountId = UUID.randomUUID();
+    TransactionCursor after = new TransactionCursor(LocalDateTime.of(2024, 1, 15, 10, 30), 7L);
+    List<Transaction> page = List.of(createTransaction());
+    when(transactionRepository.findByAccount(accountId, after.createdAt(), 7L, 21))
+        .thenReturn(page);
+
+    // Act
+    List<Transaction> result = handler.getTransactionsByAccount(accountId, after, 21);
+
+    // Assert
+    assertEquals(page, result);
+    verifyNoInteractions(cacheService);
+  }
+
+  @Test
+  @DisplayName("should read the first account page without a seek position")
+  void shouldReadFirstAccountPage() {
+    // Arrange
+    UUID accountId = UUID.randomUUID();
+    when(transactionRepository.findByAccount(accountId, null, null, 21)).thenReturn(List.of());
+
+    // Act
+    List<Transaction> result = handler.getTransactionsByAccount(accountId, null, 21);
+
+    // Assert
+    assertTrue(result.isEmpty());
+  }
+
   @Test
   @DisplayName("should return transaction from cache when present")
   void shouldReturnTransactionFromCacheWhenPresent() {
@@ -74,7 +136,7 @@ class TransactionQueryHandlerTest {
         .thenReturn(Optional.empty());
     when(transactionRepository.findByExternalId(TRANSACTION_EXTERNAL_ID))
         .thenReturn(Optional.of(dbTransaction));
-    when(transactionStatusRepository.findById(TRANSACTION_STATUS_ID))
+    when(referenceDataRegistry.getTransactionStatusById(TRANSACTION_STATUS_ID))
         .thenReturn(Optional.of(status));
 
     // Act
@@ -97,7 +159,7 @@ class TransactionQueryHandlerTest {
         .thenReturn(Optional.empty());
     when(transactionRepository.findByExternalId(TRANSACTION_EXTERNAL_ID))
         .thenReturn(Optional.of(dbTransaction));
-    when(transactionStatusRepository.findById(TRANSACTION_STATUS_ID))
+    when(referenceDataRegistry.getTransactionStatusById(TRANSACTION_STATUS_ID))
         .thenReturn(Optional.of(status));
 
     // Act
@@ -125,6 +187,38 @@ class TransactionQueryHandlerTest {
         org.mockito.ArgumentMatchers.any(),
         org.mockito.ArgumentMatchers.any()
     );
+    verify(cacheService).saveMissing(TRANSACTION_EXTERNAL_ID);
+  }
+
+  @Test
+  @DisplayName("should return empty without any lookup when the existence filter rules it out")
+  void shouldReturnEmptyWhenRuledOutByFilter() {
+    // Arrange
+    when(existenceFilter.mightExist(TRANSACTION_EXTERNAL_ID)).thenReturn(false);
+
+    // Act
+    Optional<Transaction> result = handler.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+
+    // Assert
+    assertTrue(result.isEmpty());
+    assertEquals(1, skipped("filter"));
+    verifyNoInteractions(cacheService, transactionRepository);
+  }
+
+  @Test
+  @DisplayName("should return empty without any lookup when recently found missing")
+  void shouldReturnEmptyWhenRecentlyFoundMissing() {
+    // Arrange
+    when(cacheService.isMissing(TRANSACTION_EXTERNAL_ID)).thenReturn(true);
+
+    // Act
+    Optional<Transaction> result = handler.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+
+    // Assert
+    assertTrue(result.isEmpty());
+    assertEquals(1, skipped("negative-cache"));
+    verify(cacheService, never()).getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+    verifyNoInteractions(transactionRepository);
   }
 
   @Test
@@ -137,7 +231,7 @@ class TransactionQueryHandlerTest {
         .thenReturn(Optional.empty());
     when(transactionRepository.findByExternalId(TRANSACTION_EXTERNAL_ID))
         .thenReturn(Optional.of(dbTransaction));
-    when(transactionStatusRepository.findById(TRANSACTION_STATUS_ID))
+    when(referenceDataRegistry.getTransactionStatusById(TRANSACTION_STATUS_ID))
         .thenReturn(Optional.empty());
 
     // Act
@@ -151,9 +245,222 @@ class TransactionQueryHandlerTest {
     );
   }
 
+  @Test
+  @DisplayName("should share one database load between concurrent misses of a transaction")
+  void shouldCoalesceConcurrentMisses() throws Exception {
+    // Arrange
+    Transaction dbTransaction = createTransaction();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(cacheService.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Optional.empty());
+    when(transactionRepository.findByExternalId(TRANSACTION_EXTERNAL_ID)).thenAnswer(
+        invocation -> {
+          loading.countDown();
+          release.await();
+          return Optional.of(dbTransaction);
+        });
+    when(referenceDataRegistry.getTransactionStatusById(TRANSACTION_STATUS_ID))
+        .thenReturn(Optional.of(createPendingStatus()));
+
+    // Act
+    Optional<Transaction> waiterResult;
+    Future<Optional<Transaction>> loaderResult;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      loaderResult = executor.submit(
+          () -> handler.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID));
+      loading.await();
+      Future<Optional<Transaction>> waiter = executor.submit(
+          () -> handler.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID));
+      while (coalesced("local") == 0) {
+        Thread.onSpinWait();
+      }
+      release.countDown();
+      waiterResult = waiter.get();
+    }
+
+    // Assert
+    assertEquals(Optional.of(dbTransaction), loaderResult.get());
+    assertEquals(Optional.of(dbTransaction), waiterResult);
+    verify(transactionRepository).findByExternalId(TRANSACTION_EXTERNAL_ID);
+    verify(cacheService).saveTransaction(dbTransaction, "PENDING");
+  }
+
+  @Test
+  @DisplayName("should reuse the transaction another instance reloaded while holding the lock")
+  void shouldReuseTransactionReloadedByAnotherInstance() {
+    // Arrange
+    Transaction reloaded = createTransaction();
+    doAnswer(invocation -> invocation.<TransactionLoadLock.Load<?>>getArgument(1).run(true))
+        .when(loadLock).callLocked(any(), any());
+    when(cacheService.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Optional.empty(), Optional.of(reloaded));
+
+    // Act
+    Optional<Transaction> result = handler.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+
+    // Assert
+    assertEquals(Optional.of(reloaded), result);
+    assertEquals(1, coalesced("remote"));
+    verifyNoInteractions(transactionRepository);
+  }
+
+  @Test
+  @DisplayName("should return transaction from cache without the database when read async")
+  void shouldReturnCachedTransactionAsync() {
+    // Arrange
+    Transaction cachedTransaction = createTransaction();
+    when(cacheService.getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Uni.createFrom().item(Optional.of(cachedTransaction)));
+
+    // Act
+    Optional<Transaction> result = handler.getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID)
+        .await().indefinitely();
+
+    // Assert
+    assertEquals(Optional.of(cachedTransaction), result);
+    verifyNoInteractions(reactiveTransactionRepository, transactionRepository);
+  }
+
+  @Test
+  @DisplayName("should read the reactive repository and cache the result on an async miss")
+  void shouldFetchAndCacheOnAsyncCacheMiss() {
+    // Arrange
+    Transaction dbTransaction = createTransaction();
+    when(cacheService.getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Uni.createFrom().item(Optional.empty()));
+    when(reactiveTransactionRepository.findByExternalId(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Uni.createFrom().item(Optional.of(dbTransaction)));
+    when(referenceDataRegistry.getTransactionStatusById(TRANSACTION_STATUS_ID))
+        .thenReturn(Optional.of(createPendingStatus()));
+    when(cacheService.saveTransactionAsync(dbTransaction, "PENDING"))
+        .thenReturn(Uni.createFrom().voidItem());
+
+    // Act
+    Optional<Transaction> result = handler.getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID)
+        .await().indefinitely();
+
+    // Assert
+    assertEquals(Optional.of(dbTransaction), result);
+    verify(cacheService).saveTransactionAsync(dbTransaction, "PENDING");
+    verifyNoInteractions(transactionRepository);
+  }
+
+  @Test
+  @DisplayName("should return empty without caching when missing on an async read")
+  void shouldReturnEmptyWhenMissingAsync() {
+    // Arrange
+    when(cacheService.getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Uni.createFrom().item(Optional.empty()));
+    when(reactiveTransactionRepository.findByExternalId(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Uni.createFrom().item(Optional.empty()));
+
+    // Act
+    Optional<Transaction> result = handler.getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID)
+        .await().indefinitely();
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verify(cacheService, never()).saveTransactionAsync(
+        org.mockito.ArgumentMatchers.any(),
+        org.mockito.ArgumentMatchers.any()
+    );
+    verify(cacheService).saveMissing(TRANSACTION_EXTERNAL_ID);
+  }
+
+  @Test
+  @DisplayName("should return empty without any lookup when ruled out on an async read")
+  void shouldReturnEmptyWhenRuledOutByFilterAsync() {
+    // Arrange
+    when(existenceFilter.mightExist(TRANSACTION_EXTERNAL_ID)).thenReturn(false);
+
+    // Act
+    Optional<Transaction> result = handler.getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID)
+        .await().indefinitely();
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verifyNoInteractions(cacheService, reactiveTransactionRepository);
+  }
+
+  @Test
+  @DisplayName("should read batch misses from the database with one query and cache them back")
+  void shouldLoadBatchMissesWithOneQuery() {
+    // Arrange
+    UUID cachedId = UUID.randomUUID();
+    UUID loadedId = UUID.randomUUID();
+    UUID missingId = UUID.randomUUID();
+    Transaction cached = createTransaction(cachedId);
+    Transaction loaded = createTransaction(loadedId);
+    when(cacheService.getTransactionsByExternalIds(List.of(cachedId, loadedId, missingId)))
+        .thenReturn(Map.of(cachedId, cached));
+    when(transactionRepository.findByExternalIds(List.of(loadedId, missingId)))
+        .thenReturn(List.of(loaded));
+
+    // Act
+    Map<UUID, Transaction> result =
+        handler.getTransactionsByExternalIds(List.of(cachedId, loadedId, missingId));
+
+    // Assert
+    assertEquals(Map.of(cachedId, cached, loadedId, loaded), result);
+    verify(cacheService).saveTransactions(List.of(loaded));
+    verify(cacheService).saveMissing(missingId);
+    verify(cacheService, never()).saveMissing(loadedId);
+  }
+
+  @Test
+  @DisplayName("should not query the database when the whole batch is cached")
+  void shouldNotQueryDatabaseWhenBatchCached() {
+    // Arrange
+    Transaction cached = createTransaction();
+    when(cacheService.getTransactionsByExternalIds(List.of(TRANSACTION_EXTERNAL_ID)))
+        .thenReturn(Map.of(TRANSACTION_EXTERNAL_ID, cached));
+
+    // Act
+    Map<UUID, Transaction> result =
+        handler.getTransactionsByExternalIds(List.of(TRANSACTION_EXTERNAL_ID));
+
+    // Assert
+    assertEquals(Map.of(TRANSACTION_EXTERNAL_ID, cached), result);
+    verifyNoInteractions(transactionRepository);
+  }
+
+  @Test
+  @DisplayName("should skip batch IDs ruled out or recently found missing")
+  void shouldSkipKnownMissingBatchIds() {
+    // Arrange
+    UUID ruledOutId = UUID.randomUUID();
+    UUID recentlyMissingId = UUID.randomUUID();
+    when(existenceFilter.mightExist(ruledOutId)).thenReturn(false);
+    when(cacheService.isMissing(recentlyMissingId)).thenReturn(true);
+
+    // Act
+    Map<UUID, Transaction> result =
+        handler.getTransactionsByExternalIds(List.of(ruledOutId, recentlyMissingId));
+
+    // Assert
+    assertTrue(result.isEmpty());
+    assertEquals(1.0, skipped("filter"));
+    assertEquals(1.0, skipped("negative-cache"));
+    verify(cacheService, never()).getTransactionsByExternalIds(any());
+    verifyNoInteractions(transactionRepository);
+  }
+
+  private double coalesced(String scope) {
+    return meterRegistry.get("transaction.load.coalesced").tag("scope", scope).counter().count();
+  }
+
+  private double skipped(String reason) {
+    return meterRegistry.get("transaction.load.skipped").tag("reason", reason).counter().count();
+  }
+
   private Transaction createTransaction() {
+    return createTransaction(TRANSACTION_EXTERNAL_ID);
+  }
+
+  private Transaction createTransaction(UUID externalId) {
     return Transaction.builder()
-        .transactionExternalId(TRANSACTION_EXTERNAL_ID)
+        .transactionExternalId(externalId)
         .accountExternalIdDebit(UUID.randomUUID())
         .accountExternalIdCredit(UUID.randomUUID())
         .transferTypeId(1)
@@ -1,31 +1,41 @@
 package com.yape.services.transaction.application.usecase;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yape.services.shared.exception.BusinessException;
+import com.yape.services.shared.exception.ErrorCode;
 import com.yape.services.shared.exception.ResourceNotFoundException;
 import com.yape.services.shared.exception.ValidationException;
 import com.yape.services.transaction.application.command.CreateTransactionCommand;
 import com.yape.services.transaction.application.command.CreateTransactionCommandHandler;
+import com.yape.services.transaction.application.command.TransactionRequestHandler;
 import com.yape.services.transaction.application.dto.RequestMetaData;
 import com.yape.services.transaction.application.mapper.GraphqlTransactionMapper;
 import com.yape.services.transaction.application.mapper.TransactionMapper;
-import com.yape.services.transaction.application.query.TransactionStatusQueryHandler;
-import com.yape.services.transaction.application.query.TransferTypeQueryHandler;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
 import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionCreation;
 import com.yape.services.transaction.domain.model.TransactionStatus;
 import com.yape.services.transaction.domain.model.TransferType;
 import com.yape.services.transaction.domain.service.TransactionEventPublisher;
 import com.yape.services.transaction.events.TransactionCreatedEvent;
 import com.yape.services.transaction.graphql.model.CreateTransaction;
+import com.yape.services.transaction.graphql.model.CreateTransactionResult;
+import io.smallrye.mutiny.Uni;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,9 +60,9 @@ class CreateTransactionUseCaseTest {
   @Mock
   private GraphqlTransactionMapper graphqlMapper;
   @Mock
-  private TransferTypeQueryHandler transferTypeQueryHandler;
+  private ReferenceDataRegistry referenceDataRegistry;
   @Mock
-  private TransactionStatusQueryHandler statusQueryHandler;
+  private TransactionRequestHandler requestHandler;
 
   @Captor
   private ArgumentCaptor<CreateTransactionCommand> commandCaptor;
@@ -71,8 +81,8 @@ class CreateTransactionUseCaseTest {
         eventPublisher,
         transactionMapper,
         graphqlMapper,
-        transferTypeQueryHandler,
-        statusQueryHandler
+        referenceDataRegistry,
+        requestHandler
     );
   }
 
@@ -88,9 +98,9 @@ class CreateTransactionUseCaseTest {
     TransactionCreatedEvent event = createEvent();
     var expectedGraphqlResponse = createGraphqlTransaction();
 
-    when(transferTypeQueryHandler.getTransferTypeById(TRANSFER_TYPE_ID))
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
         .thenReturn(Optional.of(transferType));
-    when(statusQueryHandler.getTransactionStatusByCode("PENDING"))
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
         .thenReturn(Optional.of(pendingStatus));
     when(commandHandler.handle(any(CreateTransactionCommand.class)))
         .thenReturn(savedTransaction);
@@ -106,6 +116,7 @@ class CreateTransactionUseCaseTest {
     assertEquals(expectedGraphqlResponse, result);
     verify(commandHandler).handle(commandCaptor.capture());
     verify(eventPublisher).publishTransactionCreated(event);
+    verify(requestHandler).complete("request-123", savedTransaction);
 
     CreateTransactionCommand capturedCommand = commandCaptor.getValue();
     assertEquals(DEBIT_ACCOUNT_ID, capturedCommand.accountExternalIdDebit());
@@ -113,6 +124,162 @@ class CreateTransactionUseCaseTest {
     assertEquals(new BigDecimal(VALID_AMOUNT), capturedCommand.value());
   }
 
+  @Test
+  @DisplayName("should return the transaction of an earlier request with the same Request-ID")
+  void shouldReplayEarlierRequestWithSameRequestId() {
+    // Arrange
+    CreateTransaction input = createValidInput();
+    RequestMetaData metaData = createMetaData();
+    TransferType transferType = createTransferType();
+    TransactionStatus pendingStatus = createPendingStatus();
+    Transaction previousTransaction = createSavedTransaction();
+    var expectedGraphqlResponse = createGraphqlTransaction();
+
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
+        .thenReturn(Optional.of(transferType));
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
+        .thenReturn(Optional.of(pendingStatus));
+    when(referenceDataRegistry.getTransactionStatusById(1))
+        .thenReturn(Optional.of(pendingStatus));
+    when(requestHandler.findPreviousOrClaim(eq("request-123"), any()))
+        .thenReturn(Optional.of(previousTransaction));
+    when(graphqlMapper.toGraphqlModel(previousTransaction, transferType, pendingStatus))
+        .thenReturn(expectedGraphqlResponse);
+
+    // Act
+    var result = useCase.execute(input, metaData);
+
+    // Assert
+    assertEquals(expectedGraphqlResponse, result);
+    verify(commandHandler, never()).handle(any());
+    verify(requestHandler, never()).complete(any(), any());
+    verify(eventPublisher, never()).publishTransactionCreated(any());
+  }
+
+  @Test
+  @DisplayName("should create without deduplication when the request has no Request-ID")
+  void shouldSkipDeduplicationWithoutRequestId() {
+    // Arrange
+    CreateTransaction input = createValidInput();
+    RequestMetaData metaData = new RequestMetaData("Bearer token", null, "2024-01-01");
+    TransferType transferType = createTransferType();
+    TransactionStatus pendingStatus = createPendingStatus();
+    Transaction savedTransaction = createSavedTransaction();
+
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
+        .thenReturn(Optional.of(transferType));
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
+        .thenReturn(Optional.of(pendingStatus));
+    when(commandHandler.handle(any(CreateTransactionCommand.class)))
+        .thenReturn(savedTransaction);
+
+    // Act
+    useCase.execute(input, metaData);
+
+    // Assert
+    verify(commandHandler).handle(any(CreateTransactionCommand.class));
+    verify(requestHandler, never()).findPreviousOrClaim(any(), any());
+    verify(requestHandler, never()).complete(any(), any());
+  }
+
+  @Test
+  @DisplayName("should create transaction async with its event and cache the request result")
+  @SuppressWarnings("unchecked")
+  void shouldCreateTransactionAsync() {
+    // Arrange
+    CreateTransaction input = createValidInput();
+    RequestMetaData metaData = createMetaData();
+    TransferType transferType = createTransferType();
+    TransactionStatus pendingStatus = createPendingStatus();
+    Transaction savedTransaction = createSavedTransaction();
+    TransactionCreatedEvent event = createEvent();
+    var expectedGraphqlResponse = createGraphqlTransaction();
+    ArgumentCaptor<Function<Transaction, TransactionCreatedEvent>> eventFactoryCaptor =
+        ArgumentCaptor.forClass(Function.class);
+
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
+        .thenReturn(Optional.of(transferType));
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
+        .thenReturn(Optional.of(pendingStatus));
+    when(requestHandler.findCachedResultAsync(eq("request-123"), any()))
+        .thenReturn(Uni.createFrom().item(Optional.empty()));
+    when(commandHandler.handleAsync(commandCaptor.capture(), eq("request-123"),
+        eventFactoryCaptor.capture()))
+        .thenReturn(Uni.createFrom().item(new TransactionCreation(savedTransaction, true)));
+    when(requestHandler.cacheResultAsync("request-123", savedTransaction))
+        .thenReturn(Uni.createFrom().voidItem());
+    when(graphqlMapper.toGraphqlModel(savedTransaction, transferType, pendingStatus))
+        .thenReturn(expectedGraphqlResponse);
+    when(transactionMapper.toTransactionCreatedEvent(savedTransaction, pendingStatus, metaData))
+        .thenReturn(event);
+
+    // Act
+    var result = useCase.executeAsync(input, metaData).await().indefinitely();
+
+    // Assert
+    assertEquals(expectedGraphqlResponse, result);
+    assertEquals(new BigDecimal(VALID_AMOUNT), commandCaptor.getValue().value());
+    assertEquals(event, eventFactoryCaptor.getValue().apply(savedTransaction));
+    verify(requestHandler).cacheResultAsync("request-123", savedTransaction);
+    verify(commandHandler, never()).handle(any());
+    verify(eventPublisher, never()).publishTransactionCreated(any());
+  }
+
+  @Test
+  @DisplayName("should replay the cached result of the Request-ID async without creating")
+  void shouldReplayCachedResultAsync() {
+    // Arrange
+    CreateTransaction input = createValidInput();
+    RequestMetaData metaData = createMetaData();
+    TransferType transferType = createTransferType();
+    TransactionStatus pendingStatus = createPendingStatus();
+    Transaction previousTransaction = createSavedTransaction();
+    var expectedGraphqlResponse = createGraphqlTransaction();
+
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
+        .thenReturn(Optional.of(transferType));
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
+        .thenReturn(Optional.of(pendingStatus));
+    when(referenceDataRegistry.getTransactionStatusById(1))
+        .thenReturn(Optional.of(pendingStatus));
+    when(requestHandler.findCachedResultAsync(eq("request-123"), any()))
+        .thenReturn(Uni.createFrom().item(Optional.of(previousTransaction)));
+    when(graphqlMapper.toGraphqlModel(previousTransaction, transferType, pendingStatus))
+        .thenReturn(expectedGraphqlResponse);
+
+    // Act
+    var result = useCase.executeAsync(input, metaData).await().indefinitely();
+
+    // Assert
+    assertEquals(expectedGraphqlResponse, result);
+    verify(commandHandler, never()).handleAsync(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("should create async without Request-ID lookups when the header is missing")
+  void shouldCreateAsyncWithoutRequestId() {
+    // Arrange
+    CreateTransaction input = createValidInput();
+    RequestMetaData metaData = new RequestMetaData("Bearer token", null, "2024-01-01");
+    TransferType transferType = createTransferType();
+    TransactionStatus pendingStatus = createPendingStatus();
+    Transaction savedTransaction = createSavedTransaction();
+
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
+        .thenReturn(Optional.of(transferType));
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
+        .thenReturn(Optional.of(pendingStatus));
+    when(commandHandler.handleAsync(any(), eq(null), any()))
+        .thenReturn(Uni.createFrom().item(new TransactionCreation(savedTransaction, true)));
+
+    // Act
+    useCase.executeAsync(input, metaData).await().indefinitely();
+
+    // Assert
+    verify(requestHandler, never()).findCachedResultAsync(any(), any());
+    verify(requestHandler, never()).cacheResultAsync(any(), any());
+  }
+
   @Test
   @DisplayName("should throw ResourceNotFoundException when transfer type not found")
   void shouldThrowWhenTransferTypeNotFound() {
@@ -120,7 +287,7 @@ class CreateTransactionUseCaseTest {
     CreateTransaction input = createValidInput();
     RequestMetaData metaData = createMetaData();
 
-    when(transferTypeQueryHandler.getTransferTypeById(TRANSFER_TYPE_ID))
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
         .thenReturn(Optional.empty());
 
     // Act & Assert
@@ -138,9 +305,9 @@ class CreateTransactionUseCaseTest {
     RequestMetaData metaData = createMetaData();
     TransferType transferType = createTransferType();
 
-    when(transferTypeQueryHandler.getTransferTypeById(TRANSFER_TYPE_ID))
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
         .thenReturn(Optional.of(transferType));
-    when(statusQueryHandler.getTransactionStatusByCode("PENDING"))
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
         .thenReturn(Optional.empty());
 
     // Act & Assert
@@ -165,7 +332,8 @@ class CreateTransactionUseCaseTest {
   }
 
   static Stream<String> invalidAmountsProvider() {
-    return Stream.of(null, "   ", "invalid-amount", "-10.00");
+    return Stream.of(null, "   ", "invalid-amount", "-10.00", "0", "0.00", "1.12345",
+        "1234567890123456", "1E+20");
   }
 
   @Test
@@ -182,9 +350,9 @@ class CreateTransactionUseCaseTest {
     TransferType transferType = createTransferType();
     TransactionStatus pendingStatus = createPendingStatus();
 
-    when(transferTypeQueryHandler.getTransferTypeById(TRANSFER_TYPE_ID))
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
         .thenReturn(Optional.of(transferType));
-    when(statusQueryHandler.getTransactionStatusByCode("PENDING"))
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
         .thenReturn(Optional.of(pendingStatus));
 
     // Act & Assert
@@ -205,15 +373,108 @@ class CreateTransactionUseCaseTest {
     TransferType transferType = createTransferType();
     TransactionStatus pendingStatus = createPendingStatus();
 
-    when(transferTypeQueryHandler.getTransferTypeById(TRANSFER_TYPE_ID))
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
         .thenReturn(Optional.of(transferType));
-    when(statusQueryHandler.getTransactionStatusByCode("PENDING"))
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
         .thenReturn(Optional.of(pendingStatus));
 
     // Act & Assert
     assertThrows(ValidationException.class, () -> useCase.execute(input, metaData));
   }
 
+  @Test
+  @DisplayName("should create valid inputs in bulk and report invalid ones at their index")
+  void shouldExecuteBatchWithPartialFailures() {
+    // Arrange
+    CreateTransaction invalid = createValidInput();
+    invalid.setAccountExternalIdDebit("not-a-uuid");
+    List<CreateTransaction> inputs = List.of(createValidInput(), invalid, createValidInput());
+    RequestMetaData metaData = createMetaData();
+    TransferType transferType = createTransferType();
+    TransactionStatus pendingStatus = createPendingStatus();
+    Transaction first = createSavedTransaction();
+    Transaction second = createSavedTransaction();
+    TransactionCreatedEvent event = createEvent();
+
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
+        .thenReturn(Optional.of(transferType));
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
+        .thenReturn(Optional.of(pendingStatus));
+    when(commandHandler.handleAll(anyList())).thenReturn(List.of(first, second));
+    when(transactionMapper.toTransactionCreatedEvent(any(), any(), any())).thenReturn(event);
+    when(graphqlMapper.toGraphqlModel(any(), any(), any()))
+        .thenReturn(createGraphqlTransaction());
+
+    // Act
+    List<CreateTransactionResult> results = useCase.executeBatch(inputs, metaData);
+
+    // Assert
+    assertEquals(3, results.size());
+    assertEquals(0, results.get(0).getIndex());
+    assertNull(results.get(0).getError());
+    assertEquals(1, results.get(1).getIndex());
+    assertNull(results.get(1).getTransaction());
+    assertEquals("INVALID_FORMAT", results.get(1).getError().getCode());
+    assertEquals("accountExternalIdDebit", results.get(1).getError().getField());
+    assertEquals(2, results.get(2).getIndex());
+    assertNull(results.get(2).getError());
+    verify(commandHandler).handleAll(argThat(commands -> commands.size() == 2));
+    verify(eventPublisher).publishTransactionsCreated(List.of(event, event));
+  }
+
+  @Test
+  @DisplayName("should skip persistence when every input in the batch is invalid")
+  void shouldSkipPersistenceWhenBatchIsInvalid() {
+    // Arrange
+    CreateTransaction invalid = createValidInput();
+    invalid.setValue("abc");
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
+        .thenReturn(Optional.of(createPendingStatus()));
+
+    // Act
+    List<CreateTransactionResult> results =
+        useCase.executeBatch(List.of(invalid), createMetaData());
+
+    // Assert
+    assertEquals(1, results.size());
+    assertEquals("value", results.get(0).getError().getField());
+    verify(commandHandler, never()).handleAll(any());
+    verify(eventPublisher, never()).publishTransactionsCreated(any());
+  }
+
+  @Test
+  @DisplayName("should report amounts the column cannot hold per item")
+  void shouldRejectOutOfRangeAmountsPerItem() {
+    // Arrange
+    CreateTransaction zero = createValidInput();
+    zero.setValue("0");
+    CreateTransaction tooPrecise = createValidInput();
+    tooPrecise.setValue("10.00001");
+    CreateTransaction tooLarge = createValidInput();
+    tooLarge.setValue("1E+15");
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
+        .thenReturn(Optional.of(createPendingStatus()));
+
+    // Act
+    List<CreateTransactionResult> results =
+        useCase.executeBatch(List.of(zero, tooPrecise, tooLarge), createMetaData());
+
+    // Assert
+    assertEquals(ErrorCode.AMOUNT_BELOW_MINIMUM.getCode(), results.get(0).getError().getCode());
+    assertEquals(ErrorCode.INVALID_FORMAT.getCode(), results.get(1).getError().getCode());
+    assertEquals(ErrorCode.AMOUNT_ABOVE_MAXIMUM.getCode(), results.get(2).getError().getCode());
+    verify(commandHandler, never()).handleAll(any());
+  }
+
+  @Test
+  @DisplayName("should accept the largest amount the column can hold")
+  void shouldAcceptLargestStorableAmount() {
+    // Act & Assert
+    assertEquals(new BigDecimal("999999999999999.9999"),
+        useCase.parseAndValidateAmount("999999999999999.9999"));
+    assertEquals(new BigDecimal("10.50000"), useCase.parseAndValidateAmount("10.50000"));
+  }
+
   private CreateTransaction createValidInput() {
     CreateTransaction input = new CreateTransaction();
     input.setAccountExternalIdDebit(DEBIT_ACCOUNT_ID.toString());
@@ -0,0 +1,147 @@
+package com.yape.services.transaction.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.shared.exception.ValidationException;
+import com.yape.services.transaction.application.dto.TransactionCursor;
+import com.yape.services.transaction.application.mapper.GraphqlTransactionMapper;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
+import com.yape.services.transaction.application.query.TransactionQueryHandler;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransferType;
+import com.yape.services.transaction.graphql.model.TransactionConnection;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetAccountTransactionsUseCaseTest {
+
+  @Mock
+  private TransactionQueryHandler transactionQueryHandler;
+  @Mock
+  private ReferenceDataRegistry referenceDataRegistry;
+  @Mock
+  private GraphqlTransactionMapper mapper;
+
+  private GetAccountTransactionsUseCase useCase;
+
+  private static final UUID ACCOUNT_ID = UUID.randomUUID();
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+  @BeforeEach
+  void setUp() {
+    useCase = new GetAccountTransactionsUseCase(transactionQueryHandler, referenceDataRegistry,
+        mapper);
+  }
+
+  @Test
+  @DisplayName("should read one extra row to detect the next page")
+  void shouldDetectNextPage() {
+    // Arrange
+    stubReferenceData();
+    when(transactionQueryHandler.getTransactionsByAccount(ACCOUNT_ID, null, 3))
+        .thenReturn(List.of(createTransaction(3), createTransaction(2), createTransaction(1)));
+
+    // Act
+    TransactionConnection result = useCase.execute(ACCOUNT_ID.toString(), 2, null);
+
+    // Assert
+    assertEquals(2, result.getEdges().size());
+    assertTrue(result.getPageInfo().getHasNextPage());
+    TransactionCursor endCursor = TransactionCursor.decode(result.getPageInfo().getEndCursor(),
+        "after");
+    assertEquals(2L, endCursor.transactionId());
+    assertEquals(CREATED_AT, endCursor.createdAt());
+  }
+
+  @Test
+  @DisplayName("should continue after the given cursor")
+  void shouldContinueAfterCursor() {
+    // Arrange
+    stubReferenceData();
+    TransactionCursor after = new TransactionCursor(CREATED_AT, 5L);
+    when(transactionQueryHandler.getTransactionsByAccount(ACCOUNT_ID, after, 21))
+        .thenReturn(List.of(createTransaction(4)));
+
+    // Act
+    TransactionConnection result = useCase.execute(ACCOUNT_ID.toString(), null, after.encode());
+
+    // Assert
+    assertEquals(1, result.getEdges().size());
+    assertFalse(result.getPageInfo().getHasNextPage());
+    assertEquals(result.getEdges().get(0).getCursor(), result.getPageInfo().getEndCursor());
+  }
+
+  @Test
+  @DisplayName("should return an empty page without end cursor")
+  void shouldReturnEmptyPage() {
+    // Arrange
+    when(transactionQueryHandler.getTransactionsByAccount(eq(ACCOUNT_ID), any(), anyInt()))
+        .thenReturn(List.of());
+
+    // Act
+    TransactionConnection result = useCase.execute(ACCOUNT_ID.toString(), 10, null);
+
+    // Assert
+    assertTrue(result.getEdges().isEmpty());
+    assertFalse(result.getPageInfo().getHasNextPage());
+    assertNull(result.getPageInfo().getEndCursor());
+    verify(transactionQueryHandler).getTransactionsByAccount(ACCOUNT_ID, null, 11);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1, 101})
+  @DisplayName("should reject page sizes out of range")
+  void shouldRejectInvalidPageSize(int first) {
+    // Act
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> useCase.execute(ACCOUNT_ID.toString(), first, null));
+
+    // Assert
+    assertEquals("first", exception.getFieldName());
+    verifyNoInteractions(transactionQueryHandler);
+  }
+
+  private void stubReferenceData() {
+    when(referenceDataRegistry.getTransferTypeById(1)).thenReturn(Optional.of(
+        TransferType.builder().transferTypeId(1).code("TRANSFER").name("Transferencia").build()));
+    when(referenceDataRegistry.getTransactionStatusById(1)).thenReturn(Optional.of(
+        TransactionStatus.builder().transactionStatusId(1).code("PENDING").name("Pendiente")
+            .build()));
+  }
+
+  private Transaction createTransaction(long transactionId) {
+    return Transaction.builder()
+        .transactionId(transactionId)
+        .transactionExternalId(UUID.randomUUID())
+        .accountExternalIdDebit(ACCOUNT_ID)
+        .accountExternalIdCredit(UUID.randomUUID())
+        .transferTypeId(1)
+        .transactionStatusId(1)
+        .value(new BigDecimal("100.00"))
+        .createdAt(CREATED_AT)
+        .build();
+  }
+}
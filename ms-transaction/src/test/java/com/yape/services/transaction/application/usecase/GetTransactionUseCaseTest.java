@@ -6,12 +6,12 @@ import static org.mockito.Mockito.when;
 
 import com.yape.services.shared.exception.ResourceNotFoundException;
 import com.yape.services.transaction.application.mapper.GraphqlTransactionMapper;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
 import com.yape.services.transaction.application.query.TransactionQueryHandler;
-import com.yape.services.transaction.application.query.TransactionStatusQueryHandler;
-import com.yape.services.transaction.application.query.TransferTypeQueryHandler;
 import com.yape.services.transaction.domain.model.Transaction;
 import com.yape.services.transaction.domain.model.TransactionStatus;
 import com.yape.services.transaction.domain.model.TransferType;
+import io.smallrye.mutiny.Uni;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -29,9 +29,7 @@ class GetTransactionUseCaseTest {
   @Mock
   private TransactionQueryHandler transactionQueryHandler;
   @Mock
-  private TransferTypeQueryHandler transferTypeQueryHandler;
-  @Mock
-  private TransactionStatusQueryHandler transactionStatusQueryHandler;
+  private ReferenceDataRegistry referenceDataRegistry;
   @Mock
   private GraphqlTransactionMapper mapper;
 
@@ -45,8 +43,7 @@ class GetTransactionUseCaseTest {
   void setUp() {
     useCase = new GetTransactionUseCase(
         transactionQueryHandler,
-        transferTypeQueryHandler,
-        transactionStatusQueryHandler,
+        referenceDataRegistry,
         mapper
     );
   }
@@ -63,9 +60,9 @@ class GetTransactionUseCaseTest {
 
     when(transactionQueryHandler.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID))
         .thenReturn(Optional.of(transaction));
-    when(transferTypeQueryHandler.getTransferTypeById(TRANSFER_TYPE_ID))
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
         .thenReturn(Optional.of(transferType));
-    when(transactionStatusQueryHandler.getTransactionStatusById(TRANSACTION_STATUS_ID))
+    when(referenceDataRegistry.getTransactionStatusById(TRANSACTION_STATUS_ID))
         .thenReturn(Optional.of(status));
     when(mapper.toGraphqlModel(transaction, transferType, status))
         .thenReturn(expectedResult);
@@ -102,7 +99,7 @@ class GetTransactionUseCaseTest {
 
     when(transactionQueryHandler.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID))
         .thenReturn(Optional.of(transaction));
-    when(transferTypeQueryHandler.getTransferTypeById(TRANSFER_TYPE_ID))
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
         .thenReturn(Optional.empty());
 
     // Act / Assert
@@ -122,9 +119,9 @@ class GetTransactionUseCaseTest {
 
     when(transactionQueryHandler.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID))
         .thenReturn(Optional.of(transaction));
-    when(transferTypeQueryHandler.getTransferTypeById(TRANSFER_TYPE_ID))
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
         .thenReturn(Optional.of(transferType));
-    when(transactionStatusQueryHandler.getTransactionStatusById(TRANSACTION_STATUS_ID))
+    when(referenceDataRegistry.getTransactionStatusById(TRANSACTION_STATUS_ID))
         .thenReturn(Optional.empty());
 
     // Act / Assert
@@ -134,6 +131,46 @@ class GetTransactionUseCaseTest {
     assertEquals(expectedMessage, exception.getMessage());
   }
 
+  @Test
+  @DisplayName("should retrieve transaction through the non-blocking query handler")
+  void shouldRetrieveTransactionAsync() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    TransferType transferType = createTransferType();
+    TransactionStatus status = createTransactionStatus();
+    var expectedResult = createGraphqlTransaction();
+
+    when(transactionQueryHandler.getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Uni.createFrom().item(Optional.of(transaction)));
+    when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
+        .thenReturn(Optional.of(transferType));
+    when(referenceDataRegistry.getTransactionStatusById(TRANSACTION_STATUS_ID))
+        .thenReturn(Optional.of(status));
+    when(mapper.toGraphqlModel(transaction, transferType, status))
+        .thenReturn(expectedResult);
+
+    // Act
+    var result = useCase.executeAsync(TRANSACTION_EXTERNAL_ID.toString()).await().indefinitely();
+
+    // Assert
+    assertEquals(expectedResult, result);
+  }
+
+  @Test
+  @DisplayName("should fail the Uni with ResourceNotFoundException when not found async")
+  void shouldFailAsyncWhenTransactionNotFound() {
+    // Arrange
+    String externalIdStr = TRANSACTION_EXTERNAL_ID.toString();
+    when(transactionQueryHandler.getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Uni.createFrom().item(Optional.empty()));
+
+    // Act / Assert
+    var exception = assertThrows(ResourceNotFoundException.class,
+        () -> useCase.executeAsync(externalIdStr).await().indefinitely());
+    assertEquals("Transaction not found with ID: " + TRANSACTION_EXTERNAL_ID,
+        exception.getMessage());
+  }
+
   @Test
   @DisplayName("should throw IllegalArgumentException when UUID format is invalid")
   void shouldThrowWhenUuidFormatIsInvalid() {
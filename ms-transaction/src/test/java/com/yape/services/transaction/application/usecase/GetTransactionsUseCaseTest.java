@@ -0,0 +1,175 @@
+package com.yape.services.transaction.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.shared.exception.ResourceNotFoundException;
+import com.yape.services.transaction.application.mapper.GraphqlTransactionMapper;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
+import com.yape.services.transaction.application.query.TransactionQueryHandler;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransferType;
+import com.yape.services.transaction.graphql.model.TransactionBatch;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetTransactionsUseCaseTest {
+
+  @Mock
+  private TransactionQueryHandler transactionQueryHandler;
+  @Mock
+  private ReferenceDataRegistry referenceDataRegistry;
+  @Mock
+  private GraphqlTransactionMapper mapper;
+
+  private GetTransactionsUseCase useCase;
+
+  private static final UUID FIRST_ID = UUID.randomUUID();
+  private static final UUID SECOND_ID = UUID.randomUUID();
+  private static final UUID MISSING_ID = UUID.randomUUID();
+  private static final int TRANSFER_TYPE_ID = 1;
+  private static final int TRANSACTION_STATUS_ID = 1;
+
+  @BeforeEach
+  void setUp() {
+    useCase = new GetTransactionsUseCase(
+        transactionQueryHandler,
+        referenceDataRegistry,
+        mapper
+    );
+    lenient().when(referenceDataRegistry.getTransferTypeById(TRANSFER_TYPE_ID))
+        .thenReturn(Optional.of(createTransferType()));
+    lenient().when(referenceDataRegistry.getTransactionStatusById(TRANSACTION_STATUS_ID))
+        .thenReturn(Optional.of(createTransactionStatus()));
+    lenient().when(mapper.toGraphqlModel(any(), any(), any())).thenAnswer(invocation ->
+        createGraphqlTransaction(invocation.<Transaction>getArgument(0)));
+  }
+
+  @Test
+  @DisplayName("should return transactions in request order with the missing IDs")
+  void shouldReturnTransactionsInRequestOrder() {
+    // Arrange
+    when(transactionQueryHandler.getTransactionsByExternalIds(
+        new LinkedHashSet<>(List.of(SECOND_ID, MISSING_ID, FIRST_ID))))
+        .thenReturn(Map.of(FIRST_ID, createTransaction(FIRST_ID),
+            SECOND_ID, createTransaction(SECOND_ID)));
+
+    // Act
+    TransactionBatch result = useCase.execute(
+        List.of(SECOND_ID.toString(), MISSING_ID.toString(), FIRST_ID.toString()));
+
+    // Assert
+    assertEquals(3, result.getTransactions().size());
+    assertEquals(SECOND_ID.toString(), result.getTransactions().get(0).getTransactionExternalId());
+    assertNull(result.getTransactions().get(1));
+    assertEquals(FIRST_ID.toString(), result.getTransactions().get(2).getTransactionExternalId());
+    assertEquals(List.of(MISSING_ID.toString()), result.getMissingTransactionExternalIds());
+  }
+
+  @Test
+  @DisplayName("should look up a repeated ID once and return it at each position")
+  void shouldLookUpRepeatedIdOnce() {
+    // Arrange
+    when(transactionQueryHandler.getTransactionsByExternalIds(
+        new LinkedHashSet<>(List.of(FIRST_ID, MISSING_ID))))
+        .thenReturn(Map.of(FIRST_ID, createTransaction(FIRST_ID)));
+
+    // Act
+    TransactionBatch result = useCase.execute(List.of(FIRST_ID.toString(),
+        MISSING_ID.toString(), FIRST_ID.toString(), MISSING_ID.toString()));
+
+    // Assert
+    assertEquals(4, result.getTransactions().size());
+    assertSame(result.getTransactions().get(0), result.getTransactions().get(2));
+    assertEquals(List.of(MISSING_ID.toString()), result.getMissingTransactionExternalIds());
+    verify(mapper, times(1)).toGraphqlModel(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("should return an empty batch when no IDs are requested")
+  void shouldReturnEmptyBatchForNoIds() {
+    // Arrange
+    when(transactionQueryHandler.getTransactionsByExternalIds(new LinkedHashSet<>()))
+        .thenReturn(Map.of());
+
+    // Act
+    TransactionBatch result = useCase.execute(List.of());
+
+    // Assert
+    assertTrue(result.getTransactions().isEmpty());
+    assertTrue(result.getMissingTransactionExternalIds().isEmpty());
+  }
+
+  @Test
+  @DisplayName("should throw ResourceNotFoundException when the status is unknown")
+  void shouldThrowWhenStatusUnknown() {
+    // Arrange
+    Transaction transaction = createTransaction(FIRST_ID);
+    transaction.setTransactionStatusId(99);
+    when(transactionQueryHandler.getTransactionsByExternalIds(
+        new LinkedHashSet<>(List.of(FIRST_ID))))
+        .thenReturn(Map.of(FIRST_ID, transaction));
+    when(referenceDataRegistry.getTransactionStatusById(99)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    List<String> ids = List.of(FIRST_ID.toString());
+    assertThrows(ResourceNotFoundException.class, () -> useCase.execute(ids));
+  }
+
+  private Transaction createTransaction(UUID externalId) {
+    return Transaction.builder()
+        .transactionExternalId(externalId)
+        .accountExternalIdDebit(UUID.randomUUID())
+        .accountExternalIdCredit(UUID.randomUUID())
+        .transferTypeId(TRANSFER_TYPE_ID)
+        .transactionStatusId(TRANSACTION_STATUS_ID)
+        .value(new BigDecimal("100.00"))
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+  private TransferType createTransferType() {
+    return TransferType.builder()
+        .transferTypeId(TRANSFER_TYPE_ID)
+        .code("TRANSFER")
+        .name("Transfer")
+        .build();
+  }
+
+  private TransactionStatus createTransactionStatus() {
+    return TransactionStatus.builder()
+        .transactionStatusId(TRANSACTION_STATUS_ID)
+        .code("PENDING")
+        .name("Pending")
+        .build();
+  }
+
+  private com.yape.services.transaction.graphql.model.Transaction createGraphqlTransaction(
+      Transaction transaction) {
+    var tx = new com.yape.services.transaction.graphql.model.Transaction();
+    tx.setTransactionExternalId(transaction.getTransactionExternalId().toString());
+    tx.setValue("100.00");
+    return tx;
+  }
+}
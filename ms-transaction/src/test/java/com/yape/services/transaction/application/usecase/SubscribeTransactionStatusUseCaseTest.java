@@ -0,0 +1,129 @@
+package com.yape.services.transaction.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.transaction.application.mapper.GraphqlTransactionMapper;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
+import com.yape.services.transaction.application.query.TransactionQueryHandler;
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransactionStatusChange;
+import com.yape.services.transaction.domain.model.TransferType;
+import com.yape.services.transaction.domain.service.TransactionStatusNotifier;
+import com.yape.services.transaction.graphql.model.TransactionStatusChangedEvent;
+import io.smallrye.mutiny.Multi;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SubscribeTransactionStatusUseCaseTest {
+
+  @Mock
+  private TransactionStatusNotifier transactionStatusNotifier;
+  @Mock
+  private TransactionQueryHandler transactionQueryHandler;
+  @Mock
+  private ReferenceDataRegistry referenceDataRegistry;
+  @Mock
+  private GraphqlTransactionMapper mapper;
+
+  private SubscribeTransactionStatusUseCase useCase;
+
+  private static final UUID TRANSACTION_EXTERNAL_ID = UUID.randomUUID();
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  @BeforeEach
+  void setUp() {
+    useCase = new SubscribeTransactionStatusUseCase(transactionStatusNotifier,
+        transactionQueryHandler, referenceDataRegistry, mapper);
+  }
+
+  @Test
+  @DisplayName("should map each status change to a subscription event")
+  void shouldMapStatusChangeToEvent() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    TransactionStatus approved = TransactionStatus.builder()
+        .transactionStatusId(2).code("APPROVED").name("Aprobado").build();
+    TransferType transferType = TransferType.builder()
+        .transferTypeId(1).code("TRANSFER").name("Transferencia").build();
+    var graphqlTransaction = new com.yape.services.transaction.graphql.model.Transaction();
+
+    when(transactionStatusNotifier.watch(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Multi.createFrom().item(createChange()));
+    when(transactionQueryHandler.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Optional.of(transaction));
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED"))
+        .thenReturn(Optional.of(approved));
+    when(referenceDataRegistry.getTransferTypeById(1)).thenReturn(Optional.of(transferType));
+    when(mapper.toGraphqlModel(transaction, transferType, approved))
+        .thenReturn(graphqlTransaction);
+
+    // Act
+    List<TransactionStatusChangedEvent> events = useCase.execute(TRANSACTION_EXTERNAL_ID.toString())
+        .collect().asList().await().atMost(TIMEOUT);
+
+    // Assert
+    assertEquals(1, events.size());
+    assertSame(graphqlTransaction, events.get(0).getTransaction());
+    assertEquals("PENDING", events.get(0).getPreviousStatus());
+    assertEquals("APPROVED", events.get(0).getNewStatus());
+    assertEquals("2024-01-01T00:00:00.000+0000", events.get(0).getChangedAt());
+  }
+
+  @Test
+  @DisplayName("should skip changes of transactions that cannot be resolved")
+  void shouldSkipUnresolvedTransactions() {
+    // Arrange
+    when(transactionStatusNotifier.watch(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Multi.createFrom().item(createChange()));
+    when(transactionQueryHandler.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID))
+        .thenReturn(Optional.empty());
+
+    // Act
+    List<TransactionStatusChangedEvent> events = useCase.execute(TRANSACTION_EXTERNAL_ID.toString())
+        .collect().asList().await().atMost(TIMEOUT);
+
+    // Assert
+    assertTrue(events.isEmpty());
+    verifyNoInteractions(mapper);
+  }
+
+  @Test
+  @DisplayName("should reject an invalid transaction external ID")
+  void shouldRejectInvalidExternalId() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> useCase.execute("not-a-uuid"));
+    verifyNoInteractions(transactionStatusNotifier);
+  }
+
+  private TransactionStatusChange createChange() {
+    return TransactionStatusChange.builder()
+        .transactionExternalId(TRANSACTION_EXTERNAL_ID)
+        .previousStatus("PENDING")
+        .newStatus("APPROVED")
+        .changedAt("2024-01-01T00:00:00.000+0000")
+        .build();
+  }
+
+  private Transaction createTransaction() {
+    return Transaction.builder()
+        .transactionExternalId(TRANSACTION_EXTERNAL_ID)
+        .transferTypeId(1)
+        .transactionStatusId(1)
+        .build();
+  }
+}
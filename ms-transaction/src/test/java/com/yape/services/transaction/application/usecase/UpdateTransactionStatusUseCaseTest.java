@@ -1,18 +1,31 @@
 package com.yape.services.transaction.application.usecase;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yape.services.common.events.EventMetadata;
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
 import com.yape.services.transaction.domain.model.TransactionStatus;
+import com.yape.services.transaction.domain.model.TransactionStatusTransition;
 import com.yape.services.transaction.domain.repository.TransactionRepository;
-import com.yape.services.transaction.domain.repository.TransactionStatusRepository;
 import com.yape.services.transaction.domain.service.TransactionCacheService;
 import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
 import com.yape.services.transaction.events.TransactionStatusUpdatedPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,21 +41,30 @@ class UpdateTransactionStatusUseCaseTest {
   @Mock
   private TransactionRepository transactionRepository;
   @Mock
-  private TransactionStatusRepository transactionStatusRepository;
+  private ReferenceDataRegistry referenceDataRegistry;
   @Mock
   private TransactionCacheService transactionCacheService;
 
+  private SimpleMeterRegistry meterRegistry;
   private UpdateTransactionStatusUseCase useCase;
 
   private static final UUID TRANSACTION_EXTERNAL_ID = UUID.randomUUID();
+  private static final int PENDING_STATUS_ID = 1;
   private static final int APPROVED_STATUS_ID = 2;
+  private static final int REJECTED_STATUS_ID = 3;
+  private static final TransactionStatusTransition TO_APPROVED =
+      new TransactionStatusTransition(PENDING_STATUS_ID, APPROVED_STATUS_ID);
+  private static final TransactionStatusTransition TO_REJECTED =
+      new TransactionStatusTransition(PENDING_STATUS_ID, REJECTED_STATUS_ID);
 
   @BeforeEach
   void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
     useCase = new UpdateTransactionStatusUseCase(
         transactionRepository,
-        transactionStatusRepository,
-        transactionCacheService
+        referenceDataRegistry,
+        transactionCacheService,
+        meterRegistry
     );
   }
 
@@ -55,21 +77,27 @@ class UpdateTransactionStatusUseCaseTest {
     );
     TransactionStatus approvedStatus = createApprovedStatus();
 
-    when(transactionStatusRepository.findByCode("APPROVED"))
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED"))
         .thenReturn(Optional.of(approvedStatus));
-    when(transactionRepository.updateStatus(TRANSACTION_EXTERNAL_ID, APPROVED_STATUS_ID))
+    stubPendingStatus();
+    when(transactionRepository.updateStatus(TRANSACTION_EXTERNAL_ID, TO_APPROVED))
         .thenReturn(1);
 
     // Act
-    useCase.execute(event);
+    boolean applied = useCase.execute(event);
 
     // Assert
-    verify(transactionRepository).updateStatus(TRANSACTION_EXTERNAL_ID, APPROVED_STATUS_ID);
+    assertTrue(applied);
+    verify(transactionRepository).updateStatus(TRANSACTION_EXTERNAL_ID, TO_APPROVED);
     verify(transactionCacheService).updateTransactionStatus(
         TRANSACTION_EXTERNAL_ID,
         APPROVED_STATUS_ID,
         "APPROVED"
     );
+    verify(transactionRepository, never()).findStatusIds(anyCollection());
+    assertEquals(1L, meterRegistry.get("transaction.status.apply.lag")
+        .tag("status", "APPROVED").timer().count());
+    assertEquals(1.0, eventCount("applied"));
   }
 
   @Test
@@ -85,16 +113,17 @@ class UpdateTransactionStatusUseCaseTest {
         .name("Rejected")
         .build();
 
-    when(transactionStatusRepository.findByCode("REJECTED"))
+    when(referenceDataRegistry.getTransactionStatusByCode("REJECTED"))
         .thenReturn(Optional.of(rejectedStatus));
-    when(transactionRepository.updateStatus(TRANSACTION_EXTERNAL_ID, 3))
+    stubPendingStatus();
+    when(transactionRepository.updateStatus(TRANSACTION_EXTERNAL_ID, TO_REJECTED))
         .thenReturn(1);
 
     // Act
     useCase.execute(event);
 
     // Assert
-    verify(transactionRepository).updateStatus(TRANSACTION_EXTERNAL_ID, 3);
+    verify(transactionRepository).updateStatus(TRANSACTION_EXTERNAL_ID, TO_REJECTED);
     verify(transactionCacheService).updateTransactionStatus(
         TRANSACTION_EXTERNAL_ID,
         3,
@@ -110,7 +139,7 @@ class UpdateTransactionStatusUseCaseTest {
         com.yape.services.transaction.events.enums.TransactionStatus.APPROVED
     );
 
-    when(transactionStatusRepository.findByCode("APPROVED"))
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED"))
         .thenReturn(Optional.empty());
 
     // Act / Assert
@@ -125,8 +154,7 @@ class UpdateTransactionStatusUseCaseTest {
     var expectedMessage = "Transaction status not found: APPROVED";
     assertEquals(expectedMessage, thrownException.getMessage());
 
-    verify(transactionRepository, never())
-        .updateStatus(TRANSACTION_EXTERNAL_ID, APPROVED_STATUS_ID);
+    verify(transactionRepository, never()).updateStatus(any(), any());
     verify(transactionCacheService, never()).updateTransactionStatus(
         TRANSACTION_EXTERNAL_ID,
         APPROVED_STATUS_ID,
@@ -135,32 +163,252 @@ class UpdateTransactionStatusUseCaseTest {
   }
 
   @Test
-  @DisplayName("should not update cache when no rows updated in database")
-  void shouldNotUpdateCacheWhenNoRowsUpdated() {
+  @DisplayName("should count a redelivered event as duplicate without touching the cache")
+  void shouldCountRedeliveredEventAsDuplicate() {
+    // Arrange
+    TransactionStatusUpdatedEvent event = createEvent(
+        com.yape.services.transaction.events.enums.TransactionStatus.APPROVED
+    );
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED"))
+        .thenReturn(Optional.of(createApprovedStatus()));
+    stubPendingStatus();
+    when(transactionRepository.updateStatus(TRANSACTION_EXTERNAL_ID, TO_APPROVED))
+        .thenReturn(0);
+    when(transactionRepository.findStatusIds(List.of(TRANSACTION_EXTERNAL_ID)))
+        .thenReturn(Map.of(TRANSACTION_EXTERNAL_ID, APPROVED_STATUS_ID));
+
+    // Act
+    boolean applied = useCase.execute(event);
+
+    // Assert
+    assertFalse(applied);
+    verify(transactionCacheService, never()).updateTransactionStatus(any(), any(), any());
+    assertNull(meterRegistry.find("transaction.status.apply.lag").timer());
+    assertEquals(1.0, eventCount("duplicate"));
+    assertEquals(0.0, eventCount("applied"));
+  }
+
+  @Test
+  @DisplayName("should count an event whose transition no longer matches as stale")
+  void shouldCountOutOfOrderEventAsStale() {
+    // Arrange
+    TransactionStatusUpdatedEvent event = createEvent(
+        com.yape.services.transaction.events.enums.TransactionStatus.APPROVED
+    );
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED"))
+        .thenReturn(Optional.of(createApprovedStatus()));
+    stubPendingStatus();
+    when(transactionRepository.updateStatus(TRANSACTION_EXTERNAL_ID, TO_APPROVED))
+        .thenReturn(0);
+    when(transactionRepository.findStatusIds(List.of(TRANSACTION_EXTERNAL_ID)))
+        .thenReturn(Map.of(TRANSACTION_EXTERNAL_ID, REJECTED_STATUS_ID));
+
+    // Act
+    boolean applied = useCase.execute(event);
+
+    // Assert
+    assertFalse(applied);
+    verify(transactionCacheService, never()).updateTransactionStatus(any(), any(), any());
+    assertEquals(1.0, eventCount("stale"));
+  }
+
+  @Test
+  @DisplayName("should count an event for an unknown transaction as not found")
+  void shouldCountUnknownTransactionAsNotFound() {
     // Arrange
     TransactionStatusUpdatedEvent event = createEvent(
         com.yape.services.transaction.events.enums.TransactionStatus.APPROVED
     );
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED"))
+        .thenReturn(Optional.of(createApprovedStatus()));
+    stubPendingStatus();
+    when(transactionRepository.updateStatus(TRANSACTION_EXTERNAL_ID, TO_APPROVED))
+        .thenReturn(0);
+    when(transactionRepository.findStatusIds(List.of(TRANSACTION_EXTERNAL_ID)))
+        .thenReturn(Map.of());
+
+    // Act
+    boolean applied = useCase.execute(event);
+
+    // Assert
+    assertFalse(applied);
+    verify(transactionCacheService, never()).updateTransactionStatus(any(), any(), any());
+    assertEquals(1.0, eventCount("not_found"));
+  }
+
+  @Test
+  @DisplayName("should apply batch with one bulk update and one cache batch")
+  void shouldApplyBatchWithSingleBulkUpdate() {
+    // Arrange
+    UUID otherId = UUID.randomUUID();
+    Map<UUID, TransactionStatusTransition> expectedTransitions = new LinkedHashMap<>();
+    expectedTransitions.put(TRANSACTION_EXTERNAL_ID, TO_APPROVED);
+    expectedTransitions.put(otherId, TO_REJECTED);
+    when(transactionRepository.updateStatuses(expectedTransitions))
+        .thenReturn(List.of(TRANSACTION_EXTERNAL_ID, otherId));
+
     TransactionStatus approvedStatus = createApprovedStatus();
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED"))
+        .thenReturn(Optional.of(approvedStatus));
+    TransactionStatus rejectedStatus = createRejectedStatus();
+    when(referenceDataRegistry.getTransactionStatusByCode("REJECTED"))
+        .thenReturn(Optional.of(rejectedStatus));
+    stubPendingStatus();
+
+    List<TransactionStatusUpdatedEvent> events = List.of(
+        createEvent(com.yape.services.transaction.events.enums.TransactionStatus.APPROVED),
+        createEvent(otherId,
+            com.yape.services.transaction.events.enums.TransactionStatus.REJECTED));
+
+    // Act
+    List<TransactionStatusUpdatedEvent> applied = useCase.executeBatch(events);
+
+    // Assert
+    assertEquals(events, applied);
+    verify(transactionRepository).updateStatuses(expectedTransitions);
+    verify(transactionCacheService).updateTransactionStatuses(
+        Map.of(TRANSACTION_EXTERNAL_ID, approvedStatus, otherId, rejectedStatus));
+    verify(transactionRepository, never()).updateStatus(any(), any());
+    verify(transactionRepository, never()).findStatusIds(anyCollection());
+    assertEquals(2.0, eventCount("applied"));
+  }
+
+  @Test
+  @DisplayName("should resolve each status code once and apply the first event per transaction")
+  void shouldResolveStatusOnceAndApplyFirstEvent() {
+    // Arrange
+    UUID otherId = UUID.randomUUID();
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED"))
+        .thenReturn(Optional.of(createApprovedStatus()));
+    stubPendingStatus();
+    Map<UUID, TransactionStatusTransition> expectedTransitions = Map.of(
+        TRANSACTION_EXTERNAL_ID, TO_APPROVED,
+        otherId, TO_APPROVED);
+    when(transactionRepository.updateStatuses(expectedTransitions))
+        .thenReturn(List.of(TRANSACTION_EXTERNAL_ID, otherId));
+
+    TransactionStatusUpdatedEvent first =
+        createEvent(com.yape.services.transaction.events.enums.TransactionStatus.APPROVED);
+    List<TransactionStatusUpdatedEvent> events = List.of(
+        first,
+        createEvent(com.yape.services.transaction.events.enums.TransactionStatus.APPROVED),
+        createEvent(com.yape.services.transaction.events.enums.TransactionStatus.REJECTED),
+        createEvent(otherId,
+            com.yape.services.transaction.events.enums.TransactionStatus.APPROVED));
 
-    when(transactionStatusRepository.findByCode("APPROVED"))
+    // Act
+    List<TransactionStatusUpdatedEvent> applied = useCase.executeBatch(events);
+
+    // Assert
+    assertEquals(List.of(first, events.get(3)), applied);
+    verify(referenceDataRegistry, times(1)).getTransactionStatusByCode("APPROVED");
+    verify(referenceDataRegistry, times(1)).getTransactionStatusByCode("PENDING");
+    verify(referenceDataRegistry, never()).getTransactionStatusByCode("REJECTED");
+    verify(transactionRepository).updateStatuses(expectedTransitions);
+    assertEquals(2.0, eventCount("applied"));
+    assertEquals(1.0, eventCount("duplicate"));
+    assertEquals(1.0, eventCount("stale"));
+  }
+
+  @Test
+  @DisplayName("should classify the events the bulk update skipped with one status read")
+  void shouldClassifySkippedEventsWithOneRead() {
+    // Arrange
+    UUID duplicateId = UUID.randomUUID();
+    UUID staleId = UUID.randomUUID();
+    UUID unknownId = UUID.randomUUID();
+    TransactionStatus approvedStatus = createApprovedStatus();
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED"))
         .thenReturn(Optional.of(approvedStatus));
-    when(transactionRepository.updateStatus(TRANSACTION_EXTERNAL_ID, APPROVED_STATUS_ID))
-        .thenReturn(0);
+    stubPendingStatus();
+    when(transactionRepository.updateStatuses(anyMap()))
+        .thenReturn(List.of(TRANSACTION_EXTERNAL_ID));
+    when(transactionRepository.findStatusIds(List.of(duplicateId, staleId, unknownId)))
+        .thenReturn(Map.of(duplicateId, APPROVED_STATUS_ID, staleId, REJECTED_STATUS_ID));
+
+    TransactionStatusUpdatedEvent first =
+        createEvent(com.yape.services.transaction.events.enums.TransactionStatus.APPROVED);
+    List<TransactionStatusUpdatedEvent> events = List.of(
+        first,
+        createEvent(duplicateId,
+            com.yape.services.transaction.events.enums.TransactionStatus.APPROVED),
+        createEvent(staleId,
+            com.yape.services.transaction.events.enums.TransactionStatus.APPROVED),
+        createEvent(unknownId,
+            com.yape.services.transaction.events.enums.TransactionStatus.APPROVED));
 
     // Act
-    useCase.execute(event);
+    List<TransactionStatusUpdatedEvent> applied = useCase.executeBatch(events);
 
     // Assert
-    verify(transactionRepository).updateStatus(TRANSACTION_EXTERNAL_ID, APPROVED_STATUS_ID);
-    verify(transactionCacheService, never()).updateTransactionStatus(
-        TRANSACTION_EXTERNAL_ID,
-        APPROVED_STATUS_ID,
-        "APPROVED"
+    assertEquals(List.of(first), applied);
+    verify(transactionCacheService).updateTransactionStatuses(
+        Map.of(TRANSACTION_EXTERNAL_ID, approvedStatus));
+    assertEquals(1.0, eventCount("applied"));
+    assertEquals(1.0, eventCount("duplicate"));
+    assertEquals(1.0, eventCount("stale"));
+    assertEquals(1.0, eventCount("not_found"));
+  }
+
+  @Test
+  @DisplayName("should not touch cache when batch updates no rows")
+  void shouldNotTouchCacheWhenBatchUpdatesNoRows() {
+    // Arrange
+    TransactionStatusUpdatedEvent event = createEvent(
+        com.yape.services.transaction.events.enums.TransactionStatus.APPROVED
     );
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED"))
+        .thenReturn(Optional.of(createApprovedStatus()));
+    stubPendingStatus();
+    when(transactionRepository.updateStatuses(anyMap())).thenReturn(List.of());
+    when(transactionRepository.findStatusIds(List.of(TRANSACTION_EXTERNAL_ID)))
+        .thenReturn(Map.of(TRANSACTION_EXTERNAL_ID, APPROVED_STATUS_ID));
+
+    // Act
+    List<TransactionStatusUpdatedEvent> applied = useCase.executeBatch(List.of(event));
+
+    // Assert
+    assertTrue(applied.isEmpty());
+    verify(transactionCacheService, never()).updateTransactionStatuses(anyMap());
+    assertEquals(1.0, eventCount("duplicate"));
+  }
+
+  @Test
+  @DisplayName("should fail the batch when a status code is unknown")
+  void shouldFailBatchWhenStatusUnknown() {
+    // Arrange
+    TransactionStatusUpdatedEvent event = createEvent(
+        com.yape.services.transaction.events.enums.TransactionStatus.APPROVED
+    );
+    stubPendingStatus();
+    when(referenceDataRegistry.getTransactionStatusByCode("APPROVED")).thenReturn(Optional.empty());
+    List<TransactionStatusUpdatedEvent> events = List.of(event);
+
+    // Act / Assert
+    assertThrows(IllegalStateException.class, () -> useCase.executeBatch(events));
+    verify(transactionRepository, never()).updateStatuses(anyMap());
+  }
+
+  private void stubPendingStatus() {
+    when(referenceDataRegistry.getTransactionStatusByCode("PENDING"))
+        .thenReturn(Optional.of(TransactionStatus.builder()
+            .transactionStatusId(PENDING_STATUS_ID)
+            .code("PENDING")
+            .name("Pending")
+            .build()));
+  }
+
+  private double eventCount(String result) {
+    return meterRegistry.get("transaction.status.events").tag("result", result).counter().count();
+  }
+
+  private TransactionStatusUpdatedEvent createEvent(
+      com.yape.services.transaction.events.enums.TransactionStatus newStatus) {
+    return createEvent(TRANSACTION_EXTERNAL_ID, newStatus);
   }
 
   private TransactionStatusUpdatedEvent createEvent(
+      UUID transactionExternalId,
       com.yape.services.transaction.events.enums.TransactionStatus newStatus) {
     EventMetadata metadata = EventMetadata.newBuilder()
         .setEventId(UUID.randomUUID().toString())
@@ -172,7 +420,7 @@ class UpdateTransactionStatusUseCaseTest {
         .build();
 
     TransactionStatusUpdatedPayload payload = TransactionStatusUpdatedPayload.newBuilder()
-        .setTransactionExternalId(TRANSACTION_EXTERNAL_ID.toString())
+        .setTransactionExternalId(transactionExternalId.toString())
         .setPreviousStatus(com.yape.services.transaction.events.enums.TransactionStatus.PENDING)
         .setNewStatus(newStatus)
         .setValue("100.00")
@@ -198,4 +446,12 @@ class UpdateTransactionStatusUseCaseTest {
         .name("Approved")
         .build();
   }
+
+  private TransactionStatus createRejectedStatus() {
+    return TransactionStatus.builder()
+        .transactionStatusId(REJECTED_STATUS_ID)
+        .code("REJECTED")
+        .name("Rejected")
+        .build();
+  }
 }
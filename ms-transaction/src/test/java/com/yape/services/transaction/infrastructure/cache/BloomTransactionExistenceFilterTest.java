@@ -0,0 +1,291 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.transaction.domain.repository.TransactionRepository;
+import com.yape.services.transaction.infrastructure.config.TransactionCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.Codec;
+
+@ExtendWith(MockitoExtension.class)
+class BloomTransactionExistenceFilterTest {
+
+  private static final long NOW = 1_700_000_000_000L;
+  private static final long MARGIN_MS = 120_000L;
+  private static final String SNAPSHOT_KEY = "transaction:existence-filter";
+  private static final UUID KNOWN_V4_ID = UUID.randomUUID();
+  private static final UUID KNOWN_V7_ID = uuidV7(NOW - TimeUnit.HOURS.toMillis(1));
+
+  @Mock
+  private TransactionRepository repository;
+  @Mock
+  private RedissonClient redissonClient;
+  @Mock
+  private TransactionCacheConfig cacheConfig;
+  @Mock
+  private TransactionCacheConfig.ExistenceFilter settings;
+  @Mock
+  private RBucket<byte[]> snapshotBucket;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private BloomTransactionExistenceFilter existenceFilter;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(cacheConfig.existenceFilter()).thenReturn(settings);
+    lenient().when(cacheConfig.prefix()).thenReturn("transaction:");
+    lenient().when(settings.expectedInsertions()).thenReturn(1_000L);
+    lenient().when(settings.falsePositiveRate()).thenReturn(0.01);
+    lenient().when(settings.scanMarginMs()).thenReturn(MARGIN_MS);
+    lenient().when(settings.snapshotTtl()).thenReturn(3_600L);
+    lenient().doReturn(snapshotBucket).when(redissonClient)
+        .getBucket(eq(SNAPSHOT_KEY), any(Codec.class));
+    existenceFilter = new BloomTransactionExistenceFilter(repository, redissonClient,
+        cacheConfig, meterRegistry, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+  }
+
+  @Test
+  @DisplayName("should not rule out any transaction before the filter is built")
+  void shouldNotRuleOutBeforeBuild() {
+    // Act & Assert
+    assertTrue(existenceFilter.mightExist(UUID.randomUUID()));
+    assertTrue(existenceFilter.mightExist(uuidV7(NOW - TimeUnit.DAYS.toMillis(1))));
+  }
+
+  @Test
+  @DisplayName("should rule out IDs missing from the scanned table")
+  void shouldRuleOutIdsMissingFromScan() {
+    // Arrange
+    stubScan(KNOWN_V4_ID, KNOWN_V7_ID);
+
+    // Act
+    existenceFilter.build();
+
+    // Assert
+    assertTrue(existenceFilter.mightExist(KNOWN_V4_ID));
+    assertTrue(existenceFilter.mightExist(KNOWN_V7_ID));
+    assertFalse(existenceFilter.mightExist(UUID.randomUUID()));
+    assertFalse(existenceFilter.mightExist(uuidV7(NOW - TimeUnit.HOURS.toMillis(2))));
+    assertEquals(2.0, meterRegistry.get("transaction.existence.filter.size").gauge().value());
+    verifyNoInteractions(redissonClient);
+  }
+
+  @Test
+  @DisplayName("should not rule out UUIDv7 IDs generated after the full scan started")
+  void shouldNotRuleOutIdsNewerThanScan() {
+    // Arrange
+    stubScan(KNOWN_V4_ID);
+
+    // Act
+    existenceFilter.build();
+
+    // Assert
+    assertTrue(existenceFilter.mightExist(uuidV7(NOW - MARGIN_MS)));
+    assertTrue(existenceFilter.mightExist(uuidV7(NOW + MARGIN_MS)));
+    assertTrue(existenceFilter.mightExist(uuidV7(NOW + TimeUnit.DAYS.toMillis(1))));
+    assertFalse(existenceFilter.mightExist(uuidV7(NOW - MARGIN_MS - 1)));
+  }
+
+  @Test
+  @DisplayName("should keep ruling nothing out when the scan fails")
+  void shouldNotRuleOutWhenScanFails() {
+    // Arrange
+    when(repository.forEachExternalId(isNull(), any()))
+        .thenThrow(new IllegalStateException("database down"));
+
+    // Act
+    existenceFilter.build();
+
+    // Assert
+    assertTrue(existenceFilter.mightExist(UUID.randomUUID()));
+  }
+
+  @Test
+  @DisplayName("should add the transactions saved once the filter is built")
+  void shouldAddSavedTransactions() {
+    // Arrange
+    stubScan();
+    existenceFilter.build();
+    UUID saved = UUID.randomUUID();
+    List<UUID> savedInBulk = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+    // Act
+    existenceFilter.add(saved);
+    existenceFilter.addAll(savedInBulk);
+
+    // Assert
+    assertTrue(existenceFilter.mightExist(saved));
+    assertTrue(savedInBulk.stream().allMatch(existenceFilter::mightExist));
+  }
+
+  @Test
+  @DisplayName("should pick up transactions committed after the previous scan on rebuild")
+  void shouldRebuildFromNewFullScan() {
+    // Arrange
+    stubScan(KNOWN_V4_ID);
+    existenceFilter.build();
+    UUID committedLate = UUID.randomUUID();
+    stubScan(KNOWN_V4_ID, committedLate);
+
+    // Act
+    existenceFilter.scheduledRebuild();
+
+    // Assert
+    assertTrue(existenceFilter.mightExist(committedLate));
+    assertTrue(existenceFilter.mightExist(KNOWN_V4_ID));
+  }
+
+  @Test
+  @DisplayName("should scan again on rebuild when the shared filter is not newer")
+  void shouldScanOnRebuildWhenSharedFilterIsNotNewer() {
+    // Arrange
+    when(settings.shared()).thenReturn(true);
+    ScalableBloomFilter shared = new ScalableBloomFilter(1_000, 0.01);
+    shared.put(KNOWN_V4_ID);
+    when(snapshotBucket.get()).thenReturn(snapshotBytes(shared, NOW));
+    existenceFilter.build();
+    UUID committedLate = UUID.randomUUID();
+    stubScan(KNOWN_V4_ID, committedLate);
+
+    // Act
+    existenceFilter.build();
+
+    // Assert
+    assertTrue(existenceFilter.mightExist(committedLate));
+    verify(snapshotBucket).set(any(), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @DisplayName("should not rebuild before the filter has been built once")
+  void shouldNotRebuildBeforeFirstBuild() {
+    // Act
+    existenceFilter.scheduledRebuild();
+
+    // Assert
+    verifyNoInteractions(repository);
+    assertTrue(existenceFilter.mightExist(UUID.randomUUID()));
+  }
+
+  @Test
+  @DisplayName("should share the built filter through Redis")
+  void shouldShareBuiltFilter() {
+    // Arrange
+    when(settings.shared()).thenReturn(true);
+    stubScan(KNOWN_V4_ID);
+    ArgumentCaptor<byte[]> snapshot = ArgumentCaptor.forClass(byte[].class);
+
+    // Act
+    existenceFilter.build();
+
+    // Assert
+    verify(snapshotBucket).set(snapshot.capture(), eq(3_600L), eq(TimeUnit.SECONDS));
+    BloomTransactionExistenceFilter other = newFilterLoading(snapshot.getValue());
+    other.build();
+    assertTrue(other.mightExist(KNOWN_V4_ID));
+    assertFalse(other.mightExist(UUID.randomUUID()));
+  }
+
+  @Test
+  @DisplayName("should load the shared filter instead of scanning the table")
+  void shouldLoadSharedFilterWithoutScanning() {
+    // Arrange
+    when(settings.shared()).thenReturn(true);
+    ScalableBloomFilter shared = new ScalableBloomFilter(1_000, 0.01);
+    shared.put(KNOWN_V4_ID);
+    when(snapshotBucket.get()).thenReturn(snapshotBytes(shared, NOW));
+
+    // Act
+    existenceFilter.build();
+
+    // Assert
+    assertTrue(existenceFilter.mightExist(KNOWN_V4_ID));
+    assertFalse(existenceFilter.mightExist(UUID.randomUUID()));
+    verify(repository, never()).forEachExternalId(any(), any());
+  }
+
+  @Test
+  @DisplayName("should scan the table when the shared filter cannot be read")
+  void shouldScanWhenSharedFilterUnavailable() {
+    // Arrange
+    when(settings.shared()).thenReturn(true);
+    when(snapshotBucket.get()).thenThrow(new RedisException("connection lost"));
+    stubScan(KNOWN_V4_ID);
+
+    // Act
+    existenceFilter.build();
+
+    // Assert
+    assertTrue(existenceFilter.mightExist(KNOWN_V4_ID));
+    assertFalse(existenceFilter.mightExist(UUID.randomUUID()));
+    verify(snapshotBucket).set(any(), anyLong(), any(TimeUnit.class));
+  }
+
+  private void stubScan(UUID... ids) {
+    doAnswer(invocation -> {
+      Consumer<UUID> consumer = invocation.getArgument(1);
+      for (UUID id : ids) {
+        consumer.accept(id);
+      }
+      return (long) ids.length;
+    }).when(repository).forEachExternalId(isNull(), any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private BloomTransactionExistenceFilter newFilterLoading(byte[] snapshot) {
+    RedissonClient otherClient = mock(RedissonClient.class);
+    RBucket<byte[]> otherBucket = mock(RBucket.class);
+    doReturn(otherBucket).when(otherClient).getBucket(anyString(), any(Codec.class));
+    when(otherBucket.get()).thenReturn(snapshot);
+    return new BloomTransactionExistenceFilter(repository, otherClient, cacheConfig,
+        new SimpleMeterRegistry(), Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+  }
+
+  private static byte[] snapshotBytes(ScalableBloomFilter filter, long scannedAt) {
+    byte[] bits = filter.toBytes();
+    return ByteBuffer.allocate(Long.BYTES + bits.length)
+        .putLong(scannedAt)
+        .put(bits)
+        .array();
+  }
+
+  private static UUID uuidV7(long millis) {
+    long random = ThreadLocalRandom.current().nextLong();
+    return new UUID((millis << 16) | 0x7000L | (random & 0xFFFL),
+        0x8000000000000000L | (random >>> 2));
+  }
+
+}
@@ -0,0 +1,116 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.transaction.infrastructure.config.TransactionCacheConfig;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+
+@ExtendWith(MockitoExtension.class)
+class RedisTransactionLoadLockTest {
+
+  private static final UUID EXTERNAL_ID = UUID.randomUUID();
+  private static final String LOCK_NAME = "transaction:load-lock:" + EXTERNAL_ID;
+
+  @Mock
+  private RedissonClient redissonClient;
+  @Mock
+  private TransactionCacheConfig cacheConfig;
+  @Mock
+  private TransactionCacheConfig.Reload reload;
+  @Mock
+  private RLock lock;
+
+  private RedisTransactionLoadLock loadLock;
+
+  @BeforeEach
+  void setUp() {
+    when(cacheConfig.reload()).thenReturn(reload);
+    loadLock = new RedisTransactionLoadLock(redissonClient, cacheConfig);
+  }
+
+  @Test
+  @DisplayName("should load without Redis when the distributed lock is disabled")
+  void shouldLoadUnlockedWhenDisabled() {
+    // Arrange
+    when(reload.distributedLock()).thenReturn(false);
+
+    // Act
+    String result = loadLock.callLocked(EXTERNAL_ID, contended -> "loaded:" + contended);
+
+    // Assert
+    assertEquals("loaded:false", result);
+    verifyNoInteractions(redissonClient);
+  }
+
+  @Test
+  @DisplayName("should load under the lock and release it when the lock is free")
+  void shouldLoadUnderFreeLock() throws InterruptedException {
+    // Arrange
+    stubEnabled();
+    when(lock.tryLock(0, 2000, TimeUnit.MILLISECONDS)).thenReturn(true);
+
+    // Act
+    boolean contended = loadLock.callLocked(EXTERNAL_ID, wasContended -> wasContended);
+
+    // Assert
+    assertFalse(contended);
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("should wait for the lock held by another instance and report contention")
+  void shouldReportContentionWhenLockHeld() throws InterruptedException {
+    // Arrange
+    stubEnabled();
+    when(reload.lockWaitMs()).thenReturn(200L);
+    when(lock.tryLock(0, 2000, TimeUnit.MILLISECONDS)).thenReturn(false);
+    when(lock.tryLock(200, 2000, TimeUnit.MILLISECONDS)).thenReturn(true);
+
+    // Act
+    boolean contended = loadLock.callLocked(EXTERNAL_ID, wasContended -> wasContended);
+
+    // Assert
+    assertTrue(contended);
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("should load without unlocking when the lock cannot be taken")
+  void shouldLoadWithoutLockWhenUnavailable() throws InterruptedException {
+    // Arrange
+    stubEnabled();
+    when(lock.tryLock(0, 2000, TimeUnit.MILLISECONDS))
+        .thenThrow(new RedisException("connection lost"));
+
+    // Act
+    String result = loadLock.callLocked(EXTERNAL_ID, contended -> "loaded");
+
+    // Assert
+    assertEquals("loaded", result);
+    verify(lock, never()).unlock();
+  }
+
+  private void stubEnabled() {
+    when(reload.distributedLock()).thenReturn(true);
+    when(reload.lockLeaseMs()).thenReturn(2000L);
+    when(cacheConfig.prefix()).thenReturn("transaction:");
+    when(redissonClient.getLock(LOCK_NAME)).thenReturn(lock);
+  }
+
+}
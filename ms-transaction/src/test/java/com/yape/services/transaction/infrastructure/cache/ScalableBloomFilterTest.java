@@ -0,0 +1,99 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yape.services.transaction.infrastructure.id.UuidV7TransactionIdGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScalableBloomFilterTest {
+
+  private static final int CAPACITY = 1_000;
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  @Test
+  @DisplayName("should contain every added ID after growing past its initial capacity")
+  void shouldContainAllAddedIdsAfterGrowing() {
+    // Arrange
+    ScalableBloomFilter filter = new ScalableBloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+    List<UUID> ids = generateIds(CAPACITY * 10);
+
+    // Act
+    ids.forEach(filter::put);
+
+    // Assert
+    assertTrue(ids.stream().allMatch(filter::mightContain));
+    assertTrue(filter.approximateCount() > CAPACITY * 9);
+  }
+
+  @Test
+  @DisplayName("should keep the false positive rate below twice the configured rate")
+  void shouldBoundFalsePositiveRate() {
+    // Arrange
+    ScalableBloomFilter filter = new ScalableBloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+    generateIds(CAPACITY * 3).forEach(filter::put);
+
+    // Act
+    long falsePositives = IntStream.range(0, 100_000)
+        .filter(i -> filter.mightContain(UUID.randomUUID()))
+        .count();
+
+    // Assert
+    assertTrue(falsePositives < 100_000 * FALSE_POSITIVE_RATE * 2,
+        "false positives: " + falsePositives);
+  }
+
+  @Test
+  @DisplayName("should rule out IDs when empty")
+  void shouldRuleOutIdsWhenEmpty() {
+    // Arrange
+    ScalableBloomFilter filter = new ScalableBloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+
+    // Act & Assert
+    assertFalse(filter.mightContain(UUID.randomUUID()));
+    assertEquals(0, filter.approximateCount());
+  }
+
+  @Test
+  @DisplayName("should answer the same after a round trip through its bytes")
+  void shouldRoundTripThroughBytes() {
+    // Arrange
+    ScalableBloomFilter filter = new ScalableBloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+    List<UUID> ids = generateIds(CAPACITY * 3);
+    ids.forEach(filter::put);
+    UUID unknown = UUID.randomUUID();
+
+    // Act
+    ScalableBloomFilter restored = ScalableBloomFilter.fromBytes(filter.toBytes());
+
+    // Assert
+    assertTrue(ids.stream().allMatch(restored::mightContain));
+    assertEquals(filter.mightContain(unknown), restored.mightContain(unknown));
+    assertEquals(filter.approximateCount(), restored.approximateCount());
+  }
+
+  @Test
+  @DisplayName("should reject bytes of an unknown format")
+  void shouldRejectUnknownFormat() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class,
+        () -> ScalableBloomFilter.fromBytes(new byte[] {42, 0, 0, 0, 1}));
+  }
+
+  private static List<UUID> generateIds(int count) {
+    UuidV7TransactionIdGenerator generator = new UuidV7TransactionIdGenerator();
+    List<UUID> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(generator.nextId());
+    }
+    return ids;
+  }
+
+}
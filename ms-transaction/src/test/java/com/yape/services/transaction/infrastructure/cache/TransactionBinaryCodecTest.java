@@ -0,0 +1,216 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yape.services.transaction.domain.model.Transaction;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.codec.TypedJsonJacksonCodec;
+
+class TransactionBinaryCodecTest {
+
+  private TransactionBinaryCodec codec;
+  private TypedJsonJacksonCodec legacyCodec;
+
+  @BeforeEach
+  void setUp() {
+    codec = new TransactionBinaryCodec(TransactionCacheServiceImpl.createObjectMapper());
+    legacyCodec = new TypedJsonJacksonCodec(String.class, Transaction.class,
+        TransactionCacheServiceImpl.createObjectMapper());
+  }
+
+  @Test
+  @DisplayName("should round trip every field of a transaction")
+  void shouldRoundTripAllFields() throws IOException {
+    // Arrange
+    Transaction transaction = createTransaction();
+
+    // Act
+    Transaction decoded = roundTrip(transaction);
+
+    // Assert
+    assertEquals(transaction.getTransactionId(), decoded.getTransactionId());
+    assertEquals(transaction.getTransactionExternalId(), decoded.getTransactionExternalId());
+    assertEquals(transaction.getAccountExternalIdDebit(), decoded.getAccountExternalIdDebit());
+    assertEquals(transaction.getAccountExternalIdCredit(), decoded.getAccountExternalIdCredit());
+    assertEquals(transaction.getTransferTypeId(), decoded.getTransferTypeId());
+    assertEquals(transaction.getTransactionStatusId(), decoded.getTransactionStatusId());
+    assertEquals(transaction.getValue(), decoded.getValue());
+    assertEquals(transaction.getCreatedAt(), decoded.getCreatedAt());
+  }
+
+  @Test
+  @DisplayName("should keep null fields null")
+  void shouldKeepNullFieldsNull() throws IOException {
+    // Arrange
+    Transaction transaction = Transaction.builder()
+        .transactionExternalId(UUID.randomUUID())
+        .build();
+
+    // Act
+    Transaction decoded = roundTrip(transaction);
+
+    // Assert
+    assertEquals(transaction.getTransactionExternalId(), decoded.getTransactionExternalId());
+    assertNull(decoded.getTransactionId());
+    assertNull(decoded.getAccountExternalIdDebit());
+    assertNull(decoded.getTransferTypeId());
+    assertNull(decoded.getValue());
+    assertNull(decoded.getCreatedAt());
+  }
+
+  @Test
+  @DisplayName("should preserve scale, sign and precision of the amount and time")
+  void shouldPreserveAmountAndTimeEdgeCases() throws IOException {
+    // Arrange
+    Transaction transaction = Transaction.builder()
+        .value(new BigDecimal("-98765432109876543210.1200"))
+        .transferTypeId(-1)
+        .transactionStatusId(300)
+        .createdAt(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000))
+        .build();
+
+    // Act
+    Transaction decoded = roundTrip(transaction);
+
+    // Assert
+    assertEquals(transaction.getValue(), decoded.getValue());
+    assertEquals(4, decoded.getValue().scale());
+    assertEquals(-1, decoded.getTransferTypeId());
+    assertEquals(300, decoded.getTransactionStatusId());
+    assertEquals(transaction.getCreatedAt(), decoded.getCreatedAt());
+  }
+
+  @Test
+  @DisplayName("should read entries written as JSON by the previous codec")
+  void shouldReadLegacyJsonEntries() throws IOException {
+    // Arrange
+    Transaction transaction = createTransaction();
+    ByteBuf legacy = legacyCodec.getValueEncoder().encode(transaction);
+
+    // Act
+    Object decoded = codec.getValueDecoder().decode(legacy, null);
+
+    // Assert
+    Transaction result = assertInstanceOf(Transaction.class, decoded);
+    assertEquals(transaction.getTransactionExternalId(), result.getTransactionExternalId());
+    assertEquals(transaction.getValue(), result.getValue());
+    assertEquals(transaction.getCreatedAt(), result.getCreatedAt());
+  }
+
+  @Test
+  @DisplayName("should store the status at a fixed offset so it can be patched in place")
+  void shouldStoreStatusAtFixedOffset() throws IOException {
+    // Arrange
+    Transaction transaction = createTransaction();
+    ByteBuf encoded = codec.getValueEncoder().encode(transaction);
+
+    // Act
+    encoded.setBytes(TransactionBinaryCodec.STATUS_OFFSET,
+        TransactionBinaryCodec.encodeStatusId(3));
+    Transaction decoded = (Transaction) codec.getValueDecoder().decode(encoded, null);
+
+    // Assert
+    assertEquals(3, decoded.getTransactionStatusId());
+    assertEquals(transaction.getValue(), decoded.getValue());
+    assertEquals(transaction.getCreatedAt(), decoded.getCreatedAt());
+  }
+
+  @Test
+  @DisplayName("should read version 1 entries with the status as a var-int")
+  void shouldReadVersionOneEntries() throws IOException {
+    // Arrange
+    ByteBuf versionOne = Unpooled.wrappedBuffer(new byte[] {
+        1, (byte) (TransactionBinaryCodec.HAS_STATUS | 1 << 4), 2, 4});
+
+    // Act
+    Transaction decoded = (Transaction) codec.getValueDecoder().decode(versionOne, null);
+
+    // Assert
+    assertEquals(1, decoded.getTransferTypeId());
+    assertEquals(2, decoded.getTransactionStatusId());
+  }
+
+  @Test
+  @DisplayName("should reject a status ID that does not fit in the status field")
+  void shouldRejectOutOfRangeStatusId() {
+    // Act / Assert
+    assertThrows(IllegalArgumentException.class,
+        () -> TransactionBinaryCodec.encodeStatusId(70_000));
+    assertThrows(IllegalArgumentException.class,
+        () -> TransactionBinaryCodec.encodeStatusId(-1));
+  }
+
+  @Test
+  @DisplayName("should reject an unknown version")
+  void shouldRejectUnknownVersion() {
+    // Arrange
+    ByteBuf buffer = Unpooled.wrappedBuffer(new byte[] {(byte) 99, 0});
+
+    // Act / Assert
+    assertThrows(IOException.class, () -> codec.getValueDecoder().decode(buffer, null));
+  }
+
+  @Test
+  @DisplayName("should encode map keys like the previous codec")
+  void shouldEncodeMapKeysLikeLegacyCodec() throws IOException {
+    // Arrange
+    String key = "transaction:" + UUID.randomUUID();
+
+    // Act
+    ByteBuf encoded = codec.getMapKeyEncoder().encode(key);
+    ByteBuf legacy = legacyCodec.getMapKeyEncoder().encode(key);
+
+    // Assert
+    assertEquals(legacy, encoded);
+  }
+
+  @Test
+  @DisplayName("should take a fraction of the JSON size")
+  void shouldBeSmallerThanJson() throws IOException {
+    // Arrange
+    Transaction transaction = createTransaction();
+
+    // Act
+    ByteBuf binary = codec.getValueEncoder().encode(transaction);
+    ByteBuf json = legacyCodec.getValueEncoder().encode(transaction);
+
+    // Assert
+    assertEquals(TransactionBinaryCodec.VERSION, binary.getByte(0));
+    assertTrue(binary.readableBytes() * 3 < json.readableBytes(),
+        binary.readableBytes() + " bytes vs " + json.readableBytes() + " bytes");
+  }
+
+  private Transaction roundTrip(Transaction transaction) throws IOException {
+    ByteBuf encoded = codec.getValueEncoder().encode(transaction);
+    try {
+      return (Transaction) codec.getValueDecoder().decode(encoded, null);
+    } finally {
+      encoded.release();
+    }
+  }
+
+  private Transaction createTransaction() {
+    return Transaction.builder()
+        .transactionId(42L)
+        .transactionExternalId(UUID.randomUUID())
+        .accountExternalIdDebit(UUID.randomUUID())
+        .accountExternalIdCredit(UUID.randomUUID())
+        .transferTypeId(1)
+        .transactionStatusId(2)
+        .value(new BigDecimal("1234.56"))
+        .createdAt(LocalDateTime.of(2024, 6, 15, 10, 30, 15, 123_456_000))
+        .build();
+  }
+}
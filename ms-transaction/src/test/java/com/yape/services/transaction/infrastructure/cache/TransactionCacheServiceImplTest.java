@@ -1,31 +1,61 @@
 package com.yape.services.transaction.infrastructure.cache;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.yape.services.transaction.application.query.ReferenceDataRegistry;
 import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatus;
 import com.yape.services.transaction.infrastructure.config.TransactionCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.OngoingStubbing;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
 import org.redisson.api.RMapCache;
+import org.redisson.api.RMapCacheAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.api.map.event.EntryExpiredListener;
+import org.redisson.api.map.event.MapEntryListener;
+import org.redisson.client.RedisException;
 import org.redisson.client.codec.Codec;
+import org.redisson.misc.CompletableFutureWrapper;
 
 @ExtendWith(MockitoExtension.class)
 class TransactionCacheServiceImplTest {
@@ -37,8 +67,20 @@ class TransactionCacheServiceImplTest {
   @Mock
   private TransactionCacheConfig.Ttl ttlConfig;
   @Mock
+  private TransactionCacheConfig.Local localConfig;
+  @Mock
+  private TransactionCacheConfig.Negative negativeConfig;
+  @Mock
   private RMapCache<String, Transaction> mapCache;
+  @Mock
+  private RTopic invalidationTopic;
+  @Mock
+  private RScript script;
+  @Mock
+  private ReferenceDataRegistry referenceDataRegistry;
 
+  private final AtomicLong nanos = new AtomicLong();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
   private TransactionCacheServiceImpl cacheService;
 
   private static final UUID TRANSACTION_EXTERNAL_ID = UUID.randomUUID();
@@ -47,15 +89,33 @@ class TransactionCacheServiceImplTest {
   private static final long PENDING_TTL = 300L;
   private static final long APPROVED_TTL = 3600L;
   private static final long REJECTED_TTL = 3600L;
+  private static final long LOCAL_MAX_TTL = 30L;
+  private static final long NEGATIVE_TTL = 10L;
+  private static final String INVALIDATION_TOPIC = "transactions:invalidations";
+  private static final String STATUS_SCRIPT_SHA = "status-script-sha";
+  private static final List<Object> STATUS_SCRIPT_KEYS =
+      List.of(MAP_NAME, "redisson__timeout__set:{transactions}");
 
   @BeforeEach
   void setUp() {
     lenient().when(cacheConfig.mapName()).thenReturn(MAP_NAME);
     lenient().when(cacheConfig.prefix()).thenReturn(PREFIX);
     lenient().when(cacheConfig.ttl()).thenReturn(ttlConfig);
+    lenient().when(cacheConfig.local()).thenReturn(localConfig);
+    lenient().when(localConfig.maxSize()).thenReturn(100L);
+    lenient().when(localConfig.maxTtl()).thenReturn(LOCAL_MAX_TTL);
+    lenient().when(localConfig.invalidationTopic()).thenReturn(INVALIDATION_TOPIC);
+    lenient().when(cacheConfig.negative()).thenReturn(negativeConfig);
+    lenient().when(negativeConfig.maxSize()).thenReturn(100L);
+    lenient().when(negativeConfig.ttl()).thenReturn(NEGATIVE_TTL);
     lenient().doReturn(mapCache).when(redissonClient).getMapCache(anyString(), any(Codec.class));
+    lenient().when(redissonClient.getTopic(eq(INVALIDATION_TOPIC), any(Codec.class)))
+        .thenReturn(invalidationTopic);
+    lenient().when(redissonClient.getScript(any(Codec.class))).thenReturn(script);
+    lenient().when(script.scriptLoad(anyString())).thenReturn(STATUS_SCRIPT_SHA);
 
-    cacheService = new TransactionCacheServiceImpl(redissonClient, cacheConfig);
+    cacheService = new TransactionCacheServiceImpl(redissonClient, cacheConfig,
+        referenceDataRegistry, meterRegistry, nanos::get);
   }
 
   @Test
@@ -150,34 +210,511 @@ class TransactionCacheServiceImplTest {
   }
 
   @Test
-  @DisplayName("should update status and TTL when transaction exists in cache")
-  void shouldUpdateStatusAndTtlWhenTransactionExists() {
+  @DisplayName("should read a transaction through the async API and keep it in the local tier")
+  void shouldReturnTransactionFromRedisAsync() {
     // Arrange
     Transaction transaction = createTransaction();
     String key = PREFIX + TRANSACTION_EXTERNAL_ID;
-    when(mapCache.get(key)).thenReturn(transaction);
+    when(mapCache.getAsync(key)).thenReturn(new CompletableFutureWrapper<>(transaction));
+    when(referenceDataRegistry.getTransactionStatusById(1))
+        .thenReturn(Optional.of(createStatus(1, "PENDING")));
+    when(ttlConfig.pending()).thenReturn(PENDING_TTL);
+
+    // Act
+    Optional<Transaction> first = cacheService
+        .getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID).await().indefinitely();
+    Optional<Transaction> second = cacheService
+        .getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID).await().indefinitely();
+
+    // Assert
+    assertEquals(transaction, first.orElseThrow());
+    assertEquals(transaction, second.orElseThrow());
+    verify(mapCache, times(1)).getAsync(key);
+    verify(mapCache, never()).get(anyString());
+    assertEquals(1.0, localGets("hit"));
+  }
+
+  @Test
+  @DisplayName("should return empty and count a miss when absent on an async read")
+  void shouldReturnEmptyWhenNotFoundAsync() {
+    // Arrange
+    String key = PREFIX + TRANSACTION_EXTERNAL_ID;
+    when(mapCache.getAsync(key)).thenReturn(new CompletableFutureWrapper<>((Transaction) null));
+
+    // Act
+    Optional<Transaction> result = cacheService
+        .getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID).await().indefinitely();
+
+    // Assert
+    assertTrue(result.isEmpty());
+    assertEquals(1.0, meterRegistry.get("transaction.cache.gets")
+        .tags("tier", "l2", "result", "miss").counter().count());
+  }
+
+  @Test
+  @DisplayName("should save through the async API with the status TTL")
+  void shouldSaveTransactionAsync() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    String key = PREFIX + TRANSACTION_EXTERNAL_ID;
+    when(ttlConfig.pending()).thenReturn(PENDING_TTL);
+    when(mapCache.fastPutAsync(key, transaction, PENDING_TTL, TimeUnit.SECONDS))
+        .thenReturn(new CompletableFutureWrapper<>(true));
+
+    // Act
+    cacheService.saveTransactionAsync(transaction, "PENDING").await().indefinitely();
+    Optional<Transaction> cached = cacheService
+        .getTransactionByExternalIdAsync(TRANSACTION_EXTERNAL_ID).await().indefinitely();
+
+    // Assert
+    assertEquals(transaction, cached.orElseThrow());
+    verify(mapCache, never()).put(anyString(), any(), anyLong(), any());
+    verify(mapCache, never()).getAsync(anyString());
+  }
+
+  @Test
+  @DisplayName("should patch status and TTL with one script call without reading the entry")
+  void shouldUpdateStatusAndTtlWhenTransactionExists() {
+    // Arrange
+    String key = PREFIX + TRANSACTION_EXTERNAL_ID;
+    when(ttlConfig.approved()).thenReturn(APPROVED_TTL);
+    stubStatusScript(key, 2).thenReturn(1L);
+    long before = System.currentTimeMillis();
+
+    // Act
+    cacheService.updateTransactionStatus(TRANSACTION_EXTERNAL_ID, 2, "APPROVED");
+
+    // Assert
+    ArgumentCaptor<byte[]> expiresAt = ArgumentCaptor.forClass(byte[].class);
+    verify(script).evalSha(eq(RScript.Mode.READ_WRITE), eq(STATUS_SCRIPT_SHA),
+        eq(RScript.ReturnType.INTEGER), eq(STATUS_SCRIPT_KEYS), aryEq(encodedKey(key)),
+        aryEq(new byte[] {0, 2}), expiresAt.capture());
+    long expiry = Long.parseLong(new String(expiresAt.getValue(), StandardCharsets.US_ASCII));
+    assertTrue(expiry >= before + APPROVED_TTL * 1000);
+    verify(mapCache, never()).get(anyString());
+    verify(mapCache, never()).put(anyString(), any(), anyLong(), any());
+  }
+
+  @Test
+  @DisplayName("should load the status script once and call it by SHA afterwards")
+  void shouldLoadStatusScriptOnce() {
+    // Arrange
+    String key = PREFIX + TRANSACTION_EXTERNAL_ID;
+    when(ttlConfig.approved()).thenReturn(APPROVED_TTL);
+    stubStatusScript(key, 2).thenReturn(1L);
+
+    // Act
+    cacheService.updateTransactionStatus(TRANSACTION_EXTERNAL_ID, 2, "APPROVED");
+    cacheService.updateTransactionStatus(TRANSACTION_EXTERNAL_ID, 2, "APPROVED");
+
+    // Assert
+    verify(script, times(1)).scriptLoad(anyString());
+    verify(script, never()).eval(any(RScript.Mode.class), anyString(),
+        any(RScript.ReturnType.class), any(), any(Object[].class));
+  }
+
+  @Test
+  @DisplayName("should send the status script with eval when Redis answers NOSCRIPT")
+  void shouldFallBackToEvalOnNoScript() {
+    // Arrange
+    String key = PREFIX + TRANSACTION_EXTERNAL_ID;
     when(ttlConfig.approved()).thenReturn(APPROVED_TTL);
+    stubStatusScript(key, 2).thenThrow(new RedisException("NOSCRIPT No matching script"));
+    when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(),
+        eq(RScript.ReturnType.INTEGER), eq(STATUS_SCRIPT_KEYS), aryEq(encodedKey(key)),
+        aryEq(new byte[] {0, 2}), any())).thenReturn(1L);
 
     // Act
     cacheService.updateTransactionStatus(TRANSACTION_EXTERNAL_ID, 2, "APPROVED");
 
     // Assert
-    assertEquals(2, transaction.getTransactionStatusId());
-    verify(mapCache).put(key, transaction, APPROVED_TTL, TimeUnit.SECONDS);
+    verify(script).eval(eq(RScript.Mode.READ_WRITE), anyString(),
+        eq(RScript.ReturnType.INTEGER), eq(STATUS_SCRIPT_KEYS), aryEq(encodedKey(key)),
+        aryEq(new byte[] {0, 2}), any());
+    verify(invalidationTopic).publish(key);
+  }
+
+  @Test
+  @DisplayName("should rethrow script errors other than NOSCRIPT")
+  void shouldRethrowOtherScriptErrors() {
+    // Arrange
+    String key = PREFIX + TRANSACTION_EXTERNAL_ID;
+    when(ttlConfig.approved()).thenReturn(APPROVED_TTL);
+    stubStatusScript(key, 2).thenThrow(new RedisException("ERR unexpected"));
+
+    // Act & Assert
+    assertThrows(RedisException.class,
+        () -> cacheService.updateTransactionStatus(TRANSACTION_EXTERNAL_ID, 2, "APPROVED"));
+    verify(script, never()).eval(any(RScript.Mode.class), anyString(),
+        any(RScript.ReturnType.class), any(), any(Object[].class));
   }
 
   @Test
-  @DisplayName("should not update when transaction not in cache")
+  @DisplayName("should not write the entity when transaction not in cache")
   void shouldNotUpdateWhenTransactionNotInCache() {
     // Arrange
     String key = PREFIX + TRANSACTION_EXTERNAL_ID;
-    when(mapCache.get(key)).thenReturn(null);
+    when(ttlConfig.approved()).thenReturn(APPROVED_TTL);
+    stubStatusScript(key, 2).thenReturn(0L);
 
     // Act
     cacheService.updateTransactionStatus(TRANSACTION_EXTERNAL_ID, 2, "APPROVED");
 
     // Assert
     verify(mapCache, never()).put(anyString(), any(), anyLong(), any());
+    verify(invalidationTopic).publish(key);
+  }
+
+  @Test
+  @DisplayName("should pipeline one script call per status in a single round trip")
+  void shouldPipelineBatchStatusUpdates() {
+    // Arrange
+    RBatch batch = mock(RBatch.class);
+    RScriptAsync batchScript = mock(RScriptAsync.class);
+    BatchResult<Object> result = mockBatchResult(List.<Object>of(1L, 0L));
+    when(redissonClient.createBatch()).thenReturn(batch);
+    doReturn(batchScript).when(batch).getScript(any(Codec.class));
+    doReturn(result).when(batch).execute();
+    when(ttlConfig.approved()).thenReturn(APPROVED_TTL);
+    when(ttlConfig.rejected()).thenReturn(REJECTED_TTL);
+
+    UUID missingId = UUID.randomUUID();
+    Map<UUID, TransactionStatus> newStatuses = new LinkedHashMap<>();
+    newStatuses.put(TRANSACTION_EXTERNAL_ID, createStatus(2, "APPROVED"));
+    newStatuses.put(missingId, createStatus(3, "REJECTED"));
+
+    // Act
+    cacheService.updateTransactionStatuses(newStatuses);
+
+    // Assert
+    verify(batchScript).evalShaAsync(eq(RScript.Mode.READ_WRITE), eq(STATUS_SCRIPT_SHA),
+        eq(RScript.ReturnType.INTEGER), eq(STATUS_SCRIPT_KEYS),
+        aryEq(encodedKey(PREFIX + TRANSACTION_EXTERNAL_ID)), aryEq(new byte[] {0, 2}), any());
+    verify(batchScript).evalShaAsync(eq(RScript.Mode.READ_WRITE), eq(STATUS_SCRIPT_SHA),
+        eq(RScript.ReturnType.INTEGER), eq(STATUS_SCRIPT_KEYS),
+        aryEq(encodedKey(PREFIX + missingId)), aryEq(new byte[] {0, 3}), any());
+    verify(batch, times(1)).execute();
+    verify(redissonClient, times(1)).createBatch();
+    verify(invalidationTopic).publish(PREFIX + TRANSACTION_EXTERNAL_ID + "," + PREFIX + missingId);
+    verify(mapCache, never()).get(anyString());
+  }
+
+  @Test
+  @DisplayName("should resend the status batch with eval when Redis answers NOSCRIPT")
+  void shouldResendBatchWithEvalOnNoScript() {
+    // Arrange
+    RBatch batch = mock(RBatch.class);
+    RScriptAsync batchScript = mock(RScriptAsync.class);
+    BatchResult<Object> result = mockBatchResult(List.<Object>of(1L));
+    when(redissonClient.createBatch()).thenReturn(batch);
+    doReturn(batchScript).when(batch).getScript(any(Codec.class));
+    doThrow(new RedisException("NOSCRIPT No matching script")).doReturn(result)
+        .when(batch).execute();
+    when(ttlConfig.approved()).thenReturn(APPROVED_TTL);
+
+    // Act
+    cacheService.updateTransactionStatuses(
+        Map.of(TRANSACTION_EXTERNAL_ID, createStatus(2, "APPROVED")));
+
+    // Assert
+    verify(batchScript).evalShaAsync(eq(RScript.Mode.READ_WRITE), eq(STATUS_SCRIPT_SHA),
+        eq(RScript.ReturnType.INTEGER), eq(STATUS_SCRIPT_KEYS),
+        aryEq(encodedKey(PREFIX + TRANSACTION_EXTERNAL_ID)), aryEq(new byte[] {0, 2}), any());
+    verify(batchScript).evalAsync(eq(RScript.Mode.READ_WRITE), anyString(),
+        eq(RScript.ReturnType.INTEGER), eq(STATUS_SCRIPT_KEYS),
+        aryEq(encodedKey(PREFIX + TRANSACTION_EXTERNAL_ID)), aryEq(new byte[] {0, 2}), any());
+    verify(batch, times(2)).execute();
+    verify(invalidationTopic).publish(PREFIX + TRANSACTION_EXTERNAL_ID);
+  }
+
+  @Test
+  @DisplayName("should skip the batch when there is no status to update")
+  void shouldSkipBatchWhenNoStatuses() {
+    // Act
+    cacheService.updateTransactionStatuses(Map.of());
+
+    // Assert
+    verify(redissonClient, never()).createBatch();
+    verify(invalidationTopic, never()).publish(any());
+  }
+
+  @Test
+  @DisplayName("should pipeline the writes when saving several transactions")
+  @SuppressWarnings("unchecked")
+  void shouldPipelineBulkSave() {
+    // Arrange
+    Transaction first = createTransaction();
+    Transaction second = createTransaction();
+    second.setTransactionExternalId(UUID.randomUUID());
+    RBatch batch = mock(RBatch.class);
+    RMapCacheAsync<String, Transaction> batchCache = mock(RMapCacheAsync.class);
+    when(redissonClient.createBatch()).thenReturn(batch);
+    doReturn(batchCache).when(batch).getMapCache(anyString(), any());
+    when(ttlConfig.pending()).thenReturn(PENDING_TTL);
+
+    // Act
+    cacheService.saveTransactions(List.of(first, second), "PENDING");
+
+    // Assert
+    verify(batchCache).putAsync(PREFIX + first.getTransactionExternalId(), first,
+        PENDING_TTL, TimeUnit.SECONDS);
+    verify(batchCache).putAsync(PREFIX + second.getTransactionExternalId(), second,
+        PENDING_TTL, TimeUnit.SECONDS);
+    verify(batch).execute();
+    verify(mapCache, never()).put(anyString(), any(), anyLong(), any());
+    assertEquals(first, cacheService.getTransactionByExternalId(
+        first.getTransactionExternalId()).orElseThrow());
+    verify(mapCache, never()).get(anyString());
+  }
+
+  @Test
+  @DisplayName("should pipeline the writes of several transactions with the TTL of each status")
+  @SuppressWarnings("unchecked")
+  void shouldPipelineBulkSaveWithStatusTtl() {
+    // Arrange
+    Transaction pending = createTransaction();
+    Transaction approved = createTransaction();
+    approved.setTransactionExternalId(UUID.randomUUID());
+    approved.setTransactionStatusId(2);
+    Transaction unknownStatus = createTransaction();
+    unknownStatus.setTransactionExternalId(UUID.randomUUID());
+    unknownStatus.setTransactionStatusId(9);
+    RBatch batch = mock(RBatch.class);
+    RMapCacheAsync<String, Transaction> batchCache = mock(RMapCacheAsync.class);
+    when(redissonClient.createBatch()).thenReturn(batch);
+    doReturn(batchCache).when(batch).getMapCache(anyString(), any());
+    when(referenceDataRegistry.getTransactionStatusById(1))
+        .thenReturn(Optional.of(createStatus(1, "PENDING")));
+    when(referenceDataRegistry.getTransactionStatusById(2))
+        .thenReturn(Optional.of(createStatus(2, "APPROVED")));
+    when(referenceDataRegistry.getTransactionStatusById(9)).thenReturn(Optional.empty());
+    when(ttlConfig.pending()).thenReturn(PENDING_TTL);
+    when(ttlConfig.approved()).thenReturn(APPROVED_TTL);
+
+    // Act
+    cacheService.saveTransactions(List.of(pending, approved, unknownStatus));
+
+    // Assert
+    verify(batchCache).putAsync(PREFIX + pending.getTransactionExternalId(), pending,
+        PENDING_TTL, TimeUnit.SECONDS);
+    verify(batchCache).putAsync(PREFIX + approved.getTransactionExternalId(), approved,
+        APPROVED_TTL, TimeUnit.SECONDS);
+    verify(batchCache, never()).putAsync(eq(PREFIX + unknownStatus.getTransactionExternalId()),
+        any(), anyLong(), any());
+    verify(batch, times(1)).execute();
+  }
+
+  @Test
+  @DisplayName("should read several transactions from the local tier and one Redis getAll")
+  void shouldReadSeveralTransactionsWithOneGetAll() {
+    // Arrange
+    Transaction local = createTransaction();
+    Transaction remote = createTransaction();
+    remote.setTransactionExternalId(UUID.randomUUID());
+    UUID missingId = UUID.randomUUID();
+    String remoteKey = PREFIX + remote.getTransactionExternalId();
+    String missingKey = PREFIX + missingId;
+    when(ttlConfig.pending()).thenReturn(PENDING_TTL);
+    cacheService.saveTransaction(local, "PENDING");
+    when(mapCache.getAll(Set.of(remoteKey, missingKey)))
+        .thenReturn(Map.of(remoteKey, remote));
+    when(referenceDataRegistry.getTransactionStatusById(1))
+        .thenReturn(Optional.of(createStatus(1, "PENDING")));
+
+    // Act
+    Map<UUID, Transaction> result = cacheService.getTransactionsByExternalIds(
+        List.of(TRANSACTION_EXTERNAL_ID, remote.getTransactionExternalId(), missingId));
+
+    // Assert
+    assertEquals(Map.of(TRANSACTION_EXTERNAL_ID, local,
+        remote.getTransactionExternalId(), remote), result);
+    verify(mapCache, times(1)).getAll(any());
+    verify(mapCache, never()).get(anyString());
+    assertEquals(1.0, meterRegistry.get("transaction.cache.gets")
+        .tags("tier", "l2", "result", "miss").counter().count());
+    assertEquals(remote, cacheService.getTransactionByExternalId(
+        remote.getTransactionExternalId()).orElseThrow());
+  }
+
+  @Test
+  @DisplayName("should serve repeated reads of a saved transaction from the local tier")
+  void shouldServeRepeatedReadsFromLocalTier() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    when(ttlConfig.pending()).thenReturn(PENDING_TTL);
+    cacheService.saveTransaction(transaction, "PENDING");
+
+    // Act
+    Optional<Transaction> first = cacheService.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+    Optional<Transaction> second = cacheService.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+
+    // Assert
+    assertEquals(transaction, first.orElseThrow());
+    assertEquals(transaction, second.orElseThrow());
+    verify(mapCache, never()).get(anyString());
+    assertEquals(2.0, localGets("hit"));
+  }
+
+  @Test
+  @DisplayName("should populate the local tier on a Redis hit using the status TTL")
+  void shouldPopulateLocalTierOnRedisHit() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    String key = PREFIX + TRANSACTION_EXTERNAL_ID;
+    when(mapCache.get(key)).thenReturn(transaction);
+    when(referenceDataRegistry.getTransactionStatusById(1))
+        .thenReturn(Optional.of(createStatus(1, "PENDING")));
+    when(ttlConfig.pending()).thenReturn(PENDING_TTL);
+
+    // Act
+    cacheService.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+    cacheService.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+
+    // Assert
+    verify(mapCache, times(1)).get(key);
+    assertEquals(1.0, meterRegistry.get("transaction.cache.gets")
+        .tags("tier", "l2", "result", "hit").counter().count());
+    assertEquals(1.0, localGets("hit"));
+  }
+
+  @Test
+  @DisplayName("should expire local entries after the status TTL capped by the local max TTL")
+  void shouldExpireLocalEntriesAfterCappedTtl() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    String key = PREFIX + TRANSACTION_EXTERNAL_ID;
+    when(ttlConfig.approved()).thenReturn(APPROVED_TTL);
+    cacheService.saveTransaction(transaction, "APPROVED");
+    when(mapCache.get(key)).thenReturn(null);
+
+    // Act
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(LOCAL_MAX_TTL + 1));
+    Optional<Transaction> result = cacheService.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verify(mapCache).get(key);
+    assertEquals(1.0, meterRegistry.get("transaction.cache.evictions")
+        .tags("tier", "l1").functionCounter().count());
+  }
+
+  @Test
+  @DisplayName("should remember a missing transaction until the negative TTL elapses")
+  void shouldRememberMissingTransactionUntilTtl() {
+    // Act
+    cacheService.saveMissing(TRANSACTION_EXTERNAL_ID);
+    boolean missingBeforeTtl = cacheService.isMissing(TRANSACTION_EXTERNAL_ID);
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(NEGATIVE_TTL + 1));
+    boolean missingAfterTtl = cacheService.isMissing(TRANSACTION_EXTERNAL_ID);
+
+    // Assert
+    assertTrue(missingBeforeTtl);
+    assertFalse(missingAfterTtl);
+    assertFalse(cacheService.isMissing(UUID.randomUUID()));
+  }
+
+  @Test
+  @DisplayName("should forget a missing transaction once it is saved")
+  void shouldForgetMissingTransactionOnSave() {
+    // Arrange
+    when(ttlConfig.pending()).thenReturn(PENDING_TTL);
+    cacheService.saveMissing(TRANSACTION_EXTERNAL_ID);
+
+    // Act
+    cacheService.saveTransaction(createTransaction(), "PENDING");
+
+    // Assert
+    assertFalse(cacheService.isMissing(TRANSACTION_EXTERNAL_ID));
+  }
+
+  @Test
+  @DisplayName("should invalidate the local tier and notify other instances on status update")
+  void shouldInvalidateLocalTierOnStatusUpdate() {
+    // Arrange
+    Transaction transaction = createTransaction();
+    String key = PREFIX + TRANSACTION_EXTERNAL_ID;
+    when(ttlConfig.pending()).thenReturn(PENDING_TTL);
+    when(ttlConfig.approved()).thenReturn(APPROVED_TTL);
+    cacheService.saveTransaction(transaction, "PENDING");
+    stubStatusScript(key, 2).thenReturn(1L);
+    when(mapCache.get(key)).thenReturn(null);
+
+    // Act
+    cacheService.updateTransactionStatus(TRANSACTION_EXTERNAL_ID, 2, "APPROVED");
+    cacheService.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+
+    // Assert
+    verify(invalidationTopic).publish(key);
+    verify(mapCache, times(1)).get(key);
+  }
+
+  @Test
+  @DisplayName("should count the L2 expiries seen by this host under its host tag")
+  @SuppressWarnings("unchecked")
+  void shouldCountRemoteExpiriesPerHost() {
+    // Arrange
+    ArgumentCaptor<MapEntryListener> listener = ArgumentCaptor.forClass(MapEntryListener.class);
+    verify(mapCache).addListener(listener.capture());
+
+    // Act
+    ((EntryExpiredListener<String, Transaction>) listener.getValue()).onExpired(null);
+
+    // Assert
+    assertEquals(1.0, meterRegistry.get("transaction.cache.evictions")
+        .tags("tier", "l2").counter().count());
+    assertNotNull(meterRegistry.get("transaction.cache.evictions")
+        .tags("tier", "l2").counter().getId().getTag("host"));
+  }
+
+  @Test
+  @DisplayName("should drop local entries when another instance publishes an invalidation")
+  @SuppressWarnings("unchecked")
+  void shouldDropLocalEntriesOnRemoteInvalidation() {
+    // Arrange
+    ArgumentCaptor<MessageListener<String>> listener =
+        ArgumentCaptor.forClass(MessageListener.class);
+    verify(invalidationTopic).addListener(eq(String.class), listener.capture());
+    Transaction transaction = createTransaction();
+    String key = PREFIX + TRANSACTION_EXTERNAL_ID;
+    when(ttlConfig.pending()).thenReturn(PENDING_TTL);
+    cacheService.saveTransaction(transaction, "PENDING");
+
+    // Act
+    listener.getValue().onMessage(INVALIDATION_TOPIC, key + "," + PREFIX + UUID.randomUUID());
+    cacheService.getTransactionByExternalId(TRANSACTION_EXTERNAL_ID);
+
+    // Assert
+    verify(mapCache).get(key);
+  }
+
+  private OngoingStubbing<Object> stubStatusScript(String key, int statusId) {
+    return when(script.evalSha(eq(RScript.Mode.READ_WRITE), eq(STATUS_SCRIPT_SHA),
+        eq(RScript.ReturnType.INTEGER), eq(STATUS_SCRIPT_KEYS), aryEq(encodedKey(key)),
+        aryEq(new byte[] {0, (byte) statusId}), any()));
+  }
+
+  private static byte[] encodedKey(String key) {
+    return ("\"" + key + "\"").getBytes(StandardCharsets.UTF_8);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BatchResult<Object> mockBatchResult(List<Object> responses) {
+    BatchResult<Object> result = mock(BatchResult.class);
+    doReturn(responses).when(result).getResponses();
+    return result;
+  }
+
+  private double localGets(String result) {
+    return meterRegistry.get("transaction.cache.gets")
+        .tags("tier", "l1", "result", result).functionCounter().count();
+  }
+
+  private TransactionStatus createStatus(int id, String code) {
+    return TransactionStatus.builder()
+        .transactionStatusId(id)
+        .code(code)
+        .name(code)
+        .build();
   }
 
   private Transaction createTransaction() {
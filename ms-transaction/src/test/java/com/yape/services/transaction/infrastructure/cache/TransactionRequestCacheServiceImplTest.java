@@ -0,0 +1,113 @@
+package com.yape.services.transaction.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.infrastructure.config.TransactionIdempotencyConfig;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.misc.CompletableFutureWrapper;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionRequestCacheServiceImplTest {
+
+  private static final String PREFIX = "request:";
+
+  @Mock
+  private RedissonClient redissonClient;
+  @Mock
+  private TransactionIdempotencyConfig idempotencyConfig;
+  @Mock
+  private RMapCache<String, Transaction> mapCache;
+
+  private TransactionRequestCacheServiceImpl cacheService;
+
+  @BeforeEach
+  void setUp() {
+    when(idempotencyConfig.mapName()).thenReturn("transaction-requests");
+    when(idempotencyConfig.prefix()).thenReturn(PREFIX);
+    doReturn(mapCache).when(redissonClient).getMapCache(anyString(), any(Codec.class));
+    cacheService = new TransactionRequestCacheServiceImpl(redissonClient, idempotencyConfig);
+  }
+
+  @Test
+  @DisplayName("should cache the result of a request with the configured TTL")
+  void shouldCacheResultWithTtl() {
+    // Arrange
+    Transaction transaction = Transaction.builder()
+        .transactionExternalId(UUID.randomUUID())
+        .build();
+    when(idempotencyConfig.ttl()).thenReturn(600L);
+
+    // Act
+    cacheService.saveResult("req-1", transaction);
+
+    // Assert
+    verify(mapCache).put(PREFIX + "req-1", transaction, 600L, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @DisplayName("should return the cached result of a request")
+  void shouldReturnCachedResult() {
+    // Arrange
+    Transaction transaction = Transaction.builder()
+        .transactionExternalId(UUID.randomUUID())
+        .build();
+    when(mapCache.get(PREFIX + "req-1")).thenReturn(transaction);
+
+    // Act
+    Optional<Transaction> result = cacheService.getResult("req-1");
+
+    // Assert
+    assertEquals(Optional.of(transaction), result);
+  }
+
+  @Test
+  @DisplayName("should return empty when the request has no cached result")
+  void shouldReturnEmptyWhenNotCached() {
+    // Act
+    Optional<Transaction> result = cacheService.getResult("req-2");
+
+    // Assert
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  @DisplayName("should cache and read the result of a request through the async API")
+  void shouldCacheAndReadResultAsync() {
+    // Arrange
+    Transaction transaction = Transaction.builder()
+        .transactionExternalId(UUID.randomUUID())
+        .build();
+    when(idempotencyConfig.ttl()).thenReturn(600L);
+    when(mapCache.fastPutAsync(PREFIX + "req-3", transaction, 600L, TimeUnit.SECONDS))
+        .thenReturn(new CompletableFutureWrapper<>(true));
+    when(mapCache.getAsync(PREFIX + "req-3"))
+        .thenReturn(new CompletableFutureWrapper<>(transaction));
+
+    // Act
+    cacheService.saveResultAsync("req-3", transaction).await().indefinitely();
+    Optional<Transaction> result = cacheService.getResultAsync("req-3").await().indefinitely();
+
+    // Assert
+    assertEquals(Optional.of(transaction), result);
+    verify(mapCache).fastPutAsync(PREFIX + "req-3", transaction, 600L, TimeUnit.SECONDS);
+  }
+
+}
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 
 import com.yape.services.transaction.domain.model.TransferType;
 import com.yape.services.transaction.infrastructure.config.TransferTypeCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -38,6 +39,7 @@ class TransferTypeCacheServiceImplTest {
   @Mock
   private RMapCache<String, TransferType> mapCache;
 
+  private SimpleMeterRegistry meterRegistry;
   private TransferTypeCacheServiceImpl cacheService;
 
   private static final String MAP_NAME = "transfer-types";
@@ -50,7 +52,8 @@ class TransferTypeCacheServiceImplTest {
     lenient().when(cacheConfig.prefix()).thenReturn(PREFIX);
     lenient().doReturn(mapCache).when(redissonClient).getMapCache(anyString(), any(Codec.class));
 
-    cacheService = new TransferTypeCacheServiceImpl(redissonClient, cacheConfig);
+    meterRegistry = new SimpleMeterRegistry();
+    cacheService = new TransferTypeCacheServiceImpl(redissonClient, cacheConfig, meterRegistry);
   }
 
   @Nested
@@ -123,6 +126,7 @@ class TransferTypeCacheServiceImplTest {
     // Assert
     assertTrue(result.isPresent());
     assertEquals(transferType, result.get());
+    assertEquals(1.0, gets("hit"));
   }
 
   @Test
@@ -137,6 +141,7 @@ class TransferTypeCacheServiceImplTest {
 
     // Assert
     assertTrue(result.isEmpty());
+    assertEquals(1.0, gets("miss"));
   }
 
   @Test
@@ -191,6 +196,10 @@ class TransferTypeCacheServiceImplTest {
     assertEquals(2, result.get().size());
   }
 
+  private double gets(String result) {
+    return meterRegistry.get("transfer.type.cache.gets").tag("result", result).counter().count();
+  }
+
   private TransferType createTransferType(int id) {
     return TransferType.builder()
         .transferTypeId(id)
@@ -0,0 +1,65 @@
+package com.yape.services.transaction.infrastructure.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.transaction.infrastructure.config.TransactionVirtualThreadPinningConfig;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionVirtualThreadPinningMonitorTest {
+
+  @Mock
+  private TransactionVirtualThreadPinningConfig pinningConfig;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TransactionVirtualThreadPinningMonitor monitor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    monitor = new TransactionVirtualThreadPinningMonitor(pinningConfig, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("should record the pinned time of every pinning")
+  void shouldRecordPinnedTime() {
+    // Arrange
+    List<String> frames = List.of("org.postgresql.core.v3.QueryExecutorImpl.execute:350");
+
+    // Act
+    monitor.report(Duration.ofMillis(30), frames);
+    monitor.report(Duration.ofMillis(50), frames);
+    monitor.report(Duration.ofMillis(40), List.of());
+
+    // Assert
+    Timer timer = meterRegistry.get("jvm.threads.virtual.pinned").timer();
+    assertEquals(3, timer.count());
+    assertEquals(120, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+  }
+
+  @Test
+  @DisplayName("should not start a recording when detection is disabled")
+  void shouldNotRecordWhenDisabled() {
+    // Arrange
+    when(pinningConfig.enabled()).thenReturn(false);
+
+    // Act
+    monitor.onStart(null);
+    monitor.onStop(null);
+
+    // Assert
+    assertEquals(0, meterRegistry.get("jvm.threads.virtual.pinned").timer().count());
+  }
+
+}
@@ -0,0 +1,132 @@
+package com.yape.services.transaction.infrastructure.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidV7TransactionIdGenerator")
+class UuidV7TransactionIdGeneratorTest {
+
+  private static final Instant NOW = Instant.parse("2024-06-15T10:00:00.123Z");
+
+  @Test
+  @DisplayName("should generate RFC 9562 version 7 IDs carrying the current time")
+  void shouldGenerateVersion7Ids() {
+    // Arrange
+    UuidV7TransactionIdGenerator generator =
+        new UuidV7TransactionIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    // Act
+    UUID id = generator.nextId();
+
+    // Assert
+    assertEquals(7, id.version());
+    assertEquals(2, id.variant());
+    assertEquals(NOW.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  @DisplayName("should generate increasing IDs within the same millisecond")
+  void shouldGenerateIncreasingIdsWithinSameMillisecond() {
+    // Arrange
+    UuidV7TransactionIdGenerator generator =
+        new UuidV7TransactionIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    // Act
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      ids.add(generator.nextId());
+    }
+
+    // Assert
+    for (int i = 1; i < ids.size(); i++) {
+      assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0);
+      assertEquals(7, ids.get(i).version());
+    }
+  }
+
+  @Test
+  @DisplayName("should keep IDs increasing when the clock steps back")
+  void shouldKeepIdsIncreasingWhenClockStepsBack() {
+    // Arrange
+    MutableClock clock = new MutableClock(NOW);
+    UuidV7TransactionIdGenerator generator = new UuidV7TransactionIdGenerator(clock);
+    UUID before = generator.nextId();
+    clock.instant = NOW.minusSeconds(5);
+
+    // Act
+    UUID after = generator.nextId();
+
+    // Assert
+    assertTrue(after.compareTo(before) > 0);
+  }
+
+  @Test
+  @DisplayName("should generate unique IDs across threads")
+  void shouldGenerateUniqueIdsAcrossThreads() throws Exception {
+    // Arrange
+    UuidV7TransactionIdGenerator generator = new UuidV7TransactionIdGenerator();
+    Set<UUID> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // Act
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 5_000; i++) {
+            ids.add(generator.nextId());
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Assert
+    assertEquals(20_000, ids.size());
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+
+  }
+
+}
@@ -9,6 +9,8 @@ import com.yape.services.common.events.EventMetadata;
 import com.yape.services.transaction.events.TransactionCreatedEvent;
 import com.yape.services.transaction.events.TransactionCreatedPayload;
 import com.yape.services.transaction.events.enums.TransactionStatus;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.smallrye.reactive.messaging.kafka.Record;
 import java.util.Objects;
 import java.util.UUID;
@@ -27,13 +29,15 @@ class KafkaTransactionEventPublisherTest {
   @Mock
   private Emitter<Record<String, TransactionCreatedEvent>> emitter;
 
+  private SimpleMeterRegistry meterRegistry;
   private KafkaTransactionEventPublisher publisher;
 
   private static final UUID TRANSACTION_EXTERNAL_ID = UUID.randomUUID();
 
   @BeforeEach
   void setUp() {
-    publisher = new KafkaTransactionEventPublisher(emitter);
+    meterRegistry = new SimpleMeterRegistry();
+    publisher = new KafkaTransactionEventPublisher(emitter, meterRegistry);
   }
 
   @Test
@@ -96,6 +100,30 @@ class KafkaTransactionEventPublisherTest {
 
     // Assert
     verify(emitter).send((Record<String, TransactionCreatedEvent>) argThat(Objects::nonNull));
+    assertEquals(1L, sends("failure"));
+  }
+
+  @Test
+  @DisplayName("should time the send until the broker acknowledges it")
+  void shouldTimeSendUntilAcknowledged() {
+    // Arrange
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    when(emitter.send((Record<String, TransactionCreatedEvent>) argThat(Objects::nonNull)))
+        .thenReturn(future);
+    publisher.publishTransactionCreated(createEvent());
+
+    // Act
+    long beforeAck = sends("success");
+    future.complete(null);
+
+    // Assert
+    assertEquals(0L, beforeAck);
+    assertEquals(1L, sends("success"));
+  }
+
+  private long sends(String result) {
+    Timer timer = meterRegistry.find("transaction.kafka.send").tag("result", result).timer();
+    return timer != null ? timer.count() : 0L;
   }
 
   private TransactionCreatedEvent createEvent() {
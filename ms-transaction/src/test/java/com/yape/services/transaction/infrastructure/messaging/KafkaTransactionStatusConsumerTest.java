@@ -2,96 +2,250 @@ package com.yape.services.transaction.infrastructure.messaging;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.yape.services.common.events.EventMetadata;
 import com.yape.services.transaction.application.usecase.UpdateTransactionStatusUseCase;
+import com.yape.services.transaction.domain.model.TransactionStatusChange;
+import com.yape.services.transaction.domain.service.TransactionStatusNotifier;
 import com.yape.services.transaction.events.TransactionStatusUpdatedEvent;
 import com.yape.services.transaction.events.TransactionStatusUpdatedPayload;
 import com.yape.services.transaction.events.ValidationResult;
 import com.yape.services.transaction.events.enums.TransactionStatus;
-import io.smallrye.reactive.messaging.kafka.Record;
+import com.yape.services.transaction.infrastructure.config.TransactionStatusConsumerConfig;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class KafkaTransactionStatusConsumerTest {
 
   @Mock
   private UpdateTransactionStatusUseCase updateTransactionStatusUseCase;
+  @Mock
+  private TransactionStatusConsumerConfig consumerConfig;
+  @Mock
+  private TransactionStatusNotifier transactionStatusNotifier;
+
+  @Captor
+  private ArgumentCaptor<List<TransactionStatusChange>> changesCaptor;
 
   private KafkaTransactionStatusConsumer consumer;
 
   private static final UUID TRANSACTION_EXTERNAL_ID = UUID.randomUUID();
-  private static final String MESSAGE_KEY = TRANSACTION_EXTERNAL_ID.toString();
 
   @BeforeEach
   void setUp() {
-    consumer = new KafkaTransactionStatusConsumer(updateTransactionStatusUseCase);
+    when(consumerConfig.bulkUpdate()).thenReturn(true);
+    when(consumerConfig.maxBatchSize()).thenReturn(500);
+    consumer = new KafkaTransactionStatusConsumer(updateTransactionStatusUseCase, consumerConfig,
+        transactionStatusNotifier);
+  }
+
+  @Test
+  @DisplayName("should apply whole batch with a single bulk update")
+  void shouldApplyWholeBatchWithSingleBulkUpdate() {
+    // Given
+    List<TransactionStatusUpdatedEvent> events = List.of(
+        createEvent(TransactionStatus.APPROVED),
+        createEvent(TransactionStatus.REJECTED));
+
+    // When
+    consumer.consume(events);
+
+    // Then
+    verify(updateTransactionStatusUseCase).executeBatch(events);
+    verify(updateTransactionStatusUseCase, never()).execute(events.get(0));
+  }
+
+  @Test
+  @DisplayName("should apply a dead-lettered batch again on replay")
+  void shouldApplyDeadLetteredBatchOnReplay() {
+    // Given
+    List<TransactionStatusUpdatedEvent> events = List.of(createEvent(TransactionStatus.APPROVED));
+
+    // When
+    consumer.replay(events);
+
+    // Then
+    verify(updateTransactionStatusUseCase).executeBatch(events);
+  }
+
+  @Test
+  @DisplayName("should notify the applied changes of a batch to the subscribers")
+  void shouldNotifyAppliedChangesOfBatch() {
+    // Given
+    List<TransactionStatusUpdatedEvent> events = List.of(createEvent(TransactionStatus.APPROVED));
+    when(updateTransactionStatusUseCase.executeBatch(events)).thenReturn(events);
+
+    // When
+    consumer.consume(events);
+
+    // Then
+    verify(transactionStatusNotifier).notifyStatusChanged(changesCaptor.capture());
+    TransactionStatusChange change = changesCaptor.getValue().get(0);
+    assertEquals(TRANSACTION_EXTERNAL_ID, change.getTransactionExternalId());
+    assertEquals("PENDING", change.getPreviousStatus());
+    assertEquals("APPROVED", change.getNewStatus());
+    assertEquals("2024-01-01T00:00:00.000+0000", change.getChangedAt());
   }
 
   @Test
-  @DisplayName("should delegate to use case with event from record")
-  void shouldDelegateToUseCaseWithEventFromRecord() {
+  @DisplayName("should notify only the applied events of a batch")
+  void shouldNotifyOnlyAppliedEventsOfBatch() {
     // Given
-    TransactionStatusUpdatedEvent event = createEvent(TransactionStatus.APPROVED);
-    Record<String, TransactionStatusUpdatedEvent> eventRecord = Record.of(MESSAGE_KEY, event);
+    TransactionStatusUpdatedEvent applied = createEvent(TransactionStatus.APPROVED);
+    TransactionStatusUpdatedEvent duplicate = createEvent(TransactionStatus.APPROVED);
+    List<TransactionStatusUpdatedEvent> events = List.of(applied, duplicate);
+    when(updateTransactionStatusUseCase.executeBatch(events)).thenReturn(List.of(applied));
 
     // When
-    consumer.consume(eventRecord);
+    consumer.consume(events);
 
     // Then
-    verify(updateTransactionStatusUseCase).execute(event);
+    verify(transactionStatusNotifier).notifyStatusChanged(changesCaptor.capture());
+    assertEquals(1, changesCaptor.getValue().size());
   }
 
   @Test
-  @DisplayName("should handle REJECTED status events")
-  void shouldHandleRejectedStatusEvents() {
+  @DisplayName("should not notify when no event of the batch was applied")
+  void shouldNotNotifyWhenNothingApplied() {
     // Given
-    TransactionStatusUpdatedEvent event = createEvent(TransactionStatus.REJECTED);
-    Record<String, TransactionStatusUpdatedEvent> eventRecord = Record.of(MESSAGE_KEY, event);
+    List<TransactionStatusUpdatedEvent> events = List.of(createEvent(TransactionStatus.APPROVED));
+    when(updateTransactionStatusUseCase.executeBatch(events)).thenReturn(List.of());
 
     // When
-    consumer.consume(eventRecord);
+    consumer.consume(events);
 
     // Then
-    verify(updateTransactionStatusUseCase).execute(event);
+    verify(transactionStatusNotifier, never()).notifyStatusChanged(anyList());
   }
 
   @Test
-  @DisplayName("should rethrow exception when use case fails")
-  void shouldRethrowExceptionWhenUseCaseFails() {
+  @DisplayName("should not notify a record that was not applied")
+  void shouldNotNotifyRecordNotApplied() {
     // Given
-    TransactionStatusUpdatedEvent event = createEvent(TransactionStatus.APPROVED);
-    Record<String, TransactionStatusUpdatedEvent> eventRecord = Record.of(MESSAGE_KEY, event);
-    RuntimeException expectedException = new RuntimeException("Database error");
+    when(consumerConfig.bulkUpdate()).thenReturn(false);
+    TransactionStatusUpdatedEvent stale = createEvent(TransactionStatus.APPROVED);
+    when(updateTransactionStatusUseCase.execute(stale)).thenReturn(false);
+
+    // When
+    consumer.consume(List.of(stale));
+
+    // Then
+    verify(updateTransactionStatusUseCase).execute(stale);
+    verify(transactionStatusNotifier, never()).notifyStatusChanged(anyList());
+  }
 
-    doThrow(expectedException).when(updateTransactionStatusUseCase).execute(event);
+  @Test
+  @DisplayName("should not notify changes whose update failed")
+  void shouldNotNotifyFailedUpdates() {
+    // Given
+    when(consumerConfig.bulkUpdate()).thenReturn(false);
+    TransactionStatusUpdatedEvent failing = createEvent(TransactionStatus.APPROVED);
+    doThrow(new RuntimeException("Database error"))
+        .when(updateTransactionStatusUseCase).execute(failing);
+
+    // When
+    consumer.consume(List.of(failing));
+
+    // Then
+    verify(transactionStatusNotifier, never()).notifyStatusChanged(anyList());
+  }
+
+  @Test
+  @DisplayName("should split batch into chunks of the configured maximum size")
+  void shouldSplitBatchIntoChunks() {
+    // Given
+    when(consumerConfig.maxBatchSize()).thenReturn(2);
+    TransactionStatusUpdatedEvent first = createEvent(TransactionStatus.APPROVED);
+    TransactionStatusUpdatedEvent second = createEvent(TransactionStatus.APPROVED);
+    TransactionStatusUpdatedEvent third = createEvent(TransactionStatus.REJECTED);
+
+    // When
+    consumer.consume(List.of(first, second, third));
+
+    // Then
+    verify(updateTransactionStatusUseCase).executeBatch(List.of(first, second));
+    verify(updateTransactionStatusUseCase).executeBatch(List.of(third));
+  }
+
+  @Test
+  @DisplayName("should fall back to per-record processing when bulk update fails")
+  void shouldFallBackToPerRecordWhenBulkUpdateFails() {
+    // Given
+    TransactionStatusUpdatedEvent first = createEvent(TransactionStatus.APPROVED);
+    TransactionStatusUpdatedEvent second = createEvent(TransactionStatus.REJECTED);
+    doThrow(new RuntimeException("Database error"))
+        .when(updateTransactionStatusUseCase).executeBatch(anyList());
+
+    // When
+    consumer.consume(List.of(first, second));
+
+    // Then
+    verify(updateTransactionStatusUseCase).execute(first);
+    verify(updateTransactionStatusUseCase).execute(second);
+  }
+
+  @Test
+  @DisplayName("should process the rest of the batch and then fail it when a record fails")
+  void shouldFailBatchAfterProcessingRestWhenSingleRecordFails() {
+    // Given
+    when(consumerConfig.bulkUpdate()).thenReturn(false);
+    TransactionStatusUpdatedEvent failing = createEvent(TransactionStatus.APPROVED);
+    TransactionStatusUpdatedEvent next = createEvent(TransactionStatus.REJECTED);
+    doThrow(new RuntimeException("Database error"))
+        .when(updateTransactionStatusUseCase).execute(failing);
+    List<TransactionStatusUpdatedEvent> events = List.of(failing, next);
+
+    // When & Then
+    assertThrows(IllegalStateException.class, () -> consumer.consume(events));
+    verify(updateTransactionStatusUseCase).execute(next);
+    verify(updateTransactionStatusUseCase, never()).executeBatch(anyList());
+  }
+
+  @Test
+  @DisplayName("should fail the batch when a record still fails after the bulk fallback")
+  void shouldFailBatchWhenRecordFailsAfterBulkFallback() {
+    // Given
+    TransactionStatusUpdatedEvent first = createEvent(TransactionStatus.APPROVED);
+    TransactionStatusUpdatedEvent second = createEvent(TransactionStatus.REJECTED);
+    doThrow(new RuntimeException("Database error"))
+        .when(updateTransactionStatusUseCase).executeBatch(anyList());
+    doThrow(new RuntimeException("Database error"))
+        .when(updateTransactionStatusUseCase).execute(first);
+    List<TransactionStatusUpdatedEvent> events = List.of(first, second);
 
-    // When/Then
-    RuntimeException exception =
-        assertThrows(RuntimeException.class, () -> consumer.consume(eventRecord));
-    assertEquals("Database error", exception.getMessage());
+    // When & Then
+    assertThrows(IllegalStateException.class, () -> consumer.consume(events));
+    verify(updateTransactionStatusUseCase).execute(second);
   }
 
   @Test
   @DisplayName("should process event with null request ID in metadata")
   void shouldProcessEventWithNullRequestId() {
     // Given
-    TransactionStatusUpdatedEvent event = createEventWithNullRequestId();
-    Record<String, TransactionStatusUpdatedEvent> eventRecord = Record.of(MESSAGE_KEY, event);
+    List<TransactionStatusUpdatedEvent> events = List.of(createEventWithNullRequestId());
 
     // When
-    consumer.consume(eventRecord);
+    consumer.consume(events);
 
     // Then
-    verify(updateTransactionStatusUseCase).execute(event);
+    verify(updateTransactionStatusUseCase).executeBatch(events);
   }
 
   private TransactionStatusUpdatedEvent createEvent(TransactionStatus newStatus) {
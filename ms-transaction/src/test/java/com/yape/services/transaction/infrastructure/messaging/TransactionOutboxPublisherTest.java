@@ -0,0 +1,116 @@
+package com.yape.services.transaction.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.yape.services.common.events.EventMetadata;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import com.yape.services.transaction.infrastructure.persistence.entity.TransactionOutboxEntity;
+import com.yape.services.transaction.infrastructure.persistence.repository.TransactionOutboxPostgresRepository;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionOutboxPublisherTest {
+
+  @Mock
+  private TransactionOutboxPostgresRepository repository;
+
+  @Captor
+  private ArgumentCaptor<TransactionOutboxEntity> entityCaptor;
+
+  private TransactionOutboxPublisher publisher;
+
+  private static final UUID TRANSACTION_EXTERNAL_ID = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    publisher = new TransactionOutboxPublisher(repository);
+  }
+
+  @Test
+  @DisplayName("should store the Avro-encoded event in the outbox keyed by transaction")
+  void shouldStoreEventInOutbox() throws Exception {
+    // Arrange
+    TransactionCreatedEvent event = createEvent();
+
+    // Act
+    publisher.publishTransactionCreated(event);
+
+    // Assert
+    verify(repository).save(entityCaptor.capture());
+    TransactionOutboxEntity entity = entityCaptor.getValue();
+    assertEquals(TRANSACTION_EXTERNAL_ID, entity.getAggregateId());
+    assertEquals("TRANSACTION_CREATED", entity.getEventType());
+    assertEquals(event,
+        TransactionCreatedEvent.fromByteBuffer(ByteBuffer.wrap(entity.getPayload())));
+  }
+
+  @Test
+  @DisplayName("should store several events with one bulk save")
+  @SuppressWarnings("unchecked")
+  void shouldStoreSeveralEventsWithOneBulkSave() {
+    // Arrange
+    TransactionCreatedEvent event = createEvent();
+    ArgumentCaptor<List<TransactionOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+
+    // Act
+    publisher.publishTransactionsCreated(List.of(event, event));
+
+    // Assert
+    verify(repository).saveAll(captor.capture());
+    assertEquals(2, captor.getValue().size());
+    assertEquals(TRANSACTION_EXTERNAL_ID, captor.getValue().get(0).getAggregateId());
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("should not touch the outbox for an empty batch")
+  void shouldIgnoreEmptyBatch() {
+    // Act
+    publisher.publishTransactionsCreated(List.of());
+
+    // Assert
+    verifyNoInteractions(repository);
+  }
+
+  private TransactionCreatedEvent createEvent() {
+    EventMetadata metadata = EventMetadata.newBuilder()
+        .setEventId(UUID.randomUUID().toString())
+        .setEventType("TRANSACTION_CREATED")
+        .setEventTimestamp("2024-01-01T00:00:00.000+0000")
+        .setSource("ms-transaction")
+        .setVersion("1.0.0")
+        .setRequestId("request-123")
+        .build();
+
+    TransactionCreatedPayload payload = TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId(TRANSACTION_EXTERNAL_ID.toString())
+        .setAccountExternalIdDebit(UUID.randomUUID().toString())
+        .setAccountExternalIdCredit(UUID.randomUUID().toString())
+        .setTransferTypeId(1)
+        .setValue("100.00")
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt("2024-01-01T00:00:00.000+0000")
+        .build();
+
+    return TransactionCreatedEvent.newBuilder()
+        .setMetadata(metadata)
+        .setPayload(payload)
+        .build();
+  }
+}
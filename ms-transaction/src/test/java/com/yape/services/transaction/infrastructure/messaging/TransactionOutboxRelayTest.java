@@ -0,0 +1,215 @@
+package com.yape.services.transaction.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.common.events.EventMetadata;
+import com.yape.services.transaction.events.TransactionCreatedEvent;
+import com.yape.services.transaction.events.TransactionCreatedPayload;
+import com.yape.services.transaction.events.enums.TransactionStatus;
+import com.yape.services.transaction.infrastructure.config.TransactionOutboxConfig;
+import com.yape.services.transaction.infrastructure.persistence.entity.TransactionOutboxEntity;
+import com.yape.services.transaction.infrastructure.persistence.repository.TransactionOutboxPostgresRepository;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionOutboxRelayTest {
+
+  @Mock
+  private TransactionOutboxPostgresRepository repository;
+  @Mock
+  private KafkaTransactionEventPublisher kafkaPublisher;
+  @Mock
+  private TransactionOutboxConfig outboxConfig;
+
+  private TransactionOutboxRelay relay;
+
+  private static final int BATCH_SIZE = 2;
+  private static final long LEASE_MS = 30_000L;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(outboxConfig.batchSize()).thenReturn(BATCH_SIZE);
+    lenient().when(outboxConfig.sendTimeoutMs()).thenReturn(100L);
+    lenient().when(outboxConfig.claimLeaseMs()).thenReturn(LEASE_MS);
+    relay = new TransactionOutboxRelay(repository, kafkaPublisher, outboxConfig);
+  }
+
+  @Test
+  @DisplayName("should claim the batch, send it in order and delete the acknowledged entries")
+  void shouldSendBatchInOrderAndDeleteAcknowledged() throws Exception {
+    // Arrange
+    TransactionOutboxEntity first = createEntry(1L);
+    TransactionOutboxEntity second = createEntry(2L);
+    when(repository.claimNextBatch(BATCH_SIZE, LEASE_MS)).thenReturn(List.of(first, second));
+    when(kafkaPublisher.publishTransactionCreated(any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    // Act
+    int relayed = relay.relayBatch();
+
+    // Assert
+    assertEquals(2, relayed);
+    InOrder inOrder = inOrder(kafkaPublisher, repository);
+    inOrder.verify(repository).claimNextBatch(BATCH_SIZE, LEASE_MS);
+    inOrder.verify(kafkaPublisher).publishTransactionCreated(toEvent(first));
+    inOrder.verify(kafkaPublisher).publishTransactionCreated(toEvent(second));
+    inOrder.verify(repository).deleteByIds(List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("should keep entries the broker did not acknowledge")
+  void shouldKeepUnacknowledgedEntries() throws Exception {
+    // Arrange
+    TransactionOutboxEntity first = createEntry(1L);
+    TransactionOutboxEntity second = createEntry(2L);
+    when(repository.claimNextBatch(BATCH_SIZE, LEASE_MS)).thenReturn(List.of(first, second));
+    when(kafkaPublisher.publishTransactionCreated(toEvent(first)))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka unavailable")));
+    when(kafkaPublisher.publishTransactionCreated(toEvent(second)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    // Act
+    int relayed = relay.relayBatch();
+
+    // Assert
+    assertEquals(1, relayed);
+    verify(repository).deleteByIds(List.of(2L));
+  }
+
+  @Test
+  @DisplayName("should keep entries whose send times out")
+  void shouldKeepEntriesWhoseSendTimesOut() {
+    // Arrange
+    when(repository.claimNextBatch(BATCH_SIZE, LEASE_MS)).thenReturn(List.of(createEntry(1L)));
+    when(kafkaPublisher.publishTransactionCreated(any())).thenReturn(new CompletableFuture<>());
+
+    // Act
+    int relayed = relay.relayBatch();
+
+    // Assert
+    assertEquals(0, relayed);
+    verify(repository).deleteByIds(List.of());
+  }
+
+  @Test
+  @DisplayName("should delete entries whose payload cannot be read")
+  void shouldDeleteUnreadableEntries() throws Exception {
+    // Arrange
+    TransactionOutboxEntity unreadable = createEntry(1L);
+    unreadable.setPayload(new byte[] {1, 2, 3});
+    TransactionOutboxEntity readable = createEntry(2L);
+    when(repository.claimNextBatch(BATCH_SIZE, LEASE_MS))
+        .thenReturn(List.of(unreadable, readable));
+    when(kafkaPublisher.publishTransactionCreated(any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    // Act
+    int removed = relay.relayBatch();
+
+    // Assert
+    assertEquals(2, removed);
+    verify(kafkaPublisher, times(1)).publishTransactionCreated(any());
+    verify(kafkaPublisher).publishTransactionCreated(toEvent(readable));
+    verify(repository).deleteByIds(List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("should do nothing when the outbox is empty")
+  void shouldDoNothingWhenOutboxEmpty() {
+    // Arrange
+    when(repository.claimNextBatch(BATCH_SIZE, LEASE_MS)).thenReturn(List.of());
+
+    // Act
+    int relayed = relay.relayBatch();
+
+    // Assert
+    assertEquals(0, relayed);
+    verify(kafkaPublisher, never()).publishTransactionCreated(any());
+    verify(repository, never()).deleteByIds(any());
+  }
+
+  @Test
+  @DisplayName("should keep draining while batches come back full")
+  void shouldKeepDrainingWhileBatchesAreFull() {
+    // Arrange
+    when(repository.claimNextBatch(anyInt(), anyLong()))
+        .thenReturn(List.of(createEntry(1L), createEntry(2L)), List.of(createEntry(3L)));
+    when(kafkaPublisher.publishTransactionCreated(any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    // Act
+    relay.drain();
+
+    // Assert
+    verify(repository, times(2)).claimNextBatch(BATCH_SIZE, LEASE_MS);
+    verify(repository).deleteByIds(List.of(1L, 2L));
+    verify(repository).deleteByIds(List.of(3L));
+  }
+
+  private TransactionOutboxEntity createEntry(long outboxId) {
+    TransactionCreatedEvent event = createEvent(UUID.randomUUID());
+    TransactionOutboxEntity entry = new TransactionOutboxEntity();
+    entry.setOutboxId(outboxId);
+    entry.setAggregateId(UUID.fromString(event.getPayload().getTransactionExternalId()));
+    entry.setEventType("TRANSACTION_CREATED");
+    try {
+      ByteBuffer buffer = event.toByteBuffer();
+      byte[] payload = new byte[buffer.remaining()];
+      buffer.get(payload);
+      entry.setPayload(payload);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return entry;
+  }
+
+  private TransactionCreatedEvent toEvent(TransactionOutboxEntity entry) throws Exception {
+    return TransactionCreatedEvent.fromByteBuffer(ByteBuffer.wrap(entry.getPayload()));
+  }
+
+  private TransactionCreatedEvent createEvent(UUID transactionExternalId) {
+    EventMetadata metadata = EventMetadata.newBuilder()
+        .setEventId(UUID.randomUUID().toString())
+        .setEventType("TRANSACTION_CREATED")
+        .setEventTimestamp("2024-01-01T00:00:00.000+0000")
+        .setSource("ms-transaction")
+        .setVersion("1.0.0")
+        .setRequestId("request-123")
+        .build();
+
+    TransactionCreatedPayload payload = TransactionCreatedPayload.newBuilder()
+        .setTransactionExternalId(transactionExternalId.toString())
+        .setAccountExternalIdDebit(UUID.randomUUID().toString())
+        .setAccountExternalIdCredit(UUID.randomUUID().toString())
+        .setTransferTypeId(1)
+        .setValue("100.00")
+        .setStatus(TransactionStatus.PENDING)
+        .setCreatedAt("2024-01-01T00:00:00.000+0000")
+        .build();
+
+    return TransactionCreatedEvent.newBuilder()
+        .setMetadata(metadata)
+        .setPayload(payload)
+        .build();
+  }
+}
@@ -0,0 +1,165 @@
+package com.yape.services.transaction.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.transaction.domain.model.TransactionStatusChange;
+import com.yape.services.transaction.infrastructure.config.TransactionSubscriptionConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.subscription.Cancellable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.Codec;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionStatusHubTest {
+
+  private static final String STATUS_TOPIC = "transactions:status-changes";
+  private static final UUID TRANSACTION_EXTERNAL_ID = UUID.randomUUID();
+
+  @Mock
+  private RedissonClient redissonClient;
+  @Mock
+  private TransactionSubscriptionConfig subscriptionConfig;
+  @Mock
+  private RTopic statusTopic;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private MessageListener<TransactionStatusChange[]> listener;
+  private TransactionStatusHub hub;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    when(subscriptionConfig.statusTopic()).thenReturn(STATUS_TOPIC);
+    when(redissonClient.getTopic(eq(STATUS_TOPIC), any(Codec.class))).thenReturn(statusTopic);
+
+    hub = new TransactionStatusHub(redissonClient, subscriptionConfig, meterRegistry);
+
+    ArgumentCaptor<MessageListener<TransactionStatusChange[]>> captor =
+        ArgumentCaptor.forClass(MessageListener.class);
+    verify(statusTopic).addListener(eq(TransactionStatusChange[].class), captor.capture());
+    listener = captor.getValue();
+  }
+
+  @Test
+  @DisplayName("should broadcast applied changes in one message")
+  void shouldBroadcastChangesInOneMessage() {
+    // Arrange
+    TransactionStatusChange first = createChange(TRANSACTION_EXTERNAL_ID, "APPROVED");
+    TransactionStatusChange second = createChange(UUID.randomUUID(), "REJECTED");
+
+    // Act
+    hub.notifyStatusChanged(List.of(first, second));
+
+    // Assert
+    ArgumentCaptor<TransactionStatusChange[]> message =
+        ArgumentCaptor.forClass(TransactionStatusChange[].class);
+    verify(statusTopic).publish(message.capture());
+    assertEquals(List.of(first, second), List.of(message.getValue()));
+  }
+
+  @Test
+  @DisplayName("should not publish an empty list of changes")
+  void shouldNotPublishEmptyChanges() {
+    // Act
+    hub.notifyStatusChanged(List.of());
+
+    // Assert
+    verify(statusTopic, never()).publish(any());
+  }
+
+  @Test
+  @DisplayName("should not fail when the broadcast fails")
+  void shouldNotFailWhenBroadcastFails() {
+    // Arrange
+    doThrow(new RuntimeException("Redis down")).when(statusTopic).publish(any());
+
+    // Act
+    hub.notifyStatusChanged(List.of(createChange(TRANSACTION_EXTERNAL_ID, "APPROVED")));
+
+    // Assert
+    verify(statusTopic).publish(any());
+  }
+
+  @Test
+  @DisplayName("should deliver received changes only to subscribers of the transaction")
+  void shouldDeliverChangesToSubscribersOfTransaction() {
+    // Arrange
+    List<TransactionStatusChange> watched = new ArrayList<>();
+    List<TransactionStatusChange> other = new ArrayList<>();
+    hub.watch(TRANSACTION_EXTERNAL_ID).subscribe().with(watched::add);
+    hub.watch(UUID.randomUUID()).subscribe().with(other::add);
+    TransactionStatusChange change = createChange(TRANSACTION_EXTERNAL_ID, "APPROVED");
+
+    // Act
+    listener.onMessage(STATUS_TOPIC, new TransactionStatusChange[] {change});
+
+    // Assert
+    assertEquals(List.of(change), watched);
+    assertTrue(other.isEmpty());
+  }
+
+  @Test
+  @DisplayName("should fan out a change to every subscriber of the transaction")
+  void shouldFanOutToEverySubscriber() {
+    // Arrange
+    List<TransactionStatusChange> first = new ArrayList<>();
+    List<TransactionStatusChange> second = new ArrayList<>();
+    hub.watch(TRANSACTION_EXTERNAL_ID).subscribe().with(first::add);
+    hub.watch(TRANSACTION_EXTERNAL_ID).subscribe().with(second::add);
+
+    // Act
+    listener.onMessage(STATUS_TOPIC,
+        new TransactionStatusChange[] {createChange(TRANSACTION_EXTERNAL_ID, "REJECTED")});
+
+    // Assert
+    assertEquals(1, first.size());
+    assertEquals(1, second.size());
+    assertEquals(2, hub.activeSubscribers());
+  }
+
+  @Test
+  @DisplayName("should release the subscriber when its stream is cancelled")
+  void shouldReleaseSubscriberOnCancel() {
+    // Arrange
+    List<TransactionStatusChange> received = new ArrayList<>();
+    Cancellable subscription = hub.watch(TRANSACTION_EXTERNAL_ID).subscribe().with(received::add);
+
+    // Act
+    subscription.cancel();
+    listener.onMessage(STATUS_TOPIC,
+        new TransactionStatusChange[] {createChange(TRANSACTION_EXTERNAL_ID, "APPROVED")});
+
+    // Assert
+    assertTrue(received.isEmpty());
+    assertEquals(0, hub.activeSubscribers());
+    assertEquals(0.0, meterRegistry.get("transaction.subscriptions.active").gauge().value());
+  }
+
+  private TransactionStatusChange createChange(UUID transactionExternalId, String newStatus) {
+    return TransactionStatusChange.builder()
+        .transactionExternalId(transactionExternalId)
+        .previousStatus("PENDING")
+        .newStatus(newStatus)
+        .changedAt("2024-01-01T00:00:00.000+0000")
+        .build();
+  }
+}
@@ -0,0 +1,132 @@
+package com.yape.services.transaction.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.shared.exception.BusinessException;
+import com.yape.services.shared.exception.ErrorCode;
+import com.yape.services.transaction.infrastructure.config.DatabaseBulkheadConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DatabasePermitsTest {
+
+  private static final String AVAILABLE_METRIC = "transaction.db.bulkhead.available";
+
+  @Mock
+  private DatabaseBulkheadConfig bulkheadConfig;
+
+  private SimpleMeterRegistry meterRegistry;
+  private DatabasePermits databasePermits;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    when(bulkheadConfig.permits()).thenReturn(1);
+    lenient().when(bulkheadConfig.enabled()).thenReturn(true);
+    lenient().when(bulkheadConfig.acquireTimeoutMs()).thenReturn(50L);
+    databasePermits = new DatabasePermits(bulkheadConfig, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("should hold a permit while the work runs and release it afterwards")
+  void shouldHoldPermitWhileWorkRuns() throws Exception {
+    // Act
+    double availableDuringWork = databasePermits.call(
+        () -> meterRegistry.get(AVAILABLE_METRIC).gauge().value());
+
+    // Assert
+    assertEquals(0, availableDuringWork);
+    assertEquals(1, meterRegistry.get(AVAILABLE_METRIC).gauge().value());
+  }
+
+  @Test
+  @DisplayName("should let nested calls reuse the permit of the outermost call")
+  void shouldReusePermitForNestedCalls() throws Exception {
+    // Act
+    String result = databasePermits.call(() -> databasePermits.call(() -> "nested"));
+
+    // Assert
+    assertEquals("nested", result);
+    assertEquals(1, meterRegistry.get(AVAILABLE_METRIC).gauge().value());
+  }
+
+  @Test
+  @DisplayName("should reject with SERVICE_UNAVAILABLE when no permit is freed in time")
+  void shouldRejectWhenNoPermitFreed() throws Exception {
+    // Arrange
+    CountDownLatch holding = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    Future<Object> holder = executor.submit(() -> databasePermits.call(() -> {
+      holding.countDown();
+      release.await();
+      return null;
+    }));
+    holding.await();
+
+    // Act
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> databasePermits.call(() -> "rejected"));
+
+    // Assert
+    assertEquals(ErrorCode.SERVICE_UNAVAILABLE, exception.getErrorCode());
+    assertEquals(1, meterRegistry.get("transaction.db.bulkhead.rejected").counter().count());
+    release.countDown();
+    holder.get();
+    executor.close();
+  }
+
+  @Test
+  @DisplayName("should wait past the acquire timeout for a permit when asked to")
+  void shouldWaitForPermitWhenAsked() throws Exception {
+    // Arrange
+    CountDownLatch holding = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    Future<Object> holder = executor.submit(() -> databasePermits.call(() -> {
+      holding.countDown();
+      release.await();
+      return null;
+    }));
+    holding.await();
+    Future<String> waiter = executor.submit(() -> databasePermits.call(() -> "applied", true));
+
+    // Act
+    Thread.sleep(150);
+    release.countDown();
+
+    // Assert
+    assertEquals("applied", waiter.get());
+    assertEquals(0, meterRegistry.get("transaction.db.bulkhead.rejected").counter().count());
+    holder.get();
+    executor.close();
+  }
+
+  @Test
+  @DisplayName("should run the work without a permit when the bulkhead is disabled")
+  void shouldBypassWhenDisabled() throws Exception {
+    // Arrange
+    when(bulkheadConfig.enabled()).thenReturn(false);
+
+    // Act
+    double availableDuringWork = databasePermits.call(
+        () -> meterRegistry.get(AVAILABLE_METRIC).gauge().value());
+
+    // Assert
+    assertEquals(1, availableDuringWork);
+  }
+
+}
@@ -0,0 +1,95 @@
+package com.yape.services.transaction.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Applies the Flyway migrations to an embedded PostgreSQL and checks the resulting indexes with
+ * the {@code redundant_index} advisor view. Runs with {@code ./mvnw verify -DskipITs=false}.
+ */
+@DisplayName("Migration indexes")
+class MigrationIndexIT {
+
+  private static EmbeddedPostgres postgres;
+  private static DataSource dataSource;
+
+  @BeforeAll
+  static void migrate() throws IOException {
+    postgres = EmbeddedPostgres.start();
+    dataSource = postgres.getPostgresDatabase();
+    Flyway.configure()
+        .dataSource(dataSource)
+        .locations("classpath:db/migration")
+        .load()
+        .migrate();
+  }
+
+  @AfterAll
+  static void stop() throws IOException {
+    postgres.close();
+  }
+
+  @Test
+  @DisplayName("should not leave any redundant index after the migrations")
+  void shouldNotLeaveRedundantIndexes() throws SQLException {
+    // Act
+    List<String> redundant;
+    try (Connection connection = dataSource.getConnection()) {
+      redundant = findRedundantIndexes(connection);
+    }
+
+    // Assert
+    assertEquals(List.of(), redundant,
+        "Indexes covered by another index; drop them in a new migration");
+  }
+
+  @Test
+  @DisplayName("should report an index duplicating a unique constraint")
+  void shouldReportIndexDuplicatingUniqueConstraint() throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (Statement statement = connection.createStatement()) {
+        // Arrange
+        statement.execute("CREATE INDEX idx_duplicate_code ON transaction_status (code)");
+
+        // Act
+        List<String> redundant = findRedundantIndexes(connection);
+
+        // Assert
+        assertTrue(redundant.stream().anyMatch(index -> index.startsWith("idx_duplicate_code ")),
+            () -> "Advisor did not report the duplicate index: " + redundant);
+      } finally {
+        connection.rollback();
+      }
+    }
+  }
+
+  private static List<String> findRedundantIndexes(Connection connection) throws SQLException {
+    List<String> redundant = new ArrayList<>();
+    try (Statement statement = connection.createStatement();
+         ResultSet rs = statement.executeQuery(
+             "SELECT index_name, covered_by FROM redundant_index ORDER BY index_name")) {
+      while (rs.next()) {
+        redundant.add(rs.getString("index_name") + " (covered by "
+            + rs.getString("covered_by") + ")");
+      }
+    }
+    return redundant;
+  }
+
+}
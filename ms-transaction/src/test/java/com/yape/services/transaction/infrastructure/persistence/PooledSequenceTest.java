@@ -0,0 +1,68 @@
+package com.yape.services.transaction.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.vertx.mutiny.sqlclient.SqlClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PooledSequenceTest {
+
+  @Mock
+  private SqlClient client;
+
+  private PooledSequence sequence;
+
+  @BeforeEach
+  void setUp() {
+    sequence = new PooledSequence("transaction_transaction_id_seq", 50);
+  }
+
+  @Test
+  @DisplayName("should hand out the block that ends at the sequence value")
+  void shouldHandOutBlockEndingAtSequenceValue() {
+    // Act
+    long first = sequence.takeFromNewBlock(150);
+    long second = sequence.nextId(client).await().indefinitely();
+    long third = sequence.nextId(client).await().indefinitely();
+
+    // Assert
+    assertEquals(101, first);
+    assertEquals(102, second);
+    assertEquals(103, third);
+    verifyNoInteractions(client);
+  }
+
+  @Test
+  @DisplayName("should not hand out IDs below one for the first block")
+  void shouldStartFirstBlockAtOne() {
+    // Act
+    long first = sequence.takeFromNewBlock(1);
+
+    // Assert
+    assertEquals(1, first);
+  }
+
+  @Test
+  @DisplayName("should keep the current block when a concurrent refill arrives")
+  void shouldKeepCurrentBlockOnConcurrentRefill() {
+    // Arrange
+    sequence.takeFromNewBlock(50);
+
+    // Act
+    long concurrent = sequence.takeFromNewBlock(100);
+    long next = sequence.nextId(client).await().indefinitely();
+
+    // Assert
+    assertEquals(51, concurrent);
+    assertEquals(2, next);
+    verifyNoInteractions(client);
+  }
+
+}
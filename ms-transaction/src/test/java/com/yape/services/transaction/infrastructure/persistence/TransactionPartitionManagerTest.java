@@ -0,0 +1,90 @@
+package com.yape.services.transaction.infrastructure.persistence;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yape.services.transaction.infrastructure.config.TransactionPartitionConfig;
+import com.yape.services.transaction.infrastructure.persistence.repository.TransactionPartitionRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionPartitionManagerTest {
+
+  @Mock
+  private TransactionPartitionRepository repository;
+  @Mock
+  private TransactionPartitionConfig partitionConfig;
+
+  private TransactionPartitionManager manager;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(Instant.parse("2024-06-15T10:00:00Z"), ZoneOffset.UTC);
+    manager = new TransactionPartitionManager(repository, partitionConfig, clock);
+  }
+
+  @Test
+  @DisplayName("should create the current month and the months ahead")
+  void shouldCreateUpcomingPartitions() {
+    // Arrange
+    when(repository.tryLockMaintenance()).thenReturn(true);
+    when(partitionConfig.monthsAhead()).thenReturn(2);
+    when(partitionConfig.retentionMonths()).thenReturn(0);
+
+    // Act
+    manager.maintain();
+
+    // Assert
+    verify(repository).createPartition(YearMonth.of(2024, 6));
+    verify(repository).createPartition(YearMonth.of(2024, 7));
+    verify(repository).createPartition(YearMonth.of(2024, 8));
+    verify(repository, never()).findPartitions();
+  }
+
+  @Test
+  @DisplayName("should drop only the partitions older than the retention window")
+  void shouldDropExpiredPartitions() {
+    // Arrange
+    when(repository.tryLockMaintenance()).thenReturn(true);
+    when(partitionConfig.monthsAhead()).thenReturn(0);
+    when(partitionConfig.retentionMonths()).thenReturn(3);
+    when(repository.findPartitions()).thenReturn(List.of(
+        YearMonth.of(2024, 1), YearMonth.of(2024, 2), YearMonth.of(2024, 3),
+        YearMonth.of(2024, 6)));
+
+    // Act
+    manager.maintain();
+
+    // Assert
+    verify(repository).dropPartition(YearMonth.of(2024, 1));
+    verify(repository).dropPartition(YearMonth.of(2024, 2));
+    verify(repository, never()).dropPartition(YearMonth.of(2024, 3));
+    verify(repository, never()).dropPartition(YearMonth.of(2024, 6));
+  }
+
+  @Test
+  @DisplayName("should skip maintenance when another instance holds the lock")
+  void shouldSkipWhenLockIsHeld() {
+    // Arrange
+    when(repository.tryLockMaintenance()).thenReturn(false);
+
+    // Act
+    manager.maintain();
+
+    // Assert
+    verify(repository, never()).createPartition(any());
+    verify(repository, never()).dropPartition(any());
+  }
+}
@@ -7,12 +7,19 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yape.services.transaction.domain.model.Transaction;
+import com.yape.services.transaction.domain.model.TransactionStatusTransition;
 import com.yape.services.transaction.infrastructure.persistence.entity.TransactionEntity;
+import com.yape.services.transaction.infrastructure.persistence.projection.TransactionHistoryRow;
 import com.yape.services.transaction.infrastructure.persistence.repository.TransactionPostgresRepository;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +44,8 @@ class TransactionPersistenceTest {
   private static final UUID DEBIT_ACCOUNT_ID = UUID.randomUUID();
   private static final UUID CREDIT_ACCOUNT_ID = UUID.randomUUID();
   private static final BigDecimal VALUE = new BigDecimal("500.00");
+  private static final TransactionStatusTransition TO_APPROVED =
+      new TransactionStatusTransition(1, 2);
 
   @BeforeEach
   void setUp() {
@@ -82,6 +91,22 @@ class TransactionPersistenceTest {
     assertEquals(0, result.getValue().compareTo(VALUE));
   }
 
+  @Test
+  @DisplayName("should save all transactions in one repository call")
+  void shouldSaveAllTransactions() {
+    // Arrange
+    List<Transaction> transactions = List.of(createDomainTransaction(), createDomainTransaction());
+    when(repository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Act
+    List<Transaction> result = persistence.saveAll(transactions);
+
+    // Assert
+    assertEquals(2, result.size());
+    assertEquals(TRANSACTION_EXTERNAL_ID, result.get(0).getTransactionExternalId());
+    verify(repository).saveAll(any());
+  }
+
   @Test
   @DisplayName("should return transaction when found")
   void shouldReturnTransactionWhenFound() {
@@ -113,6 +138,23 @@ class TransactionPersistenceTest {
     assertTrue(result.isEmpty());
   }
 
+  @Test
+  @DisplayName("should find several transactions by external ID")
+  void shouldFindSeveralTransactionsByExternalId() {
+    // Arrange
+    UUID otherId = UUID.randomUUID();
+    List<UUID> externalIds = List.of(TRANSACTION_EXTERNAL_ID, otherId);
+    when(repository.findByTransactionExternalIds(externalIds)).thenReturn(List.of(createEntity()));
+
+    // Act
+    List<Transaction> result = persistence.findByExternalIds(externalIds);
+
+    // Assert
+    assertEquals(1, result.size());
+    assertEquals(TRANSACTION_EXTERNAL_ID, result.get(0).getTransactionExternalId());
+    assertEquals(0, result.get(0).getValue().compareTo(VALUE));
+  }
+
   @Test
   @DisplayName("should map all entity fields to domain")
   void shouldMapAllEntityFieldsToDomain() {
@@ -137,35 +179,109 @@ class TransactionPersistenceTest {
     assertEquals(LocalDateTime.of(2024, 1, 15, 10, 30), tx.getCreatedAt());
   }
 
+  @Test
+  @DisplayName("should map account history rows to domain with their IDs")
+  void shouldMapAccountHistoryRowsToDomain() {
+    // Arrange
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+    TransactionHistoryRow row = new TransactionHistoryRow(7L, TRANSACTION_EXTERNAL_ID,
+        DEBIT_ACCOUNT_ID, CREDIT_ACCOUNT_ID, 1, 2, VALUE, createdAt);
+    when(repository.findPageByAccount(DEBIT_ACCOUNT_ID, null, null, 21))
+        .thenReturn(List.of(row));
+
+    // Act
+    List<Transaction> result = persistence.findByAccount(DEBIT_ACCOUNT_ID, null, null, 21);
+
+    // Assert
+    assertEquals(1, result.size());
+    Transaction tx = result.get(0);
+    assertEquals(7L, tx.getTransactionId());
+    assertEquals(TRANSACTION_EXTERNAL_ID, tx.getTransactionExternalId());
+    assertEquals(CREDIT_ACCOUNT_ID, tx.getAccountExternalIdCredit());
+    assertEquals(2, tx.getTransactionStatusId());
+    assertEquals(createdAt, tx.getCreatedAt());
+  }
+
   @Test
   @DisplayName("should delegate to repository and return updated count")
   void shouldDelegateToRepositoryAndReturnUpdatedCount() {
     // Arrange
-    when(repository.updateStatusByExternalId(TRANSACTION_EXTERNAL_ID, 2))
+    when(repository.updateStatusByExternalId(TRANSACTION_EXTERNAL_ID, TO_APPROVED))
         .thenReturn(1);
 
     // Act
-    int result = persistence.updateStatus(TRANSACTION_EXTERNAL_ID, 2);
+    int result = persistence.updateStatus(TRANSACTION_EXTERNAL_ID, TO_APPROVED);
 
     // Assert
     assertEquals(1, result);
-    verify(repository).updateStatusByExternalId(TRANSACTION_EXTERNAL_ID, 2);
+    verify(repository).updateStatusByExternalId(TRANSACTION_EXTERNAL_ID, TO_APPROVED);
   }
 
   @Test
   @DisplayName("should return zero when no rows updated")
   void shouldReturnZeroWhenNoRowsUpdated() {
     // Arrange
-    when(repository.updateStatusByExternalId(TRANSACTION_EXTERNAL_ID, 2))
+    when(repository.updateStatusByExternalId(TRANSACTION_EXTERNAL_ID, TO_APPROVED))
         .thenReturn(0);
 
     // Act
-    int result = persistence.updateStatus(TRANSACTION_EXTERNAL_ID, 2);
+    int result = persistence.updateStatus(TRANSACTION_EXTERNAL_ID, TO_APPROVED);
 
     // Assert
     assertEquals(0, result);
   }
 
+  @Test
+  @DisplayName("should delegate bulk status update to repository")
+  void shouldDelegateBulkStatusUpdateToRepository() {
+    // Arrange
+    Map<UUID, TransactionStatusTransition> transitions =
+        Map.of(TRANSACTION_EXTERNAL_ID, TO_APPROVED);
+    when(repository.updateStatusesByExternalIds(transitions))
+        .thenReturn(List.of(TRANSACTION_EXTERNAL_ID));
+
+    // Act
+    List<UUID> result = persistence.updateStatuses(transitions);
+
+    // Assert
+    assertEquals(List.of(TRANSACTION_EXTERNAL_ID), result);
+    verify(repository).updateStatusesByExternalIds(transitions);
+  }
+
+  @Test
+  @DisplayName("should delegate current status lookup to repository")
+  void shouldDelegateStatusLookupToRepository() {
+    // Arrange
+    List<UUID> ids = List.of(TRANSACTION_EXTERNAL_ID);
+    when(repository.findStatusIdsByExternalIds(ids))
+        .thenReturn(Map.of(TRANSACTION_EXTERNAL_ID, 2));
+
+    // Act
+    Map<UUID, Integer> result = persistence.findStatusIds(ids);
+
+    // Assert
+    assertEquals(Map.of(TRANSACTION_EXTERNAL_ID, 2), result);
+  }
+
+  @Test
+  @DisplayName("should pass every streamed external ID to the consumer and close the stream")
+  void shouldStreamExternalIdsToConsumer() {
+    // Arrange
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    AtomicBoolean closed = new AtomicBoolean();
+    when(repository.streamExternalIds(null))
+        .thenReturn(ids.stream().onClose(() -> closed.set(true)));
+    List<UUID> consumed = new ArrayList<>();
+
+    // Act
+    long count = persistence.forEachExternalId(null, consumed::add);
+
+    // Assert
+    assertEquals(3, count);
+    assertEquals(ids, consumed);
+    assertTrue(closed.get());
+  }
+
   private Transaction createDomainTransaction() {
     return Transaction.builder()
         .transactionExternalId(TRANSACTION_EXTERNAL_ID)
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import com.yape.services.transaction.domain.model.TransactionStatus;
 import com.yape.services.transaction.infrastructure.persistence.entity.TransactionStatusEntity;
 import com.yape.services.transaction.infrastructure.persistence.repository.TransactionStatusPostgresRepository;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -134,6 +135,22 @@ class TransactionStatusPersistenceTest {
     assertEquals(entity.getName(), status.getName());
   }
 
+  @Test
+  @DisplayName("should map all statuses when finding all")
+  void shouldMapAllStatusesWhenFindingAll() {
+    // Arrange
+    when(repository.findAllTransactionStatuses()).thenReturn(List.of(createEntity()));
+
+    // Act
+    List<TransactionStatus> result = persistence.findAll();
+
+    // Assert
+    assertEquals(1, result.size());
+    assertEquals(STATUS_ID, result.get(0).getTransactionStatusId());
+    assertEquals(STATUS_CODE, result.get(0).getCode());
+    verify(repository).findAllTransactionStatuses();
+  }
+
   private TransactionStatusEntity createEntity() {
     TransactionStatusEntity entity = new TransactionStatusEntity();
     entity.setTransactionStatusId(STATUS_ID);
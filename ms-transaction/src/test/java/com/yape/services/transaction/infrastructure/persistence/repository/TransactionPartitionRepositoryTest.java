@@ -0,0 +1,102 @@
+package com.yape.services.transaction.infrastructure.persistence.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionPartitionRepositoryTest {
+
+  @Mock
+  private EntityManager entityManager;
+
+  private Query query;
+  private TransactionPartitionRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    query = mock(Query.class);
+    when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+    lenient().when(query.setParameter(anyInt(), any())).thenReturn(query);
+    repository = new TransactionPartitionRepository(entityManager);
+  }
+
+  @Test
+  @DisplayName("should create the partitions of both tables covering one calendar month")
+  void shouldCreateMonthlyPartition() {
+    // Act
+    repository.createPartition(YearMonth.of(2024, 12));
+
+    // Assert
+    verify(entityManager).createNativeQuery(contains(
+        "transaction_p2024_12 PARTITION OF transaction\n"));
+    verify(entityManager).createNativeQuery(contains(
+        "transaction_request_p2024_12 PARTITION OF transaction_request\n"));
+    verify(entityManager, times(2)).createNativeQuery(contains(
+        "FOR VALUES FROM ('2024-12-01') TO ('2025-01-01')"));
+    verify(entityManager, never()).createNativeQuery(contains("transaction_lookup_p"));
+    verify(query, times(2)).executeUpdate();
+  }
+
+  @Test
+  @DisplayName("should list the months of the monthly partitions only")
+  void shouldListMonthlyPartitions() {
+    // Arrange
+    when(query.getResultList()).thenReturn(List.of(
+        "transaction_p2024_02", "transaction_default", "transaction_p2023_11"));
+
+    // Act
+    List<YearMonth> result = repository.findPartitions();
+
+    // Assert
+    assertEquals(List.of(YearMonth.of(2023, 11), YearMonth.of(2024, 2)), result);
+  }
+
+  @Test
+  @DisplayName("should drop the request partition and delete the lookup rows of the month")
+  void shouldDropPartitionWithRequestPartitionAndLookupRows() {
+    // Act
+    repository.dropPartition(YearMonth.of(2024, 1));
+
+    // Assert
+    verify(entityManager).createNativeQuery(
+        "DROP TABLE IF EXISTS transaction_p2024_01, transaction_request_p2024_01");
+    verify(entityManager).createNativeQuery(contains("DELETE FROM transaction_lookup"));
+    verify(query).setParameter(1, LocalDateTime.of(2024, 1, 1, 0, 0));
+    verify(query).setParameter(2, LocalDateTime.of(2024, 2, 1, 0, 0));
+    verify(query, times(2)).executeUpdate();
+  }
+
+  @Test
+  @DisplayName("should report whether the maintenance lock was taken")
+  void shouldReportMaintenanceLock() {
+    // Arrange
+    when(query.getSingleResult()).thenReturn(true, false);
+
+    // Act & Assert
+    assertTrue(repository.tryLockMaintenance());
+    assertFalse(repository.tryLockMaintenance());
+  }
+}
@@ -3,33 +3,60 @@ package com.yape.services.transaction.infrastructure.persistence.repository;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
+import com.yape.services.transaction.domain.model.TransactionStatusTransition;
 import com.yape.services.transaction.infrastructure.persistence.entity.TransactionEntity;
-import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import com.yape.services.transaction.infrastructure.persistence.projection.TransactionHistoryRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class TransactionPostgresRepositoryTest {
 
+  @Mock
+  private EntityManager entityManager;
+
   private TransactionPostgresRepository repository;
 
   private static final UUID TRANSACTION_EXTERNAL_ID = UUID.randomUUID();
   private static final UUID DEBIT_ACCOUNT_ID = UUID.randomUUID();
   private static final UUID CREDIT_ACCOUNT_ID = UUID.randomUUID();
   private static final BigDecimal VALUE = new BigDecimal("1000.00");
+  private static final TransactionStatusTransition TO_APPROVED =
+      new TransactionStatusTransition(1, 2);
+  private static final TransactionStatusTransition TO_REJECTED =
+      new TransactionStatusTransition(1, 3);
 
   @BeforeEach
   void setUp() {
@@ -38,14 +65,11 @@ class TransactionPostgresRepositoryTest {
 
   @Test
   @DisplayName("should return entity when found by external ID")
-  @SuppressWarnings("unchecked")
   void shouldReturnEntityWhenFoundByExternalId() {
     // Arrange
     TransactionEntity entity = createEntity();
-    PanacheQuery<TransactionEntity> query = mock(PanacheQuery.class);
-    doReturn(query).when(repository)
-        .find("transactionExternalId", TRANSACTION_EXTERNAL_ID);
-    doReturn(entity).when(query).firstResult();
+    Query query = stubNativeQuery(TransactionEntity.class);
+    doReturn(List.of(entity)).when(query).getResultList();
 
     // Act
     TransactionEntity result = repository.findByTransactionExternalId(TRANSACTION_EXTERNAL_ID);
@@ -53,18 +77,15 @@ class TransactionPostgresRepositoryTest {
     // Assert
     assertNotNull(result);
     assertEquals(TRANSACTION_EXTERNAL_ID, result.getTransactionExternalId());
-    verify(repository).find("transactionExternalId", TRANSACTION_EXTERNAL_ID);
+    verify(query).setParameter(1, TRANSACTION_EXTERNAL_ID);
   }
 
   @Test
   @DisplayName("should return null when not found by external ID")
-  @SuppressWarnings("unchecked")
   void shouldReturnNullWhenNotFoundByExternalId() {
     // Arrange
-    PanacheQuery<TransactionEntity> query = mock(PanacheQuery.class);
-    doReturn(query).when(repository)
-        .find("transactionExternalId", TRANSACTION_EXTERNAL_ID);
-    doReturn(null).when(query).firstResult();
+    Query query = stubNativeQuery(TransactionEntity.class);
+    doReturn(List.of()).when(query).getResultList();
 
     // Act
     TransactionEntity result = repository.findByTransactionExternalId(TRANSACTION_EXTERNAL_ID);
@@ -74,20 +95,49 @@ class TransactionPostgresRepositoryTest {
   }
 
   @Test
-  @DisplayName("should use correct field name for query")
-  @SuppressWarnings("unchecked")
-  void shouldUseCorrectFieldNameForQuery() {
+  @DisplayName("should prune the lookup by external ID to one partition")
+  void shouldPruneLookupByExternalIdToOnePartition() {
     // Arrange
-    UUID specificId = UUID.randomUUID();
-    PanacheQuery<TransactionEntity> query = mock(PanacheQuery.class);
-    doReturn(query).when(repository).find("transactionExternalId", specificId);
-    doReturn(null).when(query).firstResult();
+    Query query = stubNativeQuery(TransactionEntity.class);
+    doReturn(List.of()).when(query).getResultList();
 
     // Act
-    repository.findByTransactionExternalId(specificId);
+    repository.findByTransactionExternalId(TRANSACTION_EXTERNAL_ID);
 
     // Assert
-    verify(repository).find("transactionExternalId", specificId);
+    verify(entityManager).createNativeQuery(contains("created_at = (SELECT created_at"),
+        eq(TransactionEntity.class));
+  }
+
+  @Test
+  @DisplayName("should find several entities with one array-bound query")
+  void shouldFindSeveralEntitiesWithOneQuery() {
+    // Arrange
+    UUID otherId = UUID.randomUUID();
+    TransactionEntity entity = createEntity();
+    Query query = stubNativeQuery(TransactionEntity.class);
+    doReturn(List.of(entity)).when(query).getResultList();
+
+    // Act
+    List<TransactionEntity> result = repository.findByTransactionExternalIds(
+        List.of(TRANSACTION_EXTERNAL_ID, otherId));
+
+    // Assert
+    assertEquals(List.of(entity), result);
+    verify(entityManager).createNativeQuery(
+        contains("WHERE l.transaction_external_id = ANY(?1)"), eq(TransactionEntity.class));
+    verify(query).setParameter(eq(1), aryEq(new UUID[] {TRANSACTION_EXTERNAL_ID, otherId}));
+  }
+
+  @Test
+  @DisplayName("should not query when finding no external IDs")
+  void shouldNotQueryWhenFindingNoExternalIds() {
+    // Act
+    List<TransactionEntity> result = repository.findByTransactionExternalIds(List.of());
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verify(repository, never()).getEntityManager();
   }
 
   @Test
@@ -95,14 +145,14 @@ class TransactionPostgresRepositoryTest {
   void shouldPersistEntityAndReturnIt() {
     // Arrange
     TransactionEntity entity = createEntity();
-    doAnswer(invocation -> null).when(repository).persist(any(TransactionEntity.class));
+    doAnswer(invocation -> null).when(repository).persistAndFlush(any(TransactionEntity.class));
 
     // Act
     TransactionEntity result = repository.save(entity);
 
     // Assert
     assertEquals(entity, result);
-    verify(repository).persist(entity);
+    verify(repository).persistAndFlush(entity);
   }
 
   @Test
@@ -110,13 +160,13 @@ class TransactionPostgresRepositoryTest {
   void shouldCallPersistWithCorrectEntity() {
     // Arrange
     TransactionEntity entity = createEntity();
-    doAnswer(invocation -> null).when(repository).persist(any(TransactionEntity.class));
+    doAnswer(invocation -> null).when(repository).persistAndFlush(any(TransactionEntity.class));
 
     // Act
     repository.save(entity);
 
     // Assert
-    verify(repository).persist(entity);
+    verify(repository).persistAndFlush(entity);
   }
 
   @Test
@@ -125,7 +175,7 @@ class TransactionPostgresRepositoryTest {
     // Arrange
     TransactionEntity entity = createEntity();
     entity.setCreatedAt(LocalDateTime.now());
-    doAnswer(invocation -> null).when(repository).persist(any(TransactionEntity.class));
+    doAnswer(invocation -> null).when(repository).persistAndFlush(any(TransactionEntity.class));
 
     // Act
     TransactionEntity result = repository.save(entity);
@@ -141,50 +191,221 @@ class TransactionPostgresRepositoryTest {
   @DisplayName("should update status and return count")
   void shouldUpdateStatusAndReturnCount() {
     // Arrange
-    Integer newStatusId = 2;
-    doReturn(1).when(repository)
-        .update("transactionStatusId = ?1 where transactionExternalId = ?2",
-            newStatusId, TRANSACTION_EXTERNAL_ID);
+    Query query = stubNativeQuery();
+    doReturn(1).when(query).executeUpdate();
 
     // Act
-    int result = repository.updateStatusByExternalId(TRANSACTION_EXTERNAL_ID, newStatusId);
+    int result = repository.updateStatusByExternalId(TRANSACTION_EXTERNAL_ID, TO_APPROVED);
 
     // Assert
     assertEquals(1, result);
+    verify(query).setParameter(1, 2);
+    verify(query).setParameter(2, TRANSACTION_EXTERNAL_ID);
+    verify(query).setParameter(3, 1);
+    verify(entityManager).createNativeQuery(contains("AND transaction_status_id = ?3"));
   }
 
   @Test
   @DisplayName("should return zero when no rows updated")
   void shouldReturnZeroWhenNoRowsUpdated() {
     // Arrange
-    Integer newStatusId = 2;
-    UUID nonExistentId = UUID.randomUUID();
-    doReturn(0).when(repository)
-        .update("transactionStatusId = ?1 where transactionExternalId = ?2",
-            newStatusId, nonExistentId);
+    Query query = stubNativeQuery();
+    doReturn(0).when(query).executeUpdate();
 
     // Act
-    int result = repository.updateStatusByExternalId(nonExistentId, newStatusId);
+    int result = repository.updateStatusByExternalId(UUID.randomUUID(), TO_APPROVED);
 
     // Assert
     assertEquals(0, result);
   }
 
   @Test
-  @DisplayName("should use correct update query format")
-  void shouldUseCorrectUpdateQueryFormat() {
+  @DisplayName("should prune the status update to the partition of the transaction")
+  void shouldPruneStatusUpdateToOnePartition() {
     // Arrange
-    Integer newStatusId = 3;
-    doReturn(1).when(repository)
-        .update("transactionStatusId = ?1 where transactionExternalId = ?2",
-            newStatusId, TRANSACTION_EXTERNAL_ID);
+    Query query = stubNativeQuery();
+    doReturn(1).when(query).executeUpdate();
 
     // Act
-    repository.updateStatusByExternalId(TRANSACTION_EXTERNAL_ID, newStatusId);
+    repository.updateStatusByExternalId(TRANSACTION_EXTERNAL_ID, TO_REJECTED);
 
     // Assert
-    verify(repository).update("transactionStatusId = ?1 where transactionExternalId = ?2",
-        newStatusId, TRANSACTION_EXTERNAL_ID);
+    verify(entityManager).createNativeQuery(contains("FROM transaction_lookup"));
+  }
+
+  @Test
+  @DisplayName("should bulk update statuses with a single native query")
+  void shouldBulkUpdateStatusesWithSingleNativeQuery() {
+    // Arrange
+    UUID otherId = UUID.randomUUID();
+    Map<UUID, TransactionStatusTransition> transitions = new LinkedHashMap<>();
+    transitions.put(TRANSACTION_EXTERNAL_ID, TO_APPROVED);
+    transitions.put(otherId, TO_REJECTED);
+    Query query = stubNativeQuery();
+    doReturn(List.of(TRANSACTION_EXTERNAL_ID, otherId)).when(query).getResultList();
+
+    // Act
+    List<UUID> result = repository.updateStatusesByExternalIds(transitions);
+
+    // Assert
+    assertEquals(List.of(TRANSACTION_EXTERNAL_ID, otherId), result);
+    verify(entityManager).createNativeQuery(contains(
+        "(CAST(?1 AS uuid), CAST(?2 AS integer), CAST(?3 AS integer)), "
+            + "(CAST(?4 AS uuid), CAST(?5 AS integer), CAST(?6 AS integer))"));
+    verify(entityManager).createNativeQuery(
+        contains("AND t.transaction_status_id = v.from_status_id"));
+    verify(query).setParameter(1, TRANSACTION_EXTERNAL_ID);
+    verify(query).setParameter(2, 2);
+    verify(query).setParameter(3, 1);
+    verify(query).setParameter(4, otherId);
+    verify(query).setParameter(5, 3);
+    verify(query).setParameter(6, 1);
+  }
+
+  @Test
+  @DisplayName("should skip bulk update when there is nothing to update")
+  void shouldSkipBulkUpdateWhenEmpty() {
+    // Act
+    List<UUID> result = repository.updateStatusesByExternalIds(Map.of());
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verify(repository, never()).getEntityManager();
+  }
+
+  @Test
+  @DisplayName("should read the current status of several transactions in one query")
+  void shouldFindStatusIdsInOneQuery() {
+    // Arrange
+    UUID otherId = UUID.randomUUID();
+    List<UUID> ids = List.of(TRANSACTION_EXTERNAL_ID, otherId);
+    Query query = stubNativeQuery();
+    doReturn(query).when(query).setParameter(anyString(), any());
+    Object[] row = {TRANSACTION_EXTERNAL_ID, 2};
+    doReturn(List.<Object[]>of(row)).when(query).getResultList();
+
+    // Act
+    Map<UUID, Integer> result = repository.findStatusIdsByExternalIds(ids);
+
+    // Assert
+    assertEquals(Map.of(TRANSACTION_EXTERNAL_ID, 2), result);
+    verify(query).setParameter("ids", ids);
+  }
+
+  @Test
+  @DisplayName("should skip the status lookup when there is nothing to read")
+  void shouldSkipStatusLookupWhenEmpty() {
+    // Act
+    Map<UUID, Integer> result = repository.findStatusIdsByExternalIds(List.of());
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verify(repository, never()).getEntityManager();
+  }
+
+  @Test
+  @DisplayName("should seek account pages after the cursor and project the rows")
+  void shouldSeekAccountPagesAfterCursor() {
+    // Arrange
+    LocalDateTime afterCreatedAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+    Query query = stubNativeQuery();
+    doReturn(query).when(query).setParameter(anyString(), any());
+    Object[] row = {7, TRANSACTION_EXTERNAL_ID, DEBIT_ACCOUNT_ID, CREDIT_ACCOUNT_ID, 1, 2, VALUE,
+        Timestamp.valueOf(afterCreatedAt.minusDays(1))};
+    doReturn(List.<Object[]>of(row)).when(query).getResultList();
+
+    // Act
+    List<TransactionHistoryRow> result =
+        repository.findPageByAccount(DEBIT_ACCOUNT_ID, afterCreatedAt, 8L, 21);
+
+    // Assert
+    assertEquals(1, result.size());
+    assertEquals(7L, result.get(0).transactionId());
+    assertEquals(afterCreatedAt.minusDays(1), result.get(0).createdAt());
+    verify(entityManager).createNativeQuery(contains("created_at <= :afterCreatedAt"));
+    verify(query).setParameter("afterTransactionId", 8L);
+    verify(query).setParameter("limit", 21);
+  }
+
+  @Test
+  @DisplayName("should read the first account page without a seek predicate")
+  void shouldReadFirstAccountPageWithoutSeek() {
+    // Arrange
+    Query query = stubNativeQuery();
+    doReturn(query).when(query).setParameter(anyString(), any());
+    doReturn(List.of()).when(query).getResultList();
+
+    // Act
+    List<TransactionHistoryRow> result =
+        repository.findPageByAccount(DEBIT_ACCOUNT_ID, null, null, 21);
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verify(entityManager).createNativeQuery(
+        argThat((String sql) -> !sql.contains(":afterCreatedAt")));
+  }
+
+  @Test
+  @DisplayName("should stream external IDs from the lookup table with a fetch size")
+  void shouldStreamExternalIdsWithFetchSize() {
+    // Arrange
+    UUID otherId = UUID.randomUUID();
+    Query query = stubNativeQuery();
+    doReturn(query).when(query).setHint(anyString(), any());
+    doReturn(Stream.of(TRANSACTION_EXTERNAL_ID, otherId)).when(query).getResultStream();
+
+    // Act
+    List<UUID> result;
+    try (Stream<UUID> ids = repository.streamExternalIds(null)) {
+      result = ids.toList();
+    }
+
+    // Assert
+    assertEquals(List.of(TRANSACTION_EXTERNAL_ID, otherId), result);
+    verify(entityManager).createNativeQuery("SELECT transaction_external_id"
+        + " FROM transaction_lookup");
+    verify(query).setHint(HibernateHints.HINT_FETCH_SIZE, 10_000);
+  }
+
+  @Test
+  @DisplayName("should stream only the external IDs created within the given time")
+  void shouldStreamRecentExternalIds() {
+    // Arrange
+    Query query = stubNativeQuery();
+    doReturn(query).when(query).setParameter(anyString(), any());
+    doReturn(query).when(query).setHint(anyString(), any());
+    doReturn(Stream.of(TRANSACTION_EXTERNAL_ID)).when(query).getResultStream();
+
+    LocalDateTime before = LocalDateTime.now().minusSeconds(90);
+
+    // Act
+    List<UUID> result;
+    try (Stream<UUID> ids = repository.streamExternalIds(Duration.ofSeconds(90))) {
+      result = ids.toList();
+    }
+
+    // Assert
+    LocalDateTime after = LocalDateTime.now().minusSeconds(90);
+    assertEquals(List.of(TRANSACTION_EXTERNAL_ID), result);
+    verify(entityManager).createNativeQuery(contains("created_at >= :createdSince"));
+    verify(query).setParameter(eq("createdSince"), argThat((LocalDateTime createdSince) ->
+        !createdSince.isBefore(before) && !createdSince.isAfter(after)));
+  }
+
+  private Query stubNativeQuery() {
+    Query query = mock(Query.class);
+    doReturn(entityManager).when(repository).getEntityManager();
+    doReturn(query).when(entityManager).createNativeQuery(anyString());
+    lenient().doReturn(query).when(query).setParameter(anyInt(), any());
+    return query;
+  }
+
+  private Query stubNativeQuery(Class<?> resultClass) {
+    Query query = mock(Query.class);
+    doReturn(entityManager).when(repository).getEntityManager();
+    doReturn(query).when(entityManager).createNativeQuery(anyString(), eq(resultClass));
+    lenient().doReturn(query).when(query).setParameter(anyInt(), any());
+    return query;
   }
 
   private TransactionEntity createEntity() {
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 
 import com.yape.services.transaction.infrastructure.persistence.entity.TransactionStatusEntity;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -170,6 +171,25 @@ class TransactionStatusPostgresRepositoryTest {
     assertEquals("Rejected", result.getName());
   }
 
+  @Test
+  @DisplayName("should return all entities when finding all")
+  void shouldReturnAllEntitiesWhenFindingAll() {
+    // Arrange
+    List<TransactionStatusEntity> entities = List.of(
+        createEntity(),
+        createEntity(2, "APPROVED", "Approved"),
+        createEntity(3, "REJECTED", "Rejected")
+    );
+    doReturn(entities).when(repository).listAll();
+
+    // Act
+    List<TransactionStatusEntity> result = repository.findAllTransactionStatuses();
+
+    // Assert
+    assertEquals(3, result.size());
+    verify(repository).listAll();
+  }
+
   private TransactionStatusEntity createEntity() {
     return createEntity(STATUS_ID, STATUS_CODE, STATUS_NAME);
   }